@@ -64,7 +64,11 @@ public enum Capability {
      */
     SMALLRYE_OPENTRACING,
     SPRING_WEB,
-    SMALLRYE_OPENAPI;
+    SMALLRYE_OPENAPI,
+    /**
+     * Application data caching
+     */
+    CACHE;
 
     /**
      *
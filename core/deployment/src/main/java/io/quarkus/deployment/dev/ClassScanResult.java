@@ -11,6 +11,7 @@ public class ClassScanResult {
     final Set<String> changedClassNames = new HashSet<>();
     final Set<String> deletedClassNames = new HashSet<>();
     final Set<String> addedClassNames = new HashSet<>();
+    long compilationNanoseconds;
 
     public boolean isChanged() {
         return !changedClasses.isEmpty() || !deletedClasses.isEmpty() || !addedClasses.isEmpty();
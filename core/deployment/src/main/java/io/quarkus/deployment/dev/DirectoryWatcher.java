@@ -0,0 +1,182 @@
+package io.quarkus.deployment.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Keeps track of the directory trees that changed since they were last checked, so that the dev mode scan only walks
+ * the trees that may contain changes.
+ * <p>
+ * The trees are watched with a {@link WatchService} that is fed by the operating system. If the file system only
+ * provides a polling implementation, as on macOS, or a tree can't be registered, the tree is always reported as changed
+ * and the caller falls back to walking it.
+ */
+final class DirectoryWatcher implements Closeable {
+
+    private static final Logger log = Logger.getLogger(DirectoryWatcher.class);
+
+    private final Map<Path, Root> roots = new ConcurrentHashMap<>();
+    private volatile WatchService watchService;
+    private volatile boolean unavailable;
+
+    /**
+     * The first call for a scan and a root always returns {@code true}.
+     *
+     * @param scan identifies the caller, several scans may check the same directory tree
+     * @param root the root of a directory tree
+     * @return {@code true} if a file in the tree may have been created, modified or deleted since the last call for the
+     *         same scan
+     */
+    boolean isChanged(String scan, Path root) {
+        WatchService watchService = getWatchService();
+        if (watchService == null) {
+            return true;
+        }
+        Root watched = roots.get(root);
+        if (watched == null || !watched.registered) {
+            // the tree was not watched yet or it was deleted meanwhile
+            watched = new Root(root, watchService);
+            if (!watched.registered) {
+                // try again the next time, e.g. once the directory exists
+                roots.remove(root);
+                return true;
+            }
+            roots.put(root, watched);
+        }
+        return watched.checked.put(scan, Boolean.TRUE) == null;
+    }
+
+    /**
+     * @return {@code true} if the changes are detected without walking the directory trees
+     */
+    boolean isWatching() {
+        return getWatchService() != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        unavailable = true;
+        WatchService watchService = this.watchService;
+        if (watchService != null) {
+            watchService.close();
+        }
+        roots.clear();
+    }
+
+    private WatchService getWatchService() {
+        WatchService watchService = this.watchService;
+        if (watchService != null || unavailable) {
+            return watchService;
+        }
+        synchronized (this) {
+            if (this.watchService == null && !unavailable) {
+                try {
+                    watchService = FileSystems.getDefault().newWatchService();
+                    if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+                        // changes would be detected with a delay of several seconds
+                        log.debug("Walking the directories to detect changes as the file system does not support watching");
+                        watchService.close();
+                        unavailable = true;
+                        return null;
+                    }
+                } catch (IOException | UnsupportedOperationException e) {
+                    log.debug("Walking the directories to detect changes as the file system does not support watching", e);
+                    unavailable = true;
+                    return null;
+                }
+                this.watchService = watchService;
+                Thread thread = new Thread(this::processEvents, "Quarkus Dev Mode Directory Watcher");
+                thread.setDaemon(true);
+                thread.start();
+            }
+            return this.watchService;
+        }
+    }
+
+    private void processEvents() {
+        WatchService watchService = this.watchService;
+        for (;;) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == ENTRY_CREATE) {
+                    Path created = dir.resolve((Path) event.context());
+                    if (Files.isDirectory(created)) {
+                        register(created, watchService);
+                    }
+                }
+            }
+            boolean valid = key.reset();
+            // the roots are marked after the new directories are registered so that the files created in them meanwhile
+            // are not missed
+            for (Root root : roots.values()) {
+                if (dir.startsWith(root.path)) {
+                    if (!valid && dir.equals(root.path)) {
+                        // the root was deleted
+                        root.registered = false;
+                    }
+                    root.checked.clear();
+                }
+            }
+        }
+    }
+
+    private boolean register(Path dir, WatchService watchService) {
+        try {
+            Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+                    dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return true;
+        } catch (IOException | ClosedWatchServiceException e) {
+            log.debugf(e, "Unable to watch %s, the changes will be detected by walking the directory", dir);
+            for (Root root : roots.values()) {
+                if (dir.startsWith(root.path)) {
+                    root.registered = false;
+                }
+            }
+            return false;
+        }
+    }
+
+    private final class Root {
+
+        final Path path;
+        // the scans that checked the directory tree since it last changed
+        final Map<String, Boolean> checked = new ConcurrentHashMap<>();
+        volatile boolean registered;
+
+        Root(Path path, WatchService watchService) {
+            this.path = path;
+            this.registered = Files.isDirectory(path) && register(path, watchService);
+        }
+
+    }
+
+}
@@ -50,6 +50,9 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     private static final Logger log = Logger.getLogger(RuntimeUpdatesProcessor.class);
 
     private static final String CLASS_EXTENSION = ".class";
+    private static final String SOURCES_SCAN = "sources";
+    private static final String CLASSES_SCAN = "classes";
+    private static final String RESOURCES_SCAN = "resources";
     static volatile RuntimeUpdatesProcessor INSTANCE;
 
     private final Path applicationRoot;
@@ -75,6 +78,11 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     private final Map<Path, Long> classFileChangeTimeStamps = new ConcurrentHashMap<>();
     private final Map<Path, Path> classFilePathToSourceFilePath = new ConcurrentHashMap<>();
 
+    /**
+     * Only the directories that changed since the last scan are walked.
+     */
+    private final DirectoryWatcher directoryWatcher = new DirectoryWatcher();
+
     /**
      * Resources that appear in both src and target, these will be removed if the src resource subsequently disappears.
      * This map contains the paths in the target dir, one for each module, otherwise on a second module we will delete files
@@ -184,6 +192,11 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
 
         ClassScanResult changedClassResults = checkForChangedClasses();
         Set<String> filesChanged = checkForFileChange();
+        final long scanNanoseconds = System.nanoTime() - startNanoseconds - changedClassResults.compilationNanoseconds;
+        if (log.isDebugEnabled()) {
+            log.debugf("Scanned for changes in %ss, compiled in %ss", Timing.convertToBigDecimalSeconds(scanNanoseconds),
+                    Timing.convertToBigDecimalSeconds(changedClassResults.compilationNanoseconds));
+        }
 
         boolean configFileRestartNeeded = filesChanged.stream().map(watchedFilePaths::get).anyMatch(Boolean.TRUE::equals);
 
@@ -235,7 +248,10 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                 || (IsolatedDevModeMain.deploymentProblem != null && userInitiated) || configFileRestartNeeded);
         if (restartNeeded) {
             restartCallback.accept(filesChanged, changedClassResults);
-            log.infof("Hot replace total time: %ss ", Timing.convertToBigDecimalSeconds(System.nanoTime() - startNanoseconds));
+            log.infof("Hot replace total time: %ss (scan: %ss, compilation: %ss)",
+                    Timing.convertToBigDecimalSeconds(System.nanoTime() - startNanoseconds),
+                    Timing.convertToBigDecimalSeconds(scanNanoseconds),
+                    Timing.convertToBigDecimalSeconds(changedClassResults.compilationNanoseconds));
             return true;
         } else if (!filesChanged.isEmpty()) {
             for (Consumer<Set<String>> consumer : noRestartChangesConsumers) {
@@ -300,13 +316,16 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
 
         for (DevModeContext.ModuleInfo module : context.getAllModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            // a deleted source file doesn't show in the changed source files, only in the events of its source root
+            boolean moduleSourcesChanged = false;
 
             for (String sourcePath : module.getSourcePaths()) {
                 final Set<File> changedSourceFiles;
                 Path start = Paths.get(sourcePath);
-                if (!Files.exists(start)) {
+                if (!Files.exists(start) || !directoryWatcher.isChanged(SOURCES_SCAN, start)) {
                     continue;
                 }
+                moduleSourcesChanged = true;
                 try (final Stream<Path> sourcesStream = Files.walk(start)) {
                     changedSourceFiles = sourcesStream
                             .parallel()
@@ -318,6 +337,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                 }
                 if (!changedSourceFiles.isEmpty()) {
                     log.info("Changed source files detected, recompiling " + changedSourceFiles);
+                    long compilationStart = System.nanoTime();
                     try {
                         final Set<Path> changedPaths = changedSourceFiles.stream()
                                 .map(File::toPath)
@@ -329,12 +349,15 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                     } catch (Exception e) {
                         compileProblem = e;
                         return new ClassScanResult();
+                    } finally {
+                        classScanResult.compilationNanoseconds += System.nanoTime() - compilationStart;
                     }
                 }
 
             }
 
-            checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges, classScanResult);
+            checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, moduleSourcesChanged,
+                    ignoreFirstScanChanges, classScanResult);
         }
 
         this.firstScanDone = true;
@@ -346,7 +369,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     }
 
     private void checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
-            boolean isInitialRun, ClassScanResult classScanResult) {
+            boolean moduleSourcesChanged, boolean isInitialRun, ClassScanResult classScanResult) {
         if (module.getClassesPath() == null) {
             return;
         }
@@ -357,6 +380,11 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
                 if (!Files.exists(moduleClassesPath)) {
                     continue;
                 }
+                // the compiled classes are checked even if the events of the compilation were not received yet,
+                // and the classes of deleted source files are only found by walking the classes
+                if (!directoryWatcher.isChanged(CLASSES_SCAN, moduleClassesPath) && !moduleSourcesChanged) {
+                    continue;
+                }
                 try (final Stream<Path> classesStream = Files.walk(moduleClassesPath)) {
                     final Set<Path> classFilePaths = classesStream
                             .parallel()
@@ -451,7 +479,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
             }
             Path outputDir = Paths.get(outputPath);
             //copy all modified non hot deployment files over
-            if (doCopy) {
+            if (doCopy && directoryWatcher.isChanged(RESOURCES_SCAN, root)) {
                 try {
                     final Set<Path> seen = new HashSet<>(moduleResources);
                     //since the stream is Closeable, use a try with resources so the underlying iterator is closed
@@ -623,6 +651,7 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext, Closeable
     @Override
     public void close() throws IOException {
         compiler.close();
+        directoryWatcher.close();
         FSWatchUtil.shutdown();
     }
 
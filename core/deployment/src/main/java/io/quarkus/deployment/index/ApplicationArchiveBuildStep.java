@@ -38,12 +38,14 @@ import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.QuarkusBuildCloseablesBuildItem;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.runtime.annotations.ConfigDocMapKey;
 import io.quarkus.runtime.annotations.ConfigDocSection;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 
 public class ApplicationArchiveBuildStep {
 
@@ -51,6 +53,8 @@ public class ApplicationArchiveBuildStep {
 
     IndexDependencyConfiguration config;
 
+    IndexCacheConfig indexCacheConfig;
+
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
     static final class IndexDependencyConfiguration {
         /**
@@ -64,6 +68,33 @@ public class ApplicationArchiveBuildStep {
         Map<String, IndexDependencyConfig> indexDependency;
     }
 
+    @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
+    static final class IndexCacheConfig {
+        /**
+         * Whether the indexes of the dependencies are stored on disk and reused by subsequent builds.
+         * <p>
+         * An index is identified by the hash of the content of the dependency so it's never reused if the dependency
+         * changes.
+         */
+        @ConfigItem(defaultValue = "true")
+        boolean enabled;
+
+        /**
+         * The directory where the indexes are stored. By default, the indexes are stored in the user home directory so
+         * that they survive a clean build and are shared between projects. A relative path is resolved against the build
+         * output directory, e.g. {@code target}.
+         */
+        @ConfigItem(defaultValue = "${user.home}/.quarkus/index-cache")
+        String directory;
+
+        /**
+         * The maximum size of the directory where the indexes are stored. Once a build stored new indexes, the least
+         * recently used indexes are deleted until the size of the directory is below this value.
+         */
+        @ConfigItem(defaultValue = "100M")
+        MemorySize maxSize;
+    }
+
     @BuildStep
     void addConfiguredIndexedDependencies(BuildProducer<IndexDependencyBuildItem> indexDependencyBuildItemBuildProducer) {
         for (IndexDependencyConfig indexDependencyConfig : config.indexDependency.values()) {
@@ -80,7 +111,8 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
             LiveReloadBuildItem liveReloadContext,
-            CurateOutcomeBuildItem curateOutcomeBuildItem) throws IOException {
+            CurateOutcomeBuildItem curateOutcomeBuildItem,
+            BuildSystemTargetBuildItem buildSystemTarget) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -92,11 +124,18 @@ public class ApplicationArchiveBuildStep {
             indexCache = new IndexCache();
             liveReloadContext.setContextObject(IndexCache.class, indexCache);
         }
+        indexCache.diskCache = indexCacheConfig.enabled
+                ? new DiskIndexCache(buildSystemTarget.getOutputDirectory().resolve(indexCacheConfig.directory),
+                        indexCacheConfig.maxSize.asLongValue())
+                : null;
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(buildCloseables,
                 Thread.currentThread().getContextClassLoader(),
                 markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache,
                 curateOutcomeBuildItem);
+        if (indexCache.diskCache != null) {
+            indexCache.diskCache.prune();
+        }
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getRootDirs(), root.getPaths(), null),
                 applicationArchives);
@@ -265,7 +304,7 @@ public class ApplicationArchiveBuildStep {
             @Override
             public Index apply(Path path) {
                 try {
-                    return IndexingUtil.indexJar(path);
+                    return indexCache.diskCache != null ? indexCache.diskCache.indexJar(path) : IndexingUtil.indexJar(path);
                 } catch (IOException e) {
                     throw new RuntimeException("Failed to process " + path, e);
                 }
@@ -281,5 +320,8 @@ public class ApplicationArchiveBuildStep {
 
         final Map<Path, Index> cache = new HashMap<>();
 
+        // the indexes that were stored by previous builds
+        DiskIndexCache diskCache;
+
     }
 }
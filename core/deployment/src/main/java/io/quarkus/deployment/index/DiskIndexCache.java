@@ -0,0 +1,205 @@
+package io.quarkus.deployment.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.logging.Logger;
+
+/**
+ * Stores the indexes of the dependency jars in a directory so that an unchanged jar is only indexed once across builds.
+ * <p>
+ * The index of a jar is stored in a file named after the SHA-256 hash of the content of the jar and the version of
+ * Jandex. A jar that changes is therefore indexed again, and so is every jar when Jandex is upgraded. The directory can be
+ * shared by several projects and Quarkus versions.
+ * <p>
+ * Once a build stored new indexes, the least recently used ones are deleted until the size of the directory is below the
+ * configured maximum. Reading an index updates its modification time, which is used as the time of the last use.
+ */
+final class DiskIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(DiskIndexCache.class);
+
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    // the temporary files of a build that was killed while writing an index
+    private static final long ABANDONED_TMP_FILE_AGE = TimeUnit.HOURS.toMillis(1);
+
+    // the index of a jar may change with the version of Jandex, e.g. when the index format or an indexing bug is fixed
+    static final String JANDEX_VERSION = jandexVersion();
+
+    private final Path directory;
+    private final long maxSize;
+    private volatile boolean written;
+
+    DiskIndexCache(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    Index indexJar(Path jar) throws IOException {
+        Path indexFile = directory.resolve(indexFileName(jar));
+        if (Files.isRegularFile(indexFile)) {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(indexFile))) {
+                IndexReader reader = new IndexReader(in);
+                if (reader.getIndexVersion() >= IndexingUtil.REQUIRED_INDEX_VERSION) {
+                    LOGGER.debugf("Using the cached index %s of %s", indexFile, jar);
+                    Index index = reader.read();
+                    touch(indexFile);
+                    return index;
+                }
+            } catch (IOException | RuntimeException e) {
+                // e.g. a file written by an incompatible version of Jandex, it is replaced below
+                LOGGER.debugf(e, "Unable to read the cached index %s of %s", indexFile, jar);
+            }
+        }
+        Index index = IndexingUtil.indexJar(jar);
+        write(indexFile, index);
+        return index;
+    }
+
+    private void write(Path indexFile, Index index) {
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, indexFile.getFileName().toString(), TMP_SUFFIX);
+            try {
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tmp))) {
+                    new IndexWriter(out).write(index);
+                }
+                // builds that share the directory never read a partially written index
+                Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                written = true;
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (IOException e) {
+            // the cache is an optimization only
+            LOGGER.debugf(e, "Unable to store the cached index %s", indexFile);
+        }
+    }
+
+    /**
+     * Deletes the least recently used indexes until the size of the directory is below the maximum, if this instance
+     * stored new indexes.
+     */
+    void prune() {
+        if (!written) {
+            return;
+        }
+        written = false;
+        List<CachedFile> files = new ArrayList<>();
+        long size = 0;
+        long now = System.currentTimeMillis();
+        try (Stream<Path> paths = Files.list(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                String name = path.getFileName().toString();
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    // e.g. deleted by a concurrent build
+                    continue;
+                }
+                long lastModified = attributes.lastModifiedTime().toMillis();
+                if (name.endsWith(TMP_SUFFIX) && now - lastModified > ABANDONED_TMP_FILE_AGE) {
+                    Files.deleteIfExists(path);
+                } else if (name.endsWith(INDEX_SUFFIX) && attributes.isRegularFile()) {
+                    files.add(new CachedFile(path, lastModified, attributes.size()));
+                    size += attributes.size();
+                }
+            }
+            if (size <= maxSize) {
+                return;
+            }
+            files.sort(Comparator.comparingLong(f -> f.lastModified));
+            for (CachedFile file : files) {
+                if (size <= maxSize) {
+                    break;
+                }
+                // a concurrent build that reads the file while it is deleted indexes the jar again
+                Files.deleteIfExists(file.path);
+                size -= file.size;
+                LOGGER.debugf("Deleted the least recently used cached index %s", file.path);
+            }
+        } catch (IOException e) {
+            // the cache is an optimization only
+            LOGGER.debugf(e, "Unable to prune the cached indexes in %s", directory);
+        }
+    }
+
+    private static void touch(Path indexFile) {
+        try {
+            Files.setLastModifiedTime(indexFile, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // the index may be pruned a bit earlier
+            LOGGER.debugf(e, "Unable to update the modification time of the cached index %s", indexFile);
+        }
+    }
+
+    static String indexFileName(Path jar) throws IOException {
+        return hash(jar) + "-jandex-" + JANDEX_VERSION + INDEX_SUFFIX;
+    }
+
+    private static String jandexVersion() {
+        String version = Index.class.getPackage().getImplementationVersion();
+        if (version == null) {
+            // e.g. Jandex is not loaded from its jar, the index version read from the file is still checked
+            return "unknown";
+        }
+        return version.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        byte[] hash = digest.digest();
+        StringBuilder sb = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            sb.append(Integer.toHexString((b & 0xFF) | 0x100).substring(1, 3));
+        }
+        return sb.toString();
+    }
+
+    private static final class CachedFile {
+
+        final Path path;
+        final long lastModified;
+        final long size;
+
+        CachedFile(Path path, long lastModified, long size) {
+            this.path = path;
+            this.lastModified = lastModified;
+            this.size = size;
+        }
+    }
+
+}
@@ -30,7 +30,7 @@ public class IndexingUtil {
     public static final String JANDEX_INDEX = "META-INF/jandex.idx";
 
     // At least Jandex 2.1 is needed
-    private static final int REQUIRED_INDEX_VERSION = 8;
+    static final int REQUIRED_INDEX_VERSION = 8;
 
     public static Index indexJar(Path path) throws IOException {
         return indexJar(path.toFile());
@@ -102,6 +102,16 @@ public class PackageConfig {
     @ConfigItem
     public Optional<String> userProvidersDirectory;
 
+    /**
+     * This is an advanced option that only takes effect for the fast-jar and mutable-jar formats.
+     *
+     * If this is enabled, the location of each jar entry is computed at build time and the jars are memory mapped at
+     * runtime, so that classes and resources are read without locking instead of going through a {@code JarFile}.
+     * Jars which use unsupported zip features, such as zip64, are still opened as a {@code JarFile}.
+     */
+    @ConfigItem
+    public boolean memoryMappedJars;
+
     public boolean isAnyJarType() {
         return (type.equalsIgnoreCase(PackageConfig.LEGACY) ||
                 type.equalsIgnoreCase(PackageConfig.JAR) ||
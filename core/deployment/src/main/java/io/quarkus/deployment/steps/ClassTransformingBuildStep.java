@@ -17,6 +17,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import org.jboss.logging.Logger;
@@ -36,6 +38,7 @@ import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
 import io.quarkus.deployment.index.ConstPoolScanner;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.util.HashUtil;
 
 public class ClassTransformingBuildStep {
 
@@ -44,7 +47,7 @@ public class ClassTransformingBuildStep {
     /**
      * Cache used for dev mode to save the result for classes that have not changed.
      */
-    private static final Map<String, TransformedClassesBuildItem.TransformedClass> transformedClassesCache = new ConcurrentHashMap<>();
+    private static final Map<String, CachedTransformation> transformedClassesCache = new ConcurrentHashMap<>();
 
     @BuildStep
     TransformedClassesBuildItem handleClassTransformation(List<BytecodeTransformerBuildItem> bytecodeTransformerBuildItems,
@@ -76,12 +79,15 @@ public class ClassTransformingBuildStep {
                 nonCacheable.add(i.getClassToTransform());
             }
         }
+        long start = System.nanoTime();
+        AtomicInteger transformations = new AtomicInteger();
+        AtomicInteger cacheHits = new AtomicInteger();
         QuarkusClassLoader cl = (QuarkusClassLoader) Thread.currentThread().getContextClassLoader();
         Map<String, Path> transformedToArchive = new ConcurrentHashMap<>();
         // now copy all the contents to the runner jar
         // we also record if any additional archives needed transformation
         // when we copy these archives we will remove the problematic classes
-        final ExecutorService executorPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        ExecutorService executorPool = null;
         final ConcurrentLinkedDeque<Future<TransformedClassesBuildItem.TransformedClass>> transformed = new ConcurrentLinkedDeque<>();
         final Map<Path, Set<TransformedClassesBuildItem.TransformedClass>> transformedClassesByJar = new HashMap<>();
         try {
@@ -89,16 +95,13 @@ public class ClassTransformingBuildStep {
             for (Map.Entry<String, List<BiFunction<String, ClassVisitor, ClassVisitor>>> entry : bytecodeTransformers
                     .entrySet()) {
                 String className = entry.getKey();
+                List<BiFunction<String, ClassVisitor, ClassVisitor>> visitors = entry.getValue();
                 boolean cacheable = !nonCacheable.contains(className);
-                if (cacheable && transformedClassesCache.containsKey(className)) {
-                    if (liveReloadBuildItem.getChangeInformation() != null) {
-                        if (!liveReloadBuildItem.getChangeInformation().getChangedClasses().contains(className)) {
-                            //we can use the cached transformation
-                            handleTransformedClass(transformedToArchive, transformedClassesByJar,
-                                    transformedClassesCache.get(className));
-                            continue;
-                        }
-                    }
+                String transformers = cacheable ? getTransformersFingerprint(visitors, eager.contains(className)) : null;
+                CachedTransformation cached = cacheable ? transformedClassesCache.get(className) : null;
+                if (cached != null && !cached.transformers.equals(transformers)) {
+                    // the class is not transformed by the same transformers anymore
+                    cached = null;
                 }
                 String classFileName = className.replace(".", "/") + ".class";
                 List<ClassPathElement> archives = cl.getElementsWithResource(classFileName);
@@ -110,8 +113,18 @@ public class ClassTransformingBuildStep {
                                 entry.getKey());
                         continue;
                     }
-                    List<BiFunction<String, ClassVisitor, ClassVisitor>> visitors = entry.getValue();
                     transformedToArchive.put(classFileName, jar);
+                    if (cached != null && liveReloadBuildItem.getChangeInformation() != null
+                            && !liveReloadBuildItem.getChangeInformation().getChangedClasses().contains(className)) {
+                        //we can use the cached transformation without reading the class
+                        cacheHits.incrementAndGet();
+                        handleTransformedClass(transformedToArchive, transformedClassesByJar, cached.transformedClass);
+                        continue;
+                    }
+                    CachedTransformation previous = cached;
+                    if (executorPool == null) {
+                        executorPool = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+                    }
                     transformed.add(executorPool.submit(new Callable<TransformedClassesBuildItem.TransformedClass>() {
                         @Override
                         public TransformedClassesBuildItem.TransformedClass call() throws Exception {
@@ -125,6 +138,13 @@ public class ClassTransformingBuildStep {
                                         return null;
                                     }
                                 }
+                                String inputHash = cacheable ? HashUtil.sha1(classData) : null;
+                                if (previous != null && previous.inputHash.equals(inputHash)) {
+                                    //neither the class nor the transformers changed
+                                    cacheHits.incrementAndGet();
+                                    return previous.transformedClass;
+                                }
+                                transformations.incrementAndGet();
                                 ClassReader cr = new ClassReader(classData);
                                 ClassWriter writer = new QuarkusClassWriter(cr,
                                         ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
@@ -152,7 +172,8 @@ public class ClassTransformingBuildStep {
                                         className, data,
                                         classFileName, eager.contains(className));
                                 if (cacheable && launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT) {
-                                    transformedClassesCache.put(className, transformedClass);
+                                    transformedClassesCache.put(className,
+                                            new CachedTransformation(inputHash, transformers, transformedClass));
                                 }
                                 return transformedClass;
                             } finally {
@@ -167,7 +188,9 @@ public class ClassTransformingBuildStep {
             }
 
         } finally {
-            executorPool.shutdown();
+            if (executorPool != null) {
+                executorPool.shutdown();
+            }
         }
         if (!transformed.isEmpty()) {
             for (Future<TransformedClassesBuildItem.TransformedClass> i : transformed) {
@@ -177,9 +200,27 @@ public class ClassTransformingBuildStep {
                 }
             }
         }
+        // the classes that were not transformed, e.g. missing a required constant, are not counted
+        log.debugf("Transformed %s classes in %s ms, %s transformations were reused from the cache",
+                transformations.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), cacheHits.get());
         return new TransformedClassesBuildItem(transformedClassesByJar);
     }
 
+    /**
+     * The transformers are created by build steps that are loaded once, so the class of a transformer identifies it across
+     * dev mode restarts. Only the transformers that are cacheable, i.e. that do not depend on anything but the class to
+     * transform, are compared.
+     */
+    private static String getTransformersFingerprint(List<BiFunction<String, ClassVisitor, ClassVisitor>> visitors,
+            boolean eager) {
+        StringBuilder fingerprint = new StringBuilder();
+        fingerprint.append(eager);
+        for (BiFunction<String, ClassVisitor, ClassVisitor> visitor : visitors) {
+            fingerprint.append(',').append(visitor.getClass().getName());
+        }
+        return fingerprint.toString();
+    }
+
     private void handleTransformedClass(Map<String, Path> transformedToArchive,
             Map<Path, Set<TransformedClassesBuildItem.TransformedClass>> transformedClassesByJar,
             TransformedClassesBuildItem.TransformedClass res) {
@@ -187,4 +228,19 @@ public class ClassTransformingBuildStep {
                 .add(res);
     }
 
+    private static final class CachedTransformation {
+
+        final String inputHash;
+        final String transformers;
+        final TransformedClassesBuildItem.TransformedClass transformedClass;
+
+        CachedTransformation(String inputHash, String transformers,
+                TransformedClassesBuildItem.TransformedClass transformedClass) {
+            this.inputHash = inputHash;
+            this.transformers = transformers;
+            this.transformedClass = transformedClass;
+        }
+
+    }
+
 }
@@ -0,0 +1,89 @@
+package io.quarkus.deployment.dev;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DirectoryWatcherTest {
+
+    @TempDir
+    Path root;
+
+    final DirectoryWatcher watcher = new DirectoryWatcher();
+
+    @AfterEach
+    public void close() throws IOException {
+        watcher.close();
+    }
+
+    @Test
+    public void testFirstCheckReportsChange() {
+        assertTrue(watcher.isChanged("sources", root));
+        assertTrue(watcher.isChanged("classes", root));
+    }
+
+    @Test
+    public void testChangesAreDetected() throws Exception {
+        assumeTrue(watcher.isWatching(), "The file system does not support watching");
+        assertTrue(watcher.isChanged("sources", root));
+        assertFalse(watcher.isChanged("sources", root));
+
+        Files.write(root.resolve("Foo.java"), new byte[] { 1 });
+        assertEventually(() -> watcher.isChanged("sources", root));
+        assertFalse(watcher.isChanged("sources", root));
+
+        // every scan sees the change
+        assertTrue(watcher.isChanged("classes", root));
+        assertFalse(watcher.isChanged("classes", root));
+    }
+
+    @Test
+    public void testChangesInCreatedDirectoriesAreDetected() throws Exception {
+        assumeTrue(watcher.isWatching(), "The file system does not support watching");
+        assertTrue(watcher.isChanged("sources", root));
+
+        Path dir = Files.createDirectories(root.resolve("org/acme"));
+        assertEventually(() -> watcher.isChanged("sources", root));
+        // wait for the events of the parent directories
+        Thread.sleep(200);
+        watcher.isChanged("sources", root);
+
+        Files.write(dir.resolve("Foo.java"), new byte[] { 1 });
+        assertEventually(() -> watcher.isChanged("sources", root));
+    }
+
+    @Test
+    public void testDeletedRootIsWatchedAgain() throws Exception {
+        assumeTrue(watcher.isWatching(), "The file system does not support watching");
+        Path dir = Files.createDirectories(root.resolve("classes"));
+        assertTrue(watcher.isChanged("classes", dir));
+
+        Files.delete(dir);
+        assertEventually(() -> watcher.isChanged("classes", dir));
+        Files.createDirectories(dir);
+        assertTrue(watcher.isChanged("classes", dir));
+        assertFalse(watcher.isChanged("classes", dir));
+    }
+
+    private static void assertEventually(BooleanSupplier condition) throws InterruptedException {
+        long end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < end) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+}
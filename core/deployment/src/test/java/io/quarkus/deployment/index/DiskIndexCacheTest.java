@@ -0,0 +1,205 @@
+package io.quarkus.deployment.index;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DiskIndexCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testIndexIsStoredAndReused() throws IOException {
+        Path jar = createJar(tmp.resolve("alpha.jar"), Alpha.class);
+        Path cacheDir = tmp.resolve("cache");
+        DiskIndexCache cache = new DiskIndexCache(cacheDir, Long.MAX_VALUE);
+
+        Index index = cache.indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(Alpha.class.getName())));
+        List<Path> files = list(cacheDir);
+        assertEquals(1, files.size());
+        assertEquals(DiskIndexCache.indexFileName(jar), files.get(0).getFileName().toString());
+        assertEquals(DiskIndexCache.hash(jar) + "-jandex-" + DiskIndexCache.JANDEX_VERSION + ".idx",
+                files.get(0).getFileName().toString());
+
+        // a new build reads the stored index
+        index = new DiskIndexCache(cacheDir, Long.MAX_VALUE).indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(Alpha.class.getName())));
+        assertEquals(1, list(cacheDir).size());
+    }
+
+    @Test
+    public void testChangedJarIsIndexedAgain() throws IOException {
+        Path jar = createJar(tmp.resolve("alpha.jar"), Alpha.class);
+        Path cacheDir = tmp.resolve("cache");
+        DiskIndexCache cache = new DiskIndexCache(cacheDir, Long.MAX_VALUE);
+        cache.indexJar(jar);
+        String hash = DiskIndexCache.hash(jar);
+
+        createJar(jar, Bravo.class);
+        assertNotEquals(hash, DiskIndexCache.hash(jar));
+        Index index = cache.indexJar(jar);
+        assertNull(index.getClassByName(DotName.createSimple(Alpha.class.getName())));
+        assertNotNull(index.getClassByName(DotName.createSimple(Bravo.class.getName())));
+        assertEquals(2, list(cacheDir).size());
+    }
+
+    @Test
+    public void testCorruptedIndexIsReplaced() throws IOException {
+        Path jar = createJar(tmp.resolve("alpha.jar"), Alpha.class);
+        Path cacheDir = tmp.resolve("cache");
+        DiskIndexCache cache = new DiskIndexCache(cacheDir, Long.MAX_VALUE);
+        cache.indexJar(jar);
+        Path indexFile = list(cacheDir).get(0);
+        Files.write(indexFile, new byte[] { 1, 2, 3 });
+
+        Index index = cache.indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(Alpha.class.getName())));
+        index = new DiskIndexCache(cacheDir, Long.MAX_VALUE).indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(Alpha.class.getName())));
+        assertEquals(1, list(cacheDir).size());
+    }
+
+    @Test
+    public void testTruncatedIndexIsReplaced() throws IOException {
+        Path jar = createJar(tmp.resolve("alpha.jar"), Alpha.class);
+        Path cacheDir = tmp.resolve("cache");
+        DiskIndexCache cache = new DiskIndexCache(cacheDir, Long.MAX_VALUE);
+        cache.indexJar(jar);
+        Path indexFile = list(cacheDir).get(0);
+        byte[] content = Files.readAllBytes(indexFile);
+        Files.write(indexFile, Arrays.copyOf(content, content.length / 2));
+
+        Index index = cache.indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(Alpha.class.getName())));
+        assertArrayEquals(content, Files.readAllBytes(indexFile));
+    }
+
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        Path jar = createJar(tmp.resolve("alpha.jar"), Alpha.class);
+        Path cacheDir = tmp.resolve("cache");
+        int builds = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(builds);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Index>> indexes = new ArrayList<>();
+            for (int i = 0; i < builds; i++) {
+                // each build has its own cache instance, as if the directory was shared by several processes
+                DiskIndexCache cache = new DiskIndexCache(cacheDir, Long.MAX_VALUE);
+                indexes.add(executor.submit(() -> {
+                    start.await();
+                    return cache.indexJar(jar);
+                }));
+            }
+            start.countDown();
+            for (Future<Index> index : indexes) {
+                assertNotNull(index.get(10, TimeUnit.SECONDS).getClassByName(DotName.createSimple(Alpha.class.getName())));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // no temporary file is left and the stored index is complete
+        List<Path> files = list(cacheDir);
+        assertEquals(1, files.size());
+        assertEquals(DiskIndexCache.indexFileName(jar), files.get(0).getFileName().toString());
+        Index index = new DiskIndexCache(cacheDir, Long.MAX_VALUE).indexJar(jar);
+        assertNotNull(index.getClassByName(DotName.createSimple(Alpha.class.getName())));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIndexesArePruned() throws IOException {
+        Path alpha = createJar(tmp.resolve("alpha.jar"), Alpha.class);
+        Path bravo = createJar(tmp.resolve("bravo.jar"), Bravo.class);
+        Path charlie = createJar(tmp.resolve("charlie.jar"), Charlie.class);
+        Path cacheDir = tmp.resolve("cache");
+        DiskIndexCache cache = new DiskIndexCache(cacheDir, Long.MAX_VALUE);
+        cache.indexJar(alpha);
+        cache.indexJar(bravo);
+        Path alphaIndex = cacheDir.resolve(DiskIndexCache.indexFileName(alpha));
+        Path bravoIndex = cacheDir.resolve(DiskIndexCache.indexFileName(bravo));
+        long now = System.currentTimeMillis();
+        Files.setLastModifiedTime(alphaIndex, FileTime.fromMillis(now - TimeUnit.DAYS.toMillis(2)));
+        Files.setLastModifiedTime(bravoIndex, FileTime.fromMillis(now - TimeUnit.DAYS.toMillis(1)));
+        // a temporary file left by a build that was killed
+        Path abandoned = Files.createFile(cacheDir.resolve("abandoned.idx.tmp"));
+        Files.setLastModifiedTime(abandoned, FileTime.fromMillis(now - TimeUnit.DAYS.toMillis(1)));
+
+        // room for two indexes, the index of Charlie has a slightly different size
+        long maxSize = Files.size(alphaIndex) + Files.size(bravoIndex) + 64;
+        // reading an index marks it as recently used
+        cache = new DiskIndexCache(cacheDir, maxSize);
+        cache.indexJar(alpha);
+        // nothing is pruned until an index is stored
+        cache.prune();
+        assertEquals(3, list(cacheDir).size());
+
+        cache.indexJar(charlie);
+        cache.prune();
+        Path charlieIndex = cacheDir.resolve(DiskIndexCache.indexFileName(charlie));
+        assertEquals(new HashSet<>(Arrays.asList(alphaIndex, charlieIndex)), new HashSet<>(list(cacheDir)));
+    }
+
+    private static Path createJar(Path jar, Class<?> clazz) throws IOException {
+        String name = clazz.getName().replace('.', '/') + ".class";
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                InputStream in = clazz.getClassLoader().getResourceAsStream(name)) {
+            out.putNextEntry(new JarEntry(name));
+            copy(in, out);
+            out.closeEntry();
+        }
+        return jar;
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        byte[] buffer = new byte[1024];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+    }
+
+    private static List<Path> list(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+
+    public static class Alpha {
+    }
+
+    public static class Bravo {
+    }
+
+    public static class Charlie {
+    }
+
+}
@@ -0,0 +1,166 @@
+package io.quarkus.deployment.steps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+
+import io.quarkus.bootstrap.app.ClassChangeInformation;
+import io.quarkus.bootstrap.classloading.DirectoryClassPathElement;
+import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.deployment.builditem.BytecodeTransformerBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
+import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
+import io.quarkus.runtime.LaunchMode;
+
+/**
+ * Tests that the transformations of a class are reused across dev mode restarts only if neither the class nor its
+ * transformers changed.
+ */
+public class ClassTransformingBuildStepTest {
+
+    @TempDir
+    Path classes;
+
+    @Test
+    public void testUnchangedTransformationIsReused() throws Exception {
+        String className = "io.quarkus.test.Unchanged";
+        writeClass(className, "field");
+        AtomicInteger transformations = new AtomicInteger();
+
+        TransformedClassesBuildItem.TransformedClass transformed = transform(className, null,
+                transformer(className, transformations));
+        assertEquals(1, transformations.get());
+
+        // a new instance of the same transformer, the class is read again but not transformed
+        assertSame(transformed, transform(className, null, transformer(className, transformations)));
+        assertEquals(1, transformations.get());
+
+        // the class is known to be unchanged, it is not even read
+        assertSame(transformed, transform(className, changedClasses(), transformer(className, transformations)));
+        assertEquals(1, transformations.get());
+    }
+
+    @Test
+    public void testChangedClassIsTransformedAgain() throws Exception {
+        String className = "io.quarkus.test.ChangedClass";
+        writeClass(className, "field");
+        AtomicInteger transformations = new AtomicInteger();
+        transform(className, null, transformer(className, transformations));
+        assertEquals(1, transformations.get());
+
+        byte[] changed = writeClass(className, "otherField");
+        TransformedClassesBuildItem.TransformedClass transformed = transform(className, changedClasses(className),
+                transformer(className, transformations));
+        assertEquals(2, transformations.get());
+        assertArrayEquals(changed, transformed.getData());
+
+        // the class changed but not its content, e.g. it was only touched
+        transform(className, changedClasses(className), transformer(className, transformations));
+        assertEquals(2, transformations.get());
+    }
+
+    @Test
+    public void testChangedTransformersTransformAgain() throws Exception {
+        String className = "io.quarkus.test.ChangedTransformers";
+        writeClass(className, "field");
+        AtomicInteger transformations = new AtomicInteger();
+        AtomicInteger otherTransformations = new AtomicInteger();
+        transform(className, null, transformer(className, transformations));
+        assertEquals(1, transformations.get());
+
+        // a transformer is added
+        transform(className, changedClasses(), transformer(className, transformations),
+                otherTransformer(className, otherTransformations));
+        assertEquals(2, transformations.get());
+        assertEquals(1, otherTransformations.get());
+
+        // a transformer is removed
+        transform(className, changedClasses(), otherTransformer(className, otherTransformations));
+        assertEquals(2, transformations.get());
+        assertEquals(2, otherTransformations.get());
+
+        // the same transformer is eager
+        transform(className, changedClasses(), new BytecodeTransformerBuildItem(true, className,
+                counting(otherTransformations), null, true));
+        assertEquals(3, otherTransformations.get());
+    }
+
+    private TransformedClassesBuildItem.TransformedClass transform(String className, Set<String> changedClasses,
+            BytecodeTransformerBuildItem... transformers) throws Exception {
+        LiveReloadBuildItem liveReload = changedClasses == null ? new LiveReloadBuildItem()
+                : new LiveReloadBuildItem(true, Collections.emptySet(), new HashMap<>(),
+                        new ClassChangeInformation(changedClasses, Collections.emptySet(), Collections.emptySet()));
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        QuarkusClassLoader cl = QuarkusClassLoader.builder("test", getClass().getClassLoader(), false)
+                .addElement(new DirectoryClassPathElement(classes))
+                .build();
+        try {
+            Thread.currentThread().setContextClassLoader(cl);
+            TransformedClassesBuildItem result = new ClassTransformingBuildStep().handleClassTransformation(
+                    Arrays.asList(transformers), null, liveReload, new LaunchModeBuildItem(LaunchMode.DEVELOPMENT));
+            List<TransformedClassesBuildItem.TransformedClass> transformed = new ArrayList<>(
+                    result.getTransformedClassesByJar().get(classes));
+            assertEquals(1, transformed.size());
+            assertEquals(className, transformed.get(0).getClassName());
+            return transformed.get(0);
+        } finally {
+            Thread.currentThread().setContextClassLoader(old);
+            cl.close();
+        }
+    }
+
+    private byte[] writeClass(String className, String fieldName) throws IOException {
+        ClassWriter writer = new ClassWriter(0);
+        writer.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC, className.replace('.', '/'), null, "java/lang/Object", null);
+        writer.visitField(Opcodes.ACC_PUBLIC, fieldName, "I", null, null).visitEnd();
+        writer.visitEnd();
+        byte[] data = writer.toByteArray();
+        Path classFile = classes.resolve(className.replace('.', '/') + ".class");
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, data);
+        return data;
+    }
+
+    private static Set<String> changedClasses(String... classNames) {
+        return new HashSet<>(Arrays.asList(classNames));
+    }
+
+    private static BytecodeTransformerBuildItem transformer(String className, AtomicInteger transformations) {
+        return new BytecodeTransformerBuildItem(false, className, counting(transformations), null, true);
+    }
+
+    private static BytecodeTransformerBuildItem otherTransformer(String className, AtomicInteger transformations) {
+        // a lambda of another class than the one returned by counting
+        return new BytecodeTransformerBuildItem(false, className, (name, visitor) -> {
+            transformations.incrementAndGet();
+            return visitor;
+        }, null, true);
+    }
+
+    private static BiFunction<String, ClassVisitor, ClassVisitor> counting(AtomicInteger transformations) {
+        return (name, visitor) -> {
+            transformations.incrementAndGet();
+            return visitor;
+        };
+    }
+}
@@ -24,4 +24,13 @@ public class AsyncConfig {
      */
     @ConfigItem(defaultValue = "block")
     OverflowAction overflow;
+
+    /**
+     * Whether to hand the records over to the logging thread through a lock-free ring buffer rather than a blocking
+     * queue. The logging thread then formats and writes the records in batches and flushes the handler once per batch.
+     * <p>
+     * A file handler without rotation writes each batch with a single write to the file.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean ringBuffer;
 }
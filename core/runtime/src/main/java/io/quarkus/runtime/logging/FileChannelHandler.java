@@ -0,0 +1,110 @@
+package io.quarkus.runtime.logging;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+
+/**
+ * A file handler that appends the formatted records to a buffer and writes the buffer to a {@link FileChannel} when the
+ * handler is flushed.
+ * <p>
+ * Used as the nested handler of a {@link RingBufferAsyncHandler}, which flushes it once per batch of records, so that a
+ * batch is written with a single write instead of a write per record. Auto flush must be disabled for the records to
+ * be batched.
+ */
+public class FileChannelHandler extends ExtHandler {
+
+    // the buffer is written even if the handler is not flushed once it holds that many bytes
+    private static final int MAX_BUFFER_SIZE = 64 * 1024;
+
+    private final Object lock = new Object();
+    private final FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocate(8 * 1024);
+
+    public FileChannelHandler(File file) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        Formatter formatter = getFormatter();
+        String formatted;
+        try {
+            formatted = formatter.format(record);
+        } catch (Exception e) {
+            reportError("Formatting error", e, ErrorManager.FORMAT_FAILURE);
+            return;
+        }
+        if (formatted.isEmpty()) {
+            return;
+        }
+        String encoding = getEncoding();
+        byte[] bytes = formatted.getBytes(encoding != null ? Charset.forName(encoding) : Charset.defaultCharset());
+        synchronized (lock) {
+            if (buffer.remaining() < bytes.length) {
+                if (buffer.position() + bytes.length > MAX_BUFFER_SIZE) {
+                    write();
+                }
+                if (buffer.remaining() < bytes.length) {
+                    ByteBuffer grown = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + bytes.length));
+                    buffer.flip();
+                    grown.put(buffer);
+                    buffer = grown;
+                }
+            }
+            buffer.put(bytes);
+        }
+        super.doPublish(record);
+    }
+
+    @Override
+    public void flush() {
+        synchronized (lock) {
+            write();
+        }
+        super.flush();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        synchronized (lock) {
+            write();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                reportError("Failed to close the log file", e, ErrorManager.CLOSE_FAILURE);
+            }
+        }
+        super.close();
+    }
+
+    private void write() {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            reportError("Failed to write to the log file", e, ErrorManager.WRITE_FAILURE);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+}
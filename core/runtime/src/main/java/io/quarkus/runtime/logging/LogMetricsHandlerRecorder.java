@@ -22,6 +22,18 @@ public class LogMetricsHandlerRecorder {
 
     static final String METRIC_DESCRIPTION = "Number of log events, per log level. Non-standard levels are counted with the lower standard level.";
 
+    static final String ASYNC_QUEUE_SIZE_METRIC_NAME = "log.async.queue.size";
+
+    static final String ASYNC_QUEUE_SIZE_METRIC_DESCRIPTION = "Number of log events waiting in the queues of the ring buffer async handlers.";
+
+    static final String ASYNC_DROPPED_METRIC_NAME = "log.async.dropped";
+
+    static final String ASYNC_DROPPED_METRIC_DESCRIPTION = "Number of log events dropped because the queue of a ring buffer async handler was full.";
+
+    static final String ASYNC_FLUSH_METRIC_NAME = "log.async.flush";
+
+    static final String ASYNC_FLUSH_METRIC_DESCRIPTION = "Time spent writing and flushing a batch of log events by the ring buffer async handlers.";
+
     static final List<Level> STANDARD_LEVELS = Arrays.asList(Level.FATAL, Level.ERROR, Level.WARN, Level.INFO, Level.DEBUG,
             Level.TRACE);
 
@@ -43,6 +55,12 @@ public class LogMetricsHandlerRecorder {
                     metricsFactory.builder(METRIC_NAME).description(METRIC_DESCRIPTION).tag("level", level.getName())
                             .buildCounter(COUNTERS.get(level.intValue())::sum);
                 }
+                metricsFactory.builder(ASYNC_QUEUE_SIZE_METRIC_NAME).description(ASYNC_QUEUE_SIZE_METRIC_DESCRIPTION)
+                        .buildGauge(RingBufferAsyncHandler::getTotalQueueSize);
+                metricsFactory.builder(ASYNC_DROPPED_METRIC_NAME).description(ASYNC_DROPPED_METRIC_DESCRIPTION)
+                        .buildCounter(RingBufferAsyncHandler::getTotalDroppedCount);
+                RingBufferAsyncHandler.setFlushTimer(metricsFactory.builder(ASYNC_FLUSH_METRIC_NAME)
+                        .description(ASYNC_FLUSH_METRIC_DESCRIPTION).buildTimer());
             }
         };
     }
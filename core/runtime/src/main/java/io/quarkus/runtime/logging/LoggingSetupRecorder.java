@@ -22,6 +22,7 @@ import java.util.stream.Collectors;
 
 import org.graalvm.nativeimage.ImageInfo;
 import org.jboss.logmanager.EmbeddedConfigurator;
+import org.jboss.logmanager.ExtHandler;
 import org.jboss.logmanager.LogContext;
 import org.jboss.logmanager.Logger;
 import org.jboss.logmanager.errormanager.OnlyOnceErrorManager;
@@ -283,8 +284,15 @@ public class LoggingSetupRecorder {
 
     private static Handler configureFileHandler(final FileConfig config, final ErrorManager errorManager,
             final List<LogCleanupFilterElement> filterElements) {
-        FileHandler handler = new FileHandler();
         FileConfig.RotationConfig rotationConfig = config.rotation;
+        if (config.async.enable && config.async.ringBuffer
+                && !rotationConfig.maxFileSize.isPresent() && !rotationConfig.fileSuffix.isPresent()) {
+            final Handler handler = configureFileChannelHandler(config, errorManager, filterElements);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        FileHandler handler = new FileHandler();
         if ((rotationConfig.maxFileSize.isPresent() || rotationConfig.rotateOnBoot)
                 && rotationConfig.fileSuffix.isPresent()) {
             PeriodicSizeRotatingFileHandler periodicSizeRotatingFileHandler = new PeriodicSizeRotatingFileHandler();
@@ -322,6 +330,22 @@ public class LoggingSetupRecorder {
         return handler;
     }
 
+    private static Handler configureFileChannelHandler(final FileConfig config, final ErrorManager errorManager,
+            final List<LogCleanupFilterElement> filterElements) {
+        final FileChannelHandler handler;
+        try {
+            handler = new FileChannelHandler(config.path);
+        } catch (IOException e) {
+            errorManager.error("Failed to set log file", e, ErrorManager.OPEN_FAILURE);
+            return null;
+        }
+        handler.setFormatter(new PatternFormatter(config.format));
+        handler.setErrorManager(errorManager);
+        handler.setLevel(config.level);
+        handler.setFilter(new LogCleanupFilter(filterElements));
+        return createAsyncHandler(config.async, config.level, handler);
+    }
+
     private static Handler configureSyslogHandler(final SyslogConfig config,
             final ErrorManager errorManager,
             final List<LogCleanupFilterElement> filterElements) {
@@ -350,7 +374,18 @@ public class LoggingSetupRecorder {
         }
     }
 
-    private static AsyncHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+    private static ExtHandler createAsyncHandler(AsyncConfig asyncConfig, Level level, Handler handler) {
+        if (asyncConfig.ringBuffer) {
+            final RingBufferAsyncHandler asyncHandler = new RingBufferAsyncHandler(asyncConfig.queueLength,
+                    asyncConfig.overflow);
+            if (handler instanceof ExtHandler) {
+                // the nested handler is flushed once per batch of records
+                ((ExtHandler) handler).setAutoFlush(false);
+            }
+            asyncHandler.addHandler(handler);
+            asyncHandler.setLevel(level);
+            return asyncHandler;
+        }
         final AsyncHandler asyncHandler = new AsyncHandler(asyncConfig.queueLength);
         asyncHandler.setOverflowAction(asyncConfig.overflow);
         asyncHandler.addHandler(handler);
@@ -0,0 +1,226 @@
+package io.quarkus.runtime.logging;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+
+import org.jboss.logmanager.ExtHandler;
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
+
+/**
+ * An asynchronous handler that hands the records over to the logging thread through a bounded multi-producer ring
+ * buffer.
+ * <p>
+ * Unlike {@link org.jboss.logmanager.handlers.AsyncHandler}, the publishing threads never take a lock: a slot is
+ * claimed with a single CAS and the logging thread is only woken up when it waits for records. The logging thread
+ * publishes the available records to the nested handlers in batches and flushes them once per batch, so the nested
+ * handlers should not flush each record.
+ */
+public class RingBufferAsyncHandler extends ExtHandler {
+
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+
+    private static final Set<RingBufferAsyncHandler> HANDLERS = ConcurrentHashMap.newKeySet();
+
+    // also counts the records dropped by the closed handlers
+    private static final LongAdder TOTAL_DROPPED = new LongAdder();
+
+    private static volatile TimeRecorder flushTimer;
+
+    private final ExtLogRecord[] records;
+    // the slot of the sequence s is free for a producer if it's s, and holds a record for the consumer if it's s + 1
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final OverflowAction overflowAction;
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final Thread thread;
+    // only accessed by the logging thread
+    private long head;
+    private volatile long consumed;
+    private volatile boolean waiting;
+    private volatile boolean closed;
+
+    /**
+     * @param queueLength the minimal number of records the queue can hold, it's rounded up to a power of two
+     * @param overflowAction whether to block the publishing thread or to drop the record when the queue is full
+     */
+    public RingBufferAsyncHandler(int queueLength, OverflowAction overflowAction) {
+        if (queueLength < 1) {
+            throw new IllegalArgumentException("Queue length must be at least 1");
+        }
+        // the sequences of a single slot would be ambiguous
+        int capacity = Math.max(2, Integer.highestOneBit(queueLength - 1) << 1);
+        this.records = new ExtLogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+        this.mask = capacity - 1;
+        this.overflowAction = overflowAction;
+        this.thread = new Thread(this::processRecords, "Quarkus Async Log Handler");
+        this.thread.setDaemon(true);
+    }
+
+    @Override
+    protected void doPublish(ExtLogRecord record) {
+        if (closed) {
+            return;
+        }
+        if (!started.get() && started.compareAndSet(false, true)) {
+            HANDLERS.add(this);
+            thread.start();
+        }
+        // the record is formatted by the logging thread, it must not depend on the publishing thread anymore
+        if (isCallerCalculationRequired()) {
+            record.copyAll();
+        } else {
+            record.disableCallerCalculation();
+            record.copyMdc();
+        }
+        for (;;) {
+            long sequence = tail.get();
+            int index = (int) sequence & mask;
+            long available = sequences.get(index);
+            if (available == sequence) {
+                if (tail.compareAndSet(sequence, sequence + 1)) {
+                    records[index] = record;
+                    sequences.set(index, sequence + 1);
+                    break;
+                }
+            } else if (available < sequence) {
+                // the queue is full
+                if (overflowAction == OverflowAction.DISCARD || closed) {
+                    dropped.increment();
+                    TOTAL_DROPPED.increment();
+                    return;
+                }
+                LockSupport.unpark(thread);
+                LockSupport.parkNanos(PARK_NANOS);
+            }
+            // otherwise another thread claimed the slot meanwhile
+        }
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (started.get()) {
+            LockSupport.unpark(thread);
+            if (Thread.currentThread() != thread) {
+                try {
+                    // the records published before the handler was closed are still written
+                    thread.join(TimeUnit.SECONDS.toMillis(5));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        HANDLERS.remove(this);
+        super.close();
+    }
+
+    /**
+     * @return the number of records waiting to be published to the nested handlers
+     */
+    public long getQueueSize() {
+        return Math.max(0, tail.get() - consumed);
+    }
+
+    /**
+     * @return the number of records that were dropped because the queue was full
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    static long getTotalQueueSize() {
+        long size = 0;
+        for (RingBufferAsyncHandler handler : HANDLERS) {
+            size += handler.getQueueSize();
+        }
+        return size;
+    }
+
+    static long getTotalDroppedCount() {
+        return TOTAL_DROPPED.sum();
+    }
+
+    static void setFlushTimer(TimeRecorder timer) {
+        flushTimer = timer;
+    }
+
+    private void processRecords() {
+        for (;;) {
+            if (publishBatch() > 0) {
+                continue;
+            }
+            if (closed) {
+                // the queue is empty
+                return;
+            }
+            waiting = true;
+            if (isEmpty() && !closed) {
+                LockSupport.park(this);
+            }
+            waiting = false;
+        }
+    }
+
+    private int publishBatch() {
+        long start = System.nanoTime();
+        int count = 0;
+        while (count < MAX_BATCH_SIZE) {
+            int index = (int) head & mask;
+            if (sequences.get(index) != head + 1) {
+                break;
+            }
+            ExtLogRecord record = records[index];
+            records[index] = null;
+            // the slot is released before the record is published so that the blocked threads resume sooner
+            sequences.set(index, head + records.length);
+            consumed = ++head;
+            count++;
+            try {
+                publishToNestedHandlers(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to publish a log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+        if (count > 0) {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                reportError("Failed to flush the log handlers", e, ErrorManager.FLUSH_FAILURE);
+            }
+            TimeRecorder timer = flushTimer;
+            if (timer != null) {
+                timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+        return count;
+    }
+
+    private boolean isEmpty() {
+        return sequences.get((int) head & mask) != head + 1;
+    }
+
+}
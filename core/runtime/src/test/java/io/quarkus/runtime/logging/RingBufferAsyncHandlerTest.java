@@ -0,0 +1,145 @@
+package io.quarkus.runtime.logging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import org.jboss.logmanager.ExtLogRecord;
+import org.jboss.logmanager.Level;
+import org.jboss.logmanager.formatters.PatternFormatter;
+import org.jboss.logmanager.handlers.AsyncHandler.OverflowAction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RingBufferAsyncHandlerTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testAllRecordsArePublished() throws Exception {
+        RecordingHandler recording = new RecordingHandler();
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(16, OverflowAction.BLOCK);
+        handler.addHandler(recording);
+
+        int threads = 4;
+        int records = 1000;
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            String name = "thread" + t;
+            new Thread(() -> {
+                for (int i = 0; i < records; i++) {
+                    handler.publish(record(name + ":" + i));
+                }
+                latch.countDown();
+            }).start();
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        handler.close();
+
+        assertEquals(threads * records, recording.messages.size());
+        assertEquals(0, handler.getDroppedCount());
+        assertEquals(0, handler.getQueueSize());
+        assertTrue(recording.flushes > 0);
+        // the records of a thread are published in order
+        for (int t = 0; t < threads; t++) {
+            String prefix = "thread" + t + ":";
+            int expected = 0;
+            for (String message : recording.messages) {
+                if (message.startsWith(prefix)) {
+                    assertEquals(prefix + expected++, message);
+                }
+            }
+            assertEquals(records, expected);
+        }
+    }
+
+    @Test
+    public void testRecordsAreDroppedWhenQueueIsFull() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler recording = new RecordingHandler() {
+            @Override
+            public void publish(LogRecord record) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.publish(record);
+            }
+        };
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(2, OverflowAction.DISCARD);
+        handler.addHandler(recording);
+
+        handler.publish(record("first"));
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+        // the logging thread is blocked, the queue holds two records
+        handler.publish(record("second"));
+        handler.publish(record("third"));
+        handler.publish(record("fourth"));
+        assertEquals(1, handler.getDroppedCount());
+        assertEquals(2, handler.getQueueSize());
+
+        release.countDown();
+        handler.close();
+        assertEquals(List.of("first", "second", "third"), recording.messages);
+    }
+
+    @Test
+    public void testBatchesAreWrittenToFile() throws Exception {
+        Path file = tmp.resolve("logs/quarkus.log");
+        FileChannelHandler fileHandler = new FileChannelHandler(file.toFile());
+        fileHandler.setFormatter(new PatternFormatter("%s%n"));
+        fileHandler.setAutoFlush(false);
+        RingBufferAsyncHandler handler = new RingBufferAsyncHandler(512, OverflowAction.BLOCK);
+        handler.addHandler(fileHandler);
+
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(record("message " + i));
+        }
+        handler.close();
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(1000, lines.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("message " + i, lines.get(i));
+        }
+    }
+
+    private static ExtLogRecord record(String message) {
+        ExtLogRecord record = new ExtLogRecord(Level.INFO, message, RingBufferAsyncHandlerTest.class.getName());
+        record.setLoggerName(RingBufferAsyncHandlerTest.class.getName());
+        return record;
+    }
+
+    static class RecordingHandler extends Handler {
+
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        volatile int flushes;
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -4,8 +4,11 @@ import io.quarkus.builder.item.MultiBuildItem;
 
 /**
  * Build item used to ensure that a cache of the specified name is created at runtime
- * This is used in order to create caches when means other than the standard cache annotations are used
+ *
+ * @deprecated use {@link io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem} instead, which extensions can
+ *             produce without depending on {@code quarkus-cache-deployment}
  */
+@Deprecated
 public final class AdditionalCacheNameBuildItem extends MultiBuildItem {
 
     private final String name;
@@ -73,6 +73,21 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that an entry returned by a method with a {@code Uni} or {@code CompletionStage} return type should be
+             * reloaded in the background once a fixed duration has elapsed after the entry's creation, or the most recent
+             * replacement of its value. The current value is returned until the reload is complete.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Whether or not the hits, misses, loads and evictions of this cache should be recorded. The statistics are
+             * available from {@code Cache#getStats()} and are published as metrics if a metrics extension is present.
+             */
+            @ConfigItem
+            boolean metricsEnabled;
         }
     }
 }
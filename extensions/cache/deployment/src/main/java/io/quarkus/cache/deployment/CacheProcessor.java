@@ -5,6 +5,7 @@ import static io.quarkus.cache.deployment.CacheDeploymentConstants.API_METHODS_A
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_PRODUCER;
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 import static org.jboss.jandex.AnnotationTarget.Kind.METHOD;
 
@@ -13,6 +14,7 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import javax.enterprise.inject.spi.DeploymentException;
 
@@ -33,17 +35,22 @@ import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildIt
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 import io.quarkus.cache.runtime.noop.NoOpCacheBuildRecorder;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 
 class CacheProcessor {
 
@@ -52,6 +59,20 @@ class CacheProcessor {
         return new FeatureBuildItem(Feature.CACHE);
     }
 
+    @BuildStep
+    CapabilityBuildItem capability() {
+        return new CapabilityBuildItem(Capability.CACHE);
+    }
+
+    @BuildStep
+    @SuppressWarnings("deprecation")
+    void deprecatedCacheNames(List<io.quarkus.cache.deployment.AdditionalCacheNameBuildItem> deprecatedCacheNames,
+            BuildProducer<AdditionalCacheNameBuildItem> additionalCacheNames) {
+        for (io.quarkus.cache.deployment.AdditionalCacheNameBuildItem cacheName : deprecatedCacheNames) {
+            additionalCacheNames.produce(new AdditionalCacheNameBuildItem(cacheName.getName()));
+        }
+    }
+
     @BuildStep
     AutoInjectAnnotationBuildItem autoInjectCacheName() {
         return new AutoInjectAnnotationBuildItem(CACHE_NAME);
@@ -109,6 +130,22 @@ class CacheProcessor {
         }
     }
 
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void registerMetrics(CombinedIndexBuildItem combinedIndex, CacheConfig config, CaffeineCacheBuildRecorder recorder,
+            List<AdditionalCacheNameBuildItem> additionalCacheNames, BuildProducer<MetricsFactoryConsumerBuildItem> metrics) {
+        if (config.enabled && CacheDeploymentConstants.CAFFEINE_CACHE_TYPE.equals(config.type)) {
+            Set<String> cacheNames = getCacheNames(combinedIndex.getIndex(), additionalCacheNames);
+            Set<String> metricsEnabledCacheNames = CaffeineCacheInfoBuilder.build(cacheNames, config).stream()
+                    .filter(cacheInfo -> cacheInfo.metricsEnabled)
+                    .map(cacheInfo -> cacheInfo.name)
+                    .collect(Collectors.toSet());
+            if (!metricsEnabledCacheNames.isEmpty()) {
+                metrics.produce(new MetricsFactoryConsumerBuildItem(recorder.registerMetrics(metricsEnabledCacheNames)));
+            }
+        }
+    }
+
     private Set<String> getCacheNames(IndexView index, List<AdditionalCacheNameBuildItem> additionalCacheNames) {
         Set<String> cacheNames = new HashSet<>();
         for (DotName cacheAnnotation : API_METHODS_ANNOTATIONS) {
@@ -38,6 +38,7 @@ public class CacheConfigTest {
         assertEquals(100L, cache.getMaximumSize());
         assertEquals(Duration.ofSeconds(30L), cache.getExpireAfterWrite());
         assertEquals(Duration.ofDays(2L), cache.getExpireAfterAccess());
+        assertEquals(Duration.ofSeconds(10L), cache.getRefreshAfterWrite());
     }
 
     @Path("/test")
@@ -0,0 +1,93 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.annotation.RegistryType;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheMetricsTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String OTHER_CACHE_NAME = "other-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".metrics-enabled=true"),
+                    "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    @RegistryType(type = MetricRegistry.Type.VENDOR)
+    MetricRegistry registry;
+
+    @Test
+    public void testMetrics() {
+        Counter hits = registry.getCounters().get(new MetricID("cache.gets", new Tag("cache", CACHE_NAME),
+                new Tag("result", "hit")));
+        Counter misses = registry.getCounters().get(new MetricID("cache.gets", new Tag("cache", CACHE_NAME),
+                new Tag("result", "miss")));
+        Counter loads = registry.getCounters().get(new MetricID("cache.loads", new Tag("cache", CACHE_NAME),
+                new Tag("result", "success")));
+        Counter loadFailures = registry.getCounters().get(new MetricID("cache.loads", new Tag("cache", CACHE_NAME),
+                new Tag("result", "failure")));
+        Counter evictions = registry.getCounters().get(new MetricID("cache.evictions", new Tag("cache", CACHE_NAME)));
+        Gauge<?> hitRatio = registry.getGauges().get(new MetricID("cache.hit.ratio", new Tag("cache", CACHE_NAME)));
+        assertNotNull(hits, "The cache metrics should be registered eagerly");
+        assertNotNull(misses);
+        assertNotNull(loads);
+        assertNotNull(loadFailures);
+        assertNotNull(evictions);
+        assertNotNull(hitRatio);
+
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("bar");
+
+        assertEquals(2L, hits.getCount());
+        assertEquals(2L, misses.getCount());
+        assertEquals(2L, loads.getCount());
+        assertEquals(0L, loadFailures.getCount());
+        assertEquals(0L, evictions.getCount());
+        assertEquals(0.5, ((Number) hitRatio.getValue()).doubleValue());
+
+        // the metrics of the caches that don't record their statistics are not published
+        cachedService.otherCachedMethod("foo");
+        assertNull(registry.getCounters().get(new MetricID("cache.gets", new Tag("cache", OTHER_CACHE_NAME),
+                new Tag("result", "hit"))));
+    }
+
+    @Singleton
+    static class CachedService {
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            return new String(key);
+        }
+
+        @CacheResult(cacheName = OTHER_CACHE_NAME)
+        public String otherCachedMethod(String key) {
+            return new String(key);
+        }
+    }
+}
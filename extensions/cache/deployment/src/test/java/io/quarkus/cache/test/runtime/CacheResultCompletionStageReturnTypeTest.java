@@ -1,5 +1,7 @@
 package io.quarkus.cache.test.runtime;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.concurrent.CompletableFuture;
@@ -7,6 +9,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -35,23 +38,23 @@ public class CacheResultCompletionStageReturnTypeTest {
     public void testAllCacheAnnotations() throws InterruptedException, ExecutionException {
         // STEP 1
         // Action: @CacheResult-annotated method call.
-        // Expected effect: method invoked and result cached.
+        // Expected effect: method invoked and the item the CompletionStage resolves to is cached.
         // Verified by: STEP 2.
         CompletionStage<Object> completionStage1 = cachedService.cachedMethod(KEY_1);
 
         // STEP 2
-        // Action: same call as STEP 1.
-        // Expected effect: method not invoked and result coming from the cache.
-        // Verified by: same object reference between STEPS 1 and 2 results.
+        // Action: same call as STEP 1 while the first CompletionStage is still pending.
+        // Expected effect: method not invoked and both calls share the same pending result.
+        // Verified by: invocations count.
         CompletionStage<Object> completionStage2 = cachedService.cachedMethod(KEY_1);
-        assertTrue(completionStage1 == completionStage2);
+        assertEquals(1, cachedService.getInvocations());
 
         // STEP 3
         // Action: same call as STEP 2 with a new key.
         // Expected effect: method invoked and result cached.
-        // Verified by: different objects references between STEPS 2 and 3 results.
+        // Verified by: invocations count and different values between STEPS 2 and 3 results.
         CompletionStage<Object> completionStage3 = cachedService.cachedMethod(KEY_2);
-        assertTrue(completionStage2 != completionStage3);
+        assertEquals(2, cachedService.getInvocations());
 
         // We need all of the futures to complete at this point.
         CompletableFuture.allOf(completionStage1.toCompletableFuture(), completionStage2.toCompletableFuture(),
@@ -66,6 +69,25 @@ public class CacheResultCompletionStageReturnTypeTest {
 
         // Values objects references resulting from STEPS 2 and 3 should be different since a different cache key was used.
         assertTrue(value2 != value3);
+
+        // STEP 4
+        // Action: same call as STEP 1 once the value is resolved.
+        // Expected effect: method not invoked and the resolved value is returned.
+        // Verified by: invocations count and same value as STEP 1.
+        Object value4 = cachedService.cachedMethod(KEY_1).toCompletableFuture().get();
+        assertEquals(2, cachedService.getInvocations());
+        assertTrue(value1 == value4);
+    }
+
+    @Test
+    public void testFailure() {
+        // A failed CompletionStage must not be cached.
+        for (int i = 1; i <= 2; i++) {
+            ExecutionException e = assertThrows(ExecutionException.class,
+                    () -> cachedService.failingMethod().toCompletableFuture().get());
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(i, cachedService.getFailures());
+        }
     }
 
     @ApplicationScoped
@@ -74,8 +96,12 @@ public class CacheResultCompletionStageReturnTypeTest {
         // This is required to make sure the CompletableFuture from the tests are executed concurrently.
         private ExecutorService executorService = Executors.newFixedThreadPool(3);
 
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
         @CacheResult(cacheName = "test-cache")
         public CompletionStage<Object> cachedMethod(Object key) {
+            invocations.incrementAndGet();
             return CompletableFuture.supplyAsync(() -> {
                 try {
                     // This is another requirement for concurrent CompletableFuture executions.
@@ -86,5 +112,21 @@ public class CacheResultCompletionStageReturnTypeTest {
                 return new Object();
             }, executorService);
         }
+
+        @CacheResult(cacheName = "failing-cache")
+        public CompletableFuture<Object> failingMethod() {
+            failures.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                throw new IllegalStateException();
+            }, executorService);
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+
+        public int getFailures() {
+            return failures.get();
+        }
     }
 }
@@ -0,0 +1,82 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class CacheResultUniReturnTypeTest {
+
+    private static final Object KEY_1 = new Object();
+    private static final Object KEY_2 = new Object();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testUni() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call without subscription.
+        // Expected effect: method not invoked because the cache is only read on subscription.
+        // Verified by: invocations count.
+        Uni<Object> uni1 = cachedService.cachedMethod(KEY_1);
+        assertEquals(0, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: subscription to the Uni from STEP 1.
+        // Expected effect: method invoked and the item is cached.
+        // Verified by: invocations count and STEP 3.
+        Object value1 = uni1.await().atMost(Duration.ofSeconds(10));
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 3
+        // Action: same call as STEP 1.
+        // Expected effect: method not invoked and item coming from the cache.
+        // Verified by: invocations count and same item between STEPS 2 and 3.
+        Object value2 = cachedService.cachedMethod(KEY_1).await().atMost(Duration.ofSeconds(10));
+        assertEquals(1, cachedService.getInvocations());
+        assertSame(value1, value2);
+
+        // STEP 4
+        // Action: same call as STEP 3 with a new key.
+        // Expected effect: method invoked and item cached.
+        // Verified by: invocations count and different items between STEPS 3 and 4.
+        Object value3 = cachedService.cachedMethod(KEY_2).await().atMost(Duration.ofSeconds(10));
+        assertEquals(2, cachedService.getInvocations());
+        assertNotSame(value2, value3);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @CacheResult(cacheName = "test-cache")
+        public Uni<Object> cachedMethod(Object key) {
+            invocations.incrementAndGet();
+            return Uni.createFrom().item(new Object()).onItem().delayIt().by(Duration.ofMillis(100));
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheStats;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheStatsTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String OTHER_CACHE_NAME = "other-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".metrics-enabled=true"),
+                    "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheManager cacheManager;
+
+    @Test
+    public void testStats() {
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("bar");
+        assertThrows(IllegalArgumentException.class, () -> cachedService.cachedMethod("fail"));
+
+        CacheStats stats = cacheManager.getCache(CACHE_NAME).get().getStats().get();
+        assertEquals(1L, stats.getHitCount());
+        assertEquals(3L, stats.getMissCount());
+        assertEquals(4L, stats.getRequestCount());
+        assertEquals(0.25, stats.getHitRate());
+        assertEquals(2L, stats.getLoadSuccessCount());
+        assertEquals(1L, stats.getLoadFailureCount());
+        assertEquals(0L, stats.getEvictionCount());
+
+        cachedService.otherCachedMethod("foo");
+        assertFalse(cacheManager.getCache(OTHER_CACHE_NAME).get().getStats().isPresent());
+    }
+
+    @Singleton
+    static class CachedService {
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public String cachedMethod(String key) {
+            if ("fail".equals(key)) {
+                throw new IllegalArgumentException();
+            }
+            return new String(key);
+        }
+
+        @CacheResult(cacheName = OTHER_CACHE_NAME)
+        public String otherCachedMethod(String key) {
+            return new String(key);
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package io.quarkus.cache;
 
+import java.util.Optional;
+
 /**
  * Use this interface to interact with a cache programmatically. The cache can be injected using the {@link CacheName}
  * annotation or retrieved using {@link CacheManager}.
  */
 public interface Cache {
 
-    /*
-     * This interface is intentionally empty for now.
-     * TODO: Add the methods that will be exposed by the programmatic API.
+    /**
+     * Returns a snapshot of the statistics recorded by this cache. Statistics are only recorded if the
+     * {@code metrics-enabled} configuration property is set to {@code true} for this cache.
+     *
+     * @return an {@link Optional} containing the current statistics if they are recorded, or an empty {@link Optional}
+     *         otherwise
      */
+    Optional<CacheStats> getStats();
 }
@@ -0,0 +1,116 @@
+package io.quarkus.cache;
+
+/**
+ * Immutable snapshot of the statistics recorded by a {@link Cache}. All counts are cumulative since the cache was created.
+ * Statistics are only recorded if the {@code metrics-enabled} configuration property is set to {@code true} for the cache.
+ */
+public final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTime;
+    private final long evictionCount;
+
+    public CacheStats(long hitCount, long missCount, long loadSuccessCount, long loadFailureCount, long totalLoadTime,
+            long evictionCount) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadSuccessCount = loadSuccessCount;
+        this.loadFailureCount = loadFailureCount;
+        this.totalLoadTime = totalLoadTime;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Returns the number of lookups which found an existing cache value.
+     *
+     * @return number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups which did not find an existing cache value and triggered its computation.
+     *
+     * @return number of cache misses
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of lookups, which is the sum of the hits and misses.
+     *
+     * @return number of cache lookups
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of lookups which were hits, or {@code 1.0} if there was no lookup yet.
+     *
+     * @return cache hit ratio
+     */
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the number of cache values successfully computed, including the background refreshes.
+     *
+     * @return number of successful loads
+     */
+    public long getLoadSuccessCount() {
+        return loadSuccessCount;
+    }
+
+    /**
+     * Returns the number of cache value computations which threw an exception or completed exceptionally.
+     *
+     * @return number of failed loads
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount;
+    }
+
+    /**
+     * Returns the total time, in nanoseconds, spent computing cache values.
+     *
+     * @return total load time in nanoseconds
+     */
+    public long getTotalLoadTime() {
+        return totalLoadTime;
+    }
+
+    /**
+     * Returns the average time, in nanoseconds, spent computing a cache value, or {@code 0.0} if there was no load yet.
+     *
+     * @return average load time in nanoseconds
+     */
+    public double getAverageLoadPenalty() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTime / loadCount;
+    }
+
+    /**
+     * Returns the number of entries removed from the cache because of its size or expiration policy. Explicit invalidations
+     * are not counted.
+     *
+     * @return number of evictions
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStats[hitCount=" + hitCount + ", missCount=" + missCount + ", loadSuccessCount=" + loadSuccessCount
+                + ", loadFailureCount=" + loadFailureCount + ", totalLoadTime=" + totalLoadTime + ", evictionCount="
+                + evictionCount + "]";
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.cache.runtime;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
 import io.quarkus.cache.Cache;
@@ -29,6 +30,17 @@ public abstract class AbstractCache implements Cache {
 
     public abstract CompletableFuture<Object> get(Object key, Function<Object, Object> valueLoader);
 
+    /**
+     * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from the
+     * {@link CompletionStage} returned by {@code valueLoader} if necessary. The value loader is invoked on the calling thread
+     * but the returned {@link CompletableFuture} is only completed when the value loader {@link CompletionStage} is.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    public abstract CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader);
+
     public abstract void invalidate(Object key);
 
     public abstract void invalidateAll();
@@ -1,10 +1,12 @@
 package io.quarkus.cache.runtime;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
@@ -13,6 +15,8 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
+import io.smallrye.mutiny.Uni;
+
 @CacheResultInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 2)
@@ -31,6 +35,19 @@ public class CacheResultInterceptor extends CacheInterceptor {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, binding.cacheName());
         }
 
+        Class<?> returnType = context.getMethod().getReturnType();
+        if (Uni.class.isAssignableFrom(returnType)) {
+            // The cache is only read when the Uni is subscribed to and the resolved item is cached instead of the Uni itself.
+            return Uni.createFrom().completionStage(new Supplier<CompletionStage<Object>>() {
+                @Override
+                public CompletionStage<Object> get() {
+                    return cache.getAsync(key, asyncValueLoader(context));
+                }
+            });
+        } else if (returnType.equals(CompletionStage.class) || returnType.equals(CompletableFuture.class)) {
+            return cache.getAsync(key, asyncValueLoader(context));
+        }
+
         try {
 
             CompletableFuture<Object> cacheValue = cache.get(key, new Function<Object, Object>() {
@@ -87,4 +104,25 @@ public class CacheResultInterceptor extends CacheInterceptor {
             }
         }
     }
+
+    private Function<Object, CompletionStage<Object>> asyncValueLoader(InvocationContext context) {
+        return new Function<Object, CompletionStage<Object>>() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public CompletionStage<Object> apply(Object k) {
+                try {
+                    Object result = context.proceed();
+                    if (result instanceof Uni) {
+                        return ((Uni<Object>) result).subscribeAsCompletionStage();
+                    } else {
+                        return (CompletionStage<Object>) result;
+                    }
+                } catch (Exception e) {
+                    CompletableFuture<Object> failure = new CompletableFuture<Object>();
+                    failure.completeExceptionally(e);
+                    return failure;
+                }
+            }
+        };
+    }
 }
@@ -1,12 +1,22 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
 
+import io.quarkus.cache.CacheStats;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.CacheException;
 import io.quarkus.cache.runtime.NullValueConverter;
@@ -29,6 +39,11 @@ public class CaffeineCache extends AbstractCache {
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    // Null if the statistics are not recorded for this cache.
+    private StatsCounter statsCounter;
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -48,6 +63,18 @@ public class CaffeineCache extends AbstractCache {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+        }
+        if (cacheInfo.metricsEnabled) {
+            /*
+             * The hits, misses and loads are recorded by this class because the cache is only accessed through its map view.
+             * Caffeine would otherwise count a load success for each completed future, including the failed computations.
+             */
+            StatsCounter statsCounter = new ConcurrentStatsCounter();
+            this.statsCounter = statsCounter;
+            builder.recordStats(() -> new EvictionStatsCounter(statsCounter));
+        }
         cache = builder.buildAsync();
     }
 
@@ -74,19 +101,114 @@ public class CaffeineCache extends AbstractCache {
         CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
+            recordMiss();
+            long loadStartTime = loadStartTime();
             try {
                 Object value = valueLoader.apply(key);
-                newCacheValue.complete(NullValueConverter.toCacheValue(value));
+                newCacheValue.complete(toStoredValue(value));
+                recordLoad(loadStartTime, true);
             } catch (Throwable t) {
+                recordLoad(loadStartTime, false);
                 cache.asMap().remove(key, newCacheValue);
                 newCacheValue.complete(new CaffeineComputationThrowable(t));
             }
             return unwrapCacheValueOrThrowable(newCacheValue);
         } else {
+            recordHit();
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Returns a {@link CompletableFuture} holding the cache value identified by {@code key}, obtaining that value from the
+     * {@link CompletionStage} returned by {@code valueLoader} if necessary. Concurrent calls with the same missing key share a
+     * single invocation of {@code valueLoader}. The resolved item is cached, not the {@link CompletionStage} itself.
+     * <p>
+     * If {@code refresh-after-write} is configured for this cache and the cached value is older than that delay, the value
+     * is returned immediately and {@code valueLoader} is used to replace it in the background.
+     *
+     * @param key cache key
+     * @param valueLoader function used to compute the cache value if {@code key} is not already associated with a value
+     * @return a {@link CompletableFuture} holding the cache value
+     */
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        if (key == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        CompletableFuture<Object> newCacheValue = new CompletableFuture<Object>();
+        CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+        if (existingCacheValue == null) {
+            recordMiss();
+            load(key, newCacheValue, valueLoader);
+            return unwrapCacheValueOrFailure(newCacheValue);
+        } else {
+            recordHit();
+            if (refreshAfterWrite != null) {
+                refreshIfNeeded(key, existingCacheValue, valueLoader);
+            }
+            return unwrapCacheValueOrFailure(existingCacheValue);
+        }
+    }
+
+    private void load(Object key, CompletableFuture<Object> cacheValue,
+            Function<Object, CompletionStage<Object>> valueLoader) {
+        long loadStartTime = loadStartTime();
+        try {
+            valueLoader.apply(key).whenComplete(new BiConsumer<Object, Throwable>() {
+                @Override
+                public void accept(Object value, Throwable failure) {
+                    recordLoad(loadStartTime, failure == null);
+                    if (failure == null) {
+                        cacheValue.complete(toStoredValue(value));
+                    } else {
+                        cache.asMap().remove(key, cacheValue);
+                        if (failure instanceof CompletionException && failure.getCause() != null) {
+                            failure = failure.getCause();
+                        }
+                        cacheValue.complete(new CaffeineComputationThrowable(failure));
+                    }
+                }
+            });
+        } catch (Throwable t) {
+            recordLoad(loadStartTime, false);
+            cache.asMap().remove(key, cacheValue);
+            cacheValue.complete(new CaffeineComputationThrowable(t));
+        }
+    }
+
+    private void refreshIfNeeded(Object key, CompletableFuture<Object> cacheValue,
+            Function<Object, CompletionStage<Object>> valueLoader) {
+        Object value = cacheValue.getNow(null);
+        if (value instanceof RefreshableValue) {
+            RefreshableValue refreshableValue = (RefreshableValue) value;
+            if (System.nanoTime() - refreshableValue.loadTime >= refreshAfterWrite.toNanos()
+                    && refreshableValue.startRefresh()) {
+                CompletableFuture<Object> refreshedCacheValue = new CompletableFuture<Object>();
+                refreshedCacheValue.thenAccept(new Consumer<Object>() {
+                    @Override
+                    public void accept(Object refreshedValue) {
+                        if (refreshedValue instanceof CaffeineComputationThrowable) {
+                            // The current value is kept and the next read will try again
+                            refreshableValue.refreshFailed();
+                        } else {
+                            cache.asMap().replace(key, cacheValue, refreshedCacheValue);
+                        }
+                    }
+                });
+                load(key, refreshedCacheValue, valueLoader);
+            }
+        }
+    }
+
+    private Object toStoredValue(Object value) {
+        Object cacheValue = NullValueConverter.toCacheValue(value);
+        if (refreshAfterWrite != null) {
+            return new RefreshableValue(cacheValue);
+        }
+        return cacheValue;
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<Object, Object>() {
             @Override
@@ -100,12 +222,35 @@ public class CaffeineCache extends AbstractCache {
                         throw new CacheException(cause);
                     }
                 } else {
-                    return NullValueConverter.fromCacheValue(value);
+                    return fromStoredValue(value);
                 }
             }
         });
     }
 
+    private CompletableFuture<Object> unwrapCacheValueOrFailure(CompletableFuture<Object> cacheValue) {
+        return cacheValue.thenCompose(new Function<Object, CompletionStage<Object>>() {
+            @Override
+            public CompletionStage<Object> apply(Object value) {
+                // If there's a throwable encapsulated into a CaffeineComputationThrowable, the stage fails with it.
+                if (value instanceof CaffeineComputationThrowable) {
+                    CompletableFuture<Object> failure = new CompletableFuture<Object>();
+                    failure.completeExceptionally(((CaffeineComputationThrowable) value).getCause());
+                    return failure;
+                } else {
+                    return CompletableFuture.completedFuture(fromStoredValue(value));
+                }
+            }
+        });
+    }
+
+    private Object fromStoredValue(Object value) {
+        if (value instanceof RefreshableValue) {
+            value = ((RefreshableValue) value).value;
+        }
+        return NullValueConverter.fromCacheValue(value);
+    }
+
     @Override
     public void invalidate(Object key) {
         if (key == null) {
@@ -119,6 +264,44 @@ public class CaffeineCache extends AbstractCache {
         cache.synchronous().invalidateAll();
     }
 
+    @Override
+    public Optional<CacheStats> getStats() {
+        if (statsCounter == null) {
+            return Optional.empty();
+        }
+        com.github.benmanes.caffeine.cache.stats.CacheStats stats = statsCounter.snapshot();
+        return Optional.of(new CacheStats(stats.hitCount(), stats.missCount(), stats.loadSuccessCount(),
+                stats.loadFailureCount(), stats.totalLoadTime(), stats.evictionCount()));
+    }
+
+    private void recordHit() {
+        if (statsCounter != null) {
+            statsCounter.recordHits(1);
+        }
+    }
+
+    private void recordMiss() {
+        if (statsCounter != null) {
+            statsCounter.recordMisses(1);
+        }
+    }
+
+    private long loadStartTime() {
+        // System.nanoTime() is only called when the statistics are recorded.
+        return statsCounter == null ? 0L : System.nanoTime();
+    }
+
+    private void recordLoad(long loadStartTime, boolean success) {
+        if (statsCounter != null) {
+            long loadTime = System.nanoTime() - loadStartTime;
+            if (success) {
+                statsCounter.recordLoadSuccess(loadTime);
+            } else {
+                statsCounter.recordLoadFailure(loadTime);
+            }
+        }
+    }
+
     // For testing purposes only.
     public Integer getInitialCapacity() {
         return initialCapacity;
@@ -138,4 +321,84 @@ public class CaffeineCache extends AbstractCache {
     public Duration getExpireAfterAccess() {
         return expireAfterAccess;
     }
+
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    /**
+     * Cache value holding the time it was loaded at. Only used when {@code refresh-after-write} is configured.
+     */
+    private static class RefreshableValue {
+
+        private static final AtomicIntegerFieldUpdater<RefreshableValue> REFRESHING_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(RefreshableValue.class, "refreshing");
+
+        final Object value;
+        final long loadTime;
+        private volatile int refreshing;
+
+        RefreshableValue(Object value) {
+            this.value = value;
+            this.loadTime = System.nanoTime();
+        }
+
+        boolean startRefresh() {
+            return REFRESHING_UPDATER.compareAndSet(this, 0, 1);
+        }
+
+        void refreshFailed() {
+            refreshing = 0;
+        }
+    }
+
+    /**
+     * Only forwards the evictions recorded by Caffeine to the statistics of this cache.
+     */
+    private static class EvictionStatsCounter implements StatsCounter {
+
+        private final StatsCounter delegate;
+
+        EvictionStatsCounter(StatsCounter delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void recordHits(int count) {
+        }
+
+        @Override
+        public void recordMisses(int count) {
+        }
+
+        @Override
+        public void recordLoadSuccess(long loadTime) {
+        }
+
+        @Override
+        public void recordLoadFailure(long loadTime) {
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        public void recordEviction() {
+            delegate.recordEviction();
+        }
+
+        @Override
+        public void recordEviction(int weight) {
+            delegate.recordEviction(weight);
+        }
+
+        @Override
+        public void recordEviction(int weight, RemovalCause cause) {
+            delegate.recordEviction(weight, cause);
+        }
+
+        @Override
+        public com.github.benmanes.caffeine.cache.stats.CacheStats snapshot() {
+            return delegate.snapshot();
+        }
+    }
 }
@@ -3,13 +3,20 @@ package io.quarkus.cache.runtime.caffeine;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.arc.Arc;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.CacheStats;
 import io.quarkus.cache.runtime.CacheManagerImpl;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class CaffeineCacheBuildRecorder {
@@ -23,9 +30,9 @@ public class CaffeineCacheBuildRecorder {
         for (CaffeineCacheInfo cacheInfo : cacheInfos) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf(
-                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
+                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s] and [metricsEnabled=%s]",
                         cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
-                        cacheInfo.expireAfterAccess);
+                        cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite, cacheInfo.metricsEnabled);
             }
             CaffeineCache cache = new CaffeineCache(cacheInfo);
             caches.put(cacheInfo.name, cache);
@@ -33,4 +40,64 @@ public class CaffeineCacheBuildRecorder {
 
         beanContainer.instance(CacheManagerImpl.class).setCaches(caches);
     }
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerMetrics(Set<String> cacheNames) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CacheManager cacheManager = Arc.container().instance(CacheManager.class).get();
+                for (String cacheName : cacheNames) {
+                    cacheManager.getCache(cacheName).ifPresent(cache -> registerCacheMetrics(metricsFactory, cacheName, cache));
+                }
+            }
+        };
+    }
+
+    // Metrics sharing a name also share their description because MicroProfile Metrics requires consistent metadata.
+    private static void registerCacheMetrics(MetricsFactory metricsFactory, String cacheName, Cache cache) {
+        metricsFactory.builder("cache.gets")
+                .description("Number of cache lookups. A hit returned a cached value and a miss computed the value.")
+                .tag("cache", cacheName)
+                .tag("result", "hit")
+                .buildCounter(cache, stats(CacheStats::getHitCount));
+        metricsFactory.builder("cache.gets")
+                .description("Number of cache lookups. A hit returned a cached value and a miss computed the value.")
+                .tag("cache", cacheName)
+                .tag("result", "miss")
+                .buildCounter(cache, stats(CacheStats::getMissCount));
+        metricsFactory.builder("cache.hit.ratio")
+                .description("Ratio of cache lookups which have returned a cached value.")
+                .tag("cache", cacheName)
+                .buildGauge(cache, stats(CacheStats::getHitRate));
+        metricsFactory.builder("cache.evictions")
+                .description("Number of entries evicted because of the cache size or expiration policy.")
+                .tag("cache", cacheName)
+                .buildCounter(cache, stats(CacheStats::getEvictionCount));
+        metricsFactory.builder("cache.loads")
+                .description("Number of cache value computations, including the background refreshes.")
+                .tag("cache", cacheName)
+                .tag("result", "success")
+                .buildCounter(cache, stats(CacheStats::getLoadSuccessCount));
+        metricsFactory.builder("cache.loads")
+                .description("Number of cache value computations, including the background refreshes.")
+                .tag("cache", cacheName)
+                .tag("result", "failure")
+                .buildCounter(cache, stats(CacheStats::getLoadFailureCount));
+        metricsFactory.builder("cache.load.duration")
+                .description("Total time spent computing cache values.")
+                .tag("cache", cacheName)
+                .unit("milliseconds")
+                .buildCounter(cache, stats(stats -> TimeUnit.NANOSECONDS.toMillis(stats.getTotalLoadTime())));
+    }
+
+    private static <R extends Number> Function<Cache, R> stats(Function<CacheStats, R> statistic) {
+        return new Function<Cache, R>() {
+            @Override
+            public R apply(Cache cache) {
+                // The cache is only registered if it records its statistics.
+                return statistic.apply(cache.getStats().get());
+            }
+        };
+    }
 }
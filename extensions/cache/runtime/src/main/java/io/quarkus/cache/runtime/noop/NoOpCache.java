@@ -1,8 +1,11 @@
 package io.quarkus.cache.runtime.noop;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 
+import io.quarkus.cache.CacheStats;
 import io.quarkus.cache.runtime.AbstractCache;
 
 /**
@@ -30,6 +33,17 @@ public class NoOpCache extends AbstractCache {
         return cacheValue;
     }
 
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Function<Object, CompletionStage<Object>> valueLoader) {
+        try {
+            return valueLoader.apply(key).toCompletableFuture();
+        } catch (Throwable t) {
+            CompletableFuture<Object> cacheValue = new CompletableFuture<Object>();
+            cacheValue.completeExceptionally(t);
+            return cacheValue;
+        }
+    }
+
     @Override
     public void invalidate(Object key) {
     }
@@ -37,4 +51,9 @@ public class NoOpCache extends AbstractCache {
     @Override
     public void invalidateAll() {
     }
+
+    @Override
+    public Optional<CacheStats> getStats() {
+        return Optional.empty();
+    }
 }
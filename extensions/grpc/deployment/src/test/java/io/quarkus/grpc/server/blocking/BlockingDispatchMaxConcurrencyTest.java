@@ -0,0 +1,67 @@
+package io.quarkus.grpc.server.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.quarkus.grpc.server.services.SlowBlockingHelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class BlockingDispatchMaxConcurrencyTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addPackage(GreeterGrpc.class.getPackage())
+                    .addClasses(SlowBlockingHelloService.class))
+            .overrideConfigKey("quarkus.grpc.server.blocking.mode", "dedicated-pool")
+            .overrideConfigKey("quarkus.grpc.server.blocking.pool-size", "8")
+            .overrideConfigKey("quarkus.grpc.server.blocking.method-max-concurrency.\"helloworld.Greeter/SayHello\"", "2");
+
+    protected ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 9000)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedPerMethod() throws Exception {
+        GreeterGrpc.GreeterFutureStub stub = GreeterGrpc.newFutureStub(channel);
+        List<ListenableFuture<HelloReply>> replies = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            replies.add(stub.sayHello(HelloRequest.newBuilder().setName("neo-" + i).build()));
+        }
+        for (int i = 0; i < 10; i++) {
+            assertThat(replies.get(i).get(10, TimeUnit.SECONDS).getMessage())
+                    .startsWith("grpc-blocking-")
+                    .endsWith("neo-" + i);
+        }
+        assertThat(SlowBlockingHelloService.MAX_ACTIVE.get()).isLessThanOrEqualTo(2);
+    }
+}
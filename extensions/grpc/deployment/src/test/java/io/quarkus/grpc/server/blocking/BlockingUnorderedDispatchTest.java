@@ -0,0 +1,73 @@
+package io.quarkus.grpc.server.blocking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.google.common.util.concurrent.ListenableFuture;
+
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.quarkus.grpc.server.services.SlowBlockingHelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Sends many concurrent unary calls over a single channel, which are all multiplexed over the same connection.
+ */
+public class BlockingUnorderedDispatchTest {
+
+    static final int CALLS = 20;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class)
+                    .addPackage(GreeterGrpc.class.getPackage())
+                    .addClasses(SlowBlockingHelloService.class))
+            .overrideConfigKey("quarkus.grpc.server.blocking.mode", "unordered");
+
+    protected ManagedChannel channel;
+
+    @BeforeEach
+    public void init() {
+        channel = ManagedChannelBuilder.forAddress("localhost", 9000)
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    public void shutdown() {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentCallsOverASingleChannel() throws Exception {
+        GreeterGrpc.GreeterFutureStub stub = GreeterGrpc.newFutureStub(channel);
+        long start = System.nanoTime();
+        List<ListenableFuture<HelloReply>> replies = new ArrayList<>();
+        for (int i = 0; i < CALLS; i++) {
+            replies.add(stub.sayHello(HelloRequest.newBuilder().setName("neo-" + i).build()));
+        }
+        for (int i = 0; i < CALLS; i++) {
+            assertThat(replies.get(i).get(10, TimeUnit.SECONDS).getMessage()).endsWith("neo-" + i);
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // each call sleeps 100 ms, the calls would take 2 s if they were serialized
+        assertThat(SlowBlockingHelloService.MAX_ACTIVE.get()).isGreaterThan(1);
+        assertThat(elapsed).isLessThan(CALLS * 100);
+    }
+}
@@ -0,0 +1,35 @@
+package io.quarkus.grpc.server.services;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Singleton;
+
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.stub.StreamObserver;
+import io.smallrye.common.annotation.Blocking;
+
+@Singleton
+public class SlowBlockingHelloService extends GreeterGrpc.GreeterImplBase {
+
+    public static final AtomicInteger ACTIVE = new AtomicInteger();
+    public static final AtomicInteger MAX_ACTIVE = new AtomicInteger();
+
+    @Override
+    @Blocking
+    public void sayHello(HelloRequest request, StreamObserver<HelloReply> responseObserver) {
+        int active = ACTIVE.incrementAndGet();
+        MAX_ACTIVE.accumulateAndGet(active, Math::max);
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            ACTIVE.decrementAndGet();
+        }
+        responseObserver.onNext(HelloReply.newBuilder()
+                .setMessage(Thread.currentThread().getName() + " " + request.getName()).build());
+        responseObserver.onCompleted();
+    }
+}
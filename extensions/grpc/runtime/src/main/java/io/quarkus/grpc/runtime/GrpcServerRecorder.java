@@ -39,6 +39,7 @@ import io.quarkus.grpc.runtime.devmode.GrpcHotReplacementInterceptor;
 import io.quarkus.grpc.runtime.devmode.GrpcServerReloader;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.grpc.runtime.reflection.ReflectionService;
+import io.quarkus.grpc.runtime.supports.BlockingDispatcher;
 import io.quarkus.grpc.runtime.supports.BlockingServerInterceptor;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.RuntimeValue;
@@ -62,6 +63,7 @@ public class GrpcServerRecorder {
 
     private static final AtomicInteger grpcVerticleCount = new AtomicInteger(0);
     private Map<String, List<String>> blockingMethodsPerService = Collections.emptyMap();
+    private BlockingDispatcher blockingDispatcher;
 
     public void initializeGrpcServer(RuntimeValue<Vertx> vertxSupplier,
             GrpcConfiguration cfg,
@@ -86,11 +88,21 @@ public class GrpcServerRecorder {
             // start single server, not in a verticle, regardless of the configuration.instances
             // for reason unknown to me, verticles occasionally get undeployed on dev mode reload
             if (GrpcServerReloader.getServer() == null) {
+                // the server outlives the application in dev mode, and so does the dispatcher
+                this.blockingDispatcher = BlockingDispatcher.create(vertx, configuration.blocking);
                 devModeStart(grpcContainer, vertx, configuration, shutdown);
             } else {
                 devModeReload(grpcContainer);
             }
         } else {
+            BlockingDispatcher dispatcher = BlockingDispatcher.create(vertx, configuration.blocking);
+            this.blockingDispatcher = dispatcher;
+            shutdown.addShutdownTask(new Runnable() { // NOSONAR
+                @Override
+                public void run() {
+                    dispatcher.close();
+                }
+            });
             prodStart(grpcContainer, vertx, configuration);
         }
     }
@@ -316,8 +328,8 @@ public class GrpcServerRecorder {
                     // The service does not contain any methods annotated with @Blocking - no need for the itcp
                     builder.addService(service.definition);
                 } else {
-                    builder.addService(
-                            ServerInterceptors.intercept(service.definition, new BlockingServerInterceptor(vertx, list)));
+                    builder.addService(ServerInterceptors.intercept(service.definition,
+                            new BlockingServerInterceptor(blockingDispatcher, list)));
                 }
             }
             LOGGER.debugf("Registered gRPC service '%s'", service.definition.getServiceDescriptor().getName());
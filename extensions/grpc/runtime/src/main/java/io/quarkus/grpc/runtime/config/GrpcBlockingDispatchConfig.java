@@ -0,0 +1,71 @@
+package io.quarkus.grpc.runtime.config;
+
+import java.util.Map;
+import java.util.OptionalInt;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+@SuppressWarnings("OptionalUsedAsFieldOrParameterType")
+@ConfigGroup
+public class GrpcBlockingDispatchConfig {
+
+    /**
+     * How the calls to the methods annotated with `@Blocking` are dispatched.
+     * <p>
+     * With `ordered`, the calls received by a server instance run one after the other on the worker pool.
+     * With `unordered`, the calls run concurrently on the worker pool.
+     * With `dedicated-pool`, the calls run concurrently on a pool of threads dedicated to the gRPC blocking methods.
+     * With `virtual-threads`, each call runs on its own virtual thread, which requires a JVM supporting them.
+     * <p>
+     * Whatever the mode, the events of a given call are always delivered in order.
+     */
+    @ConfigItem(defaultValue = "ordered")
+    public Mode mode;
+
+    /**
+     * The number of threads of the pool used with the `dedicated-pool` mode.
+     */
+    @ConfigItem(defaultValue = "20")
+    public int poolSize;
+
+    /**
+     * The maximum number of concurrent calls of each blocking method, the calls exceeding it wait for a running call
+     * to complete.
+     * A call counts from its start until it completes or is cancelled, so a streaming call counts for its whole
+     * duration.
+     * By default, the concurrency is only limited by the executor.
+     */
+    @ConfigItem
+    public OptionalInt maxConcurrency;
+
+    /**
+     * The maximum number of concurrent calls of a given blocking method, overriding `max-concurrency`.
+     * The key is the full gRPC method name, such as `helloworld.Greeter/SayHello`, which must be quoted in
+     * `application.properties` as it contains a dot.
+     */
+    @ConfigItem
+    public Map<String, Integer> methodMaxConcurrency;
+
+    public enum Mode {
+        /**
+         * The calls received by a server instance run one after the other on the worker pool.
+         */
+        ORDERED,
+
+        /**
+         * The calls run concurrently on the worker pool.
+         */
+        UNORDERED,
+
+        /**
+         * The calls run concurrently on a dedicated thread pool.
+         */
+        DEDICATED_POOL,
+
+        /**
+         * Each call runs on its own virtual thread.
+         */
+        VIRTUAL_THREADS
+    }
+}
@@ -79,4 +79,10 @@ public class GrpcServerConfiguration {
      */
     @ConfigItem(defaultValue = "1")
     public int instances;
+
+    /**
+     * Configures the dispatch of the calls to the methods annotated with `@Blocking`.
+     */
+    @ConfigItem
+    public GrpcBlockingDispatchConfig blocking;
 }
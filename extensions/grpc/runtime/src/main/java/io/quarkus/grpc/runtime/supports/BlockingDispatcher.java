@@ -0,0 +1,307 @@
+package io.quarkus.grpc.runtime.supports;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.grpc.runtime.config.GrpcBlockingDispatchConfig;
+import io.vertx.core.Vertx;
+
+/**
+ * Provides the executors running the gRPC methods annotated with {@link io.smallrye.common.annotation.Blocking}.
+ * <p>
+ * Depending on the configured mode, the calls run on the Vert.x worker pool, in order or not, on a dedicated thread
+ * pool, or on virtual threads. The number of concurrent calls of a method can be limited, a call holding its permit
+ * from its start until it completes or is cancelled. The calls exceeding the limit are queued until a running call
+ * completes.
+ */
+public class BlockingDispatcher {
+
+    private static final Logger LOGGER = Logger.getLogger(BlockingDispatcher.class);
+
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final OptionalInt maxConcurrency;
+    private final Map<String, Integer> methodMaxConcurrency;
+    private final Map<String, CallLimiter> limiters = new ConcurrentHashMap<>();
+
+    BlockingDispatcher(Executor executor, ExecutorService ownedExecutor, OptionalInt maxConcurrency,
+            Map<String, Integer> methodMaxConcurrency) {
+        this.executor = executor;
+        this.ownedExecutor = ownedExecutor;
+        this.maxConcurrency = maxConcurrency;
+        this.methodMaxConcurrency = methodMaxConcurrency;
+    }
+
+    /**
+     * @return the dispatcher executing the blocking calls on the Vert.x worker pool, in order
+     */
+    public static BlockingDispatcher ordered(Vertx vertx) {
+        return new BlockingDispatcher(new WorkerPoolExecutor(vertx, true), null, OptionalInt.empty(),
+                Collections.emptyMap());
+    }
+
+    public static BlockingDispatcher create(Vertx vertx, GrpcBlockingDispatchConfig config) {
+        if (config == null) {
+            return ordered(vertx);
+        }
+        Map<String, Integer> methodMaxConcurrency = config.methodMaxConcurrency == null ? Collections.emptyMap()
+                : config.methodMaxConcurrency;
+        OptionalInt maxConcurrency = config.maxConcurrency == null ? OptionalInt.empty() : config.maxConcurrency;
+        switch (config.mode) {
+            case UNORDERED:
+                return new BlockingDispatcher(new WorkerPoolExecutor(vertx, false), null, maxConcurrency,
+                        methodMaxConcurrency);
+            case DEDICATED_POOL:
+                if (config.poolSize < 1) {
+                    throw new IllegalArgumentException(
+                            "The gRPC blocking pool size must be at least 1, got " + config.poolSize);
+                }
+                ExecutorService pool = Executors.newFixedThreadPool(config.poolSize, new DaemonThreadFactory());
+                return new BlockingDispatcher(pool, pool, maxConcurrency, methodMaxConcurrency);
+            case VIRTUAL_THREADS:
+                ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+                return new BlockingDispatcher(virtualThreads, virtualThreads, maxConcurrency, methodMaxConcurrency);
+            default:
+                return new BlockingDispatcher(new WorkerPoolExecutor(vertx, true), null, maxConcurrency,
+                        methodMaxConcurrency);
+        }
+    }
+
+    /**
+     * Creates the executor running the events of a single call, one after the other.
+     * <p>
+     * If the concurrency of the method is limited, the events only run once the call got a permit. The call holds its
+     * permit until {@link CallExecutor#release()} is called, once the call completed or was cancelled.
+     *
+     * @param fullMethodName the full gRPC method name
+     * @return the executor of the call
+     */
+    public CallExecutor newCallExecutor(String fullMethodName) {
+        CallLimiter limiter = limiterFor(fullMethodName);
+        CallExecutor callExecutor = new CallExecutor(executor, limiter);
+        if (limiter != null) {
+            limiter.acquire(callExecutor::start);
+        }
+        return callExecutor;
+    }
+
+    /**
+     * @return the limiter of the concurrent calls of the method, {@code null} if the concurrency is not limited
+     */
+    CallLimiter limiterFor(String fullMethodName) {
+        Integer limit = methodMaxConcurrency.get(fullMethodName);
+        if (limit == null) {
+            if (!maxConcurrency.isPresent()) {
+                return null;
+            }
+            limit = maxConcurrency.getAsInt();
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException(
+                    "The max concurrency of the gRPC method " + fullMethodName + " must be at least 1, got " + limit);
+        }
+        int max = limit;
+        return limiters.computeIfAbsent(fullMethodName, name -> new CallLimiter(max));
+    }
+
+    public void close() {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("The gRPC blocking dispatch mode virtual-threads requires a JVM supporting "
+                    + "virtual threads", e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("The gRPC blocking dispatch mode virtual-threads requires a JVM supporting "
+                    + "virtual threads", e.getCause());
+        }
+    }
+
+    /**
+     * Runs the tasks on the Vert.x worker pool.
+     * When ordered, the tasks submitted from a given context run one after the other.
+     */
+    static class WorkerPoolExecutor implements Executor {
+
+        private final Vertx vertx;
+        private final boolean ordered;
+
+        WorkerPoolExecutor(Vertx vertx, boolean ordered) {
+            this.vertx = vertx;
+            this.ordered = ordered;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            vertx.executeBlocking(promise -> {
+                command.run();
+                promise.complete();
+            }, ordered, null);
+        }
+    }
+
+    /**
+     * Grants at most {@code limit} permits at once, the calls waiting for a permit are queued.
+     * A released permit is handed over to the first waiting call.
+     */
+    static class CallLimiter {
+
+        private final int limit;
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int active;
+
+        CallLimiter(int limit) {
+            this.limit = limit;
+        }
+
+        /**
+         * @param onAcquired run once the permit is granted, possibly by the thread releasing a permit
+         */
+        void acquire(Runnable onAcquired) {
+            synchronized (this) {
+                if (active >= limit) {
+                    waiting.add(onAcquired);
+                    return;
+                }
+                active++;
+            }
+            onAcquired.run();
+        }
+
+        void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    active--;
+                    return;
+                }
+            }
+            next.run();
+        }
+
+        synchronized int active() {
+            return active;
+        }
+    }
+
+    /**
+     * Runs the tasks one after the other, in submission order, on the delegate.
+     * The events of a call must be delivered in order even if the delegate runs the tasks concurrently.
+     */
+    static class SerialExecutor implements Executor {
+
+        private final Executor delegate;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled;
+
+        SerialExecutor(Executor delegate) {
+            this(delegate, false);
+        }
+
+        /**
+         * @param held whether the tasks are held until {@link #start()} is called
+         */
+        SerialExecutor(Executor delegate, boolean held) {
+            this.delegate = delegate;
+            // a held executor is seen as already scheduled, so that the submitted tasks are only queued
+            this.scheduled = new AtomicBoolean(held);
+        }
+
+        void start() {
+            scheduled.set(false);
+            schedule();
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+            schedule();
+        }
+
+        private void schedule() {
+            if (!tasks.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    delegate.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Runnable task;
+                while ((task = tasks.poll()) != null) {
+                    try {
+                        task.run();
+                    } catch (RuntimeException e) {
+                        LOGGER.error("Unable to execute the blocking gRPC call", e);
+                    }
+                }
+            } finally {
+                scheduled.set(false);
+                // a task may have been submitted after the queue was found empty
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * The executor of a call. If the concurrency of the method is limited, the tasks are held until the call got a
+     * permit.
+     */
+    public static class CallExecutor extends SerialExecutor {
+
+        private final CallLimiter limiter;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        CallExecutor(Executor delegate, CallLimiter limiter) {
+            super(delegate, limiter != null);
+            this.limiter = limiter;
+        }
+
+        /**
+         * Releases the permit of the call, if any, so that a waiting call can start. It must be called once the call
+         * completed or was cancelled, calling it again has no effect.
+         */
+        public void release() {
+            if (limiter != null && released.compareAndSet(false, true)) {
+                limiter.release();
+            }
+        }
+    }
+
+    static class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "grpc-blocking-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,10 +1,9 @@
 package io.quarkus.grpc.runtime.supports;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -12,24 +11,23 @@ import io.grpc.Metadata;
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
-import io.vertx.core.Handler;
-import io.vertx.core.Promise;
-import io.vertx.core.Vertx;
 
 /**
  * gRPC Server interceptor offloading the execution of the gRPC method on a wroker thread if the method is annotated
  * with {@link io.smallrye.common.annotation.Blocking}.
  *
  * For non-annotated methods, the interceptor acts as a pass-through.
+ *
+ * The executor running the blocking calls is provided by the {@link BlockingDispatcher}.
  */
 public class BlockingServerInterceptor implements ServerInterceptor {
 
-    private final Vertx vertx;
+    private final BlockingDispatcher dispatcher;
     private final List<String> blockingMethods;
-    private final Map<String, Boolean> cache = new HashMap<>();
+    private final Map<String, Boolean> cache = new ConcurrentHashMap<>();
 
-    public BlockingServerInterceptor(Vertx vertx, List<String> blockingMethods) {
-        this.vertx = vertx;
+    public BlockingServerInterceptor(BlockingDispatcher dispatcher, List<String> blockingMethods) {
+        this.dispatcher = dispatcher;
         this.blockingMethods = new ArrayList<>();
         for (String method : blockingMethods) {
             this.blockingMethods.add(method.toLowerCase());
@@ -59,58 +57,73 @@ public class BlockingServerInterceptor implements ServerInterceptor {
         });
 
         if (isBlocking) {
-            ReplayListener<ReqT> replay = new ReplayListener<>();
-
-            vertx.executeBlocking(new Handler<Promise<Object>>() {
+            BlockingDispatcher.CallExecutor executor = dispatcher.newCallExecutor(fullMethodName);
+            BlockingListener<ReqT> listener = new BlockingListener<>(executor);
+            executor.execute(new Runnable() {
                 @Override
-                public void handle(Promise<Object> f) {
-                    ServerCall.Listener<ReqT> listener = next.startCall(call, headers);
-                    replay.setDelegate(listener);
-                    f.complete(null);
+                public void run() {
+                    // a call cancelled while waiting for a permit is not started
+                    if (!listener.cancelled) {
+                        listener.setDelegate(next.startCall(call, headers));
+                    }
                 }
-            }, null);
-
-            return replay;
+            });
+            return listener;
         } else {
             return next.startCall(call, headers);
         }
     }
 
     /**
-     * Stores the incoming events until the listener is injected.
-     * When injected, replay the events.
+     * Forwards the incoming events to the listener of the call on the executor of the call.
      *
-     * Note that event must be executed in order, explaining the `ordered:true`.
+     * The executor of the call runs its tasks one after the other, the listener is therefore created before the events
+     * are delivered, and the events are delivered in order. The permit of the call, if any, is released once the
+     * call completed or was cancelled.
      */
-    private class ReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
+    private static class BlockingListener<ReqT> extends ServerCall.Listener<ReqT> {
+        private final BlockingDispatcher.CallExecutor executor;
         private ServerCall.Listener<ReqT> delegate;
-        private final List<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new LinkedList<>();
+        private volatile boolean cancelled;
 
-        synchronized void setDelegate(ServerCall.Listener<ReqT> delegate) {
+        BlockingListener(BlockingDispatcher.CallExecutor executor) {
+            this.executor = executor;
+        }
+
+        void setDelegate(ServerCall.Listener<ReqT> delegate) {
             this.delegate = delegate;
-            for (Consumer<ServerCall.Listener<ReqT>> event : incomingEvents) {
-                event.accept(delegate);
-            }
-            incomingEvents.clear();
         }
 
-        private synchronized void executeOnContextOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            if (this.delegate != null) {
-                vertx.executeBlocking(new Handler<Promise<Object>>() {
-                    @Override
-                    public void handle(Promise<Object> f) {
+        private void execute(Consumer<ServerCall.Listener<ReqT>> consumer) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    // the delegate is missing if the call could not be started
+                    if (delegate != null) {
                         consumer.accept(delegate);
-                        f.complete();
                     }
-                }, true, null);
-            } else {
-                incomingEvents.add(consumer);
-            }
+                }
+            });
+        }
+
+        private void executeLast(Consumer<ServerCall.Listener<ReqT>> consumer) {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        if (delegate != null) {
+                            consumer.accept(delegate);
+                        }
+                    } finally {
+                        executor.release();
+                    }
+                }
+            });
         }
 
         @Override
         public void onMessage(ReqT message) {
-            executeOnContextOrEnqueue(new Consumer<ServerCall.Listener<ReqT>>() {
+            execute(new Consumer<ServerCall.Listener<ReqT>>() {
                 @Override
                 public void accept(ServerCall.Listener<ReqT> t) {
                     t.onMessage(message);
@@ -120,23 +133,24 @@ public class BlockingServerInterceptor implements ServerInterceptor {
 
         @Override
         public void onHalfClose() {
-            executeOnContextOrEnqueue(ServerCall.Listener::onHalfClose);
+            execute(ServerCall.Listener::onHalfClose);
         }
 
         @Override
         public void onCancel() {
-            executeOnContextOrEnqueue(ServerCall.Listener::onCancel);
+            cancelled = true;
+            executeLast(ServerCall.Listener::onCancel);
         }
 
         @Override
         public void onComplete() {
-            executeOnContextOrEnqueue(ServerCall.Listener::onComplete);
+            executeLast(ServerCall.Listener::onComplete);
         }
 
         @Override
         public void onReady() {
-            executeOnContextOrEnqueue(ServerCall.Listener::onReady);
+            execute(ServerCall.Listener::onReady);
         }
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,128 @@
+package io.quarkus.grpc.runtime.supports;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BlockingDispatcherTest {
+
+    private ExecutorService pool;
+
+    @BeforeEach
+    public void init() {
+        pool = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testEventsOfACallAreExecutedInOrder() throws InterruptedException {
+        BlockingDispatcher dispatcher = new BlockingDispatcher(pool, null, OptionalInt.empty(), Collections.emptyMap());
+        List<Integer> events = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(1000);
+
+        Executor executor = dispatcher.newCallExecutor("helloworld.Greeter/SayHello");
+        for (int i = 0; i < 1000; i++) {
+            int event = i;
+            executor.execute(() -> {
+                if (running.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                events.add(event);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(overlaps.get()).isZero();
+        for (int i = 0; i < 1000; i++) {
+            assertThat(events.get(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    public void testConcurrencyIsLimitedPerCall() throws InterruptedException {
+        BlockingDispatcher dispatcher = new BlockingDispatcher(pool, null, OptionalInt.of(4),
+                Map.of("helloworld.Greeter/SayHello", 2));
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(20);
+
+        for (int i = 0; i < 20; i++) {
+            BlockingDispatcher.CallExecutor executor = dispatcher.newCallExecutor("helloworld.Greeter/SayHello");
+            // the call is active from its first event to its last one, the permit being held in between
+            executor.execute(() -> maxActive.accumulateAndGet(active.incrementAndGet(), Math::max));
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            executor.execute(() -> {
+                active.decrementAndGet();
+                executor.release();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxActive.get()).isEqualTo(2);
+        assertThat(dispatcher.limiterFor("helloworld.Greeter/SayHello").active()).isZero();
+        // the other methods use the default limit
+        assertThat(dispatcher.limiterFor("helloworld.Greeter/SayGoodbye"))
+                .isNotNull()
+                .isNotSameAs(dispatcher.limiterFor("helloworld.Greeter/SayHello"));
+    }
+
+    @Test
+    public void testWaitingCallStartsOncePermitIsReleased() throws InterruptedException {
+        BlockingDispatcher dispatcher = new BlockingDispatcher(pool, null, OptionalInt.of(1), Collections.emptyMap());
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch secondStarted = new CountDownLatch(1);
+
+        BlockingDispatcher.CallExecutor first = dispatcher.newCallExecutor("helloworld.Greeter/SayHello");
+        first.execute(firstStarted::countDown);
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        BlockingDispatcher.CallExecutor second = dispatcher.newCallExecutor("helloworld.Greeter/SayHello");
+        second.execute(secondStarted::countDown);
+        // the first call has not completed, it still holds the permit
+        assertThat(secondStarted.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+        first.release();
+        // releasing twice must not grant another permit
+        first.release();
+        assertThat(secondStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(dispatcher.limiterFor("helloworld.Greeter/SayHello").active()).isEqualTo(1);
+
+        second.release();
+        assertThat(dispatcher.limiterFor("helloworld.Greeter/SayHello").active()).isZero();
+    }
+
+    @Test
+    public void testUnlimitedMethodHasNoLimiter() {
+        BlockingDispatcher dispatcher = new BlockingDispatcher(pool, null, OptionalInt.empty(), Collections.emptyMap());
+        assertThat(dispatcher.limiterFor("helloworld.Greeter/SayHello")).isNull();
+    }
+}
@@ -237,6 +237,10 @@ public class FastBootMetadataBuilder {
         if (!cfg.containsKey(AvailableSettings.ORDER_UPDATES)) {
             cfg.put(AvailableSettings.ORDER_UPDATES, Boolean.TRUE.toString());
         }
+        //Order batched inserts so that the inserts into a table end up in the same batches (unless it was disabled)
+        if (cfg.containsKey(AvailableSettings.STATEMENT_BATCH_SIZE) && !cfg.containsKey(AvailableSettings.ORDER_INSERTS)) {
+            cfg.put(AvailableSettings.ORDER_INSERTS, Boolean.TRUE.toString());
+        }
         //Agroal already does disable auto-commit, so Hibernate ORM should trust that:
         cfg.put(AvailableSettings.CONNECTION_PROVIDER_DISABLES_AUTOCOMMIT, Boolean.TRUE.toString());
 
@@ -3,9 +3,8 @@ package io.quarkus.micrometer.runtime.binder.vertx;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
-import io.micrometer.core.instrument.Tags;
-import io.micrometer.core.instrument.Timer;
 import io.vertx.core.Context;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.ext.web.RoutingContext;
 
 public class RequestMetric {
@@ -28,14 +27,20 @@ public class RequestMetric {
     /** True IFF the path was revised by a matcher expression */
     boolean pathMatched = false;
 
-    /** Store the sample used to measure the request */
-    Timer.Sample sample;
-
     /**
-     * Store the tags associated with the request (change 1.6.0).
-     * Default is empty, value assigned @ requestBegin
+     * True IFF the last path returned by {@link #getHttpRequestPath()} is a route template or a matcher replacement,
+     * rather than the raw request path
      */
-    Tags tags = Tags.empty();
+    boolean templatedPath = false;
+
+    /** True IFF the request is timed, pushed responses are counted but not timed */
+    boolean timed = false;
+
+    /** Store the start time of the request, from the monotonic clock of the registry */
+    long startTime;
+
+    /** Store the method of the request, value assigned @ requestBegin */
+    HttpMethod method;
 
     /**
      * Stash the RequestMetric in the Vertx Context
@@ -69,12 +74,14 @@ public class RequestMetric {
     String getHttpRequestPath() {
         // Vertx binder configuration, see VertxMetricsTags
         if (pathMatched) {
+            templatedPath = true;
             return path;
         }
         if (routingContext != null) {
             // JAX-RS or Servlet container filter
             String rcPath = routingContext.get(HTTP_REQUEST_PATH);
             if (rcPath != null) {
+                templatedPath = true;
                 return rcPath;
             }
             // vertx-web or reactive route
@@ -90,9 +97,11 @@ public class RequestMetric {
                         return String.join("/", segments);
                     });
                 }
+                templatedPath = true;
                 return matchedPath;
             }
         }
+        templatedPath = false;
         return path;
     }
 }
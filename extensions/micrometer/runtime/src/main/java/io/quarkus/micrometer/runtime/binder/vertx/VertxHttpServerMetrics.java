@@ -5,6 +5,9 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
@@ -35,8 +38,19 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         implements HttpServerMetrics<RequestMetric, LongTaskTimer.Sample, Map<String, Object>> {
     static final Logger log = Logger.getLogger(VertxHttpServerMetrics.class);
 
+    // the timers of the other requests are looked up in the registry, to bound the memory used by the high cardinality uris
+    static final int MAX_CACHED_TIMERS = 4096;
+
     final List<Pattern> ignorePatterns;
     final Map<Pattern, String> matchPatterns;
+    final Pattern anyIgnorePattern;
+    final Pattern anyMatchPattern;
+
+    /**
+     * Cache of the request timers, which saves building the tags and looking up the timer in the registry on each request.
+     * A timer removed from the registry keeps being updated, like the timers held by any other instrumentation.
+     */
+    final ConcurrentHashMap<RequestTimerKey, Timer> requestTimers = new ConcurrentHashMap<>();
 
     final String nameWebsocketConnections;
     final String nameHttpServerPush;
@@ -78,6 +92,9 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         } else {
             matchPatterns = Collections.emptyMap();
         }
+
+        anyIgnorePattern = VertxMetricsTags.combine(ignorePatterns);
+        anyMatchPattern = VertxMetricsTags.combine(matchPatterns.keySet());
     }
 
     /**
@@ -93,7 +110,7 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     public RequestMetric responsePushed(Map<String, Object> socketMetric, HttpMethod method, String uri,
             HttpServerResponse response) {
         RequestMetric requestMetric = new RequestMetric();
-        VertxMetricsTags.parseUriPath(requestMetric, matchPatterns, ignorePatterns, uri);
+        VertxMetricsTags.parseUriPath(requestMetric, matchPatterns, anyMatchPattern, ignorePatterns, anyIgnorePattern, uri);
         if (requestMetric.measure) {
             registry.counter(nameHttpServerPush, Tags.of(
                     VertxMetricsTags.uri(requestMetric.path, response.getStatusCode()),
@@ -121,11 +138,13 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         RequestMetric.setRequestMetric(Vertx.currentContext(), requestMetric);
 
         // evaluate and remember the path to monitor for use later (maybe a 404 or redirect..)
-        VertxMetricsTags.parseUriPath(requestMetric, matchPatterns, ignorePatterns, request.path());
+        VertxMetricsTags.parseUriPath(requestMetric, matchPatterns, anyMatchPattern, ignorePatterns, anyIgnorePattern,
+                request.path());
         if (requestMetric.measure) {
-            // If we're measuring this request, create/remember the sample
-            requestMetric.sample = Timer.start(registry);
-            requestMetric.tags = Tags.of(VertxMetricsTags.method(request.method()));
+            // If we're measuring this request, remember the start time
+            requestMetric.timed = true;
+            requestMetric.startTime = registry.config().clock().monotonicTime();
+            requestMetric.method = request.method();
 
             log.debugf("requestBegin %s: %s, %s", requestMetric.path, socketMetric, requestMetric);
         }
@@ -142,16 +161,9 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     @Override
     public void requestReset(RequestMetric requestMetric) {
         log.debugf("requestReset: %s", requestMetric);
-        Timer.Sample sample = getRequestSample(requestMetric);
-        if (sample != null) {
+        if (isTimed(requestMetric)) {
             String requestPath = getServerRequestPath(requestMetric);
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(requestMetric.tags)
-                    .tags(Tags.of(
-                            VertxMetricsTags.uri(requestPath, 0),
-                            Outcome.CLIENT_ERROR.asTag(),
-                            VertxMetricsTags.STATUS_RESET));
-            sample.stop(builder.register(registry));
+            stop(requestMetric, requestTimer(requestPath, requestMetric.templatedPath, requestMetric.method, 0, true));
         }
     }
 
@@ -165,17 +177,10 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
     public void responseEnd(RequestMetric requestMetric, HttpServerResponse response) {
         log.debugf("responseEnd: %s, %s", requestMetric, response);
 
-        Timer.Sample sample = getRequestSample(requestMetric);
-        if (sample != null) {
+        if (isTimed(requestMetric)) {
             String requestPath = getServerRequestPath(requestMetric);
-            Timer.Builder builder = Timer.builder(nameHttpServerRequests)
-                    .tags(requestMetric.tags)
-                    .tags(Tags.of(
-                            VertxMetricsTags.uri(requestPath, response.getStatusCode()),
-                            VertxMetricsTags.outcome(response),
-                            VertxMetricsTags.status(response.getStatusCode())));
-
-            sample.stop(builder.register(registry));
+            stop(requestMetric, requestTimer(requestPath, requestMetric.templatedPath, requestMetric.method,
+                    response.getStatusCode(), false));
         }
     }
 
@@ -214,11 +219,57 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         }
     }
 
-    private Timer.Sample getRequestSample(RequestMetric metricsContext) {
-        if (metricsContext == null) {
-            return null;
+    private boolean isTimed(RequestMetric metricsContext) {
+        return metricsContext != null && metricsContext.timed;
+    }
+
+    private void stop(RequestMetric metricsContext, Timer timer) {
+        timer.record(registry.config().clock().monotonicTime() - metricsContext.startTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The timers are only cached when their uri tag is a route template, a matcher replacement or doesn't depend on the
+     * path, so that requests to raw paths, e.g. /item/1, /item/2, ... don't fill the cache.
+     *
+     * @param templatedPath true if the request path is a route template or a matcher replacement, not a raw path
+     * @param reset true if the request was reset, the status code is then ignored
+     * @return the timer of the requests with the given uri, method and status code
+     */
+    Timer requestTimer(String requestPath, boolean templatedPath, HttpMethod method, int statusCode, boolean reset) {
+        // the uri tag does not depend on the path for the redirections and the not found responses
+        boolean anyPath = !reset && (statusCode / 100 == 3 || statusCode == 404);
+        RequestTimerKey key = new RequestTimerKey(anyPath ? null : requestPath, method, reset ? 0 : statusCode, reset);
+        if (!anyPath && !templatedPath) {
+            return registerRequestTimer(key);
+        }
+        Timer timer = requestTimers.get(key);
+        if (timer == null) {
+            timer = registerRequestTimer(key);
+            if (requestTimers.size() < MAX_CACHED_TIMERS) {
+                requestTimers.putIfAbsent(key, timer);
+            }
+        }
+        return timer;
+    }
+
+    private Timer registerRequestTimer(RequestTimerKey key) {
+        Tags tags;
+        if (key.reset) {
+            tags = Tags.of(
+                    VertxMetricsTags.method(key.method),
+                    VertxMetricsTags.uri(key.path, 0),
+                    Outcome.CLIENT_ERROR.asTag(),
+                    VertxMetricsTags.STATUS_RESET);
+        } else {
+            tags = Tags.of(
+                    VertxMetricsTags.method(key.method),
+                    VertxMetricsTags.uri(key.path, key.statusCode),
+                    Outcome.forStatus(key.statusCode).asTag(),
+                    VertxMetricsTags.status(key.statusCode));
         }
-        return metricsContext.sample;
+        return Timer.builder(nameHttpServerRequests)
+                .tags(tags)
+                .register(registry);
     }
 
     private String getServerRequestPath(RequestMetric metricsContext) {
@@ -227,4 +278,41 @@ public class VertxHttpServerMetrics extends VertxTcpMetrics
         }
         return metricsContext.getHttpRequestPath();
     }
+
+    static final class RequestTimerKey {
+        final String path;
+        final HttpMethod method;
+        final int statusCode;
+        final boolean reset;
+
+        RequestTimerKey(String path, HttpMethod method, int statusCode, boolean reset) {
+            this.path = path;
+            this.method = method;
+            this.statusCode = statusCode;
+            this.reset = reset;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestTimerKey)) {
+                return false;
+            }
+            RequestTimerKey that = (RequestTimerKey) o;
+            return statusCode == that.statusCode
+                    && reset == that.reset
+                    && method == that.method
+                    && Objects.equals(path, that.path);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = Objects.hashCode(path);
+            result = 31 * result + Objects.hashCode(method);
+            result = 31 * result + statusCode;
+            return 31 * result + (reset ? 1 : 0);
+        }
+    }
 }
@@ -1,8 +1,10 @@
 package io.quarkus.micrometer.runtime.binder.vertx;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.jboss.logging.Logger;
 
@@ -26,9 +28,8 @@ public class VertxMetricsTags {
 
     static final Tag METHOD_UNKNOWN = Tag.of("method", "UNKNOWN");
 
-    private static final Pattern TRAILING_SLASH_PATTERN = Pattern.compile("/$");
-
-    private static final Pattern MULTIPLE_SLASH_PATTERN = Pattern.compile("//+");
+    // \1 or \k<name>, may also find an escaped backslash followed by a digit, which only disables the combination
+    private static final Pattern BACK_REFERENCE_PATTERN = Pattern.compile("\\\\(\\d|k<)");
 
     /**
      * Creates a {@code method} tag based on the {@link HttpServerRequest#method()}
@@ -113,33 +114,104 @@ public class VertxMetricsTags {
      */
     static void parseUriPath(RequestMetric requestMetric, Map<Pattern, String> matchPattern, List<Pattern> ignorePatterns,
             String uri) {
+        parseUriPath(requestMetric, matchPattern, null, ignorePatterns, null, uri);
+    }
+
+    /**
+     * Extract the path out of the uri. Return null if the path should be
+     * ignored.
+     *
+     * @param anyMatchPattern the {@link #combine(Collection) combination} of the match patterns, or null
+     * @param anyIgnorePattern the {@link #combine(Collection) combination} of the ignore patterns, or null
+     */
+    static void parseUriPath(RequestMetric requestMetric, Map<Pattern, String> matchPattern, Pattern anyMatchPattern,
+            List<Pattern> ignorePatterns, Pattern anyIgnorePattern, String uri) {
         if (uri == null) {
             return;
         }
 
-        String path = "/" + extractPath(uri);
-        path = MULTIPLE_SLASH_PATTERN.matcher(path).replaceAll("/");
-        path = TRAILING_SLASH_PATTERN.matcher(path).replaceAll("");
-
-        if (path.isEmpty()) {
-            path = "/";
-        }
+        String path = normalizePath(extractPath(uri));
         requestMetric.path = path;
-        for (Map.Entry<Pattern, String> mp : matchPattern.entrySet()) {
-            requestMetric.path = mp.getKey().matcher(requestMetric.path).replaceAll(mp.getValue());
+        // the replacements are chained, none of them applies if the path contains no match of any of the patterns
+        if (!matchPattern.isEmpty() && (anyMatchPattern == null || anyMatchPattern.matcher(path).find())) {
+            for (Map.Entry<Pattern, String> mp : matchPattern.entrySet()) {
+                requestMetric.path = mp.getKey().matcher(requestMetric.path).replaceAll(mp.getValue());
+            }
         }
         requestMetric.pathMatched = !path.equals(requestMetric.path);
 
         // Compare path against "ignore this path" patterns
-        for (Pattern p : ignorePatterns) {
-            if (p.matcher(path).matches()) {
-                log.debugf("Path %s ignored; matches pattern %s", uri, p.pattern());
+        if (anyIgnorePattern != null) {
+            if (anyIgnorePattern.matcher(path).matches()) {
+                log.debugf("Path %s ignored; matches pattern %s", uri, anyIgnorePattern.pattern());
                 return;
             }
+        } else {
+            for (Pattern p : ignorePatterns) {
+                if (p.matcher(path).matches()) {
+                    log.debugf("Path %s ignored; matches pattern %s", uri, p.pattern());
+                    return;
+                }
+            }
         }
         requestMetric.measure = true;
     }
 
+    /**
+     * Combine the patterns into a single pattern matching any of them, so that the input is scanned once instead of once
+     * per pattern.
+     *
+     * @return the combined pattern, or null if there is no pattern or if the patterns can't be combined because they
+     *         use back references, which are numbered across the whole combined pattern
+     */
+    static Pattern combine(Collection<Pattern> patterns) {
+        if (patterns.isEmpty()) {
+            return null;
+        }
+        if (patterns.size() == 1) {
+            return patterns.iterator().next();
+        }
+        StringBuilder combined = new StringBuilder();
+        for (Pattern p : patterns) {
+            if (p.flags() != 0 || BACK_REFERENCE_PATTERN.matcher(p.pattern()).find()) {
+                return null;
+            }
+            if (combined.length() > 0) {
+                combined.append('|');
+            }
+            combined.append("(?:").append(p.pattern()).append(')');
+        }
+        try {
+            return Pattern.compile(combined.toString());
+        } catch (PatternSyntaxException e) {
+            // e.g. a named group declared by several patterns
+            return null;
+        }
+    }
+
+    /**
+     * Prepend a slash, collapse the consecutive slashes and remove the trailing slash
+     * (except for the root path).
+     */
+    private static String normalizePath(String path) {
+        int length = path.length();
+        if (length > 0 && path.charAt(0) == '/' && path.indexOf("//") == -1
+                && (length == 1 || path.charAt(length - 1) != '/')) {
+            return path;
+        }
+        StringBuilder normalized = new StringBuilder(length + 1).append('/');
+        for (int i = 0; i < length; i++) {
+            char c = path.charAt(i);
+            if (c != '/' || normalized.charAt(normalized.length() - 1) != '/') {
+                normalized.append(c);
+            }
+        }
+        if (normalized.length() > 1 && normalized.charAt(normalized.length() - 1) == '/') {
+            normalized.setLength(normalized.length() - 1);
+        }
+        return normalized.toString();
+    }
+
     private static String extractPath(String uri) {
         if (uri.isEmpty()) {
             return uri;
@@ -9,8 +9,10 @@ import java.util.regex.Pattern;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.quarkus.micrometer.runtime.config.runtime.VertxConfig;
+import io.vertx.core.http.HttpMethod;
 
 public class VertxHttpServerMetricsTest {
 
@@ -38,4 +40,50 @@ public class VertxHttpServerMetricsTest {
         Assertions.assertEquals("/item/{id}", entry.getValue());
         Assertions.assertTrue(entry.getKey().matcher("/item/123").matches());
     }
+
+    @Test
+    public void testHttpServerMetricsCombinedPatterns() {
+        VertxConfig runtimeConfig = new VertxConfig();
+        runtimeConfig.ignorePatterns = Optional.of(new ArrayList<>(Arrays.asList("/item/.*", "/health")));
+        runtimeConfig.matchPatterns = Optional.of(new ArrayList<>(
+                Arrays.asList("/item/\\d+=/item/{id}", "/(\\w+)/\\1=/twice")));
+        VertxHttpServerMetrics metrics = new VertxHttpServerMetrics(new SimpleMeterRegistry(), runtimeConfig);
+
+        Assertions.assertTrue(metrics.anyIgnorePattern.matcher("/item/123").matches());
+        Assertions.assertTrue(metrics.anyIgnorePattern.matcher("/health").matches());
+        Assertions.assertFalse(metrics.anyIgnorePattern.matcher("/health/live").matches());
+        // the back reference can't be combined
+        Assertions.assertNull(metrics.anyMatchPattern);
+    }
+
+    @Test
+    public void testHttpServerMetricsRequestTimers() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VertxHttpServerMetrics metrics = new VertxHttpServerMetrics(registry, new VertxConfig());
+
+        Timer timer = metrics.requestTimer("/item/{id}", true, HttpMethod.GET, 200, false);
+        Assertions.assertSame(timer, metrics.requestTimer("/item/{id}", true, HttpMethod.GET, 200, false));
+        Assertions.assertSame(timer, registry.get("http.server.requests")
+                .tags("uri", "/item/{id}", "method", "GET", "status", "200", "outcome", "SUCCESS")
+                .timer());
+        Assertions.assertNotSame(timer, metrics.requestTimer("/item/{id}", true, HttpMethod.POST, 200, false));
+
+        Timer notFound = metrics.requestTimer("/item/1", false, HttpMethod.GET, 404, false);
+        Assertions.assertSame(notFound, metrics.requestTimer("/item/2", false, HttpMethod.GET, 404, false));
+        Assertions.assertEquals("NOT_FOUND", notFound.getId().getTag("uri"));
+        Assertions.assertEquals("CLIENT_ERROR", notFound.getId().getTag("outcome"));
+
+        Timer reset = metrics.requestTimer("/item/{id}", true, HttpMethod.GET, 200, true);
+        Assertions.assertEquals("RESET", reset.getId().getTag("status"));
+        Assertions.assertEquals("CLIENT_ERROR", reset.getId().getTag("outcome"));
+        Assertions.assertEquals("/item/{id}", reset.getId().getTag("uri"));
+        Assertions.assertEquals(4, metrics.requestTimers.size());
+
+        // the raw paths are not cached, as their number is not bounded
+        Timer raw = metrics.requestTimer("/item/1", false, HttpMethod.GET, 200, false);
+        Assertions.assertEquals("/item/1", raw.getId().getTag("uri"));
+        Assertions.assertSame(raw, metrics.requestTimer("/item/1", false, HttpMethod.GET, 200, false));
+        metrics.requestTimer("/item/1", false, HttpMethod.GET, 200, true);
+        Assertions.assertEquals(4, metrics.requestTimers.size());
+    }
 }
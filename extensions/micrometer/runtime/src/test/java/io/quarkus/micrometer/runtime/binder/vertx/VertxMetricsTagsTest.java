@@ -116,6 +116,53 @@ public class VertxMetricsTagsTest {
         Assertions.assertTrue(requestMetric.pathMatched);
     }
 
+    @Test
+    public void testParsePathTrailingSlash() {
+        RequestMetric requestMetric = new RequestMetric();
+        VertxMetricsTags.parseUriPath(requestMetric, NO_MATCH_PATTERNS, NO_IGNORE_PATTERNS, "/path//with/trailing/slash/");
+        Assertions.assertEquals("/path/with/trailing/slash", requestMetric.path);
+        Assertions.assertTrue(requestMetric.measure);
+        Assertions.assertFalse(requestMetric.pathMatched);
+    }
+
+    @Test
+    public void testParsePathCombinedPatterns() {
+        final Map<Pattern, String> matchPatterns = new HashMap<>();
+        matchPatterns.put(Pattern.compile("/item/\\d+"), "/item/{id}");
+        matchPatterns.put(Pattern.compile("/order/\\d+"), "/order/{id}");
+        final List<Pattern> ignorePatterns = Arrays.asList(Pattern.compile("/ignore.*"), Pattern.compile("/health"));
+        Pattern anyMatchPattern = VertxMetricsTags.combine(matchPatterns.keySet());
+        Pattern anyIgnorePattern = VertxMetricsTags.combine(ignorePatterns);
+
+        RequestMetric requestMetric = new RequestMetric();
+        VertxMetricsTags.parseUriPath(requestMetric, matchPatterns, anyMatchPattern, ignorePatterns, anyIgnorePattern,
+                "/order/123/item/456");
+        Assertions.assertEquals("/order/{id}/item/{id}", requestMetric.path);
+        Assertions.assertTrue(requestMetric.measure);
+        Assertions.assertTrue(requestMetric.pathMatched);
+
+        requestMetric = new RequestMetric();
+        VertxMetricsTags.parseUriPath(requestMetric, matchPatterns, anyMatchPattern, ignorePatterns, anyIgnorePattern,
+                "/other");
+        Assertions.assertEquals("/other", requestMetric.path);
+        Assertions.assertTrue(requestMetric.measure);
+        Assertions.assertFalse(requestMetric.pathMatched);
+
+        requestMetric = new RequestMetric();
+        VertxMetricsTags.parseUriPath(requestMetric, matchPatterns, anyMatchPattern, ignorePatterns, anyIgnorePattern,
+                "/health/");
+        Assertions.assertFalse(requestMetric.measure);
+    }
+
+    @Test
+    public void testCombinePatterns() {
+        Assertions.assertNull(VertxMetricsTags.combine(NO_IGNORE_PATTERNS));
+        Assertions.assertSame(ignorePatterns.get(0), VertxMetricsTags.combine(ignorePatterns));
+        Assertions.assertNull(VertxMetricsTags.combine(Arrays.asList(Pattern.compile("/(\\w+)/\\1"), Pattern.compile("/a"))));
+        Assertions.assertNull(VertxMetricsTags.combine(
+                Arrays.asList(Pattern.compile("/(?<id>\\d+)"), Pattern.compile("/x/(?<id>\\d+)"))));
+    }
+
     @Test
     public void testStatus() {
         Assertions.assertEquals(Tag.of("status", "200"), VertxMetricsTags.status(200));
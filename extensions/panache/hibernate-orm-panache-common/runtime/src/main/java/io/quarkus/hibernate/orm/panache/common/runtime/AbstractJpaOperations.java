@@ -2,7 +2,10 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 
 import static io.quarkus.hibernate.orm.runtime.PersistenceUnitUtil.DEFAULT_PERSISTENCE_UNIT_NAME;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -15,6 +18,8 @@ import javax.persistence.Query;
 import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 
+import org.hibernate.Session;
+
 import io.agroal.api.AgroalDataSource;
 import io.quarkus.agroal.DataSource;
 import io.quarkus.arc.Arc;
@@ -117,6 +122,64 @@ public abstract class AbstractJpaOperations<PanacheQueryType> {
         entities.forEach(entity -> persist(entity));
     }
 
+    public void persistAll(Iterable<?> entities, int batchSize) {
+        persistAll(entities.iterator(), batchSize);
+    }
+
+    public void persistAll(Stream<?> entities, int batchSize) {
+        persistAll(entities.iterator(), batchSize);
+    }
+
+    private void persistAll(Iterator<?> entities, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("The batch size must be positive: " + batchSize);
+        }
+        // the entities may belong to several persistence units, the value is the JDBC batch size to restore
+        Map<EntityManager, Integer> entityManagers = new HashMap<>();
+        try {
+            int count = 0;
+            while (entities.hasNext()) {
+                Object entity = entities.next();
+                EntityManager em = getEntityManager(entity.getClass());
+                if (!entityManagers.containsKey(em)) {
+                    entityManagers.put(em, enableJdbcBatching(em, batchSize));
+                }
+                persist(em, entity);
+                if (++count == batchSize) {
+                    flushAndClear(entityManagers.keySet());
+                    count = 0;
+                }
+            }
+            flushAndClear(entityManagers.keySet());
+        } finally {
+            for (Entry<EntityManager, Integer> entry : entityManagers.entrySet()) {
+                entry.getKey().unwrap(Session.class).setJdbcBatchSize(entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Enables JDBC batching for the session unless a batch size is already configured.
+     *
+     * @return the batch size of the session to restore
+     */
+    private static Integer enableJdbcBatching(EntityManager em, int batchSize) {
+        Session session = em.unwrap(Session.class);
+        Integer sessionBatchSize = session.getJdbcBatchSize();
+        if (sessionBatchSize == null && session.getSessionFactory().getSessionFactoryOptions().getJdbcBatchSize() <= 1) {
+            session.setJdbcBatchSize(batchSize);
+        }
+        return sessionBatchSize;
+    }
+
+    private static void flushAndClear(Collection<EntityManager> entityManagers) {
+        for (EntityManager em : entityManagers) {
+            em.flush();
+            // keeps the persistence context from growing with every entity
+            em.clear();
+        }
+    }
+
     public void delete(Object entity) {
         EntityManager em = getEntityManager(entity.getClass());
         em.remove(entity);
@@ -2,12 +2,19 @@ package io.quarkus.hibernate.orm.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
 import javax.persistence.LockModeType;
@@ -15,12 +22,19 @@ import javax.persistence.NonUniqueResultException;
 import javax.persistence.Query;
 
 import org.hibernate.Filter;
+import org.hibernate.FlushMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
 import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.PersistenceContext;
 import org.hibernate.engine.spi.RowSelection;
+import org.hibernate.engine.spi.SessionImplementor;
 
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.runtime.PanacheQueryMessages;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 
 public class CommonPanacheQueryImpl<Entity> {
@@ -36,6 +50,8 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     };
 
+    private static final String KEYSET_PARAMETER = "panacheKeyset";
+
     private Object paramsArrayOrMap;
     private String query;
     protected String countQuery;
@@ -47,6 +63,8 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Range range;
 
+    private Object[] keyset;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -68,6 +86,7 @@ public class CommonPanacheQueryImpl<Entity> {
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keyset = previousQuery.keyset;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -121,38 +140,70 @@ public class CommonPanacheQueryImpl<Entity> {
         page(Page.of(pageIndex, pageSize));
     }
 
+    public void afterKey(Object... sortValues) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Keyset pagination is not supported for a named query");
+        }
+        if (sortValues == null || sortValues.length == 0) {
+            throw new IllegalArgumentException("The sort values cannot be empty");
+        }
+        for (Object sortValue : sortValues) {
+            if (sortValue == null) {
+                throw new IllegalArgumentException("The sort values cannot be null");
+            }
+        }
+        // fail early if the query cannot be paged by keyset
+        PanacheJpaUtil.createKeysetQuery(query, orderBy, keysetParameters(sortValues.length));
+        this.keyset = sortValues;
+    }
+
     public void nextPage() {
         checkPagination();
+        checkNoKeyset();
         page(page.next());
     }
 
     public void previousPage() {
         checkPagination();
+        checkNoKeyset();
         page(page.previous());
     }
 
     public void firstPage() {
         checkPagination();
+        checkNoKeyset();
         page(page.first());
     }
 
     public void lastPage() {
         checkPagination();
+        checkNoKeyset();
         page(page.index(pageCount() - 1));
     }
 
     public boolean hasNextPage() {
         checkPagination();
+        if (keyset != null) {
+            // the next page holds the entities following the current one, there is no need to count all of them
+            Query jpaQuery = createBaseQuery();
+            jpaQuery.setFirstResult(page.size);
+            jpaQuery.setMaxResults(1);
+            try (NonThrowingCloseable c = applyFilters()) {
+                return !jpaQuery.getResultList().isEmpty();
+            }
+        }
         return page.index < (pageCount() - 1);
     }
 
     public boolean hasPreviousPage() {
         checkPagination();
+        checkNoKeyset();
         return page.index > 0;
     }
 
     public int pageCount() {
         checkPagination();
+        checkNoKeyset();
         long count = count();
         if (count == 0)
             return 1; // a single page of zero results
@@ -175,6 +226,12 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    private void checkNoKeyset() {
+        if (keyset != null) {
+            throw new UnsupportedOperationException(PanacheQueryMessages.PAGE_INDEX_IN_KEYSET_QUERY);
+        }
+    }
+
     public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
@@ -239,6 +296,23 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> Stream<T> stream(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("The fetch size must be positive: " + fetchSize);
+        }
+        org.hibernate.query.Query<?> jpaQuery = createQuery().unwrap(org.hibernate.query.Query.class);
+        jpaQuery.setFetchSize(fetchSize);
+        // the entities are detached once they are read, there is no need to keep their state to check if they are dirty
+        jpaQuery.setReadOnly(true);
+        ScrollableResults results;
+        try (NonThrowingCloseable c = applyFilters()) {
+            results = jpaQuery.scroll(ScrollMode.FORWARD_ONLY);
+        }
+        DetachingSpliterator spliterator = new DetachingSpliterator(results, em.unwrap(SessionImplementor.class), fetchSize);
+        return (Stream<T>) StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
     public <T extends Entity> T firstResult() {
         Query jpaQuery = createQuery(1);
         try (NonThrowingCloseable c = applyFilters()) {
@@ -281,7 +355,8 @@ public class CommonPanacheQueryImpl<Entity> {
             // range is 0 based, so we add 1
             jpaQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            // the keyset replaces the page index
+            jpaQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
             jpaQuery.setMaxResults(page.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
@@ -300,7 +375,7 @@ public class CommonPanacheQueryImpl<Entity> {
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            jpaQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
             @SuppressWarnings("deprecation")
@@ -318,6 +393,9 @@ public class CommonPanacheQueryImpl<Entity> {
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
+        } else if (keyset != null) {
+            String keysetQuery = PanacheJpaUtil.createKeysetQuery(query, orderBy, keysetParameters(keyset.length));
+            jpaQuery = em.createQuery(keysetQuery + orderBy);
         } else {
             jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
         }
@@ -327,6 +405,9 @@ public class CommonPanacheQueryImpl<Entity> {
         } else {
             AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
         }
+        if (keyset != null) {
+            bindKeyset(jpaQuery);
+        }
 
         if (this.lockModeType != null) {
             jpaQuery.setLockMode(lockModeType);
@@ -340,6 +421,27 @@ public class CommonPanacheQueryImpl<Entity> {
         return jpaQuery;
     }
 
+    private String[] keysetParameters(int count) {
+        String[] parameters = new String[count];
+        // the keyset values are bound after the parameters of the query, with the same kind of parameters
+        int offset = paramsArrayOrMap instanceof Object[] ? ((Object[]) paramsArrayOrMap).length : 0;
+        for (int i = 0; i < count; i++) {
+            parameters[i] = paramsArrayOrMap instanceof Map ? ":" + KEYSET_PARAMETER + i : "?" + (offset + i + 1);
+        }
+        return parameters;
+    }
+
+    private void bindKeyset(Query jpaQuery) {
+        int offset = paramsArrayOrMap instanceof Object[] ? ((Object[]) paramsArrayOrMap).length : 0;
+        for (int i = 0; i < keyset.length; i++) {
+            if (paramsArrayOrMap instanceof Map) {
+                jpaQuery.setParameter(KEYSET_PARAMETER + i, keyset[i]);
+            } else {
+                jpaQuery.setParameter(offset + i + 1, keyset[i]);
+            }
+        }
+    }
+
     private NonThrowingCloseable applyFilters() {
         if (filters == null)
             return NO_FILTERS;
@@ -360,4 +462,76 @@ public class CommonPanacheQueryImpl<Entity> {
             }
         };
     }
+
+    /**
+     * Reads the results from a forward-only cursor and, every {@code fetchSize} results, detaches the entities that were
+     * added to the persistence context since the cursor was opened, so that it doesn't grow with the number of results.
+     * This includes the associations loaded while reading the results, while the entities that were already managed when
+     * the cursor was opened are kept. Within a transaction, the session is flushed before the entities are detached, unless
+     * its flush mode is {@link FlushMode#MANUAL}.
+     */
+    private static class DetachingSpliterator extends Spliterators.AbstractSpliterator<Object> {
+
+        private final ScrollableResults results;
+        private final SessionImplementor session;
+        private final int fetchSize;
+        private final Set<Object> managedEntities;
+        private int readResults;
+
+        DetachingSpliterator(ScrollableResults results, SessionImplementor session, int fetchSize) {
+            // scalar projections can return null values
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.results = results;
+            this.session = session;
+            this.fetchSize = fetchSize;
+            this.managedEntities = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Entry<Object, EntityEntry> entry : session.getPersistenceContext().reentrantSafeEntityEntries()) {
+                managedEntities.add(entry.getKey());
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Object> action) {
+            if (readResults == fetchSize) {
+                detachReadEntities();
+            }
+            if (!results.next()) {
+                detachReadEntities();
+                return false;
+            }
+            readResults++;
+            Object[] row = results.get();
+            action.accept(row.length == 1 ? row[0] : row);
+            return true;
+        }
+
+        void close() {
+            try {
+                if (session.isOpen()) {
+                    detachReadEntities();
+                }
+            } finally {
+                results.close();
+            }
+        }
+
+        private void detachReadEntities() {
+            if (readResults == 0) {
+                return;
+            }
+            if (session.isTransactionInProgress() && session.getHibernateFlushMode() != FlushMode.MANUAL) {
+                // the changes the consumer made to the entities, or the entities it persisted, would be lost once evicted
+                session.flush();
+            }
+            PersistenceContext persistenceContext = session.getPersistenceContext();
+            for (Entry<Object, EntityEntry> entry : persistenceContext.reentrantSafeEntityEntries()) {
+                Object entity = entry.getKey();
+                // evicting an entity also evicts its collections and cascades to some of its associations
+                if (!managedEntities.contains(entity) && persistenceContext.getEntry(entity) != null) {
+                    session.evict(entity);
+                }
+            }
+            readResults = 0;
+        }
+    }
 }
@@ -49,6 +49,13 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return this;
     }
 
+    @NotNull
+    @Override
+    public PanacheQuery<Entity> afterKey(@NotNull Object... sortValues) {
+        delegate.afterKey(sortValues);
+        return this;
+    }
+
     @NotNull
     @Override
     public PanacheQuery<Entity> nextPage() {
@@ -160,6 +167,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @NotNull
+    @Override
+    public Stream<Entity> stream(int fetchSize) {
+        return delegate.stream(fetchSize);
+    }
+
     @Override
     public Entity firstResult() {
         return delegate.firstResult();
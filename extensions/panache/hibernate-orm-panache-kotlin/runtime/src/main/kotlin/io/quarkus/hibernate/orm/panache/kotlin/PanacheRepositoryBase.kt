@@ -576,6 +576,34 @@ interface PanacheRepositoryBase<Entity : Any, Id: Any> {
         INSTANCE.persist(firstEntity, *entities)
     }
 
+    /**
+     * Persist all given entities in batches, for imports of more entities than fit in memory. The pending changes are
+     * flushed and the persistence context is cleared after each batch of entities, and at the end. All the entities
+     * that were managed by the persistence context, not only the given ones, are therefore detached once this method
+     * returns.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted before the pending changes are flushed
+     * @see [PanacheRepositoryBase.persist]
+     */
+    fun persistAll(entities: Iterable<Entity>, batchSize: Int) {
+        INSTANCE.persistAll(entities, batchSize)
+    }
+
+    /**
+     * Persist all given entities in batches, for imports of more entities than fit in memory. The pending changes are
+     * flushed and the persistence context is cleared after each batch of entities, and at the end. All the entities
+     * that were managed by the persistence context, not only the given ones, are therefore detached once this method
+     * returns.
+     *
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted before the pending changes are flushed
+     * @see [PanacheRepositoryBase.persist]
+     */
+    fun persistAll(entities: Stream<Entity>, batchSize: Int) {
+        INSTANCE.persistAll(entities, batchSize)
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      *
@@ -14,6 +14,7 @@ import org.hibernate.annotations.FilterDef;
 
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.exception.PanacheQueryException;
 
 /**
  * <p>
@@ -61,6 +62,27 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> page(int pageIndex, int pageSize);
 
+    /**
+     * Restricts the results to the entities that come after the given values of the sort columns, for keyset
+     * pagination: pass the sort values of the last entity of the current page to get the next page. Unlike with a page
+     * index, the database doesn't read the entities of the previous pages, so a deep page is as fast to get as the first
+     * one.
+     * <p>
+     * The query must be sorted, and the sort should be unique, for example by ending with the identifier. The index of
+     * the current page is ignored, only its size limits the results, and the methods that depend on the page index,
+     * such as {@link #nextPage()} or {@link #pageCount()}, cannot be called anymore.
+     * <p>
+     * The sort values cannot be null, and the entities whose sort columns are null are never returned, as a
+     * comparison with null is never true.
+     *
+     * @param sortValues the values of the sort columns of the last entity of the current page, in the sort order
+     * @return this query, modified
+     * @throws PanacheQueryException if the query is a named query, if it isn't sorted, or if the number of values
+     *         doesn't match the number of sort columns
+     * @see #hasNextPage()
+     */
+    public <T extends Entity> PanacheQuery<T> afterKey(Object... sortValues);
+
     /**
      * Sets the current page to the next page
      * 
@@ -100,7 +122,7 @@ public interface PanacheQuery<Entity> {
 
     /**
      * Returns true if there is another page to read after the current one.
-     * This will cause reading of the entity count.
+     * This will cause reading of the entity count, unless the query is paged by keyset.
      * 
      * @return true if there is another page to read
      * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
@@ -242,6 +264,22 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Stream<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Stream} that reads the results from a forward-only database
+     * cursor, {@code fetchSize} rows at a time, instead of loading all of them before returning the first one.
+     * <p>
+     * The entities are read-only. Every {@code fetchSize} results, and when the stream is closed, the entities added to
+     * the persistence context since the stream was opened are detached, including the associations loaded while
+     * reading the results, so the memory used doesn't depend on the number of results. The entities that were already
+     * managed when the stream was opened are kept. Use this method to export large result sets, and {@link #stream()} to
+     * modify the entities. The stream holds a database cursor until it is closed.
+     *
+     * @param fetchSize the number of rows the JDBC driver fetches from the database at a time
+     * @return the current page of results as a {@link Stream}.
+     * @see #stream()
+     */
+    public <T extends Entity> Stream<T> stream(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
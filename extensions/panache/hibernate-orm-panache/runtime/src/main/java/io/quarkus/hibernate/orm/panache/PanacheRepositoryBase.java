@@ -747,6 +747,44 @@ public interface PanacheRepositoryBase<Entity, Id> {
         INSTANCE.persist(firstEntity, entities);
     }
 
+    /**
+     * Persist all given entities in batches, for imports of more entities than fit in memory. The pending changes are
+     * flushed and the persistence context is cleared after each batch of entities, and at the end. All the entities
+     * that were managed by the persistence context, not only the given ones, are therefore detached once this method
+     * returns.
+     * <p>
+     * Unless a JDBC batch size is configured with {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, the inserts
+     * of a batch are sent to the database in JDBC batches of the given size. Note that Hibernate ORM does not batch the
+     * inserts of entities with an {@code IDENTITY} generated ID.
+     * 
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted before the pending changes are flushed
+     * @see #persist(Iterable)
+     * @see #persistAll(Stream, int)
+     */
+    default void persistAll(Iterable<Entity> entities, int batchSize) {
+        INSTANCE.persistAll(entities, batchSize);
+    }
+
+    /**
+     * Persist all given entities in batches, for imports of more entities than fit in memory. The pending changes are
+     * flushed and the persistence context is cleared after each batch of entities, and at the end. All the entities
+     * that were managed by the persistence context, not only the given ones, are therefore detached once this method
+     * returns.
+     * <p>
+     * Unless a JDBC batch size is configured with {@code quarkus.hibernate-orm.jdbc.statement-batch-size}, the inserts
+     * of a batch are sent to the database in JDBC batches of the given size. Note that Hibernate ORM does not batch the
+     * inserts of entities with an {@code IDENTITY} generated ID.
+     * 
+     * @param entities the entities to persist
+     * @param batchSize the number of entities persisted before the pending changes are flushed
+     * @see #persist(Stream)
+     * @see #persistAll(Iterable, int)
+     */
+    default void persistAll(Stream<Entity> entities, int batchSize) {
+        INSTANCE.persistAll(entities, batchSize);
+    }
+
     /**
      * Update all entities of this type matching the given query, with optional indexed parameters.
      * 
@@ -2,6 +2,7 @@ package io.quarkus.hibernate.reactive.panache.common.runtime;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -18,12 +19,15 @@ import org.hibernate.reactive.mutiny.Mutiny;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.runtime.PanacheQueryMessages;
 import io.quarkus.panache.hibernate.common.runtime.PanacheJpaUtil;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
 public class CommonPanacheQueryImpl<Entity> {
 
+    private static final String KEYSET_PARAMETER = "panacheKeyset";
+
     private Object paramsArrayOrMap;
     private String query;
     protected String countQuery;
@@ -35,6 +39,8 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Range range;
 
+    private Object[] keyset;
+
     private LockModeType lockModeType;
     private Map<String, Object> hints;
 
@@ -56,6 +62,7 @@ public class CommonPanacheQueryImpl<Entity> {
         this.page = previousQuery.page;
         this.count = previousQuery.count;
         this.range = previousQuery.range;
+        this.keyset = previousQuery.keyset;
         this.lockModeType = previousQuery.lockModeType;
         this.hints = previousQuery.hints;
         this.filters = previousQuery.filters;
@@ -109,23 +116,44 @@ public class CommonPanacheQueryImpl<Entity> {
         page(Page.of(pageIndex, pageSize));
     }
 
+    public void afterKey(Object... sortValues) {
+        if (PanacheJpaUtil.isNamedQuery(query)) {
+            throw new PanacheQueryException("Keyset pagination is not supported for a named query");
+        }
+        if (sortValues == null || sortValues.length == 0) {
+            throw new IllegalArgumentException("The sort values cannot be empty");
+        }
+        for (Object sortValue : sortValues) {
+            if (sortValue == null) {
+                throw new IllegalArgumentException("The sort values cannot be null");
+            }
+        }
+        // fail early if the query cannot be paged by keyset
+        PanacheJpaUtil.createKeysetQuery(query, orderBy, keysetParameters(sortValues.length));
+        this.keyset = sortValues;
+    }
+
     public void nextPage() {
         checkPagination();
+        checkNoKeyset();
         page(page.next());
     }
 
     public void previousPage() {
         checkPagination();
+        checkNoKeyset();
         page(page.previous());
     }
 
     public void firstPage() {
         checkPagination();
+        checkNoKeyset();
         page(page.first());
     }
 
     public Uni<Void> lastPage() {
         checkPagination();
+        checkNoKeyset();
         return pageCount().map(count -> {
             page(page.index(count - 1));
             return null;
@@ -134,16 +162,25 @@ public class CommonPanacheQueryImpl<Entity> {
 
     public Uni<Boolean> hasNextPage() {
         checkPagination();
+        if (keyset != null) {
+            // the next page holds the entities following the current one, there is no need to count all of them
+            Mutiny.Query<?> jpaQuery = createBaseQuery(em);
+            jpaQuery.setFirstResult(page.size);
+            jpaQuery.setMaxResults(1);
+            return applyFilters(em, () -> jpaQuery.getResultList().map(list -> !list.isEmpty()));
+        }
         return pageCount().map(pageCount -> page.index < (pageCount - 1));
     }
 
     public boolean hasPreviousPage() {
         checkPagination();
+        checkNoKeyset();
         return page.index > 0;
     }
 
     public Uni<Integer> pageCount() {
         checkPagination();
+        checkNoKeyset();
         return count().map(count -> {
             if (count == 0)
                 return 1; // a single page of zero results
@@ -168,6 +205,12 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    private void checkNoKeyset() {
+        if (keyset != null) {
+            throw new UnsupportedOperationException(PanacheQueryMessages.PAGE_INDEX_IN_KEYSET_QUERY);
+        }
+    }
+
     public void range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
@@ -229,6 +272,56 @@ public class CommonPanacheQueryImpl<Entity> {
         });
     }
 
+    public <T extends Entity> Multi<T> stream(int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("The fetch size must be positive: " + fetchSize);
+        }
+        // without a sort, the database may return the results in a different order for each chunk,
+        // the definition of a named query isn't known here so it is trusted to sort its results
+        if (!PanacheJpaUtil.isNamedQuery(query) && (orderBy == null || orderBy.isEmpty())
+                && !PanacheJpaUtil.hasOrderBy(query)) {
+            throw new PanacheQueryException("Reading the results " + fetchSize + " at a time requires a sorted query, "
+                    + "use a Sort or an ORDER BY clause: " + query);
+        }
+        int firstResult;
+        int maxResults;
+        if (range != null) {
+            firstResult = range.getStartIndex();
+            // range is 0 based, so we add 1
+            maxResults = range.getLastIndex() - range.getStartIndex() + 1;
+        } else if (page != null) {
+            firstResult = keyset != null ? 0 : page.index * page.size;
+            maxResults = page.size;
+        } else {
+            firstResult = 0;
+            maxResults = Integer.MAX_VALUE;
+        }
+        // Hibernate Reactive cannot read the results from a cursor: they are read fetchSize at a time,
+        // and the next ones are only read once the subscriber requested the ones that were already read
+        Multi<List<T>> chunks = Multi.createBy().repeating()
+                .uni(ChunkState::new, state -> this.<T> readChunk(state, firstResult, maxResults, fetchSize))
+                .until(List::isEmpty);
+        return chunks.onItem().disjoint();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Uni<List<T>> readChunk(ChunkState state, int firstResult, int maxResults, int fetchSize) {
+        state.detachPreviousChunk(em);
+        int count = Math.min(fetchSize, maxResults - state.read);
+        if (state.done || count <= 0) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        Mutiny.Query<?> jpaQuery = createBaseQuery(em);
+        jpaQuery.setFirstResult(firstResult + state.read);
+        jpaQuery.setMaxResults(count);
+        return applyFilters(em, () -> jpaQuery.getResultList()).map(list -> {
+            state.read += list.size();
+            state.done = list.size() < count;
+            state.previousChunk = list;
+            return (List<T>) list;
+        });
+    }
+
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<T> firstResult() {
         Mutiny.Query<?> jpaQuery = createQuery(em, 1);
@@ -251,7 +344,8 @@ public class CommonPanacheQueryImpl<Entity> {
             // range is 0 based, so we add 1
             jpaQuery.setMaxResults(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            // the keyset replaces the page index
+            jpaQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
             jpaQuery.setMaxResults(page.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
@@ -275,7 +369,7 @@ public class CommonPanacheQueryImpl<Entity> {
         if (range != null) {
             jpaQuery.setFirstResult(range.getStartIndex());
         } else if (page != null) {
-            jpaQuery.setFirstResult(page.index * page.size);
+            jpaQuery.setFirstResult(keyset != null ? 0 : page.index * page.size);
         } else {
             // Use deprecated API in org.hibernate.Query that will be moved to org.hibernate.query.Query on Hibernate 6.0
             // FIXME: requires Hibernate support
@@ -295,6 +389,9 @@ public class CommonPanacheQueryImpl<Entity> {
         if (PanacheJpaUtil.isNamedQuery(query)) {
             String namedQuery = query.substring(1);
             jpaQuery = em.createNamedQuery(namedQuery);
+        } else if (keyset != null) {
+            String keysetQuery = PanacheJpaUtil.createKeysetQuery(query, orderBy, keysetParameters(keyset.length));
+            jpaQuery = em.createQuery(keysetQuery + orderBy);
         } else {
             jpaQuery = em.createQuery(orderBy != null ? query + orderBy : query);
         }
@@ -304,6 +401,9 @@ public class CommonPanacheQueryImpl<Entity> {
         } else {
             AbstractJpaOperations.bindParameters(jpaQuery, (Object[]) paramsArrayOrMap);
         }
+        if (keyset != null) {
+            bindKeyset(jpaQuery);
+        }
 
         if (this.lockModeType != null) {
             jpaQuery.setLockMode(LockModeConverter.convertToLockMode(lockModeType));
@@ -318,6 +418,27 @@ public class CommonPanacheQueryImpl<Entity> {
         return jpaQuery;
     }
 
+    private String[] keysetParameters(int count) {
+        String[] parameters = new String[count];
+        // the keyset values are bound after the parameters of the query, with the same kind of parameters
+        int offset = paramsArrayOrMap instanceof Object[] ? ((Object[]) paramsArrayOrMap).length : 0;
+        for (int i = 0; i < count; i++) {
+            parameters[i] = paramsArrayOrMap instanceof Map ? ":" + KEYSET_PARAMETER + i : "?" + (offset + i + 1);
+        }
+        return parameters;
+    }
+
+    private void bindKeyset(Mutiny.Query<?> jpaQuery) {
+        int offset = paramsArrayOrMap instanceof Object[] ? ((Object[]) paramsArrayOrMap).length : 0;
+        for (int i = 0; i < keyset.length; i++) {
+            if (paramsArrayOrMap instanceof Map) {
+                jpaQuery.setParameter(KEYSET_PARAMETER + i, keyset[i]);
+            } else {
+                jpaQuery.setParameter(offset + i + 1, keyset[i]);
+            }
+        }
+    }
+
     private <T> Uni<T> applyFilters(Mutiny.Session em, Supplier<Uni<T>> uni) {
         if (filters == null)
             return uni.get();
@@ -334,4 +455,25 @@ public class CommonPanacheQueryImpl<Entity> {
             }
         });
     }
+
+    private static class ChunkState {
+
+        int read;
+        boolean done;
+        List<?> previousChunk;
+
+        // the entities that were sent to the subscriber are not kept in the session
+        void detachPreviousChunk(Mutiny.Session em) {
+            if (previousChunk == null) {
+                return;
+            }
+            for (Object result : previousChunk) {
+                // the projections and scalar results are not managed
+                if (result != null && result.getClass().isAnnotationPresent(javax.persistence.Entity.class)) {
+                    em.detach(result);
+                }
+            }
+            previousChunk = null;
+        }
+    }
 }
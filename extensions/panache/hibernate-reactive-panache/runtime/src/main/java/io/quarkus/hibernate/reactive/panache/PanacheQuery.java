@@ -13,6 +13,7 @@ import org.hibernate.annotations.FilterDef;
 
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
+import io.quarkus.panache.common.exception.PanacheQueryException;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -62,6 +63,27 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> PanacheQuery<T> page(int pageIndex, int pageSize);
 
+    /**
+     * Restricts the results to the entities that come after the given values of the sort columns, for keyset
+     * pagination: pass the sort values of the last entity of the current page to get the next page. Unlike with a page
+     * index, the database doesn't read the entities of the previous pages, so a deep page is as fast to get as the first
+     * one.
+     * <p>
+     * The query must be sorted, and the sort should be unique, for example by ending with the identifier. The index of
+     * the current page is ignored, only its size limits the results, and the methods that depend on the page index,
+     * such as {@link #nextPage()} or {@link #pageCount()}, cannot be called anymore.
+     * <p>
+     * The sort values cannot be null, and the entities whose sort columns are null are never returned, as a
+     * comparison with null is never true.
+     *
+     * @param sortValues the values of the sort columns of the last entity of the current page, in the sort order
+     * @return this query, modified
+     * @throws PanacheQueryException if the query is a named query, if it isn't sorted, or if the number of values
+     *         doesn't match the number of sort columns
+     * @see #hasNextPage()
+     */
+    public <T extends Entity> PanacheQuery<T> afterKey(Object... sortValues);
+
     /**
      * Sets the current page to the next page
      * 
@@ -101,7 +123,7 @@ public interface PanacheQuery<Entity> {
 
     /**
      * Returns true if there is another page to read after the current one.
-     * This will cause reading of the entity count.
+     * This will cause reading of the entity count, unless the query is paged by keyset.
      * 
      * @return true if there is another page to read
      * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
@@ -243,6 +265,25 @@ public interface PanacheQuery<Entity> {
      */
     public <T extends Entity> Multi<T> stream();
 
+    /**
+     * Returns the current page of results as a {@link Multi} that reads the results {@code fetchSize} at a time,
+     * only when the subscriber requests them, instead of loading all of them before emitting the first one.
+     * <p>
+     * The entities of the results are detached from the session once the following results are read, so the memory
+     * used doesn't depend on the number of results: use this method to export large result sets, and {@link #stream()}
+     * to modify the entities. Their associations are only detached if they cascade the detach operation.
+     * <p>
+     * The results are read with one query per {@code fetchSize} results, so the query must be sorted, and the sort
+     * should be unique, for example by ending with the identifier, for each result to be read exactly once. A named
+     * query is expected to sort its results itself.
+     *
+     * @param fetchSize the number of results read from the database at a time
+     * @return the current page of results as a {@link Multi}.
+     * @throws PanacheQueryException if the query isn't sorted
+     * @see #stream()
+     */
+    public <T extends Entity> Multi<T> stream(int fetchSize);
+
     /**
      * Returns the first result of the current page index. This ignores the current page size to fetch
      * a single result.
@@ -48,6 +48,13 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T extends Entity> PanacheQuery<T> afterKey(Object... sortValues) {
+        delegate.afterKey(sortValues);
+        return (PanacheQuery<T>) this;
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T extends Entity> PanacheQuery<T> nextPage() {
@@ -154,6 +161,11 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return delegate.stream();
     }
 
+    @Override
+    public <T extends Entity> Multi<T> stream(int fetchSize) {
+        return delegate.stream(fetchSize);
+    }
+
     @Override
     public <T extends Entity> Uni<T> firstResult() {
         return delegate.firstResult();
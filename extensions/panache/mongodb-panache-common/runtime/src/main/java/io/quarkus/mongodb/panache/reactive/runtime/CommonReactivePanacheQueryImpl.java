@@ -10,11 +10,14 @@ import org.bson.conversions.Bson;
 import com.mongodb.client.model.Collation;
 
 import io.quarkus.mongodb.FindOptions;
+import io.quarkus.mongodb.panache.runtime.MongoCountUtil;
+import io.quarkus.mongodb.panache.runtime.MongoKeysetUtil;
 import io.quarkus.mongodb.panache.runtime.MongoPropertyUtil;
 import io.quarkus.mongodb.reactive.ReactiveMongoCollection;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.runtime.PanacheQueryMessages;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -26,9 +29,12 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     private Page page;
     private Uni<Long> count;
+    private boolean estimatedCount;
 
     private Range range;
 
+    private Object[] keyset;
+
     private Collation collation;
 
     public CommonReactivePanacheQueryImpl(ReactiveMongoCollection<? extends Entity> collection, Bson mongoQuery, Bson sort) {
@@ -44,7 +50,9 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         this.projections = projections;
         this.page = previousQuery.page;
         this.count = previousQuery.count;
+        this.estimatedCount = previousQuery.estimatedCount;
         this.range = previousQuery.range;
+        this.keyset = previousQuery.keyset;
         this.collation = previousQuery.collation;
     }
 
@@ -74,39 +82,70 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         return page(Page.of(pageIndex, pageSize));
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonReactivePanacheQueryImpl<T> afterKey(Object... sortValues) {
+        if (sortValues == null || sortValues.length == 0) {
+            throw new IllegalArgumentException("The sort values cannot be empty");
+        }
+        for (Object sortValue : sortValues) {
+            if (sortValue == null) {
+                throw new IllegalArgumentException("The sort values cannot be null");
+            }
+        }
+        // fail early if the query cannot be paged by keyset
+        MongoKeysetUtil.createKeysetQuery(mongoQuery, sort, sortValues);
+        this.keyset = sortValues;
+        return (CommonReactivePanacheQueryImpl<T>) this;
+    }
+
     public <T extends Entity> CommonReactivePanacheQueryImpl<T> nextPage() {
         checkPagination();
+        checkNoKeyset();
         return page(page.next());
     }
 
     public <T extends Entity> CommonReactivePanacheQueryImpl<T> previousPage() {
         checkPagination();
+        checkNoKeyset();
         return page(page.previous());
     }
 
     public <T extends Entity> CommonReactivePanacheQueryImpl<T> firstPage() {
         checkPagination();
+        checkNoKeyset();
         return page(page.first());
     }
 
     public <T extends Entity> Uni<CommonReactivePanacheQueryImpl<T>> lastPage() {
         checkPagination();
+        checkNoKeyset();
         Uni<CommonReactivePanacheQueryImpl<T>> map = pageCount().map(pageCount -> page(page.index(pageCount - 1)));
         return map;
     }
 
     public Uni<Boolean> hasNextPage() {
         checkPagination();
+        if (keyset != null) {
+            // the next page holds the documents following the current one, there is no need to count all of them
+            FindOptions options = new FindOptions().sort(sort).skip(page.size).limit(1);
+            if (this.collation != null) {
+                options.collation(collation);
+            }
+            Multi<?> results = collection.find(query(), options);
+            return results.collectItems().first().map(document -> document != null);
+        }
         return pageCount().map(pageCount -> page.index < (pageCount - 1));
     }
 
     public boolean hasPreviousPage() {
         checkPagination();
+        checkNoKeyset();
         return page.index > 0;
     }
 
     public Uni<Integer> pageCount() {
         checkPagination();
+        checkNoKeyset();
         return count().map(count -> {
             if (count == 0)
                 return 1; // a single page of zero results
@@ -131,6 +170,12 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         }
     }
 
+    private void checkNoKeyset() {
+        if (keyset != null) {
+            throw new UnsupportedOperationException(PanacheQueryMessages.PAGE_INDEX_IN_KEYSET_QUERY);
+        }
+    }
+
     public <T extends Entity> CommonReactivePanacheQueryImpl<T> range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
@@ -138,6 +183,14 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         return (CommonReactivePanacheQueryImpl<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonReactivePanacheQueryImpl<T> withEstimatedCount() {
+        MongoCountUtil.checkEstimatedCount(mongoQuery);
+        this.estimatedCount = true;
+        this.count = null;
+        return (CommonReactivePanacheQueryImpl<T>) this;
+    }
+
     public <T extends Entity> CommonReactivePanacheQueryImpl<T> withCollation(Collation collation) {
         this.collation = collation;
         return (CommonReactivePanacheQueryImpl<T>) this;
@@ -148,7 +201,7 @@ public class CommonReactivePanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     public Uni<Long> count() {
         if (count == null) {
-            count = collection.countDocuments(mongoQuery);
+            count = estimatedCount ? collection.estimatedDocumentCount() : collection.countDocuments(mongoQuery);
         }
         return count;
     }
@@ -162,7 +215,8 @@ public class CommonReactivePanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     public <T extends Entity> Multi<T> stream() {
         FindOptions options = buildOptions();
-        return mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Bson query = query();
+        return query == null ? collection.find(options) : collection.find(query, options);
     }
 
     public <T extends Entity> Uni<T> firstResult() {
@@ -172,14 +226,16 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     public <T extends Entity> Uni<Optional<T>> firstResultOptional() {
         FindOptions options = buildOptions(1);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Bson query = query();
+        Multi<T> results = query == null ? collection.find(options) : collection.find(query, options);
         return results.collectItems().first().map(o -> Optional.ofNullable(o));
     }
 
     @SuppressWarnings("unchecked")
     public <T extends Entity> Uni<T> singleResult() {
         FindOptions options = buildOptions(2);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Bson query = query();
+        Multi<T> results = query == null ? collection.find(options) : collection.find(query, options);
         return results.collectItems().asList().map(list -> {
             if (list.size() != 1) {
                 throw new PanacheQueryException("There should be only one result");
@@ -191,7 +247,8 @@ public class CommonReactivePanacheQueryImpl<Entity> {
 
     public <T extends Entity> Uni<Optional<T>> singleResultOptional() {
         FindOptions options = buildOptions(2);
-        Multi<T> results = mongoQuery == null ? collection.find(options) : collection.find(mongoQuery, options);
+        Bson query = query();
+        Multi<T> results = query == null ? collection.find(options) : collection.find(query, options);
         return results.collectItems().asList().map(list -> {
             if (list.size() == 2) {
                 throw new PanacheQueryException("There should be no more than one result");
@@ -207,7 +264,8 @@ public class CommonReactivePanacheQueryImpl<Entity> {
             // range is 0 based, so we add 1 to the limit
             options.skip(range.getStartIndex()).limit(range.getLastIndex() - range.getStartIndex() + 1);
         } else if (page != null) {
-            options.skip(page.index * page.size).limit(page.size);
+            // the keyset replaces the page index
+            options.skip(keyset != null ? 0 : page.index * page.size).limit(page.size);
         }
         if (projections != null) {
             options.projection(this.projections);
@@ -225,7 +283,7 @@ public class CommonReactivePanacheQueryImpl<Entity> {
             // range is 0 based, so we add 1 to the limit
             options.skip(range.getStartIndex());
         } else if (page != null) {
-            options.skip(page.index * page.size);
+            options.skip(keyset != null ? 0 : page.index * page.size);
         }
         if (projections != null) {
             options.projection(this.projections);
@@ -235,4 +293,8 @@ public class CommonReactivePanacheQueryImpl<Entity> {
         }
         return options.limit(maxResults);
     }
+
+    private Bson query() {
+        return keyset != null ? MongoKeysetUtil.createKeysetQuery(mongoQuery, sort, keyset) : mongoQuery;
+    }
 }
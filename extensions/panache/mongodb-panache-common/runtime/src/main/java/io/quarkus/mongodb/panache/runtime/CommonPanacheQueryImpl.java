@@ -17,6 +17,7 @@ import com.mongodb.client.model.Collation;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Range;
 import io.quarkus.panache.common.exception.PanacheQueryException;
+import io.quarkus.panache.common.runtime.PanacheQueryMessages;
 
 public class CommonPanacheQueryImpl<Entity> {
     private MongoCollection collection;
@@ -26,9 +27,12 @@ public class CommonPanacheQueryImpl<Entity> {
 
     private Page page;
     private Long count;
+    private boolean estimatedCount;
 
     private Range range;
 
+    private Object[] keyset;
+
     private Collation collation;
 
     public CommonPanacheQueryImpl(MongoCollection<? extends Entity> collection, Bson mongoQuery, Bson sort) {
@@ -44,7 +48,9 @@ public class CommonPanacheQueryImpl<Entity> {
         this.projections = projections;
         this.page = previousQuery.page;
         this.count = previousQuery.count;
+        this.estimatedCount = previousQuery.estimatedCount;
         this.range = previousQuery.range;
+        this.keyset = previousQuery.keyset;
         this.collation = previousQuery.collation;
     }
 
@@ -72,38 +78,68 @@ public class CommonPanacheQueryImpl<Entity> {
         return page(Page.of(pageIndex, pageSize));
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonPanacheQueryImpl<T> afterKey(Object... sortValues) {
+        if (sortValues == null || sortValues.length == 0) {
+            throw new IllegalArgumentException("The sort values cannot be empty");
+        }
+        for (Object sortValue : sortValues) {
+            if (sortValue == null) {
+                throw new IllegalArgumentException("The sort values cannot be null");
+            }
+        }
+        // fail early if the query cannot be paged by keyset
+        MongoKeysetUtil.createKeysetQuery(mongoQuery, sort, sortValues);
+        this.keyset = sortValues;
+        return (CommonPanacheQueryImpl<T>) this;
+    }
+
     public <T extends Entity> CommonPanacheQueryImpl<T> nextPage() {
         checkPagination();
+        checkNoKeyset();
         return page(page.next());
     }
 
     public <T extends Entity> CommonPanacheQueryImpl<T> previousPage() {
         checkPagination();
+        checkNoKeyset();
         return page(page.previous());
     }
 
     public <T extends Entity> CommonPanacheQueryImpl<T> firstPage() {
         checkPagination();
+        checkNoKeyset();
         return page(page.first());
     }
 
     public <T extends Entity> CommonPanacheQueryImpl<T> lastPage() {
         checkPagination();
+        checkNoKeyset();
         return page(page.index(pageCount() - 1));
     }
 
     public boolean hasNextPage() {
         checkPagination();
+        if (keyset != null) {
+            // the next page holds the documents following the current one, there is no need to count all of them
+            FindIterable find = collection.find(query()).sort(sort).skip(page.size).limit(1);
+            if (this.collation != null) {
+                find.collation(collation);
+            }
+            return find.first() != null;
+        }
         return page.index < (pageCount() - 1);
     }
 
     public boolean hasPreviousPage() {
         checkPagination();
+        checkNoKeyset();
         return page.index > 0;
     }
 
     public int pageCount() {
         checkPagination();
+        checkNoKeyset();
         long count = count();
         if (count == 0)
             return 1; // a single page of zero results
@@ -127,6 +163,12 @@ public class CommonPanacheQueryImpl<Entity> {
         }
     }
 
+    private void checkNoKeyset() {
+        if (keyset != null) {
+            throw new UnsupportedOperationException(PanacheQueryMessages.PAGE_INDEX_IN_KEYSET_QUERY);
+        }
+    }
+
     public <T extends Entity> CommonPanacheQueryImpl<T> range(int startIndex, int lastIndex) {
         this.range = Range.of(startIndex, lastIndex);
         // reset the page to its default to be able to switch from page to range
@@ -134,6 +176,14 @@ public class CommonPanacheQueryImpl<Entity> {
         return (CommonPanacheQueryImpl<T>) this;
     }
 
+    @SuppressWarnings("unchecked")
+    public <T extends Entity> CommonPanacheQueryImpl<T> withEstimatedCount() {
+        MongoCountUtil.checkEstimatedCount(mongoQuery);
+        this.estimatedCount = true;
+        this.count = null;
+        return (CommonPanacheQueryImpl<T>) this;
+    }
+
     public <T extends Entity> CommonPanacheQueryImpl<T> withCollation(Collation collation) {
         this.collation = collation;
         return (CommonPanacheQueryImpl<T>) this;
@@ -144,7 +194,7 @@ public class CommonPanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     public long count() {
         if (count == null) {
-            count = collection.countDocuments(mongoQuery);
+            count = estimatedCount ? collection.estimatedDocumentCount() : collection.countDocuments(mongoQuery);
         }
         return count;
     }
@@ -156,7 +206,8 @@ public class CommonPanacheQueryImpl<Entity> {
     @SuppressWarnings("unchecked")
     private <T extends Entity> List<T> list(Integer limit) {
         List<T> list = new ArrayList<>();
-        FindIterable find = mongoQuery == null ? collection.find() : collection.find(mongoQuery);
+        Bson query = query();
+        FindIterable find = query == null ? collection.find() : collection.find(query);
         if (this.projections != null) {
             find.projection(projections);
         }
@@ -217,7 +268,8 @@ public class CommonPanacheQueryImpl<Entity> {
                 find.limit(range.getLastIndex() - range.getStartIndex() + 1);
             }
         } else if (page != null) {
-            find.skip(page.index * page.size);
+            // the keyset replaces the page index
+            find.skip(keyset != null ? 0 : page.index * page.size);
             if (limit == null) {
                 find.limit(page.size);
             }
@@ -226,4 +278,8 @@ public class CommonPanacheQueryImpl<Entity> {
             find.limit(limit);
         }
     }
+
+    private Bson query() {
+        return keyset != null ? MongoKeysetUtil.createKeysetQuery(mongoQuery, sort, keyset) : mongoQuery;
+    }
 }
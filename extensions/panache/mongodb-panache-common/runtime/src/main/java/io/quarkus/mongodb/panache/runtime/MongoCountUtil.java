@@ -0,0 +1,31 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public final class MongoCountUtil {
+
+    private MongoCountUtil() {
+        //prevent initialization
+    }
+
+    /**
+     * Checks that the number of documents of a query can be estimated from the metadata of the collection, with
+     * {@code estimatedDocumentCount()}, which ignores any filter.
+     *
+     * @param mongoQuery the query, or null to select all the documents
+     * @throws PanacheQueryException if the query has a filter
+     */
+    public static void checkEstimatedCount(Bson mongoQuery) {
+        boolean noFilter = mongoQuery == null
+                || (mongoQuery instanceof Document && ((Document) mongoQuery).isEmpty())
+                || (mongoQuery instanceof BsonDocument && ((BsonDocument) mongoQuery).isEmpty());
+        if (!noFilter) {
+            throw new PanacheQueryException("An estimated count is only available for a query without filter, "
+                    + "such as findAll(), as it is read from the metadata of the collection");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.mongodb.panache.runtime;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import com.mongodb.MongoClientSettings;
+
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
+public final class MongoKeysetUtil {
+
+    private MongoKeysetUtil() {
+        //prevent initialization
+    }
+
+    /**
+     * Restricts a query to the documents that come after the given keyset, for keyset pagination.
+     *
+     * @param mongoQuery the query, or null to select all the documents
+     * @param sort the sort of the query
+     * @param sortValues the values of the sort fields, in the sort order
+     * @return the query combined with a filter selecting the documents whose sort fields come after the keyset values
+     */
+    public static Bson createKeysetQuery(Bson mongoQuery, Bson sort, Object[] sortValues) {
+        if (sort == null) {
+            throw new PanacheQueryException("Keyset pagination requires a sorted query");
+        }
+        BsonDocument sortDocument = sort.toBsonDocument(Document.class, MongoClientSettings.getDefaultCodecRegistry());
+        if (sortDocument.isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a sorted query");
+        }
+        if (sortDocument.size() != sortValues.length) {
+            throw new PanacheQueryException("Keyset pagination requires a value for each of the " + sortDocument.size()
+                    + " sort fields, got " + sortValues.length);
+        }
+        // {$or: [{f1: {$gt: v1}}, {f1: v1, f2: {$gt: v2}}, ...]}
+        List<String> fields = new ArrayList<>(sortDocument.keySet());
+        List<Document> alternatives = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            BsonValue direction = sortDocument.get(fields.get(i));
+            if (!direction.isNumber()) {
+                throw new PanacheQueryException("Keyset pagination is not supported for the sort " + sortDocument.toJson());
+            }
+            Document alternative = new Document();
+            for (int j = 0; j < i; j++) {
+                alternative.append(fields.get(j), sortValues[j]);
+            }
+            String operator = direction.asNumber().intValue() < 0 ? "$lt" : "$gt";
+            alternative.append(fields.get(i), new Document(operator, sortValues[i]));
+            alternatives.add(alternative);
+        }
+        Document keysetQuery = alternatives.size() == 1 ? alternatives.get(0) : new Document("$or", alternatives);
+        if (mongoQuery == null) {
+            return keysetQuery;
+        }
+        return new Document("$and", Arrays.asList(mongoQuery, keysetQuery));
+    }
+}
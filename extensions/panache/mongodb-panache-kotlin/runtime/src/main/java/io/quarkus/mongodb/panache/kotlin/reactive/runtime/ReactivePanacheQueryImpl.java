@@ -42,6 +42,12 @@ public class ReactivePanacheQueryImpl<Entity> implements ReactivePanacheQuery<En
         return page(Page.of(pageIndex, pageSize));
     }
 
+    @Override
+    public ReactivePanacheQuery<Entity> afterKey(Object... sortValues) {
+        delegate.afterKey(sortValues);
+        return this;
+    }
+
     @Override
     public ReactivePanacheQuery<Entity> nextPage() {
         delegate.nextPage();
@@ -98,6 +104,12 @@ public class ReactivePanacheQueryImpl<Entity> implements ReactivePanacheQuery<En
         return this;
     }
 
+    @Override
+    public ReactivePanacheQuery<Entity> withEstimatedCount() {
+        delegate.withEstimatedCount();
+        return this;
+    }
+
     @Override
     public Uni<Long> count() {
         return delegate.count();
@@ -39,6 +39,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return page(Page.of(pageIndex, pageSize));
     }
 
+    @Override
+    public PanacheQuery<Entity> afterKey(Object... sortValues) {
+        delegate.afterKey(sortValues);
+        return this;
+    }
+
     @Override
     public PanacheQuery<Entity> nextPage() {
         delegate.nextPage();
@@ -95,6 +101,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return this;
     }
 
+    @Override
+    public PanacheQuery<Entity> withEstimatedCount() {
+        delegate.withEstimatedCount();
+        return this;
+    }
+
     // Results
 
     @Override
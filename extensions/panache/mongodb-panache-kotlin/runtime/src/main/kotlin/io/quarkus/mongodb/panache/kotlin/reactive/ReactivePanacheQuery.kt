@@ -2,6 +2,7 @@ package io.quarkus.mongodb.panache.kotlin.reactive
 
 import com.mongodb.client.model.Collation
 import io.quarkus.panache.common.Page
+import io.quarkus.panache.common.exception.PanacheQueryException
 import io.smallrye.mutiny.Multi
 import io.smallrye.mutiny.Uni
 
@@ -42,6 +43,27 @@ interface ReactivePanacheQuery<Entity> {
      */
     fun page(pageIndex: Int, pageSize: Int): ReactivePanacheQuery<Entity>
 
+    /**
+     * Restricts the results to the entities that come after the given values of the sort fields, for keyset
+     * pagination: pass the sort values of the last entity of the current page to get the next page. Unlike with a page
+     * index, the database doesn't skip the entities of the previous pages, so a deep page is as fast to get as the
+     * first one.
+     *
+     * The query must be sorted, and the sort should be unique, for example by ending with the identifier. The index of
+     * the current page is ignored, only its size limits the results, and the methods that depend on the page index,
+     * such as [nextPage] or [pageCount], cannot be called anymore.
+     *
+     * The sort values cannot be null, and the entities whose sort fields are null are never returned, as the
+     * `$gt` and `$lt` operators only match values of the same type.
+     *
+     * @param sortValues the values of the sort fields of the last entity of the current page, in the sort order
+     * @return this query, modified
+     * @throws PanacheQueryException if the query isn't sorted or if the number of values doesn't match the number of
+     * sort fields
+     * @see [hasNextPage]
+     */
+    fun afterKey(vararg sortValues: Any): ReactivePanacheQuery<Entity>
+
     /**
      * Sets the current page to the next page
      *
@@ -81,7 +103,7 @@ interface ReactivePanacheQuery<Entity> {
 
     /**
      * Returns true if there is another page to read after the current one.
-     * This will cause reading of the entity count.
+     * This will cause reading of the entity count, unless the query is paged by keyset.
      *
      * @return true if there is another page to read
      * @throws UnsupportedOperationException if a page hasn't been set or if a range is already set
@@ -135,6 +157,20 @@ interface ReactivePanacheQuery<Entity> {
      */
     fun withCollation(collation: Collation): ReactivePanacheQuery<Entity>
 
+    /**
+     * Reads the count of the entities from the metadata of the collection, with `estimatedDocumentCount()`,
+     * instead of counting the documents that match the query. The count is then constant cost but it may be
+     * inaccurate, for example after an unclean shutdown or in a sharded cluster. It affects [count] and all
+     * the methods that read the count, such as [pageCount] or [hasNextPage].
+     *
+     * As the estimate is about the whole collection, the query must not have a filter, for example it must come
+     * from `findAll()`.
+     *
+     * @return this query, modified
+     * @throws PanacheQueryException if the query has a filter
+     */
+    fun withEstimatedCount(): ReactivePanacheQuery<Entity>
+
     /**
      * Reads and caches the total number of entities this query operates on. This causes a database
      * query with `SELECT COUNT(*)` and a query equivalent to the current query, minus
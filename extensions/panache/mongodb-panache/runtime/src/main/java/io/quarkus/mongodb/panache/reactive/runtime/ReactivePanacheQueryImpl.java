@@ -42,6 +42,12 @@ public class ReactivePanacheQueryImpl<Entity> implements ReactivePanacheQuery<En
         return page(Page.of(pageIndex, pageSize));
     }
 
+    @Override
+    public <T extends Entity> ReactivePanacheQuery<T> afterKey(Object... sortValues) {
+        delegate.afterKey(sortValues);
+        return (ReactivePanacheQuery<T>) this;
+    }
+
     @Override
     public <T extends Entity> ReactivePanacheQuery<T> nextPage() {
         delegate.nextPage();
@@ -98,6 +104,12 @@ public class ReactivePanacheQueryImpl<Entity> implements ReactivePanacheQuery<En
         return (ReactivePanacheQuery<T>) this;
     }
 
+    @Override
+    public <T extends Entity> ReactivePanacheQuery<T> withEstimatedCount() {
+        delegate.withEstimatedCount();
+        return (ReactivePanacheQuery<T>) this;
+    }
+
     @Override
     public Uni<Long> count() {
         return delegate.count();
@@ -41,6 +41,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @Override
+    public <T extends Entity> PanacheQuery<T> afterKey(Object... sortValues) {
+        delegate.afterKey(sortValues);
+        return (PanacheQuery<T>) this;
+    }
+
     @Override
     public <T extends Entity> PanacheQuery<T> nextPage() {
         delegate.nextPage();
@@ -97,6 +103,12 @@ public class PanacheQueryImpl<Entity> implements PanacheQuery<Entity> {
         return (PanacheQuery<T>) this;
     }
 
+    @Override
+    public <T extends Entity> PanacheQuery<T> withEstimatedCount() {
+        delegate.withEstimatedCount();
+        return (PanacheQuery<T>) this;
+    }
+
     // Results
 
     @Override
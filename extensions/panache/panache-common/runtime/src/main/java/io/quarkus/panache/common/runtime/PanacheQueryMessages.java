@@ -0,0 +1,13 @@
+package io.quarkus.panache.common.runtime;
+
+/**
+ * Messages of the exceptions thrown alike by the query implementations of the Panache extensions.
+ */
+public final class PanacheQueryMessages {
+
+    public static final String PAGE_INDEX_IN_KEYSET_QUERY = "Cannot call a page index related method in a keyset query, "
+            + "call afterKey(Object...) with the sort values of the last result to get the next page";
+
+    private PanacheQueryMessages() {
+    }
+}
@@ -1,5 +1,7 @@
 package io.quarkus.panache.hibernate.common.runtime;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -179,4 +181,117 @@ public class PanacheJpaUtil {
         }
         return sb.toString();
     }
+
+    /**
+     * Restricts a query to the rows that come after the given keyset, for keyset pagination. The predicate of the query is
+     * combined with the keyset predicate as {@code WHERE (<predicate>) AND (<keyset predicate>)}.
+     * <p>
+     * A row whose sort columns are null never comes after a keyset, because a comparison with null is never true.
+     *
+     * @param query the query, without its ORDER BY clause
+     * @param orderBy the ORDER BY clause of the query, as returned by {@link #toOrderBy(Sort)}
+     * @param parameters the placeholders of the keyset values, one for each sort column
+     * @return the query with a predicate selecting the rows whose sort columns come after the keyset values
+     */
+    public static String createKeysetQuery(String query, String orderBy, String[] parameters) {
+        if (orderBy == null || orderBy.isEmpty()) {
+            throw new PanacheQueryException("Keyset pagination requires a sorted query");
+        }
+        if (indexOfTopLevelKeyword(query, "group", "by") != -1 || indexOfTopLevelKeyword(query, "order", "by") != -1) {
+            throw new PanacheQueryException(
+                    "Keyset pagination is not supported for a query with a GROUP BY or ORDER BY clause: " + query);
+        }
+        List<String> columns = new ArrayList<>();
+        List<Boolean> descending = new ArrayList<>();
+        for (String column : orderBy.substring(" ORDER BY ".length()).split(" , ")) {
+            boolean desc = column.endsWith(" DESC");
+            columns.add(desc ? column.substring(0, column.length() - " DESC".length()) : column);
+            descending.add(desc);
+        }
+        if (columns.size() != parameters.length) {
+            throw new PanacheQueryException("Keyset pagination requires a value for each of the " + columns.size()
+                    + " sort columns, got " + parameters.length);
+        }
+        // (c1 > ?1) OR (c1 = ?1 AND c2 > ?2) OR ...
+        StringBuilder predicate = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0)
+                predicate.append(" OR ");
+            predicate.append('(');
+            for (int j = 0; j < i; j++) {
+                predicate.append(columns.get(j)).append(" = ").append(parameters[j]).append(" AND ");
+            }
+            predicate.append(columns.get(i)).append(descending.get(i) ? " < " : " > ").append(parameters[i]);
+            predicate.append(')');
+        }
+        int where = indexOfTopLevelKeyword(query, "where");
+        if (where == -1) {
+            return query + " WHERE " + predicate;
+        }
+        // the predicate of the query is wrapped so that its own OR operators don't apply to the keyset predicate
+        int predicateStart = where + "where".length();
+        return query.substring(0, predicateStart) + " (" + query.substring(predicateStart).trim() + ") AND ("
+                + predicate + ")";
+    }
+
+    /**
+     * Checks whether the query has its own ORDER BY clause, not counting the ones of its subqueries.
+     */
+    public static boolean hasOrderBy(String query) {
+        return indexOfTopLevelKeyword(query, "order", "by") != -1;
+    }
+
+    /**
+     * Finds a keyword of the query that is neither in a string literal nor in parentheses, e.g. in a subquery.
+     *
+     * @param words the words of the keyword, separated by whitespace in the query
+     * @return the index of the keyword, or -1 if the query doesn't contain the keyword
+     */
+    static int indexOfTopLevelKeyword(String query, String... words) {
+        int depth = 0;
+        char quote = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (quote != 0) {
+                // a quote is escaped by doubling it, which closes and reopens the literal
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '(') {
+                depth++;
+            } else if (c == ')') {
+                depth--;
+            } else if (depth == 0 && (i == 0 || isKeywordBoundary(query.charAt(i - 1)))
+                    && matchesKeyword(query, i, words)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesKeyword(String query, int index, String[] words) {
+        for (int w = 0; w < words.length; w++) {
+            if (w > 0) {
+                int start = index;
+                while (index < query.length() && Character.isWhitespace(query.charAt(index))) {
+                    index++;
+                }
+                if (index == start) {
+                    return false;
+                }
+            }
+            if (!query.regionMatches(true, index, words[w], 0, words[w].length())) {
+                return false;
+            }
+            index += words[w].length();
+        }
+        return index == query.length() || isKeywordBoundary(query.charAt(index));
+    }
+
+    private static boolean isKeywordBoundary(char c) {
+        // a path such as p.order is not a keyword
+        return !Character.isJavaIdentifierPart(c) && c != '.' && c != ':' && c != '?';
+    }
 }
@@ -5,6 +5,9 @@ import java.util.regex.Matcher;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
+
 public class QueryMatcherTest {
 
     @Test
@@ -60,4 +63,42 @@ public class QueryMatcherTest {
         Assertions.assertTrue(matcher.matches());
     }
 
+    @Test
+    public void testHasOrderBy() {
+        Assertions.assertTrue(PanacheJpaUtil.hasOrderBy("FROM Person ORDER BY name"));
+        Assertions.assertTrue(PanacheJpaUtil.hasOrderBy("FROM Person WHERE name = ?1 order   by name"));
+        Assertions.assertFalse(PanacheJpaUtil.hasOrderBy("FROM Person"));
+        Assertions.assertFalse(PanacheJpaUtil.hasOrderBy("FROM Person WHERE name = 'order by name'"));
+        Assertions.assertFalse(PanacheJpaUtil.hasOrderBy(
+                "FROM Person p WHERE p.id IN (SELECT d.owner.id FROM Dog d ORDER BY d.name)"));
+    }
+
+    @Test
+    public void testKeysetQuery() {
+        String orderBy = PanacheJpaUtil.toOrderBy(Sort.by("name").and("id", Sort.Direction.Descending));
+        Assertions.assertEquals("FROM Person WHERE (name > ?1) OR (name = ?1 AND id < ?2)",
+                PanacheJpaUtil.createKeysetQuery("FROM Person", orderBy, new String[] { "?1", "?2" }));
+        Assertions.assertEquals("FROM Person WHERE (status = ?1) AND ((name > ?2) OR (name = ?2 AND id < ?3))",
+                PanacheJpaUtil.createKeysetQuery("FROM Person WHERE status = ?1", orderBy, new String[] { "?2", "?3" }));
+        Assertions.assertEquals("from Person \n where (status = :status) AND ((name > :k0) OR (name = :k0 AND id < :k1))",
+                PanacheJpaUtil.createKeysetQuery("from Person \n where status = :status", orderBy,
+                        new String[] { ":k0", ":k1" }));
+        // the WHERE keywords of subqueries and string literals are ignored
+        Assertions.assertEquals("FROM Person p WHERE (p.status = 'where' OR p.id IN (SELECT o.person.id FROM Order o "
+                + "WHERE o.total > ?1 GROUP BY o.person.id)) AND ((name > ?2) OR (name = ?2 AND id < ?3))",
+                PanacheJpaUtil.createKeysetQuery("FROM Person p WHERE p.status = 'where' OR p.id IN (SELECT o.person.id "
+                        + "FROM Order o WHERE o.total > ?1 GROUP BY o.person.id)", orderBy, new String[] { "?2", "?3" }));
+        Assertions.assertEquals(
+                "SELECT p FROM Person p WHERE (p.order = 'it''s where') AND ((name > ?1) OR (name = ?1 AND id < ?2))",
+                PanacheJpaUtil.createKeysetQuery("SELECT p FROM Person p WHERE p.order = 'it''s where'", orderBy,
+                        new String[] { "?1", "?2" }));
+
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person", null, new String[] { "?1" }));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("FROM Person", orderBy, new String[] { "?1" }));
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> PanacheJpaUtil.createKeysetQuery("SELECT name FROM Person GROUP BY name", orderBy,
+                        new String[] { "?1", "?2" }));
+    }
 }
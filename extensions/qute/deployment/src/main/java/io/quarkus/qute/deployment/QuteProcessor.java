@@ -1,5 +1,6 @@
 package io.quarkus.qute.deployment;
 
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 import static java.util.stream.Collectors.toMap;
 
@@ -57,7 +58,10 @@ import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.DotNames;
 import io.quarkus.arc.processor.InjectionPointInfo;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
+import io.quarkus.cache.deployment.spi.AdditionalCacheNameBuildItem;
 import io.quarkus.deployment.ApplicationArchive;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
@@ -72,6 +76,7 @@ import io.quarkus.deployment.builditem.HotDeploymentWatchedFileBuildItem;
 import io.quarkus.deployment.builditem.ServiceStartBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.deployment.util.JandexUtil;
 import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.qute.Engine;
@@ -107,7 +112,9 @@ import io.quarkus.qute.runtime.EngineProducer;
 import io.quarkus.qute.runtime.QuteConfig;
 import io.quarkus.qute.runtime.QuteRecorder;
 import io.quarkus.qute.runtime.QuteRecorder.QuteContext;
+import io.quarkus.qute.runtime.SectionCacheProducer;
 import io.quarkus.qute.runtime.TemplateProducer;
+import io.quarkus.qute.runtime.cache.ApplicationSectionCache;
 import io.quarkus.qute.runtime.extensions.CollectionTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.ConfigTemplateExtensions;
 import io.quarkus.qute.runtime.extensions.MapTemplateExtensions;
@@ -120,6 +127,9 @@ public class QuteProcessor {
 
     private static final Logger LOGGER = Logger.getLogger(QuteProcessor.class);
 
+    private static final String APPLICATION_SECTION_CACHE = "io.quarkus.qute.runtime.cache.ApplicationSectionCache";
+    private static final String APPLICATION_SECTION_CACHE_NAME = ApplicationSectionCache.CACHE_NAME;
+
     @BuildStep
     FeatureBuildItem feature() {
         return new FeatureBuildItem(Feature.QUTE);
@@ -174,10 +184,28 @@ public class QuteProcessor {
                 .addBeanClasses(EngineProducer.class, TemplateProducer.class, ContentTypes.class, ResourcePath.class,
                         Template.class, TemplateInstance.class, CollectionTemplateExtensions.class,
                         MapTemplateExtensions.class, NumberTemplateExtensions.class, ConfigTemplateExtensions.class,
-                        TimeTemplateExtensions.class)
+                        TimeTemplateExtensions.class, SectionCacheProducer.class)
                 .build();
     }
 
+    @BuildStep
+    void applicationSectionCache(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<AdditionalCacheNameBuildItem> cacheNames) {
+        if (capabilities.isPresent(Capability.CACHE)) {
+            // The content of cached sections is stored in the application data cache
+            // The class name is used because the bean class depends on the optional quarkus-cache extension
+            cacheNames.produce(new AdditionalCacheNameBuildItem(APPLICATION_SECTION_CACHE_NAME));
+            additionalBeans.produce(AdditionalBeanBuildItem.builder().setUnremovable()
+                    .addBeanClass(APPLICATION_SECTION_CACHE).build());
+        }
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem registerCachedSectionMetrics(QuteRecorder recorder) {
+        return new MetricsFactoryConsumerBuildItem(recorder.registerCachedSectionMetrics());
+    }
+
     @BuildStep
     List<CheckedTemplateBuildItem> collectTemplateTypeInfo(BeanArchiveIndexBuildItem index,
             BuildProducer<BytecodeTransformerBuildItem> transformers,
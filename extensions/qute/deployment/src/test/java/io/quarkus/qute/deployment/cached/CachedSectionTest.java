@@ -0,0 +1,43 @@
+package io.quarkus.qute.deployment.cached;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.CachedSectionHelper;
+import io.quarkus.qute.Template;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CachedSectionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("{#cached key='nav'}{name}{/cached}:{name}"), "templates/nav.html")
+                    .addAsResource(new StringAsset("quarkus.qute.cached-sections-max-size=10"), "application.properties"));
+
+    @Inject
+    Template nav;
+
+    @Inject
+    CachedSectionHelper.Cache cache;
+
+    @Test
+    public void testCachedSection() {
+        assertTrue(cache instanceof CachedSectionHelper.LocalCache);
+        assertEquals("foo:foo", nav.data("name", "foo").render());
+        assertEquals("foo:bar", nav.data("name", "bar").render());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        cache.invalidate("nav");
+        assertEquals("bar:bar", nav.data("name", "bar").render());
+    }
+
+}
@@ -18,6 +18,7 @@ import org.jboss.logging.Logger;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.qute.CachedSectionHelper;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.NamespaceResolver;
@@ -50,7 +51,8 @@ public class EngineProducer {
     private final String tagPath;
 
     public EngineProducer(QuteContext context, QuteConfig config, QuteRuntimeConfig runtimeConfig,
-            Event<EngineBuilder> builderReady, Event<Engine> engineReady, ContentTypes contentTypes) {
+            Event<EngineBuilder> builderReady, Event<Engine> engineReady, ContentTypes contentTypes,
+            CachedSectionHelper.Cache sectionCache) {
         this.contentTypes = contentTypes;
         this.suffixes = config.suffixes;
         this.basePath = "templates/";
@@ -63,6 +65,9 @@ public class EngineProducer {
         EngineBuilder builder = Engine.builder()
                 .addDefaultSectionHelpers();
 
+        // Cached sections share the cache bean so that the content can be invalidated
+        builder.addSectionHelper(new CachedSectionHelper.Factory(sectionCache));
+
         // We don't register the map resolver because of param declaration validation
         // See DefaultTemplateExtensions
         builder.addValueResolver(ValueResolvers.thisResolver());
@@ -2,9 +2,13 @@ package io.quarkus.qute.runtime;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import io.quarkus.arc.Arc;
+import io.quarkus.qute.CachedSectionHelper;
 import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
 
 @Recorder
 public class QuteRecorder {
@@ -41,6 +45,26 @@ public class QuteRecorder {
         };
     }
 
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerCachedSectionMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                CachedSectionHelper.Cache cache = Arc.container().instance(CachedSectionHelper.Cache.class).get();
+                metricsFactory.builder("qute.cached.sections.gets")
+                        .description("Number of lookups of the content of cached sections. A hit returned the cached "
+                                + "content and a miss rendered the content.")
+                        .tag("result", "hit")
+                        .buildCounter(cache, CachedSectionHelper.Cache::getHitCount);
+                metricsFactory.builder("qute.cached.sections.gets")
+                        .description("Number of lookups of the content of cached sections. A hit returned the cached "
+                                + "content and a miss rendered the content.")
+                        .tag("result", "miss")
+                        .buildCounter(cache, CachedSectionHelper.Cache::getMissCount);
+            }
+        };
+    }
+
     public interface QuteContext {
 
         List<String> getResolverClasses();
@@ -1,5 +1,7 @@
 package io.quarkus.qute.runtime;
 
+import java.util.OptionalInt;
+
 import io.quarkus.qute.TemplateException;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
@@ -23,6 +25,26 @@ public class QuteRuntimeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean removeStandaloneLines;
 
+    /**
+     * The size in bytes of the chunks a template returned by a JAX-RS resource method is encoded and written in.
+     * <p>
+     * By default, the template is rendered to a {@link String} which is then encoded. When set, the template is encoded
+     * while it is rendered, and each chunk is written to the response as soon as it is produced, without building a string
+     * of the whole output.
+     */
+    @ConfigItem
+    public OptionalInt responseChunkSize;
+
+    /**
+     * The maximum number of keys of the {@code cached} sections whose content is held in memory. The least recently used
+     * key is evicted when the limit is reached.
+     * <p>
+     * This limit is ignored if the {@code quarkus-cache} extension is present. The content is then stored in the
+     * {@code qute-cached-sections} cache, whose size is configured like the size of any other cache.
+     */
+    @ConfigItem(defaultValue = "1000")
+    public int cachedSectionsMaxSize;
+
     public enum PropertyNotFoundStrategy {
         /**
          * Output the {@code NOT_FOUND} constant.
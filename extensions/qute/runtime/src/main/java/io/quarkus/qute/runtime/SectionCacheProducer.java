@@ -0,0 +1,22 @@
+package io.quarkus.qute.runtime;
+
+import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
+
+import io.quarkus.arc.DefaultBean;
+import io.quarkus.qute.CachedSectionHelper;
+
+/**
+ * Produces the cache of the {@code cached} sections if the application data cache is not used.
+ */
+@Singleton
+public class SectionCacheProducer {
+
+    @Produces
+    @Singleton
+    @DefaultBean
+    CachedSectionHelper.Cache produceCache(QuteRuntimeConfig config) {
+        return new CachedSectionHelper.LocalCache(config.cachedSectionsMaxSize);
+    }
+
+}
@@ -0,0 +1,90 @@
+package io.quarkus.qute.runtime.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import javax.inject.Singleton;
+
+import io.quarkus.cache.CacheManager;
+import io.quarkus.cache.runtime.AbstractCache;
+import io.quarkus.qute.CachedSectionHelper;
+
+/**
+ * Stores the content of the {@code cached} sections in the {@value #CACHE_NAME} cache of the application data cache, which
+ * is configured like any other cache, e.g. with {@code quarkus.cache.caffeine."qute-cached-sections".maximum-size}.
+ * <p>
+ * This bean is only registered if the {@code quarkus-cache} extension is present.
+ */
+@Singleton
+public class ApplicationSectionCache implements CachedSectionHelper.Cache {
+
+    public static final String CACHE_NAME = "qute-cached-sections";
+
+    private final AbstractCache cache;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    public ApplicationSectionCache(CacheManager cacheManager) {
+        this.cache = (AbstractCache) cacheManager.getCache(CACHE_NAME).get();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    @Override
+    public CompletionStage<String> getValue(String key, Duration ttl, Function<String, CompletionStage<String>> loader) {
+        AtomicBoolean loaded = new AtomicBoolean();
+        return cache.getAsync(key, k -> {
+            loaded.set(true);
+            long created = System.nanoTime();
+            return loader.apply(key).thenApply(value -> new Content(value, created, ttl));
+        }).thenCompose(value -> {
+            Content content = (Content) value;
+            if (loaded.get()) {
+                misses.increment();
+            } else if (content.isExpired(System.nanoTime())) {
+                // the caches of the extension only support an expiration policy per cache
+                cache.invalidate(key);
+                return getValue(key, ttl, loader);
+            } else {
+                hits.increment();
+            }
+            return CompletableFuture.completedFuture(content.value);
+        });
+    }
+
+    @Override
+    public void invalidate(String key) {
+        cache.invalidate(key);
+    }
+
+    @Override
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    @Override
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    static final class Content extends CachedSectionHelper.Expiry {
+
+        final String value;
+
+        Content(String value, long created, Duration ttl) {
+            super(created, ttl);
+            this.value = value;
+        }
+
+    }
+
+}
@@ -1,9 +1,17 @@
 package io.quarkus.reactive.datasource.deployment;
 
+import java.util.List;
+
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.datasource.runtime.DataSourcesBuildTimeConfig;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.reactive.datasource.ReactiveDataSource;
+import io.quarkus.reactive.datasource.runtime.ReactiveDataSourceMetricsRecorder;
 
 class ReactiveDataSourceProcessor {
 
@@ -12,4 +20,23 @@ class ReactiveDataSourceProcessor {
         // add the @ReactiveDataSource class otherwise it won't be registered as a qualifier
         additionalBeans.produce(AdditionalBeanBuildItem.builder().addBeanClass(ReactiveDataSource.class).build());
     }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void registerMetrics(ReactiveDataSourceMetricsRecorder recorder,
+            DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
+            List<VertxPoolBuildItem> vertxPools,
+            BuildProducer<MetricsFactoryConsumerBuildItem> poolMetrics,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (!dataSourcesBuildTimeConfig.metricsEnabled || vertxPools.isEmpty()) {
+            return;
+        }
+        // the state of the pools is read from the private fields of the Vert.x SQL client
+        reflectiveClasses.produce(new ReflectiveClassBuildItem(false, true, "io.vertx.sqlclient.impl.PoolBase",
+                "io.vertx.sqlclient.impl.ConnectionPool"));
+        for (VertxPoolBuildItem vertxPool : vertxPools) {
+            poolMetrics.produce(new MetricsFactoryConsumerBuildItem(
+                    recorder.registerPoolMetrics(vertxPool.getDataSourceName(), vertxPool.getPool())));
+        }
+    }
 }
@@ -0,0 +1,119 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+
+import org.jboss.logging.Logger;
+
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.impl.ConnectionPool;
+import io.vertx.sqlclient.impl.PoolBase;
+
+/**
+ * Reads the state of the connections of a Vert.x {@link Pool}.
+ * <p>
+ * The Vert.x SQL client doesn't expose any pool metrics, so the state is read from the {@link ConnectionPool} of
+ * {@link PoolBase}. The pool is only updated by its event loop so the values are approximate.
+ */
+final class ConnectionPoolStats {
+
+    private static final Logger log = Logger.getLogger(ConnectionPoolStats.class);
+
+    private static final Field POOL_FIELD;
+    private static final Field WAITERS_FIELD;
+
+    static {
+        Field poolField = null;
+        Field waitersField = null;
+        try {
+            poolField = PoolBase.class.getDeclaredField("pool");
+            poolField.setAccessible(true);
+            waitersField = ConnectionPool.class.getDeclaredField("waiters");
+            waitersField.setAccessible(true);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Unable to access the state of the reactive connection pools, their metrics are disabled", e);
+            poolField = null;
+            waitersField = null;
+        }
+        POOL_FIELD = poolField;
+        WAITERS_FIELD = waitersField;
+    }
+
+    private final List<? extends Pool> pools;
+
+    private ConnectionPoolStats(List<? extends Pool> pools) {
+        this.pools = pools;
+    }
+
+    /**
+     * @return the statistics of the given pool, or {@code null} if its state can't be read
+     */
+    static ConnectionPoolStats of(Pool pool) {
+        if (POOL_FIELD == null) {
+            return null;
+        }
+        if (pool instanceof EventLoopPool) {
+            return new ConnectionPoolStats(((EventLoopPool<?>) pool).getPools());
+        }
+        if (pool instanceof PoolBase) {
+            return new ConnectionPoolStats(Collections.singletonList(pool));
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of connections in use
+     */
+    int activeCount() {
+        int count = 0;
+        for (Pool pool : pools) {
+            ConnectionPool connectionPool = connectionPool(pool);
+            if (connectionPool != null) {
+                count += connectionPool.size() - connectionPool.available();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of idle connections, available to be acquired
+     */
+    int idleCount() {
+        int count = 0;
+        for (Pool pool : pools) {
+            ConnectionPool connectionPool = connectionPool(pool);
+            if (connectionPool != null) {
+                count += connectionPool.available();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of requests waiting for a connection
+     */
+    int pendingCount() {
+        int count = 0;
+        for (Pool pool : pools) {
+            ConnectionPool connectionPool = connectionPool(pool);
+            if (connectionPool != null) {
+                try {
+                    count += ((ArrayDeque<?>) WAITERS_FIELD.get(connectionPool)).size();
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        return count;
+    }
+
+    private static ConnectionPool connectionPool(Pool pool) {
+        try {
+            return (ConnectionPool) POOL_FIELD.get(pool);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -92,6 +92,19 @@ public class DataSourceReactiveRuntimeConfig {
     @ConfigItem
     public Optional<Boolean> threadLocal = Optional.empty();
 
+    /**
+     * Whether the pool should be made of one pool per event loop, each one holding a share of the {@code max-size}
+     * connections.
+     * <p>
+     * The connections of a pool are only used by its event loop, and a request running on an event loop gets a connection
+     * of the pool of this event loop. Unlike with {@code thread-local}, the total number of connections never exceeds
+     * {@code max-size}.
+     * <p>
+     * This setting is ignored when {@code thread-local} is enabled.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean eventLoopAffinity = false;
+
     /**
      * The number of reconnection attempts when a pooled connection cannot be established on first try.
      */
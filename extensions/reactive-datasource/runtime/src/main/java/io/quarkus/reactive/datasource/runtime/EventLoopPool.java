@@ -0,0 +1,139 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.jboss.logging.Logger;
+
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.EventExecutor;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.sqlclient.Pool;
+import io.vertx.sqlclient.PoolOptions;
+import io.vertx.sqlclient.PreparedQuery;
+import io.vertx.sqlclient.Query;
+import io.vertx.sqlclient.Row;
+import io.vertx.sqlclient.RowSet;
+import io.vertx.sqlclient.SqlConnection;
+import io.vertx.sqlclient.Transaction;
+
+/**
+ * A pool shared by all the threads, made of one pool per event loop.
+ * <p>
+ * Each pool is bound to the context of its event loop, so its connections are created and used on that event loop, and
+ * the configured maximum size is split between the pools instead of being multiplied by the number of threads like with
+ * {@link ThreadLocalPool}. A thread running on an event loop uses the pool of that event loop, the other threads use the
+ * pools in a round-robin fashion.
+ */
+public abstract class EventLoopPool<PoolType extends Pool> implements Pool {
+
+    private static final Logger log = Logger.getLogger(EventLoopPool.class);
+
+    private final EventLoop[] eventLoops;
+    private final List<PoolType> pools;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile MetricsFactory.TimeRecorder acquireTimeRecorder;
+
+    /**
+     * @param poolFactory creates a pool whose connections are bound to the given event loop context
+     */
+    public EventLoopPool(Vertx vertx, PoolOptions poolOptions, BiFunction<Context, PoolOptions, PoolType> poolFactory) {
+        List<EventLoop> allEventLoops = new ArrayList<>();
+        for (EventExecutor executor : ((VertxInternal) vertx).getEventLoopGroup()) {
+            allEventLoops.add((EventLoop) executor);
+        }
+        int maxSize = poolOptions.getMaxSize();
+        // never create more pools than connections, so that the maximum size is never exceeded
+        int poolCount = Math.max(1, Math.min(allEventLoops.size(), maxSize));
+        this.eventLoops = new EventLoop[poolCount];
+        this.pools = new ArrayList<>(poolCount);
+        for (int i = 0; i < poolCount; i++) {
+            EventLoop eventLoop = allEventLoops.get(i);
+            ContextInternal context = ((VertxInternal) vertx).createEventLoopContext(eventLoop, null,
+                    Thread.currentThread().getContextClassLoader());
+            PoolOptions options = new PoolOptions(poolOptions)
+                    .setMaxSize(maxSize / poolCount + (i < maxSize % poolCount ? 1 : 0));
+            eventLoops[i] = eventLoop;
+            pools.add(poolFactory.apply(context, options));
+        }
+        log.debugf("Created %d event loop pools with a total maximum size of %d", poolCount, maxSize);
+    }
+
+    private PoolType pool() {
+        ContextInternal context = (ContextInternal) Vertx.currentContext();
+        if (context != null) {
+            EventLoop eventLoop = context.nettyEventLoop();
+            for (int i = 0; i < eventLoops.length; i++) {
+                if (eventLoops[i] == eventLoop) {
+                    return pools.get(i);
+                }
+            }
+        }
+        return pools.get((next.getAndIncrement() & Integer.MAX_VALUE) % pools.size());
+    }
+
+    List<PoolType> getPools() {
+        return pools;
+    }
+
+    /**
+     * Sets the recorder of the time spent waiting for a connection when calling {@link #getConnection(Handler)} or
+     * {@link #begin(Handler)}.
+     */
+    void setAcquireTimeRecorder(MetricsFactory.TimeRecorder acquireTimeRecorder) {
+        this.acquireTimeRecorder = acquireTimeRecorder;
+    }
+
+    @Override
+    public void getConnection(Handler<AsyncResult<SqlConnection>> handler) {
+        pool().getConnection(timed(handler));
+    }
+
+    @Override
+    public Query<RowSet<Row>> query(String sql) {
+        return pool().query(sql);
+    }
+
+    @Override
+    public PreparedQuery<RowSet<Row>> preparedQuery(String sql) {
+        return pool().preparedQuery(sql);
+    }
+
+    @Override
+    public void begin(Handler<AsyncResult<Transaction>> handler) {
+        pool().begin(timed(handler));
+    }
+
+    private <T> Handler<AsyncResult<T>> timed(Handler<AsyncResult<T>> handler) {
+        MetricsFactory.TimeRecorder recorder = acquireTimeRecorder;
+        if (recorder == null) {
+            return handler;
+        }
+        long start = System.nanoTime();
+        return new Handler<AsyncResult<T>>() {
+            @Override
+            public void handle(AsyncResult<T> result) {
+                recorder.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                handler.handle(result);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        for (PoolType pool : pools) {
+            log.debugf("Closing pool: %s", pool);
+            pool.close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkus.reactive.datasource.runtime;
+
+import java.util.function.Consumer;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.datasource.common.runtime.DataSourceUtil;
+import io.quarkus.runtime.RuntimeValue;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.vertx.sqlclient.Pool;
+
+@Recorder
+public class ReactiveDataSourceMetricsRecorder {
+
+    private static final Logger log = Logger.getLogger(ReactiveDataSourceMetricsRecorder.class);
+
+    /* RUNTIME_INIT */
+    public Consumer<MetricsFactory> registerPoolMetrics(String dataSourceName, RuntimeValue<? extends Pool> vertxPool) {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                String tagValue = DataSourceUtil.isDefault(dataSourceName) ? "default" : dataSourceName;
+                Pool pool = vertxPool.getValue();
+
+                ConnectionPoolStats stats = ConnectionPoolStats.of(pool);
+                if (stats == null) {
+                    log.debugf("The connection pool metrics of the reactive datasource %s are not available", tagValue);
+                } else {
+                    metricsFactory.builder("reactive.datasource.active.count")
+                            .description("Number of active connections, in use and not available to be acquired.")
+                            .tag("datasource", tagValue)
+                            .buildGauge(stats::activeCount);
+                    metricsFactory.builder("reactive.datasource.idle.count")
+                            .description("Number of idle connections in the pool, available to be acquired.")
+                            .tag("datasource", tagValue)
+                            .buildGauge(stats::idleCount);
+                    metricsFactory.builder("reactive.datasource.pending.count")
+                            .description("Number of requests waiting to acquire a connection.")
+                            .tag("datasource", tagValue)
+                            .buildGauge(stats::pendingCount);
+                }
+
+                if (pool instanceof EventLoopPool) {
+                    MetricsFactory.TimeRecorder acquireTime = metricsFactory.builder("reactive.datasource.acquire.time")
+                            .description("Time spent waiting to acquire a connection.")
+                            .tag("datasource", tagValue)
+                            .buildTimer();
+                    ((EventLoopPool<?>) pool).setAcquireTimeRecorder(acquireTime);
+                }
+            }
+        };
+    }
+}
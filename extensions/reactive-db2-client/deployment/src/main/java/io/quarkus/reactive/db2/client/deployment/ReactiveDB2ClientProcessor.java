@@ -134,7 +134,7 @@ class ReactiveDB2ClientProcessor {
 
         syntheticBeans.produce(mutinyDB2PoolConfigurator.done());
 
-        vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.DB2, DataSourceUtil.isDefault(dataSourceName)));
+        vertxPool.produce(new VertxPoolBuildItem(pool, DatabaseKind.DB2, dataSourceName));
     }
 
     private static boolean isReactiveDB2PoolDefined(DataSourcesBuildTimeConfig dataSourcesBuildTimeConfig,
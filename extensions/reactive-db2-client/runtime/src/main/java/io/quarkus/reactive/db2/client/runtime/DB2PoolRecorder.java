@@ -64,6 +64,9 @@ public class DB2PoolRecorder {
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
             return new ThreadLocalDB2Pool(vertx, connectOptions, poolOptions);
         }
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity) {
+            return new EventLoopDB2Pool(vertx, connectOptions, poolOptions);
+        }
         return DB2Pool.pool(vertx, connectOptions, poolOptions);
     }
 
@@ -0,0 +1,15 @@
+package io.quarkus.reactive.db2.client.runtime;
+
+import io.quarkus.reactive.datasource.runtime.EventLoopPool;
+import io.vertx.core.Vertx;
+import io.vertx.db2client.DB2ConnectOptions;
+import io.vertx.db2client.DB2Pool;
+import io.vertx.db2client.impl.DB2PoolImpl;
+import io.vertx.sqlclient.PoolOptions;
+
+public class EventLoopDB2Pool extends EventLoopPool<DB2Pool> implements DB2Pool {
+
+    public EventLoopDB2Pool(Vertx vertx, DB2ConnectOptions db2ConnectOptions, PoolOptions poolOptions) {
+        super(vertx, poolOptions, (context, options) -> new DB2PoolImpl(context, false, db2ConnectOptions, options));
+    }
+}
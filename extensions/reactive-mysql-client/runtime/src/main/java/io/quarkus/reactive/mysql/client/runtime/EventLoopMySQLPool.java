@@ -0,0 +1,17 @@
+package io.quarkus.reactive.mysql.client.runtime;
+
+import io.quarkus.reactive.datasource.runtime.EventLoopPool;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.mysqlclient.MySQLConnectOptions;
+import io.vertx.mysqlclient.MySQLPool;
+import io.vertx.mysqlclient.impl.MySQLPoolImpl;
+import io.vertx.sqlclient.PoolOptions;
+
+public class EventLoopMySQLPool extends EventLoopPool<MySQLPool> implements MySQLPool {
+
+    public EventLoopMySQLPool(Vertx vertx, MySQLConnectOptions mySQLConnectOptions, PoolOptions poolOptions) {
+        super(vertx, poolOptions,
+                (context, options) -> new MySQLPoolImpl((ContextInternal) context, false, mySQLConnectOptions, options));
+    }
+}
@@ -65,6 +65,9 @@ public class MySQLPoolRecorder {
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
             return new ThreadLocalMySQLPool(vertx, mysqlConnectOptions, poolOptions);
         }
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity) {
+            return new EventLoopMySQLPool(vertx, mysqlConnectOptions, poolOptions);
+        }
         return MySQLPool.pool(vertx, mysqlConnectOptions, poolOptions);
     }
 
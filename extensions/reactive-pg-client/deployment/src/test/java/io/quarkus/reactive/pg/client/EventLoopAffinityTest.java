@@ -0,0 +1,78 @@
+package io.quarkus.reactive.pg.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.reactive.pg.client.runtime.EventLoopPgPool;
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.pgclient.PgPool;
+
+public class EventLoopAffinityTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withConfigurationResource("application-event-loop-affinity.properties")
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+    @Inject
+    PgPool pgPool;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testEventLoopPool() throws Exception {
+        assertTrue(((ClientProxy) pgPool).arc_contextualInstance() instanceof EventLoopPgPool);
+
+        Set<Thread> threads = new HashSet<>();
+        // each new context is bound to the next event loop, and every event loop has its own pool
+        for (int i = 0; i < 4; i++) {
+            ContextInternal context = (ContextInternal) vertx.getOrCreateContext();
+            Thread first = queryOn(context);
+            // the same pool, and therefore the same event loop, is used by the successive calls
+            assertSame(first, queryOn(context));
+            threads.add(first);
+        }
+        assertEquals(2, threads.size());
+    }
+
+    /**
+     * Runs a query from the context and checks that the result, successful or not as there is no database, is delivered
+     * on the event loop of the context.
+     *
+     * @return the thread the result was delivered on
+     */
+    private Thread queryOn(ContextInternal context) throws Exception {
+        CompletableFuture<Thread> result = new CompletableFuture<>();
+        context.runOnContext(v -> {
+            Thread caller = Thread.currentThread();
+            pgPool.query("SELECT 1").execute(ar -> {
+                ContextInternal current = (ContextInternal) Vertx.currentContext();
+                if (Thread.currentThread() != caller || !context.nettyEventLoop().inEventLoop() || current == null
+                        || current.nettyEventLoop() != context.nettyEventLoop()) {
+                    result.completeExceptionally(new AssertionError("The result was delivered on "
+                            + Thread.currentThread() + " instead of " + caller));
+                } else {
+                    result.complete(caller);
+                }
+            });
+        });
+        return result.get(10, TimeUnit.SECONDS);
+    }
+}
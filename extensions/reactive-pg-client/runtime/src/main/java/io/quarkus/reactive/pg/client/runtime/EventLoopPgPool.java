@@ -0,0 +1,15 @@
+package io.quarkus.reactive.pg.client.runtime;
+
+import io.quarkus.reactive.datasource.runtime.EventLoopPool;
+import io.vertx.core.Vertx;
+import io.vertx.pgclient.PgConnectOptions;
+import io.vertx.pgclient.PgPool;
+import io.vertx.pgclient.impl.PgPoolImpl;
+import io.vertx.sqlclient.PoolOptions;
+
+public class EventLoopPgPool extends EventLoopPool<PgPool> implements PgPool {
+
+    public EventLoopPgPool(Vertx vertx, PgConnectOptions pgConnectOptions, PoolOptions poolOptions) {
+        super(vertx, poolOptions, (context, options) -> new PgPoolImpl(context, false, pgConnectOptions, options));
+    }
+}
@@ -65,6 +65,9 @@ public class PgPoolRecorder {
                 dataSourceReactiveRuntimeConfig.threadLocal.get()) {
             return new ThreadLocalPgPool(vertx, pgConnectOptions, poolOptions);
         }
+        if (dataSourceReactiveRuntimeConfig.eventLoopAffinity) {
+            return new EventLoopPgPool(vertx, pgConnectOptions, poolOptions);
+        }
         return PgPool.pool(vertx, pgConnectOptions, poolOptions);
     }
 
@@ -0,0 +1,100 @@
+package io.quarkus.redis.client;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import io.vertx.redis.client.Command;
+import io.vertx.redis.client.Request;
+
+/**
+ * A list of Redis commands sent to the server back-to-back, without waiting for the reply of each command, and whose
+ * replies are returned all at once.
+ * <p>
+ * A connection can't wait for more than {@code max-waiting-handlers} replies, larger batches are sent in consecutive
+ * chunks of this size.
+ * <p>
+ * A batch created with {@link #transaction()} is wrapped in a {@code MULTI}/{@code EXEC} block so that its commands are
+ * executed atomically by the server. Such a batch is never split and is rejected if it is too large.
+ * <p>
+ * A batch is not thread-safe and can be sent multiple times.
+ *
+ * @see RedisClient#batch(RedisBatch)
+ * @see io.quarkus.redis.client.reactive.ReactiveRedisClient#batch(RedisBatch)
+ */
+public final class RedisBatch {
+
+    private final List<Request> requests = new ArrayList<>();
+    private final boolean transactional;
+
+    private RedisBatch(boolean transactional) {
+        this.transactional = transactional;
+    }
+
+    /**
+     * @return a new pipelined batch of commands
+     */
+    public static RedisBatch batch() {
+        return new RedisBatch(false);
+    }
+
+    /**
+     * @return a new batch of commands executed in a {@code MULTI}/{@code EXEC} transaction
+     */
+    public static RedisBatch transaction() {
+        return new RedisBatch(true);
+    }
+
+    /**
+     * Adds a command to this batch.
+     *
+     * @param command the command, for example {@link Command#GET}
+     * @param args the arguments of the command
+     * @return this batch
+     */
+    public RedisBatch add(Command command, String... args) {
+        Request request = Request.cmd(command);
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        requests.add(request);
+        return this;
+    }
+
+    /**
+     * Adds a command to this batch.
+     *
+     * @param command the command, for example {@link Command#SET}
+     * @param args the arguments of the command
+     * @return this batch
+     */
+    public RedisBatch add(Command command, List<String> args) {
+        Request request = Request.cmd(command);
+        for (String arg : args) {
+            request.arg(arg);
+        }
+        requests.add(request);
+        return this;
+    }
+
+    /**
+     * @return the number of commands added to this batch
+     */
+    public int size() {
+        return requests.size();
+    }
+
+    /**
+     * @return {@code true} if the commands of this batch are executed in a {@code MULTI}/{@code EXEC} transaction
+     */
+    public boolean isTransactional() {
+        return transactional;
+    }
+
+    /**
+     * @return the commands added to this batch, without the {@code MULTI} and {@code EXEC} commands of a transaction
+     */
+    public List<Request> getRequests() {
+        return Collections.unmodifiableList(requests);
+    }
+}
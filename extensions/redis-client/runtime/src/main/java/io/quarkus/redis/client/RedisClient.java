@@ -15,6 +15,18 @@ import io.vertx.redis.client.Response;
 public interface RedisClient {
     void close();
 
+    /**
+     * Sends all the commands of the given batch back-to-back, without waiting for the reply of each command, then waits
+     * for all their replies.
+     * <p>
+     * In a Redis cluster, all the keys used by the batch must belong to the same hash slot.
+     *
+     * @param batch the commands to send
+     * @return the replies, in the order in which the commands were added to the batch, or {@code null} if the
+     *         {@code MULTI}/{@code EXEC} transaction of a {@link RedisBatch#transaction() transactional} batch was aborted
+     */
+    List<Response> batch(RedisBatch batch);
+
     Response append(String arg0, String arg1);
 
     Response asking();
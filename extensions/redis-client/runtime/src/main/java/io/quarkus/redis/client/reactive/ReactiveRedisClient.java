@@ -2,6 +2,7 @@ package io.quarkus.redis.client.reactive;
 
 import java.util.List;
 
+import io.quarkus.redis.client.RedisBatch;
 import io.smallrye.mutiny.Uni;
 import io.vertx.mutiny.redis.client.Response;
 
@@ -14,6 +15,20 @@ import io.vertx.mutiny.redis.client.Response;
 public interface ReactiveRedisClient {
     void close();
 
+    /**
+     * Sends all the commands of the given batch back-to-back, without waiting for the reply of each command.
+     * <p>
+     * In a Redis cluster, all the keys used by the batch must belong to the same hash slot.
+     *
+     * @param batch the commands to send
+     * @return a {@link Uni} emitting the replies, in the order in which the commands were added to the batch, or
+     *         {@code null} if the {@code MULTI}/{@code EXEC} transaction of a {@link RedisBatch#transaction() transactional}
+     *         batch was aborted
+     */
+    Uni<List<Response>> batch(RedisBatch batch);
+
+    List<Response> batchAndAwait(RedisBatch batch);
+
     Uni<Response> append(String arg0, String arg1);
 
     Response appendAndAwait(String arg0, String arg1);
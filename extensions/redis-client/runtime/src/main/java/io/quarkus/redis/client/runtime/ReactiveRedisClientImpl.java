@@ -1,17 +1,27 @@
 package io.quarkus.redis.client.runtime;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import io.quarkus.redis.client.RedisBatch;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Command;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
+import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
 
 class ReactiveRedisClientImpl implements ReactiveRedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
+    private final int maxBatchSize;
 
-    public ReactiveRedisClientImpl(RedisAPI redisAPI) {
+    public ReactiveRedisClientImpl(Redis redis, RedisAPI redisAPI, int maxBatchSize) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Override
@@ -19,6 +29,75 @@ class ReactiveRedisClientImpl implements ReactiveRedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public Uni<List<Response>> batch(RedisBatch batch) {
+        return batch(redis, batch, maxBatchSize);
+    }
+
+    @Override
+    public List<Response> batchAndAwait(RedisBatch batch) {
+        return batch(batch).await().indefinitely();
+    }
+
+    /**
+     * Writes the requests of the batch back-to-back on a connection, wrapping them in {@code MULTI}/{@code EXEC} for a
+     * transaction and unwrapping the {@code EXEC} reply.
+     * <p>
+     * A connection can't wait for more than {@code max-waiting-handlers} replies, so larger batches are sent in
+     * consecutive chunks of {@code maxBatchSize} commands. A transaction is never split.
+     */
+    static Uni<List<Response>> batch(Redis redis, RedisBatch batch, int maxBatchSize) {
+        if (batch.size() == 0) {
+            return Uni.createFrom().item(Collections.emptyList());
+        }
+        if (batch.isTransactional()) {
+            if (batch.size() + 2 > maxBatchSize) {
+                return Uni.createFrom().failure(new IllegalArgumentException("The transaction contains " + batch.size()
+                        + " commands but at most " + (maxBatchSize - 2)
+                        + " commands can be sent at once, see the max-waiting-handlers configuration property"));
+            }
+            List<Request> requests = new ArrayList<>(batch.size() + 2);
+            requests.add(Request.cmd(Command.MULTI));
+            addRequests(requests, batch.getRequests());
+            requests.add(Request.cmd(Command.EXEC));
+            return redis.batch(requests).map(responses -> {
+                // MULTI replies OK and each queued command replies QUEUED, the actual replies are in the EXEC reply
+                Response exec = responses.get(responses.size() - 1);
+                if (exec == null) {
+                    return null;
+                }
+                List<Response> results = new ArrayList<>(exec.size());
+                for (int i = 0; i < exec.size(); i++) {
+                    results.add(exec.get(i));
+                }
+                return results;
+            });
+        }
+        List<io.vertx.redis.client.Request> batchRequests = batch.getRequests();
+        if (batchRequests.size() <= maxBatchSize) {
+            List<Request> requests = new ArrayList<>(batchRequests.size());
+            addRequests(requests, batchRequests);
+            return redis.batch(requests);
+        }
+        int size = batchRequests.size();
+        Uni<List<Response>> uni = Uni.createFrom().item(() -> new ArrayList<>(size));
+        for (int from = 0; from < size; from += maxBatchSize) {
+            List<Request> requests = new ArrayList<>(maxBatchSize);
+            addRequests(requests, batchRequests.subList(from, Math.min(from + maxBatchSize, size)));
+            uni = uni.chain(results -> redis.batch(requests).map(responses -> {
+                results.addAll(responses);
+                return results;
+            }));
+        }
+        return uni;
+    }
+
+    private static void addRequests(List<Request> requests, List<io.vertx.redis.client.Request> batchRequests) {
+        for (io.vertx.redis.client.Request request : batchRequests) {
+            requests.add(Request.newInstance(request));
+        }
+    }
+
     @Override
     public Uni<Response> append(String arg0, String arg1) {
         return redisAPI.append(arg0, arg1);
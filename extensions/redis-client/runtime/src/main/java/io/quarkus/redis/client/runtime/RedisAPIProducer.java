@@ -40,8 +40,10 @@ class RedisAPIProducer {
                 RedisAPI redisAPI = RedisAPI.api(redis);
                 MutinyRedis mutinyRedis = new MutinyRedis(redis);
                 MutinyRedisAPI mutinyRedisAPI = new MutinyRedisAPI(redisAPI);
-                RedisClient redisClient = new RedisClientImpl(mutinyRedisAPI, timeout);
-                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedisAPI);
+                RedisClient redisClient = new RedisClientImpl(mutinyRedis, mutinyRedisAPI, timeout,
+                        redisConfiguration.maxWaitingHandlers);
+                ReactiveRedisClient reactiveClient = new ReactiveRedisClientImpl(mutinyRedis, mutinyRedisAPI,
+                        redisConfiguration.maxWaitingHandlers);
                 return new RedisAPIContainer(redis, redisAPI, redisClient, reactiveClient, mutinyRedis, mutinyRedisAPI);
             }
         });
@@ -1,20 +1,27 @@
 package io.quarkus.redis.client.runtime;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
+import io.quarkus.redis.client.RedisBatch;
 import io.quarkus.redis.client.RedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.mutiny.redis.client.Redis;
 import io.vertx.mutiny.redis.client.RedisAPI;
 import io.vertx.redis.client.Response;
 
 class RedisClientImpl implements RedisClient {
+    private final Redis redis;
     private final RedisAPI redisAPI;
     private final long timeout;
+    private final int maxBatchSize;
 
-    public RedisClientImpl(RedisAPI redisAPI, long timeout) {
+    public RedisClientImpl(Redis redis, RedisAPI redisAPI, long timeout, int maxBatchSize) {
+        this.redis = redis;
         this.redisAPI = redisAPI;
         this.timeout = timeout;
+        this.maxBatchSize = maxBatchSize;
     }
 
     @Override
@@ -22,6 +29,20 @@ class RedisClientImpl implements RedisClient {
         redisAPI.close();
     }
 
+    @Override
+    public List<Response> batch(RedisBatch batch) {
+        List<io.vertx.mutiny.redis.client.Response> responses = ReactiveRedisClientImpl.batch(redis, batch, maxBatchSize)
+                .await().atMost(Duration.ofSeconds(timeout));
+        if (responses == null) {
+            return null;
+        }
+        List<Response> result = new ArrayList<>(responses.size());
+        for (io.vertx.mutiny.redis.client.Response response : responses) {
+            result.add(response == null ? null : response.getDelegate());
+        }
+        return result;
+    }
+
     @Override
     public Response append(String arg0, String arg1) {
         return await(redisAPI.append(arg0, arg1));
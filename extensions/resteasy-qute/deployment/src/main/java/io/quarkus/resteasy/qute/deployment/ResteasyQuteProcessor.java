@@ -2,6 +2,8 @@ package io.quarkus.resteasy.qute.deployment;
 
 import org.jboss.jandex.DotName;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
+import io.quarkus.arc.processor.DotNames;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
@@ -22,6 +24,16 @@ public class ResteasyQuteProcessor {
         return new ResteasyJaxrsProviderBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    AdditionalBeanBuildItem filter() {
+        // the filter reads the runtime configuration
+        return new AdditionalBeanBuildItem.Builder()
+                .addBeanClass(TemplateResponseFilter.class)
+                .setUnremovable()
+                .setDefaultScope(DotNames.SINGLETON)
+                .build();
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(new ReflectiveHierarchyIgnoreWarningBuildItem.DotNameExclusion(
@@ -1,31 +1,42 @@
 package io.quarkus.resteasy.qute.runtime;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.ext.Provider;
 
 import org.jboss.resteasy.core.interception.jaxrs.SuspendableContainerResponseContext;
 
+import io.quarkus.arc.WithCaching;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
+import io.quarkus.qute.runtime.QuteRuntimeConfig;
 
 @Provider
 public class TemplateResponseFilter implements ContainerResponseFilter {
 
+    @WithCaching
+    @Inject
+    Instance<QuteRuntimeConfig> quteRuntimeConfigInstance;
+
     @Override
     public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
             throws IOException {
         Object entity = responseContext.getEntity();
         if (entity instanceof TemplateInstance) {
-            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
-            ctx.suspend();
-
             MediaType mediaType;
             TemplateInstance instance = (TemplateInstance) entity;
             Object variantsAttr = instance.getAttribute(TemplateInstance.VARIANTS);
@@ -50,17 +61,21 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
                 mediaType = null;
             }
 
+            OptionalInt chunkSize = quteRuntimeConfigInstance.get().responseChunkSize;
+            if (chunkSize.isPresent()) {
+                // the template is rendered while the entity is written
+                setEntity(responseContext, renderChunks(instance,
+                        mediaType != null ? mediaType : responseContext.getMediaType(), chunkSize.getAsInt()), mediaType);
+                return;
+            }
+
+            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
+            ctx.suspend();
             try {
                 instance.renderAsync()
                         .whenComplete((r, t) -> {
                             if (t == null) {
-                                // make sure we avoid setting a null media type because that causes
-                                // an NPE further down
-                                if (mediaType != null) {
-                                    ctx.setEntity(r, null, mediaType);
-                                } else {
-                                    ctx.setEntity(r);
-                                }
+                                setEntity(ctx, r, mediaType);
                                 ctx.resume();
                             } else {
                                 ctx.resume(t);
@@ -71,4 +86,39 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
             }
         }
     }
+
+    private static void setEntity(ContainerResponseContext responseContext, Object entity, MediaType mediaType) {
+        // make sure we avoid setting a null media type because that causes
+        // an NPE further down
+        if (mediaType != null) {
+            responseContext.setEntity(entity, null, mediaType);
+        } else {
+            responseContext.setEntity(entity);
+        }
+    }
+
+    private static StreamingOutput renderChunks(TemplateInstance instance, MediaType mediaType, int chunkSize) {
+        String charsetName = mediaType != null ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+        Charset charset = charsetName != null ? Charset.forName(charsetName) : StandardCharsets.UTF_8;
+        // each chunk is written to the output stream as soon as it is encoded
+        return out -> {
+            try {
+                instance.consumeBytes(chunk -> {
+                    try {
+                        out.write(chunk);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, charset, chunkSize).toCompletableFuture().join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                } else if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw e;
+            }
+        };
+    }
 }
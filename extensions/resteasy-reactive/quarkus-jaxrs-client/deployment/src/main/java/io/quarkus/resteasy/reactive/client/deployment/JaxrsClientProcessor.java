@@ -56,6 +56,7 @@ import io.quarkus.resteasy.reactive.client.runtime.ResteasyReactiveClientRecorde
 import io.quarkus.resteasy.reactive.common.deployment.ApplicationResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.QuarkusFactoryCreator;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
+import io.quarkus.resteasy.reactive.common.deployment.ResteasyReactiveConfigUtil;
 import io.quarkus.resteasy.reactive.common.deployment.SerializersUtil;
 import io.quarkus.resteasy.reactive.common.runtime.ResteasyReactiveConfig;
 import io.quarkus.resteasy.reactive.spi.MessageBodyReaderBuildItem;
@@ -101,7 +102,7 @@ public class JaxrsClientProcessor {
                 .setExistingConverters(new HashMap<>())
                 .setScannedResourcePaths(result.getScannedResourcePaths())
                 .setConfig(new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(config.inputBufferSize.asLongValue(),
-                        config.singleDefaultProduces))
+                        ResteasyReactiveConfigUtil.outputBufferSize(config), config.singleDefaultProduces))
                 .setAdditionalReaders(additionalReaders)
                 .setHttpAnnotationToMethod(result.getHttpAnnotationToMethod())
                 .setInjectableBeans(new HashMap<>())
@@ -0,0 +1,21 @@
+package io.quarkus.resteasy.reactive.common.deployment;
+
+import io.quarkus.resteasy.reactive.common.runtime.ResteasyReactiveConfig;
+import io.quarkus.runtime.configuration.ConfigurationException;
+
+public class ResteasyReactiveConfigUtil {
+
+    /**
+     * @return the size of the output buffer, in bytes
+     * @throws ConfigurationException if the size is not between 1 byte and {@link Integer#MAX_VALUE} bytes, as no
+     *         response could be written with an empty buffer
+     */
+    public static int outputBufferSize(ResteasyReactiveConfig config) {
+        long size = config.outputBufferSize.asLongValue();
+        if (size < 1 || size > Integer.MAX_VALUE) {
+            throw new ConfigurationException("quarkus.rest.output-buffer-size must be between 1 and "
+                    + Integer.MAX_VALUE + " bytes, got " + size);
+        }
+        return (int) size;
+    }
+}
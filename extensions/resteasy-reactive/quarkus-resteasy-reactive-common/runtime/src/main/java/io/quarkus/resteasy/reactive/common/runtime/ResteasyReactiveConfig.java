@@ -15,6 +15,26 @@ public class ResteasyReactiveConfig {
     @ConfigItem(defaultValue = "10k")
     public MemorySize inputBufferSize;
 
+    /**
+     * The size of the output stream response buffer. If a response is larger than this and no content-length
+     * is provided then the response will be chunked.
+     *
+     * Larger values may give slight performance increases for large responses, at the expense of more memory usage.
+     * It must be at least 1 byte.
+     */
+    @ConfigItem(defaultValue = "8191")
+    public MemorySize outputBufferSize;
+
+    /**
+     * If enabled, request bodies are passed chunk by chunk, as they are received on the IO thread, to the readers
+     * that support it, such as the Jackson one. Otherwise, they are buffered in memory, or read from a blocking stream
+     * on a worker thread once they are larger than {@code input-buffer-size}.
+     *
+     * Bodies bound to a {@code Multi} parameter are always read this way.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean nonBlockingInput;
+
     /**
      * By default we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -0,0 +1,48 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.time.Duration;
+import java.util.List;
+
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+
+@Path("/non-blocking")
+public class NonBlockingInputResource {
+
+    @POST
+    @Path("/person")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Person person(Person person) {
+        // even large requests are parsed on the IO thread
+        if (BlockingOperationControl.isBlockingAllowed()) {
+            throw new RuntimeException("should not have dispatched");
+        }
+        return person;
+    }
+
+    @POST
+    @Path("/people")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Uni<List<String>> people(Multi<Person> people) {
+        return people.map(Person::getFirst).collectItems().asList();
+    }
+
+    @POST
+    @Path("/slow-people")
+    @Produces(MediaType.APPLICATION_JSON)
+    @Consumes(MediaType.APPLICATION_JSON)
+    public Uni<List<String>> slowPeople(Multi<Person> people) {
+        // requests the elements one at a time, so that the parser has to wait for the subscriber
+        return people.onItem().call(p -> Uni.createFrom().item(p).onItem().delayIt().by(Duration.ofMillis(1)))
+                .map(Person::getFirst).collectItems().asList();
+    }
+}
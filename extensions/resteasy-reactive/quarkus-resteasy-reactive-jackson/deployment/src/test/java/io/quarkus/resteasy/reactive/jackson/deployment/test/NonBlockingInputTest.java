@@ -0,0 +1,119 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import java.util.function.Supplier;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class NonBlockingInputTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Person.class, NonBlockingInputResource.class);
+                }
+            })
+            .overrideConfigKey("quarkus.rest.non-blocking-input", "true");
+
+    @Test
+    public void testLargeJsonPost() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10000; ++i) {
+            sb.append("abc");
+        }
+        String longString = sb.toString();
+        RestAssured
+                .with()
+                .body("{\"first\": \"" + longString + "\", \"last\": \"" + longString + "\"}")
+                .contentType("application/json; charset=utf-8")
+                .post("/non-blocking/person")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("first", Matchers.equalTo(longString)).body("last", Matchers.equalTo(longString));
+    }
+
+    @Test
+    public void testInvalidJsonPost() {
+        RestAssured
+                .with()
+                .body("{\"first\": \"Bob\", ")
+                .contentType("application/json")
+                .post("/non-blocking/person")
+                .then()
+                // same as a body read from the input stream, see ExceptionInReaderTest
+                .statusCode(500);
+    }
+
+    @Test
+    public void testTrailingJsonPost() {
+        RestAssured
+                .with()
+                .body("{\"first\": \"Bob\", \"last\": \"Builder\"} {\"first\": \"Eve\"}")
+                .contentType("application/json")
+                .post("/non-blocking/person")
+                .then()
+                .statusCode(400);
+        RestAssured
+                .with()
+                .body("[{\"first\": \"Bob\", \"last\": \"Builder\"}] []")
+                .contentType("application/json")
+                .post("/non-blocking/people")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    public void testMultiJsonPost() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"first\": \"Bob").append(i).append("\", \"last\": \"Builder\"}");
+        }
+        sb.append(']');
+        RestAssured
+                .with()
+                .body(sb.toString())
+                .contentType("application/json")
+                .post("/non-blocking/people")
+                .then()
+                .statusCode(200)
+                .body("size()", Matchers.equalTo(1000))
+                .body("[0]", Matchers.equalTo("Bob0"))
+                .body("[999]", Matchers.equalTo("Bob999"));
+    }
+
+    @Test
+    public void testSlowMultiJsonPost() {
+        // more elements than the parser buffers, so the request input is paused until the subscriber catches up
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 1000; ++i) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"first\": \"Bob").append(i).append("\", \"last\": \"Builder\"}");
+        }
+        sb.append(']');
+        RestAssured
+                .with()
+                .body(sb.toString())
+                .contentType("application/json")
+                .post("/non-blocking/slow-people")
+                .then()
+                .statusCode(200)
+                .body("size()", Matchers.equalTo(1000))
+                .body("[0]", Matchers.equalTo("Bob0"))
+                .body("[999]", Matchers.equalTo("Bob999"));
+    }
+}
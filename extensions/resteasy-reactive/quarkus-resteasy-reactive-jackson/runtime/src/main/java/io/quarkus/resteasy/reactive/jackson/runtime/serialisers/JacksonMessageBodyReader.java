@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 import javax.inject.Inject;
 import javax.ws.rs.WebApplicationException;
@@ -12,12 +14,17 @@ import javax.ws.rs.core.MultivaluedMap;
 
 import org.jboss.resteasy.reactive.common.util.EmptyInputStream;
 import org.jboss.resteasy.reactive.server.providers.serialisers.json.AbstractJsonMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.NonBlockingServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 
-public class JacksonMessageBodyReader extends AbstractJsonMessageBodyReader {
+import io.smallrye.mutiny.Multi;
+
+public class JacksonMessageBodyReader extends AbstractJsonMessageBodyReader
+        implements NonBlockingServerMessageBodyReader<Object> {
 
     private final ObjectReader reader;
 
@@ -38,11 +45,40 @@ public class JacksonMessageBodyReader extends AbstractJsonMessageBodyReader {
         return doReadFrom(type, genericType, context.getInputStream());
     }
 
+    @Override
+    public BodyParser<Object> createBodyParser(Class<Object> type, Type genericType, MediaType mediaType,
+            ServerRequestContext context) throws WebApplicationException, IOException {
+        String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+        if (charset != null && !StandardCharsets.UTF_8.name().equalsIgnoreCase(charset)) {
+            // the non-blocking parser only supports UTF-8
+            return null;
+        }
+        JavaType javaType = constructType(type, genericType);
+        if (Multi.class.equals(type)) {
+            return new NonBlockingJsonBodyParser(reader.forType(javaType.containedTypeOrUnknown(0)), true);
+        }
+        return new NonBlockingJsonBodyParser(reader.forType(javaType), false);
+    }
+
     private Object doReadFrom(Class<Object> type, Type genericType, InputStream entityStream) throws IOException {
+        if (Multi.class.equals(type)) {
+            // the body is only streamed by the non-blocking parser
+            if (entityStream instanceof EmptyInputStream) {
+                return Multi.createFrom().empty();
+            }
+            JavaType elementType = constructType(type, genericType).containedTypeOrUnknown(0);
+            List<Object> elements = reader
+                    .forType(reader.getTypeFactory().constructCollectionType(List.class, elementType))
+                    .readValue(entityStream);
+            return Multi.createFrom().iterable(elements);
+        }
         if (entityStream instanceof EmptyInputStream) {
             return null;
         }
-        return reader.forType(reader.getTypeFactory().constructType(genericType != null ? genericType : type))
-                .readValue(entityStream);
+        return reader.forType(constructType(type, genericType)).readValue(entityStream);
+    }
+
+    private JavaType constructType(Class<Object> type, Type genericType) {
+        return reader.getTypeFactory().constructType(genericType != null ? genericType : type);
     }
 }
@@ -5,6 +5,7 @@ import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 
 import javax.inject.Inject;
 import javax.ws.rs.WebApplicationException;
@@ -49,7 +50,7 @@ public class JacksonMessageBodyWriter implements ServerMessageBodyWriter<Object>
             MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
         httpHeaders.putSingle(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
-            entityStream.write(((String) o).getBytes());
+            entityStream.write(((String) o).getBytes(StandardCharsets.UTF_8));
         } else {
             if (annotations != null) {
                 for (Annotation annotation : annotations) {
@@ -60,7 +61,8 @@ public class JacksonMessageBodyWriter implements ServerMessageBodyWriter<Object>
                     }
                 }
             }
-            entityStream.write(writer.writeValueAsBytes(o));
+            // the generator writes straight to the stream instead of serializing the whole value in a byte array first
+            writer.writeValue(entityStream, o);
         }
     }
 
@@ -74,7 +76,7 @@ public class JacksonMessageBodyWriter implements ServerMessageBodyWriter<Object>
         context.serverResponse().setResponseHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON);
         OutputStream stream = context.getOrCreateOutputStream();
         if (o instanceof String) { // YUK: done in order to avoid adding extra quotes...
-            stream.write(((String) o).getBytes());
+            stream.write(((String) o).getBytes(StandardCharsets.UTF_8));
         } else {
             // First test the names to see if JsonView is used. We do this to avoid doing reflection for the common case
             // where JsonView is not used
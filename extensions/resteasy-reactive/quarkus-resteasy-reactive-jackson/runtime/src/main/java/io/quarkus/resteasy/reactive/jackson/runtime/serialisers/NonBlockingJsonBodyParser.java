@@ -0,0 +1,287 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import javax.ws.rs.BadRequestException;
+
+import org.jboss.resteasy.reactive.server.spi.NonBlockingServerMessageBodyReader;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.operators.multi.processors.UnicastProcessor;
+
+/**
+ * Feeds the chunks of a request body to a non-blocking {@link JsonParser}.
+ * <p>
+ * The tokens of a value are copied to a {@link TokenBuffer} until the value is complete, then the value is bound
+ * with the {@link ObjectReader}. When the body is read as a {@link Multi}, the body must be a JSON array and each of
+ * its elements is emitted as soon as it is parsed. Any content after the entity, or after the array, is rejected.
+ * <p>
+ * At most {@link #MAX_BUFFERED_ELEMENTS} elements are buffered until the subscriber of the {@link Multi} requests them.
+ * Once the buffer is full, the parser stops and the request input is paused. Parsing goes on, and the input is resumed,
+ * once the subscriber consumed half of the buffer. All the methods and callbacks that use the parser hold the lock of
+ * this instance, as parsing may go on in the thread of the subscriber.
+ */
+final class NonBlockingJsonBodyParser implements NonBlockingServerMessageBodyReader.BodyParser<Object> {
+
+    static final int MAX_BUFFERED_ELEMENTS = 128;
+
+    private final ObjectReader reader;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final Queue<Object> buffer;
+    private final UnicastProcessor<Object> processor;
+    private final Multi<Object> elements;
+    // the chunks received while the parser couldn't take more input, e.g. already in flight when the input was paused
+    private final Queue<ByteBuffer> pendingChunks = new ArrayDeque<>();
+
+    private ServerHttpRequest request;
+    private TokenBuffer tokens;
+    private int depth;
+    private Object entity;
+    private boolean arrayStarted;
+    private boolean arrayEnded;
+    private boolean valueParsed;
+    private boolean bodyEnded;
+    private boolean inputEnded;
+    private boolean parsing;
+    private boolean inputPaused;
+    private volatile boolean bufferFull;
+    private volatile boolean terminated;
+
+    /**
+     * @param reader the reader of the entity, or of the elements of the array if {@code streaming}
+     * @param streaming whether the entity is a {@link Multi} of the elements of a JSON array
+     */
+    NonBlockingJsonBodyParser(ObjectReader reader, boolean streaming) throws IOException {
+        this.reader = reader;
+        this.parser = reader.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        if (streaming) {
+            this.buffer = new ArrayBlockingQueue<>(MAX_BUFFERED_ELEMENTS);
+            this.processor = UnicastProcessor.create(buffer, this::terminated);
+            this.elements = processor.onItem().invoke(this::consumed);
+        } else {
+            this.buffer = null;
+            this.processor = null;
+            this.elements = null;
+        }
+    }
+
+    @Override
+    public synchronized void setRequest(ServerHttpRequest request) {
+        this.request = request;
+    }
+
+    @Override
+    public synchronized void parse(ByteBuffer data) throws IOException {
+        if (terminated) {
+            // the subscriber cancelled, the rest of the body is ignored
+            return;
+        }
+        pendingChunks.add(data);
+        drain();
+    }
+
+    @Override
+    public synchronized void end() throws IOException {
+        bodyEnded = true;
+        if (!terminated) {
+            drain();
+        }
+    }
+
+    @Override
+    public Object getEntity() {
+        return processor != null ? elements : entity;
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return processor != null;
+    }
+
+    @Override
+    public synchronized void fail(Throwable failure) {
+        if (processor != null && !terminated) {
+            processor.onError(failure);
+        }
+        // the rest of the body is ignored
+        resumeInput();
+    }
+
+    /**
+     * Parses the input until it is consumed or the buffer of the elements is full. It is re-entered when the
+     * subscriber consumes an element emitted by this loop, in which case the loop of the caller goes on.
+     */
+    private void drain() throws IOException {
+        if (parsing) {
+            return;
+        }
+        parsing = true;
+        try {
+            while (nextTokens()) {
+                // the input that was fed to the parser has been consumed
+                ByteBuffer chunk = pendingChunks.poll();
+                if (chunk != null) {
+                    feed(chunk);
+                } else if (bodyEnded && !inputEnded) {
+                    feeder.endOfInput();
+                    inputEnded = true;
+                } else {
+                    if (inputEnded) {
+                        complete();
+                    }
+                    resumeInput();
+                    return;
+                }
+            }
+            pauseInput();
+        } finally {
+            parsing = false;
+        }
+    }
+
+    private void feed(ByteBuffer data) throws IOException {
+        if (data.hasArray()) {
+            int start = data.arrayOffset() + data.position();
+            feeder.feedInput(data.array(), start, start + data.remaining());
+        } else {
+            byte[] bytes = new byte[data.remaining()];
+            data.get(bytes);
+            feeder.feedInput(bytes, 0, bytes.length);
+        }
+    }
+
+    private void complete() throws IOException {
+        if (depth > 0 || (arrayStarted && !arrayEnded)) {
+            throw new JsonParseException(parser, "Unexpected end of the request body");
+        }
+        if (processor != null) {
+            processor.onComplete();
+        }
+        parser.close();
+    }
+
+    /**
+     * @return {@code false} if the parser stopped because the buffer of the elements is full, {@code true} once the
+     *         input fed to the parser is consumed
+     */
+    private boolean nextTokens() throws IOException {
+        JsonToken token;
+        for (;;) {
+            if (buffer != null && buffer.size() >= MAX_BUFFERED_ELEMENTS) {
+                bufferFull = true;
+                return false;
+            }
+            token = nextToken();
+            if (token == null || token == JsonToken.NOT_AVAILABLE) {
+                return true;
+            }
+            if (processor != null && depth == 0) {
+                if (!arrayStarted) {
+                    if (token != JsonToken.START_ARRAY) {
+                        throw new JsonParseException(parser, "Expected a JSON array but found " + token);
+                    }
+                    arrayStarted = true;
+                    continue;
+                }
+                if (token == JsonToken.END_ARRAY) {
+                    arrayEnded = true;
+                    continue;
+                }
+            }
+            if (tokens == null) {
+                tokens = new TokenBuffer(parser);
+            }
+            tokens.copyCurrentEvent(parser);
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (depth == 0) {
+                Object value = reader.readValue(tokens.asParser());
+                tokens = null;
+                if (processor != null) {
+                    processor.onNext(value);
+                } else {
+                    entity = value;
+                    valueParsed = true;
+                }
+            }
+        }
+    }
+
+    private JsonToken nextToken() throws IOException {
+        if (arrayEnded || valueParsed) {
+            JsonToken token;
+            try {
+                token = parser.nextToken();
+            } catch (JsonProcessingException e) {
+                throw trailingContent();
+            }
+            if (token != null && token != JsonToken.NOT_AVAILABLE) {
+                throw trailingContent();
+            }
+            return token;
+        }
+        return parser.nextToken();
+    }
+
+    private void consumed(Object element) {
+        // parsing goes on once half of the buffer is free, so that the input isn't paused and resumed for each element
+        if (bufferFull && buffer.size() <= MAX_BUFFERED_ELEMENTS / 2) {
+            synchronized (this) {
+                if (!bufferFull || terminated) {
+                    return;
+                }
+                bufferFull = false;
+                try {
+                    drain();
+                } catch (Throwable t) {
+                    fail(t);
+                }
+            }
+        }
+    }
+
+    private void terminated() {
+        terminated = true;
+        synchronized (this) {
+            // the rest of the body is ignored
+            pendingChunks.clear();
+            resumeInput();
+        }
+    }
+
+    private void pauseInput() {
+        if (!inputPaused && request != null) {
+            inputPaused = true;
+            request.pauseRequestInput();
+        }
+    }
+
+    private void resumeInput() {
+        if (inputPaused) {
+            inputPaused = false;
+            request.resumeRequestInput();
+        }
+    }
+
+    private static BadRequestException trailingContent() {
+        return new BadRequestException("Unexpected content after the JSON value of the request body");
+    }
+}
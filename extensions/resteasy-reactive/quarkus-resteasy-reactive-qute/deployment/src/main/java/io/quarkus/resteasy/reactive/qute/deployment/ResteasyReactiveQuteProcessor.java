@@ -1,5 +1,10 @@
 package io.quarkus.resteasy.reactive.qute.deployment;
 
+import java.util.Collections;
+
+import javax.ws.rs.RuntimeType;
+import javax.ws.rs.core.MediaType;
+
 import org.jboss.jandex.DotName;
 
 import io.quarkus.deployment.Feature;
@@ -7,8 +12,11 @@ import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateChunks;
+import io.quarkus.resteasy.reactive.qute.runtime.TemplateChunksMessageBodyWriter;
 import io.quarkus.resteasy.reactive.qute.runtime.TemplateResponseFilter;
 import io.quarkus.resteasy.reactive.spi.CustomContainerResponseFilterBuildItem;
+import io.quarkus.resteasy.reactive.spi.MessageBodyWriterBuildItem;
 
 public class ResteasyReactiveQuteProcessor {
 
@@ -22,6 +30,12 @@ public class ResteasyReactiveQuteProcessor {
         return new CustomContainerResponseFilterBuildItem(TemplateResponseFilter.class.getName());
     }
 
+    @BuildStep
+    MessageBodyWriterBuildItem registerChunksWriter() {
+        return new MessageBodyWriterBuildItem(TemplateChunksMessageBodyWriter.class.getName(), TemplateChunks.class.getName(),
+                Collections.singletonList(MediaType.WILDCARD), RuntimeType.SERVER, true);
+    }
+
     @BuildStep
     ReflectiveHierarchyIgnoreWarningBuildItem ignoreReflectiveWarning() {
         return new ReflectiveHierarchyIgnoreWarningBuildItem(new ReflectiveHierarchyIgnoreWarningBuildItem.DotNameExclusion(
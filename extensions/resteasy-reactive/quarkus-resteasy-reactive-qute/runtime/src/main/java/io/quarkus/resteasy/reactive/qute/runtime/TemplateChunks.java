@@ -0,0 +1,30 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import io.quarkus.qute.TemplateInstance;
+
+/**
+ * A template that is encoded into chunks while it is rendered, so that each chunk can be written to the response as soon
+ * as it is produced.
+ *
+ * @see io.quarkus.qute.TemplateInstance#consumeBytes(java.util.function.Consumer, java.nio.charset.Charset, int)
+ */
+public final class TemplateChunks {
+
+    private final TemplateInstance instance;
+    private final Charset charset;
+    private final int chunkSize;
+
+    TemplateChunks(TemplateInstance instance, Charset charset, int chunkSize) {
+        this.instance = instance;
+        this.charset = charset;
+        this.chunkSize = chunkSize;
+    }
+
+    CompletionStage<Void> consume(Consumer<byte[]> consumer) {
+        return instance.consumeBytes(consumer, charset, chunkSize);
+    }
+}
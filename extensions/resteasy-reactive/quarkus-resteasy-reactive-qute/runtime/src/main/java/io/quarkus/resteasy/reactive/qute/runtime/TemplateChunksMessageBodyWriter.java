@@ -0,0 +1,141 @@
+package io.quarkus.resteasy.reactive.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
+import org.jboss.resteasy.reactive.server.spi.ServerRequestContext;
+
+/**
+ * Renders a template and writes each chunk of its output to the response as soon as it is encoded.
+ */
+public class TemplateChunksMessageBodyWriter implements ServerMessageBodyWriter<TemplateChunks> {
+
+    private static final Logger LOGGER = Logger.getLogger(TemplateChunksMessageBodyWriter.class);
+
+    private static final Consumer<Throwable> WRITE_FAILURE_HANDLER = new Consumer<Throwable>() {
+        @Override
+        public void accept(Throwable t) {
+            if (t != null) {
+                LOGGER.debug("Failed to write a template chunk", t);
+            }
+        }
+    };
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public boolean isWriteable(Class<?> type, ResteasyReactiveResourceInfo target, MediaType mediaType) {
+        return true;
+    }
+
+    @Override
+    public void writeResponse(TemplateChunks o, ServerRequestContext context) throws WebApplicationException {
+        ResteasyReactiveRequestContext requestContext = (ResteasyReactiveRequestContext) context;
+        ServerHttpResponse response = context.serverResponse();
+        ChunkWriter writer = new ChunkWriter(response);
+        // the chunks are written as soon as they are produced so the request is resumed once the template is rendered
+        requestContext.suspend();
+        CompletionStage<Void> rendered;
+        try {
+            rendered = o.consume(writer);
+        } catch (Throwable t) {
+            requestContext.resume(t);
+            return;
+        }
+        rendered.whenComplete((r, t) -> {
+            if (t == null) {
+                writer.end();
+                requestContext.resume();
+            } else if (!response.headWritten()) {
+                requestContext.resume(t);
+            } else {
+                LOGGER.error("Failed to render a template after a part of it was written", t);
+                requestContext.serverRequest().closeConnection();
+                requestContext.resume();
+            }
+        });
+    }
+
+    @Override
+    public void writeTo(TemplateChunks o, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
+        try {
+            o.consume(new Consumer<byte[]>() {
+                @Override
+                public void accept(byte[] chunk) {
+                    try {
+                        entityStream.write(chunk);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Holds back the first chunk so that a template that fits in a single chunk is sent with a Content-Length header, all
+     * the other templates are sent with the chunked transfer encoding.
+     */
+    private static final class ChunkWriter implements Consumer<byte[]> {
+
+        private final ServerHttpResponse response;
+        private byte[] first;
+        private boolean chunked;
+
+        ChunkWriter(ServerHttpResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void accept(byte[] chunk) {
+            if (chunked) {
+                response.write(chunk, WRITE_FAILURE_HANDLER);
+            } else if (first == null) {
+                first = chunk;
+            } else {
+                chunked = true;
+                response.setChunked(true);
+                response.write(first, WRITE_FAILURE_HANDLER);
+                response.write(chunk, WRITE_FAILURE_HANDLER);
+                first = null;
+            }
+        }
+
+        void end() {
+            if (chunked) {
+                response.end();
+            } else if (first != null) {
+                response.end(first);
+            } else {
+                response.end();
+            }
+        }
+    }
+}
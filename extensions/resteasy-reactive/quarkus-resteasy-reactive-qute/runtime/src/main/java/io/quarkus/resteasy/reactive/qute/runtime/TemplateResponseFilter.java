@@ -1,8 +1,12 @@
 package io.quarkus.resteasy.reactive.qute.runtime;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.OptionalInt;
 import java.util.stream.Collectors;
 
+import javax.inject.Inject;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.core.MediaType;
 
@@ -11,10 +15,14 @@ import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveContainerRequestCo
 
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
+import io.quarkus.qute.runtime.QuteRuntimeConfig;
 import io.smallrye.mutiny.Uni;
 
 public class TemplateResponseFilter {
 
+    @Inject
+    QuteRuntimeConfig quteRuntimeConfig;
+
     @ServerResponseFilter
     public Uni<Void> filter(ResteasyReactiveContainerRequestContext requestContext, ContainerResponseContext responseContext) {
         Object entity = responseContext.getEntity();
@@ -46,13 +54,30 @@ public class TemplateResponseFilter {
             mediaType = null;
         }
 
+        OptionalInt chunkSize = quteRuntimeConfig.responseChunkSize;
+        if (chunkSize.isPresent()) {
+            // the template is rendered while the response is written, see TemplateChunksMessageBodyWriter
+            setEntity(responseContext, newChunks(instance, mediaType != null ? mediaType : responseContext.getMediaType(),
+                    chunkSize.getAsInt()), mediaType);
+            return null;
+        }
         return instance.createUni().chain(r -> {
-            if (mediaType != null) {
-                responseContext.setEntity(r, null, mediaType);
-            } else {
-                responseContext.setEntity(r);
-            }
+            setEntity(responseContext, r, mediaType);
             return Uni.createFrom().nullItem();
         });
     }
+
+    private static void setEntity(ContainerResponseContext responseContext, Object entity, MediaType mediaType) {
+        if (mediaType != null) {
+            responseContext.setEntity(entity, null, mediaType);
+        } else {
+            responseContext.setEntity(entity);
+        }
+    }
+
+    private static TemplateChunks newChunks(TemplateInstance instance, MediaType mediaType, int chunkSize) {
+        String charsetName = mediaType != null ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+        Charset charset = charsetName != null ? Charset.forName(charsetName) : StandardCharsets.UTF_8;
+        return new TemplateChunks(instance, charset, chunkSize);
+    }
 }
@@ -87,6 +87,7 @@ import io.quarkus.resteasy.reactive.common.deployment.FactoryUtils;
 import io.quarkus.resteasy.reactive.common.deployment.QuarkusFactoryCreator;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceInterceptorsBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
+import io.quarkus.resteasy.reactive.common.deployment.ResteasyReactiveConfigUtil;
 import io.quarkus.resteasy.reactive.common.deployment.SerializersUtil;
 import io.quarkus.resteasy.reactive.common.runtime.ResteasyReactiveConfig;
 import io.quarkus.resteasy.reactive.server.runtime.ResteasyReactiveInitialiser;
@@ -285,7 +286,8 @@ public class ResteasyReactiveProcessor {
                     .setBytecodeTransformerBuildProducer(bytecodeTransformerBuildItemBuildProducer)
                     .setExistingConverters(existingConverters).setScannedResourcePaths(scannedResourcePaths)
                     .setConfig(new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
-                            config.inputBufferSize.asLongValue(), config.singleDefaultProduces))
+                            config.inputBufferSize.asLongValue(), ResteasyReactiveConfigUtil.outputBufferSize(config),
+                            config.singleDefaultProduces).setNonBlockingInput(config.nonBlockingInput))
                     .setAdditionalReaders(additionalReaders)
                     .setHttpAnnotationToMethod(result.getHttpAnnotationToMethod())
                     .setInjectableBeans(injectableBeans).setAdditionalWriters(additionalWriters)
@@ -451,7 +453,8 @@ public class ResteasyReactiveProcessor {
             RuntimeValue<Deployment> deployment = recorder.createDeployment(new DeploymentInfo()
                     .setInterceptors(interceptors.sort())
                     .setConfig(new org.jboss.resteasy.reactive.common.ResteasyReactiveConfig(
-                            config.inputBufferSize.asLongValue(), config.singleDefaultProduces))
+                            config.inputBufferSize.asLongValue(), ResteasyReactiveConfigUtil.outputBufferSize(config),
+                            config.singleDefaultProduces).setNonBlockingInput(config.nonBlockingInput))
                     .setExceptionMapping(exceptionMapping)
                     .setCtxResolvers(contextResolvers)
                     .setFeatures(feats)
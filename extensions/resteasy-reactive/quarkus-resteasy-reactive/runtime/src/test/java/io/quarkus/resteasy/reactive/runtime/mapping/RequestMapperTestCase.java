@@ -35,6 +35,37 @@ public class RequestMapperTestCase {
 
     }
 
+    @Test
+    public void testSharedPrefixes() {
+
+        RequestMapper<String> mapper = mapper("/api/{id}/items", "/api/{id}/items/{item}", "/api/{id}/info",
+                "/api/{id}/images/{name}.{ext}", "/api/{id}/{sub}", "/api/users/{user:[0-9]+}", "/api/users/me");
+
+        RequestMapper.RequestMatch<String> result = mapper.map("/api/1/items");
+        Assertions.assertEquals("/api/{id}/items", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        result = mapper.map("/api/1/items/2");
+        Assertions.assertEquals("/api/{id}/items/{item}", result.value);
+        Assertions.assertEquals("1", result.pathParamValues[0]);
+        Assertions.assertEquals("2", result.pathParamValues[1]);
+        result = mapper.map("/api/1/info");
+        Assertions.assertEquals("/api/{id}/info", result.value);
+        result = mapper.map("/api/1/inf");
+        Assertions.assertEquals("/api/{id}/{sub}", result.value);
+        Assertions.assertEquals("inf", result.pathParamValues[1]);
+        result = mapper.map("/api/1/images/a%20b.png");
+        Assertions.assertEquals("/api/{id}/images/{name}.{ext}", result.value);
+        Assertions.assertEquals("a b", result.pathParamValues[1]);
+        Assertions.assertEquals("png", result.pathParamValues[2]);
+        result = mapper.map("/api/users/me");
+        Assertions.assertEquals("/api/users/me", result.value);
+        result = mapper.map("/api/users/42");
+        Assertions.assertEquals("/api/users/{user:[0-9]+}", result.value);
+        Assertions.assertEquals("42", result.pathParamValues[0]);
+        Assertions.assertNull(mapper.map("/api/1/images/other"));
+        Assertions.assertNull(mapper.map("/api/1/items/2/3"));
+    }
+
     RequestMapper<String> mapper(String... vals) {
         List<RequestMapper.RequestPath<String>> list = new ArrayList<>();
         for (String i : vals) {
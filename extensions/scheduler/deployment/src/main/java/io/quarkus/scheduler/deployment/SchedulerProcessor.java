@@ -82,6 +82,8 @@ public class SchedulerProcessor {
 
     static final String INVOKER_SUFFIX = "_ScheduledInvoker";
 
+    static final Duration MIN_EVERY = Duration.ofMillis(1);
+
     @BuildStep
     void beans(Capabilities capabilities, BuildProducer<AdditionalBeanBuildItem> additionalBeans) {
         if (capabilities.isMissing(Capability.QUARTZ)) {
@@ -311,11 +313,15 @@ public class SchedulerProcessor {
                 if (Character.isDigit(every.charAt(0))) {
                     every = "PT" + every;
                 }
+                Duration duration;
                 try {
-                    Duration.parse(every);
+                    duration = Duration.parse(every);
                 } catch (Exception e) {
                     return new IllegalStateException("Invalid every() expression on: " + schedule, e);
                 }
+                if (duration.abs().compareTo(MIN_EVERY) < 0) {
+                    return new IllegalStateException("The every() period must be at least 1 millisecond on: " + schedule);
+                }
             } else {
                 return new IllegalStateException("@Scheduled must declare either cron() or every(): " + schedule);
             }
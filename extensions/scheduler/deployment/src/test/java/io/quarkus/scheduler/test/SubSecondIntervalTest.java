@@ -0,0 +1,40 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class SubSecondIntervalTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testSubSecondInterval() throws InterruptedException {
+        // A 100 ms interval should fire at least 10 times in 2 seconds
+        assertTrue(Jobs.LATCH.await(2, TimeUnit.SECONDS));
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(10);
+
+        @Scheduled(every = "0.1s")
+        void everyHundredMillis() {
+            LATCH.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,33 @@
+package io.quarkus.scheduler.test;
+
+import javax.enterprise.inject.spi.DeploymentException;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ZeroEveryPeriodTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setExpectedException(DeploymentException.class)
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(ZeroEveryPeriodTest.InvalidBean.class));
+
+    @Test
+    public void test() throws InterruptedException {
+    }
+
+    static class InvalidBean {
+
+        @Scheduled(every = "0.0001s")
+        void wrong() {
+        }
+
+    }
+
+}
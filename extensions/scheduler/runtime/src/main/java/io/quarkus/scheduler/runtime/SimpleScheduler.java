@@ -2,7 +2,6 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -46,9 +45,6 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
     private volatile boolean running;
@@ -100,12 +96,11 @@ public class SimpleScheduler implements Scheduler {
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        // Each task computes its next fire time and is only woken up by the executor when it's due
+        ZonedDateTime now = ZonedDateTime.now();
+        for (ScheduledTask task : scheduledTasks) {
+            task.schedule(now);
+        }
     }
 
     @PreDestroy
@@ -119,17 +114,6 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
-    void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
-            return;
-        }
-        ZonedDateTime now = ZonedDateTime.now();
-        for (ScheduledTask task : scheduledTasks) {
-            task.execute(now, executor);
-        }
-    }
-
     @Override
     public void pause() {
         if (!enabled) {
@@ -182,7 +166,12 @@ public class SimpleScheduler implements Scheduler {
             }
             return new CronTrigger(id, start, cronExpr);
         } else if (!scheduled.every().isEmpty()) {
-            return new IntervalTrigger(id, start, Math.abs(parseDuration(scheduled, scheduled.every(), "every").toMillis()));
+            long interval = Math.abs(parseDuration(scheduled, scheduled.every(), "every").toMillis());
+            if (interval == 0) {
+                // the period may come from a config property, which is not validated during the build
+                throw new IllegalArgumentException("The every() period must be at least 1 millisecond: " + scheduled);
+            }
+            return new IntervalTrigger(id, start, interval);
         } else {
             throw new IllegalArgumentException("Invalid schedule configuration: " + scheduled);
         }
@@ -206,7 +195,7 @@ public class SimpleScheduler implements Scheduler {
         }
     }
 
-    static class ScheduledTask {
+    class ScheduledTask implements Runnable {
 
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
@@ -216,24 +205,55 @@ public class SimpleScheduler implements Scheduler {
             this.invoker = invoker;
         }
 
-        void execute(ZonedDateTime now, ExecutorService executor) {
-            ZonedDateTime scheduledFireTime = trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                try {
-                    executor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
-                            } catch (Throwable t) {
-                                LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
-                            }
+        void schedule(ZonedDateTime now) {
+            ZonedDateTime nextFireTime = trigger.nextFireTime;
+            if (nextFireTime == null) {
+                LOGGER.debugf("%s will not fire again", trigger);
+                return;
+            }
+            try {
+                scheduledExecutor.schedule(this, Math.max(0, Duration.between(now, nextFireTime).toNanos()),
+                        TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler is being stopped
+                LOGGER.tracef("Unable to schedule the next execution of %s", trigger);
+            }
+        }
+
+        @Override
+        public void run() {
+            ZonedDateTime now = ZonedDateTime.now();
+            ZonedDateTime scheduledFireTime = trigger.nextFireTime;
+            if (now.isBefore(scheduledFireTime)) {
+                // The executor delay is measured with System.nanoTime() which may slightly drift from the wall clock
+                schedule(now);
+                return;
+            }
+            boolean fire = running;
+            if (fire) {
+                execute(now, scheduledFireTime);
+            } else {
+                LOGGER.tracef("Skip %s - scheduler paused", trigger);
+            }
+            trigger.update(scheduledFireTime, now, fire);
+            schedule(ZonedDateTime.now());
+        }
+
+        void execute(ZonedDateTime now, ZonedDateTime scheduledFireTime) {
+            try {
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, trigger));
+                        } catch (Throwable t) {
+                            LOGGER.errorf(t, "Error occured while executing task for trigger %s", trigger);
                         }
-                    });
-                    LOGGER.debugf("Executing scheduled task for trigger %s", trigger);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
-                }
+                    }
+                });
+                LOGGER.debugf("Executing scheduled task for trigger %s", trigger);
+            } catch (RejectedExecutionException e) {
+                LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", trigger);
             }
         }
 
@@ -243,6 +263,8 @@ public class SimpleScheduler implements Scheduler {
 
         private final String id;
         protected final ZonedDateTime start;
+        volatile ZonedDateTime nextFireTime;
+        private volatile ZonedDateTime previousFireTime;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
@@ -250,60 +272,62 @@ public class SimpleScheduler implements Scheduler {
         }
 
         /**
+         * Computes the next fire time once the trigger was due at the given fire time.
          * 
+         * @param scheduledFireTime the time the trigger was due at
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return the next fire time, {@code null} if the trigger will not fire again
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        abstract ZonedDateTime next(ZonedDateTime scheduledFireTime, ZonedDateTime now);
+
+        void update(ZonedDateTime scheduledFireTime, ZonedDateTime now, boolean fired) {
+            if (fired) {
+                previousFireTime = scheduledFireTime;
+            }
+            nextFireTime = next(scheduledFireTime, now);
+        }
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime previous = previousFireTime;
+            return previous != null ? previous.toInstant() : null;
+        }
+
     }
 
     static class IntervalTrigger extends SimpleTrigger {
 
-        private final long interval;
-        private volatile ZonedDateTime lastFireTime;
+        private final Duration interval;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
-            this.interval = interval;
+            this.interval = Duration.ofMillis(interval);
+            // The first execution happens as soon as the trigger starts
+            this.nextFireTime = start;
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            if (lastFireTime == null) {
-                // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return now;
-            }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return scheduledFireTime;
-            }
-            return null;
-        }
-
-        @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+        ZonedDateTime next(ZonedDateTime scheduledFireTime, ZonedDateTime now) {
+            ZonedDateTime next = scheduledFireTime.plus(interval);
+            // If some executions were missed, e.g. because the scheduler was paused, fire once and keep the interval from now
+            return next.isBefore(now) ? now : next;
         }
 
         @Override
         public String toString() {
             StringBuilder builder = new StringBuilder();
-            builder.append("IntervalTrigger [id=").append(getId()).append(", interval=").append(interval).append("]");
+            builder.append("IntervalTrigger [id=").append(getId()).append(", interval=").append(interval.toMillis())
+                    .append("]");
             return builder.toString();
         }
 
@@ -311,9 +335,6 @@ public class SimpleScheduler implements Scheduler {
 
     static class CronTrigger extends SimpleTrigger {
 
-        // microseconds
-        private static final long DIFF_THRESHOLD = CHECK_PERIOD * 1000;
-
         private final Cron cron;
         private final ExecutionTime executionTime;
 
@@ -321,38 +342,19 @@ public class SimpleScheduler implements Scheduler {
             super(id, start);
             this.cron = cron;
             this.executionTime = ExecutionTime.forCron(cron);
+            ZonedDateTime now = ZonedDateTime.now();
+            this.nextFireTime = executionTime.nextExecution(now.isBefore(start) ? start : now).orElse(null);
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
-            return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
-        }
-
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                // Use microseconds precision to workaround incompatibility between jdk8 and jdk9+
-                long diff = ChronoUnit.MICROS.between(trunc, now);
-                if (diff <= DIFF_THRESHOLD) {
-                    LOGGER.debugf("%s fired, diff=%s μs", this, diff);
-                    return trunc;
-                }
+        ZonedDateTime next(ZonedDateTime scheduledFireTime, ZonedDateTime now) {
+            // Missed executions are skipped
+            Optional<ZonedDateTime> next = executionTime
+                    .nextExecution(now.isAfter(scheduledFireTime) ? now : scheduledFireTime);
+            if (next.isPresent()) {
+                LOGGER.debugf("%s scheduled at %s", this, next.get());
             }
-            return null;
+            return next.orElse(null);
         }
 
         @Override
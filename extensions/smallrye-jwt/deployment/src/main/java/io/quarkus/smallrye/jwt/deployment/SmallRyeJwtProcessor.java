@@ -1,5 +1,7 @@
 package io.quarkus.smallrye.jwt.deployment;
 
+import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
+
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -26,11 +28,14 @@ import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.security.deployment.JCAProviderBuildItem;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRecorder;
 import io.quarkus.smallrye.jwt.runtime.auth.JWTAuthMechanism;
 import io.quarkus.smallrye.jwt.runtime.auth.JwtPrincipalProducer;
 import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
@@ -131,6 +136,20 @@ class SmallRyeJwtProcessor {
         return new JCAProviderBuildItem(config.rsaSigProvider);
     }
 
+    /**
+     * Register the metrics of the token verification if a metrics extension is present
+     *
+     * @return MetricsFactoryConsumerBuildItem
+     */
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem registerTokenVerificationMetrics(SmallRyeJwtRecorder recorder) {
+        if (config.enabled) {
+            return new MetricsFactoryConsumerBuildItem(recorder.registerTokenVerificationMetrics());
+        }
+        return null;
+    }
+
     @BuildStep
     void registerOptionalClaimProducer(BeanRegistrationPhaseBuildItem beanRegistrationPhase,
             BuildProducer<BeanConfiguratorBuildItem> beanConfigurator) {
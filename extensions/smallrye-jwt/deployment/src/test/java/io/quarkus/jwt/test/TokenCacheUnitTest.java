@@ -0,0 +1,124 @@
+package io.quarkus.jwt.test;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRuntimeConfig;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.VerifiedTokenCache;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.ParseException;
+
+/**
+ * Validate the cache of the verified bearer tokens
+ */
+public class TokenCacheUnitTest {
+
+    @Test
+    public void testVerifiedTokenIsCached() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        CountingParser parser = new CountingParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, config(10, null));
+        String jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testTokenCache");
+
+        Assertions.assertEquals("jdoe@example.com", authenticate(jwtValidator, jwt).getPrincipal().getName());
+        Assertions.assertEquals("jdoe@example.com", authenticate(jwtValidator, jwt).getPrincipal().getName());
+        Assertions.assertEquals(1, parser.count.get());
+        VerifiedTokenCache cache = jwtValidator.getTokenCache();
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testDisabledCache() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        CountingParser parser = new CountingParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+        SmallRyeJwtRuntimeConfig config = config(10, null);
+        config.tokenCache.enabled = false;
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, config);
+        String jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testTokenCache");
+
+        authenticate(jwtValidator, jwt);
+        authenticate(jwtValidator, jwt);
+        Assertions.assertEquals(2, parser.count.get());
+        Assertions.assertNull(jwtValidator.getTokenCache());
+    }
+
+    @Test
+    public void testExpiredTokenIsNotReturned() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        CountingParser parser = new CountingParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, config(10, Duration.ofMillis(50)));
+        String jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testTokenCache");
+
+        authenticate(jwtValidator, jwt);
+        Thread.sleep(100);
+        authenticate(jwtValidator, jwt);
+        Assertions.assertEquals(2, parser.count.get());
+        Assertions.assertEquals(0, jwtValidator.getTokenCache().getHitCount());
+    }
+
+    @Test
+    public void testCacheIsBounded() throws Exception {
+        KeyPair keyPair = generateKeyPair();
+        DefaultJWTParser parser = new DefaultJWTParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+        VerifiedTokenCache cache = new VerifiedTokenCache(2, null);
+        for (int i = 0; i < 5; i++) {
+            String jwt = TokenUtils.generateTokenString("/Token1.json", keyPair.getPrivate(), "testTokenCache" + i);
+            cache.put(jwt, parser.parse(jwt));
+            Assertions.assertTrue(cache.size() <= 2);
+        }
+    }
+
+    private static SecurityIdentity authenticate(MpJwtValidator jwtValidator, String jwt) {
+        TokenAuthenticationRequest tokenEvidence = new TokenAuthenticationRequest(new TokenCredential(jwt, "bearer"));
+        return jwtValidator.authenticate(tokenEvidence, null).await().indefinitely();
+    }
+
+    private static SmallRyeJwtRuntimeConfig config(int maxSize, Duration timeToLive) {
+        SmallRyeJwtRuntimeConfig config = new SmallRyeJwtRuntimeConfig();
+        config.tokenCache = new SmallRyeJwtRuntimeConfig.TokenCacheConfig();
+        config.tokenCache.enabled = true;
+        config.tokenCache.maxSize = maxSize;
+        config.tokenCache.timeToLive = Optional.ofNullable(timeToLive);
+        return config;
+    }
+
+    private KeyPair generateKeyPair() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048); // because that's the minimal accepted size
+        return generator.generateKeyPair();
+    }
+
+    static class CountingParser extends DefaultJWTParser {
+
+        final AtomicInteger count = new AtomicInteger();
+
+        CountingParser(JWTAuthContextInfo authContextInfo) {
+            super(authContextInfo);
+        }
+
+        @Override
+        public JsonWebToken parse(String token) throws ParseException {
+            count.incrementAndGet();
+            return super.parse(token);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.util.function.Consumer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.runtime.annotations.Recorder;
+import io.quarkus.runtime.metrics.MetricsFactory;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.VerifiedTokenCache;
+
+@Recorder
+public class SmallRyeJwtRecorder {
+
+    public Consumer<MetricsFactory> registerTokenVerificationMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                MpJwtValidator validator = Arc.container().instance(MpJwtValidator.class).get();
+                validator.setVerificationTimer(metricsFactory.builder("smallrye.jwt.token.verification")
+                        .description("Time spent parsing and verifying bearer tokens")
+                        .buildTimer());
+                VerifiedTokenCache cache = validator.getTokenCache();
+                if (cache != null) {
+                    metricsFactory.builder("smallrye.jwt.token.cache.gets")
+                            .description("Number of lookups of verified tokens. A hit skipped the verification of the token "
+                                    + "and a miss verified it.")
+                            .tag("result", "hit")
+                            .buildCounter(cache::getHitCount);
+                    metricsFactory.builder("smallrye.jwt.token.cache.gets")
+                            .description("Number of lookups of verified tokens. A hit skipped the verification of the token "
+                                    + "and a miss verified it.")
+                            .tag("result", "miss")
+                            .buildCounter(cache::getMissCount);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package io.quarkus.smallrye.jwt.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "smallrye-jwt", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeJwtRuntimeConfig {
+
+    /**
+     * The cache of the verified tokens
+     */
+    @ConfigItem
+    public TokenCacheConfig tokenCache;
+
+    @ConfigGroup
+    public static class TokenCacheConfig {
+
+        /**
+         * If enabled, a bearer token that was verified is not verified again until it expires or it is evicted from the
+         * cache. Clients that send the same token with many requests then don't pay for the signature verification of
+         * each request.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The maximum number of cached tokens
+         */
+        @ConfigItem(defaultValue = "1000")
+        public int maxSize;
+
+        /**
+         * The maximum time a token stays in the cache. A token is never used after its expiration time. If not set, a
+         * token stays in the cache until it expires or it is evicted.
+         */
+        @ConfigItem
+        public Optional<Duration> timeToLive;
+    }
+}
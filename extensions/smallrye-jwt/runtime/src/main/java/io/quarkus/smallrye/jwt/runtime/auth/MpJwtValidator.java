@@ -1,5 +1,6 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -8,12 +9,14 @@ import javax.inject.Inject;
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
 
+import io.quarkus.runtime.metrics.MetricsFactory.TimeRecorder;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.security.identity.request.TokenAuthenticationRequest;
 import io.quarkus.security.runtime.QuarkusSecurityIdentity;
+import io.quarkus.smallrye.jwt.runtime.SmallRyeJwtRuntimeConfig;
 import io.smallrye.jwt.auth.principal.JWTParser;
 import io.smallrye.jwt.auth.principal.ParseException;
 import io.smallrye.mutiny.Uni;
@@ -28,14 +31,24 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
     private static final Logger log = Logger.getLogger(MpJwtValidator.class);
 
     final JWTParser parser;
+    final VerifiedTokenCache tokenCache;
+    private volatile TimeRecorder verificationTimer;
 
     public MpJwtValidator() {
         this.parser = null;
+        this.tokenCache = null;
     }
 
-    @Inject
     public MpJwtValidator(JWTParser parser) {
+        this(parser, null);
+    }
+
+    @Inject
+    public MpJwtValidator(JWTParser parser, SmallRyeJwtRuntimeConfig config) {
         this.parser = parser;
+        this.tokenCache = config != null && config.tokenCache.enabled
+                ? new VerifiedTokenCache(config.tokenCache.maxSize, config.tokenCache.timeToLive.orElse(null))
+                : null;
     }
 
     @Override
@@ -50,7 +63,7 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
             @Override
             public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
                 try {
-                    JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
+                    JsonWebToken jwtPrincipal = parse(request.getToken().getToken());
                     uniEmitter.complete(QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
                             .addRoles(jwtPrincipal.getGroups())
                             .addAttribute(SecurityIdentity.USER_ATTRIBUTE, jwtPrincipal).build());
@@ -63,4 +76,33 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
         });
 
     }
+
+    private JsonWebToken parse(String token) throws ParseException {
+        JsonWebToken jwt = tokenCache != null ? tokenCache.get(token) : null;
+        if (jwt != null) {
+            return jwt;
+        }
+        TimeRecorder timer = verificationTimer;
+        long start = timer != null ? System.nanoTime() : 0;
+        jwt = parser.parse(token);
+        if (timer != null) {
+            timer.update(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (tokenCache != null) {
+            tokenCache.put(token, jwt);
+        }
+        return jwt;
+    }
+
+    /**
+     *
+     * @return the cache of the verified tokens, or {@code null} if the cache is disabled
+     */
+    public VerifiedTokenCache getTokenCache() {
+        return tokenCache;
+    }
+
+    public void setVerificationTimer(TimeRecorder verificationTimer) {
+        this.verificationTimer = verificationTimer;
+    }
 }
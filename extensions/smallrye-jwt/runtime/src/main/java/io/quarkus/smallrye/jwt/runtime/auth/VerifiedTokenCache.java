@@ -0,0 +1,123 @@
+package io.quarkus.smallrye.jwt.runtime.auth;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+
+import io.quarkus.runtime.util.HashUtil;
+
+/**
+ * A bounded cache of the tokens that were verified, keyed by the SHA-256 hash of the raw token.
+ * <p>
+ * A token is never returned after its expiration time, or after the time to live if it's shorter. When the cache is full,
+ * the expired tokens are removed first and then arbitrary tokens until there is room for new tokens.
+ */
+public final class VerifiedTokenCache {
+
+    private final Map<String, CachedToken> tokens;
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final LongAdder hits;
+    private final LongAdder misses;
+
+    /**
+     * @param maxSize the maximum number of cached tokens
+     * @param timeToLive the maximum time a token stays in the cache, or {@code null}
+     */
+    public VerifiedTokenCache(int maxSize, Duration timeToLive) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("The maximum size must be positive: " + maxSize);
+        }
+        this.tokens = new ConcurrentHashMap<>();
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive != null ? timeToLive.toMillis() : -1;
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+    }
+
+    /**
+     *
+     * @param token the raw token
+     * @return the verified token, or {@code null} if the token was not verified yet or it expired
+     */
+    public JsonWebToken get(String token) {
+        String key = HashUtil.sha256(token);
+        CachedToken cached = tokens.get(key);
+        if (cached != null) {
+            if (!cached.isExpired(System.currentTimeMillis())) {
+                hits.increment();
+                return cached.jwt;
+            }
+            tokens.remove(key, cached);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     *
+     * @param token the raw token
+     * @param jwt the verified token
+     */
+    public void put(String token, JsonWebToken jwt) {
+        long now = System.currentTimeMillis();
+        // the exp claim is the number of seconds since the epoch, a token without the claim is not cached
+        long expiresAt = jwt.getExpirationTime() * 1000;
+        if (timeToLiveMillis >= 0) {
+            expiresAt = Math.min(expiresAt, now + timeToLiveMillis);
+        }
+        if (expiresAt <= now) {
+            return;
+        }
+        if (tokens.size() >= maxSize) {
+            evict(now);
+        }
+        tokens.put(HashUtil.sha256(token), new CachedToken(jwt, expiresAt));
+    }
+
+    public void clear() {
+        tokens.clear();
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    private void evict(long now) {
+        tokens.values().removeIf(cached -> cached.isExpired(now));
+        // a tenth of the tokens is removed so that the following tokens are added without an eviction
+        int size = maxSize - Math.max(1, maxSize / 10);
+        Iterator<CachedToken> it = tokens.values().iterator();
+        while (tokens.size() > size && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static final class CachedToken {
+
+        final JsonWebToken jwt;
+        final long expiresAt;
+
+        CachedToken(JsonWebToken jwt, long expiresAt) {
+            this.jwt = jwt;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
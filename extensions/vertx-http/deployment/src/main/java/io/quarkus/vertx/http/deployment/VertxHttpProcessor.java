@@ -37,6 +37,7 @@ import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.RuntimeInitializedClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ServiceProviderBuildItem;
 import io.quarkus.deployment.logging.LogCleanupFilterBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
 import io.quarkus.runtime.LaunchMode;
@@ -174,7 +175,8 @@ class VertxHttpProcessor {
             ShutdownConfig shutdownConfig,
             LiveReloadConfig lrc,
             CoreVertxBuildItem core, // Injected to be sure that Vert.x has been produced before calling this method.
-            ExecutorBuildItem executorBuildItem)
+            ExecutorBuildItem executorBuildItem,
+            ShutdownContextBuildItem shutdown)
             throws BuildException, IOException {
 
         Optional<DefaultRouteBuildItem> defaultRoute;
@@ -212,11 +214,18 @@ class VertxHttpProcessor {
                 listOfFilters, vertx.getVertx(), lrc, router.getRouter(), httpBuildTimeConfig.rootPath,
                 launchMode.getLaunchMode(),
                 !requireBodyHandlerBuildItems.isEmpty(), bodyHandler, httpConfiguration, gracefulShutdownFilter,
-                shutdownConfig, executorBuildItem.getExecutorProxy());
+                shutdownConfig, executorBuildItem.getExecutorProxy(), shutdown);
 
         return new ServiceStartBuildItem("vertx-http");
     }
 
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    MetricsFactoryConsumerBuildItem registerAccessLogMetrics(VertxHttpRecorder recorder,
+            HttpConfiguration httpConfiguration) {
+        return new MetricsFactoryConsumerBuildItem(recorder.registerAccessLogMetrics(httpConfiguration));
+    }
+
     @BuildStep
     void hostDefault(BuildProducer<RunTimeConfigurationSourceBuildItem> serviceProviderBuildItem) {
         serviceProviderBuildItem
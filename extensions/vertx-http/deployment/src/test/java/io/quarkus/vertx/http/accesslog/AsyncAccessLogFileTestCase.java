@@ -0,0 +1,109 @@
+package io.quarkus.vertx.http.accesslog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.awaitility.Awaitility;
+import org.awaitility.core.ThrowingRunnable;
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.bootstrap.util.IoUtils;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Tests writing the access log to a file from the asynchronous writer, and rotating it once it reaches its maximum size
+ */
+public class AsyncAccessLogFileTestCase {
+
+    @RegisterExtension
+    public static QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    Path logDirectory;
+                    try {
+                        logDirectory = Files.createTempDirectory("quarkus-tests");
+                        //backslash is an escape char, we need this to be properly formatted for windows
+                        Properties p = new Properties();
+                        p.setProperty("quarkus.http.access-log.enabled", "true");
+                        p.setProperty("quarkus.http.access-log.log-to-file", "true");
+                        p.setProperty("quarkus.http.access-log.base-file-name", "server");
+                        p.setProperty("quarkus.http.access-log.log-directory", logDirectory.toAbsolutePath().toString());
+                        p.setProperty("quarkus.http.access-log.pattern", "long");
+                        p.setProperty("quarkus.http.access-log.async", "true");
+                        p.setProperty("quarkus.http.access-log.rotate-size", "100");
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        p.store(out, null);
+
+                        return ShrinkWrap.create(JavaArchive.class)
+                                .add(new ByteArrayAsset(out.toByteArray()),
+                                        "application.properties");
+
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            });
+
+    @ConfigProperty(name = "quarkus.http.access-log.log-directory")
+    Path logDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        Files.createDirectories(logDirectory);
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testLogMessagesToFile() {
+        final String firstValue = UUID.randomUUID().toString();
+        RestAssured.get("/does-not-exist?foo=" + firstValue);
+        awaitLogFiles(1, firstValue);
+
+        // the log file is larger than the rotate size, so the next message is written to a new file
+        final String secondValue = UUID.randomUUID().toString();
+        RestAssured.get("/does-not-exist?foo=" + secondValue);
+        awaitLogFiles(2, secondValue);
+    }
+
+    private void awaitLogFiles(int count, String paramValue) {
+        Awaitility.given().pollInterval(100, TimeUnit.MILLISECONDS)
+                .atMost(10, TimeUnit.SECONDS)
+                .untilAsserted(new ThrowingRunnable() {
+                    @Override
+                    public void run() throws Throwable {
+                        try (Stream<Path> files = Files.list(logDirectory)) {
+                            Assertions.assertEquals(count, (int) files.count());
+                        }
+                        Path path = logDirectory.resolve("server.log");
+                        Assertions.assertTrue(Files.exists(path));
+                        String data = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+                        Assertions.assertTrue(data.contains("/does-not-exist?foo=" + paramValue),
+                                "access log is missing the request");
+                        Assertions.assertTrue(data.contains("Accept: */*"),
+                                "Accept header is missing in the access log");
+                    }
+                });
+    }
+}
@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http.hotreload;
+
+import static org.hamcrest.core.Is.is;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusDevModeTest;
+import io.restassured.RestAssured;
+
+public class HotReloadWithDeletedSourceTest {
+
+    @RegisterExtension
+    static final QuarkusDevModeTest test = new QuarkusDevModeTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class).addClasses(DevBean.class, NewBean.class));
+
+    @Test
+    public void testDeleteBean() {
+        RestAssured.when().get("/bean").then()
+                .statusCode(200)
+                .body(is("Hello New World"));
+
+        // no class file changes, the deleted class is only found through the change of the sources
+        test.deleteSourceFile(NewBean.class);
+
+        RestAssured.when().get("/bean").then()
+                .statusCode(404);
+        RestAssured.when().get("/dev").then()
+                .statusCode(200)
+                .body(is("Hello World"));
+    }
+}
@@ -4,6 +4,8 @@ import java.util.Optional;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AsyncAccessLogReceiver.FullBufferPolicy;
 
 @ConfigGroup
 public class AccessLogConfig {
@@ -71,4 +73,37 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * If the log file should be written by a dedicated thread, which drains a bounded buffer of log messages and writes
+     * them in batches.
+     *
+     * The web threads never touch the log file, and they don't queue an unbounded number of messages under load.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean async;
+
+    /**
+     * The maximum number of log messages waiting to be written when {@code async} is enabled.
+     */
+    @ConfigItem(defaultValue = "8192")
+    public int bufferSize;
+
+    /**
+     * What to do with a log message when the buffer is full and `async` is enabled.
+     *
+     * - drop: the message is dropped and counted in the `http.access.log.dropped` metric
+     * - block: the web thread waits until the message fits in the buffer, this should only be used if the log file can
+     * always be written faster than the requests are served
+     *
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "drop")
+    public FullBufferPolicy fullBufferPolicy;
+
+    /**
+     * The size after which the log file is rotated when {@code async} is enabled.
+     */
+    @ConfigItem
+    public Optional<MemorySize> rotateSize;
+
 }
@@ -51,6 +51,7 @@ import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ConfigInstantiator;
 import io.quarkus.runtime.configuration.MemorySize;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.runtime.shutdown.ShutdownConfig;
 import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
 import io.quarkus.vertx.core.runtime.config.VertxConfiguration;
@@ -62,6 +63,7 @@ import io.quarkus.vertx.http.runtime.filters.GracefulShutdownFilter;
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AsyncAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
 import io.vertx.core.AbstractVerticle;
@@ -118,6 +120,8 @@ public class VertxHttpRecorder {
 
     private static volatile Runnable closeTask;
 
+    private static volatile AsyncAccessLogReceiver asyncAccessLogReceiver;
+
     private static volatile Handler<HttpServerRequest> rootHandler;
 
     private static volatile int actualHttpPort = -1;
@@ -261,7 +265,7 @@ public class VertxHttpRecorder {
             RuntimeValue<Router> runtimeValue, String rootPath, LaunchMode launchMode, boolean requireBodyHandler,
             Handler<RoutingContext> bodyHandler, HttpConfiguration httpConfiguration,
             GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
-            Executor executor) {
+            Executor executor, ShutdownContext shutdown) {
         // install the default route at the end
         Router router = runtimeValue.getValue();
 
@@ -385,7 +389,31 @@ public class VertxHttpRecorder {
         AccessLogConfig accessLog = httpConfiguration.accessLog;
         if (accessLog.enabled) {
             AccessLogReceiver receiver;
-            if (accessLog.logToFile) {
+            if (accessLog.logToFile && accessLog.async) {
+                File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
+                AsyncAccessLogReceiver asyncReceiver = AsyncAccessLogReceiver.builder()
+                        .setOutputDirectory(outputDir.toPath())
+                        .setLogBaseName(accessLog.baseFileName)
+                        .setLogNameSuffix(accessLog.logSuffix)
+                        .setRotate(accessLog.rotate)
+                        .setRotateSize(accessLog.rotateSize.isPresent() ? accessLog.rotateSize.get().asLongValue() : 0)
+                        .setBufferSize(accessLog.bufferSize)
+                        .setFullBufferPolicy(accessLog.fullBufferPolicy)
+                        .build();
+                asyncAccessLogReceiver = asyncReceiver;
+                shutdown.addShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        asyncAccessLogReceiver = null;
+                        try {
+                            asyncReceiver.close();
+                        } catch (IOException e) {
+                            LOGGER.error("Failed to close the access log", e);
+                        }
+                    }
+                });
+                receiver = asyncReceiver;
+            } else if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
                 receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
                         accessLog.rotate);
@@ -798,6 +826,57 @@ public class VertxHttpRecorder {
         }
     }
 
+    public Consumer<MetricsFactory> registerAccessLogMetrics(HttpConfiguration httpConfiguration) {
+        AccessLogConfig accessLog = httpConfiguration.accessLog;
+        boolean asyncAccessLog = accessLog.enabled && accessLog.logToFile && accessLog.async;
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                if (!asyncAccessLog) {
+                    return;
+                }
+                // the receiver is replaced on each dev mode restart, so it is looked up each time the metrics are read
+                metricsFactory.builder("http.access.log.dropped")
+                        .description("Number of access log messages dropped because the buffer was full.")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                AsyncAccessLogReceiver receiver = asyncAccessLogReceiver;
+                                return receiver == null ? 0 : receiver.getDroppedMessages();
+                            }
+                        });
+                metricsFactory.builder("http.access.log.pending")
+                        .description("Number of access log messages waiting to be written.")
+                        .buildGauge(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                AsyncAccessLogReceiver receiver = asyncAccessLogReceiver;
+                                return receiver == null ? 0 : receiver.getPendingMessages();
+                            }
+                        });
+                metricsFactory.builder("http.access.log.flushes")
+                        .description("Number of batches of access log messages written to the log file.")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                AsyncAccessLogReceiver receiver = asyncAccessLogReceiver;
+                                return receiver == null ? 0 : receiver.getFlushCount();
+                            }
+                        });
+                metricsFactory.builder("http.access.log.flush.time")
+                        .description("Total time spent writing batches of access log messages to the log file.")
+                        .unit("seconds")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                AsyncAccessLogReceiver receiver = asyncAccessLogReceiver;
+                                return receiver == null ? 0 : receiver.getTotalFlushTime() / 1_000_000_000d;
+                            }
+                        });
+            }
+        };
+    }
+
     public void addNonApplicationPathRedirect(RuntimeValue<Router> mainRouter, RuntimeValue<Router> nonApplicationRouter,
             String nonApplicationPath) {
         List<Route> allRoutes = nonApplicationRouter.getValue().getRoutes();
@@ -0,0 +1,379 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.jboss.logging.Logger;
+
+import io.netty.util.internal.PlatformDependent;
+
+/**
+ * Log Receiver that stores logs in a directory under the specified file name, and rotates them after
+ * midnight or once they reach a maximum size.
+ * <p>
+ * Web threads only put messages into a bounded lock-free ring buffer, and a dedicated thread drains the buffer and writes
+ * the messages to a {@link FileChannel} in batches. When the buffer is full the message is either dropped or the web
+ * thread waits for some room, depending on the {@link FullBufferPolicy}.
+ */
+public class AsyncAccessLogReceiver implements AccessLogReceiver, Closeable {
+
+    private static final Logger log = Logger.getLogger(AsyncAccessLogReceiver.class);
+
+    private static final int MAX_BATCH_SIZE = 1024;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    // the writer wakes up at least this often to check if the log must be rotated at midnight
+    private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long FULL_BUFFER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+
+    public enum FullBufferPolicy {
+        /**
+         * Drop the messages which don't fit in the buffer.
+         */
+        DROP,
+        /**
+         * Block the web thread until the message fits in the buffer.
+         */
+        BLOCK
+    }
+
+    private final Queue<String> pendingMessages;
+    private final FullBufferPolicy fullBufferPolicy;
+    private final Thread writerThread;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    private final Path outputDirectory;
+    private final Path defaultLogFile;
+    private final String logBaseName;
+    private final String logNameSuffix;
+    private final boolean rotate;
+    private final long rotateSize;
+
+    // only accessed by the writer thread
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+    private FileChannel channel;
+    private long fileSize;
+    private long changeOverPoint;
+    private String currentDateString;
+
+    private final LongAdder droppedMessages = new LongAdder();
+    private volatile long flushCount;
+    private volatile long totalFlushTime;
+
+    private AsyncAccessLogReceiver(Path outputDirectory, String logBaseName, String logNameSuffix, boolean rotate,
+            long rotateSize, int bufferSize, FullBufferPolicy fullBufferPolicy) {
+        this.outputDirectory = outputDirectory;
+        this.logBaseName = logBaseName;
+        this.logNameSuffix = logNameSuffix;
+        this.rotate = rotate;
+        this.rotateSize = rotateSize;
+        this.fullBufferPolicy = fullBufferPolicy;
+        this.pendingMessages = PlatformDependent.newFixedMpscQueue(bufferSize);
+        this.defaultLogFile = outputDirectory.resolve(logBaseName + logNameSuffix);
+        calculateChangeOverPoint();
+        if (rotate && Files.exists(defaultLogFile)) {
+            //if there is an existing log file check if it should be rotated
+            try {
+                Calendar c = Calendar.getInstance();
+                c.setTimeInMillis(changeOverPoint);
+                c.add(Calendar.DATE, -1);
+                if (Files.getLastModifiedTime(defaultLogFile).toMillis() <= c.getTimeInMillis()) {
+                    doRotate();
+                }
+            } catch (IOException e) {
+                log.error("Error rotating access log", e);
+            }
+        }
+        this.writerThread = new Thread(this::writeMessages, "access-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    private void calculateChangeOverPoint() {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.add(Calendar.DATE, 1);
+        SimpleDateFormat df = new SimpleDateFormat("yyyy-MM-dd", Locale.US);
+        currentDateString = df.format(new Date());
+        // if there is an existing default log file, use the date last modified instead of the current date
+        if (Files.exists(defaultLogFile)) {
+            try {
+                currentDateString = df.format(new Date(Files.getLastModifiedTime(defaultLogFile).toMillis()));
+            } catch (IOException e) {
+                // ignore. use the current date if exception happens.
+            }
+        }
+        changeOverPoint = calendar.getTimeInMillis();
+    }
+
+    @Override
+    public void logMessage(final String message) {
+        if (!pendingMessages.offer(message)) {
+            if (fullBufferPolicy == FullBufferPolicy.DROP) {
+                droppedMessages.increment();
+                return;
+            }
+            do {
+                if (closed) {
+                    droppedMessages.increment();
+                    return;
+                }
+                LockSupport.unpark(writerThread);
+                LockSupport.parkNanos(this, FULL_BUFFER_PARK_NANOS);
+            } while (!pendingMessages.offer(message));
+        }
+        if (writerParked) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void writeMessages() {
+        for (;;) {
+            String message = pendingMessages.poll();
+            if (message == null) {
+                if (closed) {
+                    break;
+                }
+                writerParked = true;
+                // re-check so that a message queued just before the flag was set is not left behind
+                if (pendingMessages.isEmpty() && !closed) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerParked = false;
+                continue;
+            }
+            long start = System.nanoTime();
+            try {
+                if (rotate && System.currentTimeMillis() > changeOverPoint
+                        || rotateSize > 0 && fileSize >= rotateSize) {
+                    doRotate();
+                }
+                int count = 0;
+                do {
+                    append(message);
+                } while (++count < MAX_BATCH_SIZE && (message = pendingMessages.poll()) != null);
+                flush();
+            } catch (IOException e) {
+                log.error("Error writing access log", e);
+                closeChannel();
+            }
+            totalFlushTime += System.nanoTime() - start;
+            flushCount++;
+        }
+        closeChannel();
+    }
+
+    private void append(String message) throws IOException {
+        byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length + 1 > writeBuffer.remaining()) {
+            flush();
+            if (bytes.length + 1 > writeBuffer.capacity()) {
+                write(ByteBuffer.wrap(bytes));
+                bytes = new byte[0];
+            }
+        }
+        writeBuffer.put(bytes);
+        writeBuffer.put((byte) '\n');
+    }
+
+    private void flush() throws IOException {
+        // the casts keep the Java 8 binary compatibility, the Buffer methods are only overridden in ByteBuffer since Java 9
+        ((Buffer) writeBuffer).flip();
+        try {
+            write(writeBuffer);
+        } finally {
+            ((Buffer) writeBuffer).clear();
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        if (!buffer.hasRemaining()) {
+            return;
+        }
+        if (channel == null) {
+            channel = FileChannel.open(defaultLogFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            fileSize = channel.size();
+        }
+        while (buffer.hasRemaining()) {
+            fileSize += channel.write(buffer);
+        }
+    }
+
+    private void closeChannel() {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.error("Error closing access log", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void doRotate() {
+        try {
+            closeChannel();
+            if (!Files.exists(defaultLogFile)) {
+                return;
+            }
+            Path newFile = outputDirectory.resolve(logBaseName + currentDateString + logNameSuffix);
+            int count = 0;
+            while (Files.exists(newFile)) {
+                ++count;
+                newFile = outputDirectory.resolve(logBaseName + currentDateString + "-" + count + logNameSuffix);
+            }
+            Files.move(defaultLogFile, newFile);
+        } catch (IOException e) {
+            log.error("Error rotating access log", e);
+        } finally {
+            fileSize = 0;
+            calculateChangeOverPoint();
+        }
+    }
+
+    /**
+     * @return the number of messages dropped because the buffer was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * @return the number of messages waiting to be written
+     */
+    public int getPendingMessages() {
+        return pendingMessages.size();
+    }
+
+    /**
+     * @return the number of batches of messages written to the log file
+     */
+    public long getFlushCount() {
+        return flushCount;
+    }
+
+    /**
+     * @return the total time spent writing batches of messages to the log file, in nanoseconds
+     */
+    public long getTotalFlushTime() {
+        return totalFlushTime;
+    }
+
+    /**
+     * Writes the pending messages and stops the writer thread.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private Path outputDirectory;
+        private String logBaseName;
+        private String logNameSuffix = ".log";
+        private boolean rotate;
+        private long rotateSize;
+        private int bufferSize = 8192;
+        private FullBufferPolicy fullBufferPolicy = FullBufferPolicy.DROP;
+
+        public Path getOutputDirectory() {
+            return outputDirectory;
+        }
+
+        public Builder setOutputDirectory(Path outputDirectory) {
+            this.outputDirectory = outputDirectory;
+            return this;
+        }
+
+        public String getLogBaseName() {
+            return logBaseName;
+        }
+
+        public Builder setLogBaseName(String logBaseName) {
+            this.logBaseName = logBaseName;
+            return this;
+        }
+
+        public String getLogNameSuffix() {
+            return logNameSuffix;
+        }
+
+        public Builder setLogNameSuffix(String logNameSuffix) {
+            this.logNameSuffix = logNameSuffix;
+            return this;
+        }
+
+        public boolean isRotate() {
+            return rotate;
+        }
+
+        public Builder setRotate(boolean rotate) {
+            this.rotate = rotate;
+            return this;
+        }
+
+        public long getRotateSize() {
+            return rotateSize;
+        }
+
+        /**
+         * @param rotateSize the size in bytes after which the log file is rotated, or {@code 0} to disable size based
+         *        rotation
+         */
+        public Builder setRotateSize(long rotateSize) {
+            this.rotateSize = rotateSize;
+            return this;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public Builder setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
+        public FullBufferPolicy getFullBufferPolicy() {
+            return fullBufferPolicy;
+        }
+
+        public Builder setFullBufferPolicy(FullBufferPolicy fullBufferPolicy) {
+            this.fullBufferPolicy = fullBufferPolicy;
+            return this;
+        }
+
+        public AsyncAccessLogReceiver build() {
+            return new AsyncAccessLogReceiver(outputDirectory, logBaseName, logNameSuffix, rotate, rotateSize, bufferSize,
+                    fullBufferPolicy);
+        }
+    }
+}
@@ -76,6 +76,8 @@ public class BeanDeployment {
 
     private final List<BeanInfo> beans;
 
+    private final Map<BeanInfo, Integer> requestContextIndexes;
+
     private final List<InterceptorInfo> interceptors;
 
     private final List<ObserverInfo> observers;
@@ -167,6 +169,7 @@ public class BeanDeployment {
         this.injectionPoints = new CopyOnWriteArrayList<>();
         this.interceptors = new CopyOnWriteArrayList<>();
         this.beans = new CopyOnWriteArrayList<>();
+        this.requestContextIndexes = new ConcurrentHashMap<>();
         this.observers = new CopyOnWriteArrayList<>();
 
         this.beanResolver = new BeanResolverImpl(this);
@@ -327,6 +330,14 @@ public class BeanDeployment {
 
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
 
+        // Each request scoped bean gets a fixed slot so that the request context does not need a map
+        int requestContextIndex = 0;
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                requestContextIndexes.put(bean, requestContextIndex++);
+            }
+        }
+
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
@@ -351,6 +362,16 @@ public class BeanDeployment {
         return Collections.unmodifiableList(beans);
     }
 
+    /**
+     *
+     * @param bean
+     * @return the index of the given request scoped bean in the request context, or {@code -1}
+     */
+    int getRequestContextIndex(BeanInfo bean) {
+        Integer index = requestContextIndexes.get(bean);
+        return index != null ? index : -1;
+    }
+
     public Collection<BeanInfo> getRemovedBeans() {
         return Collections.unmodifiableSet(removedBeans);
     }
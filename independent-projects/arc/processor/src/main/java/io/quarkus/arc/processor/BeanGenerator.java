@@ -240,6 +240,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() != -1) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.SYNTHETIC);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
@@ -328,6 +331,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() != -1) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
 
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
@@ -429,6 +435,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() != -1) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.PRODUCER_METHOD);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
@@ -516,6 +525,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() != -1) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.PRODUCER_FIELD);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
@@ -1678,6 +1690,12 @@ public class BeanGenerator extends AbstractGenerator {
                 .returnValue(isDefaultBean.load(bean.isDefaultBean()));
     }
 
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getRequestContextIndex.returnValue(getRequestContextIndex.load(bean.getRequestContextIndex()));
+    }
+
     protected void implementGetStereotypes(BeanInfo bean, ClassCreator beanCreator, FieldDescriptor stereotypesField) {
         MethodCreator getStereotypes = beanCreator.getMethodCreator("getStereotypes", Set.class).setModifiers(ACC_PUBLIC);
         getStereotypes.returnValue(getStereotypes.readInstanceField(stereotypesField, getStereotypes.getThis()));
@@ -338,6 +338,14 @@ public class BeanInfo implements InjectionTargetInfo {
         return defaultBean;
     }
 
+    /**
+     *
+     * @return the index of the slot used by the request context, or {@code -1} if the bean is not {@code @RequestScoped}
+     */
+    public int getRequestContextIndex() {
+        return beanDeployment.getRequestContextIndex(this);
+    }
+
     /**
      * @param requiredType
      * @param requiredQualifiers
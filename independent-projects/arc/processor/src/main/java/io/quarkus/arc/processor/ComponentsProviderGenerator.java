@@ -17,6 +17,7 @@ import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -45,6 +46,11 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String ADD_OBSERVERS = "addObservers";
     static final String ADD_REMOVED_BEANS = "addRemovedBeans";
     static final String ADD_BEANS = "addBeans";
+    static final String ADD_RESOLVED_CLASSES = "addResolvedClasses";
+
+    // Types of the built-in beans and types that most beans have
+    private static final Set<DotName> BUILTIN_TYPES = new HashSet<>(Arrays.asList(DotNames.OBJECT, DotNames.INSTANCE,
+            DotNames.INJECTABLE_INSTANCE, DotNames.PROVIDER, DotNames.EVENT, DotNames.BEAN_MANAGER, DotNames.INJECTION_POINT));
 
     private final AnnotationLiteralProcessor annotationLiterals;
     private final boolean detectUnusedFalsePositives;
@@ -88,6 +94,12 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         processBeans(componentsProvider, getComponents, beanIdToBeanHandle, beanToInjections, beanToGeneratedName,
                 beanDeployment);
 
+        // Break resolved classes processing into multiple addResolvedClasses() methods
+        // Map<String, InjectableBean<?>>
+        ResultHandle resolvedClassesHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        processResolvedClasses(componentsProvider, getComponents, beanIdToBeanHandle, resolvedClassesHandle,
+                beanDeployment);
+
         // Break observers processing into multiple addObservers() methods
         ResultHandle observersHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
         processObservers(componentsProvider, getComponents, beanDeployment, beanIdToBeanHandle, observersHandle,
@@ -126,8 +138,9 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Map.class, Collection.class),
-                beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle, removedBeansHandle);
+                        Map.class, Collection.class, Map.class),
+                beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle, removedBeansHandle,
+                resolvedClassesHandle);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -213,6 +226,54 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         }
     }
 
+    private void processResolvedClasses(ClassCreator componentsProvider, MethodCreator getComponents,
+            ResultHandle beanIdToBeanHandle, ResultHandle resolvedClassesHandle, BeanDeployment beanDeployment) {
+        Map<BeanInfo, List<DotName>> resolvedClasses = initResolvedClasses(beanDeployment);
+        try (ResolvedClassAdder resolvedClassAdder = new ResolvedClassAdder(componentsProvider, getComponents,
+                beanIdToBeanHandle, resolvedClassesHandle, resolvedClasses)) {
+            for (BeanInfo bean : resolvedClasses.keySet()) {
+                resolvedClassAdder.addComponent(bean);
+            }
+        }
+    }
+
+    /**
+     * A programmatic lookup of a class with the {@code @Default} qualifier, e.g. {@code Arc.container().instance(Foo.class)},
+     * can be resolved during build if a single bean has a bean type with the same raw type. The bean type must be the class
+     * itself because a parameterized bean type may also match the class at runtime.
+     *
+     * @param beanDeployment
+     * @return the classes that are resolved to a bean
+     */
+    private Map<BeanInfo, List<DotName>> initResolvedClasses(BeanDeployment beanDeployment) {
+        Map<DotName, List<BeanInfo>> rawTypeToBeans = new HashMap<>();
+        for (BeanInfo bean : beanDeployment.getBeans()) {
+            for (org.jboss.jandex.Type type : bean.getTypes()) {
+                // int and Integer are assignable at runtime
+                DotName rawType = type.kind() == org.jboss.jandex.Type.Kind.PRIMITIVE ? Types.box(type).name() : type.name();
+                rawTypeToBeans.computeIfAbsent(rawType, t -> new ArrayList<>(1)).add(bean);
+            }
+        }
+        Map<BeanInfo, List<DotName>> resolvedClasses = new HashMap<>();
+        for (Entry<DotName, List<BeanInfo>> entry : rawTypeToBeans.entrySet()) {
+            DotName rawType = entry.getKey();
+            if (entry.getValue().size() != 1 || BUILTIN_TYPES.contains(rawType)) {
+                continue;
+            }
+            BeanInfo bean = entry.getValue().get(0);
+            if (!bean.getQualifiers().contains(BuiltinQualifier.DEFAULT.getInstance())) {
+                continue;
+            }
+            for (org.jboss.jandex.Type type : bean.getTypes()) {
+                if (type.kind() == org.jboss.jandex.Type.Kind.CLASS && type.name().equals(rawType)) {
+                    resolvedClasses.computeIfAbsent(bean, b -> new ArrayList<>()).add(rawType);
+                    break;
+                }
+            }
+        }
+        return resolvedClasses;
+    }
+
     private void processRemovedBeans(ClassCreator componentsProvider, MethodCreator getComponents,
             ResultHandle removedBeansHandle, BeanDeployment beanDeployment, ClassOutput classOutput) {
         try (RemovedBeanAdder removedBeanAdder = new RemovedBeanAdder(componentsProvider, getComponents, removedBeansHandle,
@@ -465,6 +526,50 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
     }
 
+    static class ResolvedClassAdder extends ComponentAdder<BeanInfo> {
+
+        private final ResultHandle beanIdToBeanHandle;
+        private final ResultHandle resolvedClassesHandle;
+        private final Map<BeanInfo, List<DotName>> resolvedClasses;
+
+        ResolvedClassAdder(ClassCreator componentsProvider, MethodCreator getComponentsMethod,
+                ResultHandle beanIdToBeanHandle, ResultHandle resolvedClassesHandle,
+                Map<BeanInfo, List<DotName>> resolvedClasses) {
+            super(getComponentsMethod, componentsProvider);
+            this.beanIdToBeanHandle = beanIdToBeanHandle;
+            this.resolvedClassesHandle = resolvedClassesHandle;
+            this.resolvedClasses = resolvedClasses;
+        }
+
+        @Override
+        MethodCreator newAddMethod() {
+            return componentsProvider.getMethodCreator(ADD_RESOLVED_CLASSES + group++, void.class, Map.class, Map.class)
+                    .setModifiers(ACC_PRIVATE);
+        }
+
+        @Override
+        void invokeAddMethod() {
+            getComponentsMethod.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(componentsProvider.getClassName(),
+                            addMethod.getMethodDescriptor().getName(), void.class, Map.class, Map.class),
+                    getComponentsMethod.getThis(), beanIdToBeanHandle, resolvedClassesHandle);
+        }
+
+        @Override
+        void addComponentInternal(BeanInfo bean) {
+            ResultHandle beanIdToBeanHandle = addMethod.getMethodParam(0);
+            ResultHandle resolvedClassesHandle = addMethod.getMethodParam(1);
+            // resolvedClasses.put("org.acme.Foo", beans.get(id))
+            ResultHandle beanHandle = addMethod.invokeInterfaceMethod(MethodDescriptors.MAP_GET, beanIdToBeanHandle,
+                    addMethod.load(bean.getIdentifier()));
+            for (DotName resolvedClass : resolvedClasses.get(bean)) {
+                addMethod.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, resolvedClassesHandle,
+                        addMethod.load(resolvedClass.toString()), beanHandle);
+            }
+        }
+
+    }
+
     static class BeanAdder extends ComponentAdder<BeanInfo> {
 
         private final Set<BeanInfo> processedBeans;
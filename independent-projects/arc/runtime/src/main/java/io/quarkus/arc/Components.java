@@ -13,6 +13,7 @@ public final class Components {
     private final Collection<InjectableObserverMethod<?>> observers;
     private final Collection<InjectableContext> contexts;
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
+    private final Map<String, InjectableBean<?>> resolvedClasses;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
@@ -24,11 +25,19 @@ public final class Components {
             Collection<InjectableContext> contexts,
             Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
             Collection<RemovedBean> removedBeans) {
+        this(beans, observers, contexts, transitiveInterceptorBindings, removedBeans, Collections.emptyMap());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Collection<RemovedBean> removedBeans, Map<String, InjectableBean<?>> resolvedClasses) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
         this.transitiveInterceptorBindings = transitiveInterceptorBindings;
         this.removedBeans = removedBeans;
+        this.resolvedClasses = resolvedClasses;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -51,4 +60,14 @@ public final class Components {
         return removedBeans;
     }
 
+    /**
+     * A programmatic lookup of a class with the {@code @Default} qualifier can be resolved to the bean mapped to the name of
+     * the class during build.
+     *
+     * @return the map of class names to the beans resolved during build
+     */
+    public Map<String, InjectableBean<?>> getResolvedClasses() {
+        return resolvedClasses;
+    }
+
 }
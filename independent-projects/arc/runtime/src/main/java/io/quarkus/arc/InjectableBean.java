@@ -114,6 +114,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned at build time to every {@link javax.enterprise.context.RequestScoped} bean and identifies the
+     * slot that holds the contextual instance in the request context.
+     *
+     * @return the request context index, or {@code -1} if no index was assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
@@ -19,6 +19,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -68,6 +69,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final Annotation[] DEFAULT_QUALIFIERS = new Annotation[] { Default.Literal.INSTANCE };
 
     private final String id;
 
@@ -85,6 +87,8 @@ public class ArcContainerImpl implements ArcContainer {
     private final InjectableContext singletonContext;
 
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    private final Map<String, InjectableBean<?>> resolvedClassNames;
+    private final ComputingCache<Class<?>, Set<InjectableBean<?>>> resolvedClasses;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -103,16 +107,20 @@ public class ArcContainerImpl implements ArcContainer {
         observers = new ArrayList<>();
         transitiveInterceptorBindings = new HashMap<>();
 
+        List<Components> allComponents = new ArrayList<>();
+        for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
+            allComponents.add(componentsProvider.getComponents());
+        }
+
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
+        requestContext = new RequestContext(getRequestContextSize(allComponents));
         contexts = new HashMap<>();
         putContext(requestContext);
         putContext(applicationContext);
         putContext(singletonContext);
 
-        for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
-            Components components = componentsProvider.getComponents();
+        for (Components components : allComponents) {
             for (InjectableBean<?> bean : components.getBeans()) {
                 if (bean instanceof InjectableInterceptor) {
                     interceptors.add((InjectableInterceptor<?>) bean);
@@ -145,6 +153,9 @@ public class ArcContainerImpl implements ArcContainer {
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
+        // The class names are only unique within a single deployment
+        resolvedClassNames = allComponents.size() == 1 ? allComponents.get(0).getResolvedClasses() : Collections.emptyMap();
+        resolvedClasses = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -155,6 +166,27 @@ public class ArcContainerImpl implements ArcContainer {
         instance = InstanceImpl.of(Object.class, Collections.emptySet());
     }
 
+    /**
+     * The request context indexes are assigned per deployment. If they are not unique, e.g. because there are multiple
+     * components providers, the request context falls back to the map-based storage for all beans.
+     */
+    private static int getRequestContextSize(List<Components> allComponents) {
+        BitSet indexes = new BitSet();
+        for (Components components : allComponents) {
+            for (InjectableBean<?> bean : components.getBeans()) {
+                int index = bean.getRequestContextIndex();
+                if (index != -1) {
+                    if (indexes.get(index)) {
+                        LOGGER.debugf("Request context index %s is not unique - indexed storage disabled", index);
+                        return 0;
+                    }
+                    indexes.set(index);
+                }
+            }
+        }
+        return indexes.length();
+    }
+
     private void putContext(InjectableContext context) {
         Collection<InjectableContext> values = contexts.get(context.getScope());
         if (values == null) {
@@ -244,10 +276,7 @@ public class ArcContainerImpl implements ArcContainer {
     public <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotation... qualifiers) {
         requireRunning();
 
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = getResolvedBeans(type, qualifiers);
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
         if (resolvedBeans.size() > 1) {
             //if there are multiple beans we look for an exact match
@@ -380,6 +409,7 @@ public class ArcContainerImpl implements ArcContainer {
             beans.clear();
             removedBeans.clear();
             resolved.clear();
+            resolvedClasses.clear();
             observers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
@@ -450,12 +480,10 @@ public class ArcContainerImpl implements ArcContainer {
 
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
-        if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
-        } else {
+        if (qualifiers != null && qualifiers.length > 0) {
             Qualifiers.verify(qualifiers);
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = getResolvedBeans(requiredType, qualifiers);
         return resolvedBeans.isEmpty() || resolvedBeans.size() > 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
@@ -508,6 +536,15 @@ public class ArcContainerImpl implements ArcContainer {
         return resolve(getMatchingBeans(resolvable));
     }
 
+    private Set<InjectableBean<?>> resolve(Class<?> requiredClass) {
+        InjectableBean<?> bean = resolvedClassNames.get(requiredClass.getName());
+        // The name may also identify a class from a different class loader
+        if (bean != null && bean.getTypes().contains(requiredClass)) {
+            return Collections.singleton(bean);
+        }
+        return resolved.getValue(new Resolvable(requiredClass, DEFAULT_QUALIFIERS));
+    }
+
     private Set<InjectableBean<?>> resolve(String name) {
         return resolve(getMatchingBeans(name));
     }
@@ -738,12 +775,21 @@ public class ArcContainerImpl implements ArcContainer {
      * @return the set of resolved beans
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
+        if (requiredType instanceof Class && isDefault(qualifiers)) {
+            // Classes with the @Default qualifier are the most common programmatic lookup
+            return resolvedClasses.getValue((Class<?>) requiredType);
+        }
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIERS;
         }
         return resolved.getValue(new Resolvable(requiredType, qualifiers));
     }
 
+    private static boolean isDefault(Annotation[] qualifiers) {
+        return qualifiers == null || qualifiers.length == 0
+                || (qualifiers.length == 1 && Default.Literal.INSTANCE.equals(qualifiers[0]));
+    }
+
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
         return matches(bean.getTypes(), bean.getQualifiers(), requiredType, qualifiers);
     }
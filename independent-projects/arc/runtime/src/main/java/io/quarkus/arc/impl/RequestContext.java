@@ -6,13 +6,15 @@ import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -33,13 +35,21 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+
+    // The number of slots needed to store the instances of all request scoped beans with an index assigned at build time
+    private final int size;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
     public RequestContext() {
+        this(0);
+    }
+
+    public RequestContext(int size) {
+        this.size = size;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,7 +65,7 @@ class RequestContext implements ManagedContext {
     public <T> T getIfActive(Contextual<T> contextual, Function<Contextual<T>, CreationalContext<T>> creationalContextFun) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
         Objects.requireNonNull(creationalContextFun, "CreationalContext supplier must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             return null;
@@ -86,7 +96,7 @@ class RequestContext implements ManagedContext {
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -102,7 +112,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -116,12 +126,12 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new RequestContextState(size));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid inital state: " + initialState.getClass().getName());
             }
@@ -130,12 +140,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        return ctx;
     }
 
     @Override
@@ -151,35 +161,27 @@ class RequestContext implements ManagedContext {
     @Override
     public void destroy(ContextState state) {
         if (state instanceof RequestContextState) {
-            destroy(((RequestContextState) state).value);
+            destroy((RequestContextState) state);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
-            synchronized (currentContext) {
-                // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
-                try {
-                    fireIfNotEmpty(beforeDestroyedNotifier);
-                } catch (Exception e) {
-                    LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
-                }
-                for (Map.Entry<Contextual<?>, ContextInstanceHandle<?>> entry : currentContext.entrySet()) {
-                    try {
-                        entry.getValue().destroy();
-                    } catch (Exception e) {
-                        throw new IllegalStateException("Unable to destroy instance" + entry.getValue().get(), e);
-                    }
-                }
-                // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
-                try {
-                    fireIfNotEmpty(destroyedNotifier);
-                } catch (Exception e) {
-                    LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
-                }
-                currentContext.clear();
+            // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
+            try {
+                fireIfNotEmpty(beforeDestroyedNotifier);
+            } catch (Exception e) {
+                LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
+            }
+            // Each instance is removed before it's destroyed so that it cannot be destroyed twice
+            currentContext.destroyAll();
+            // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
+            try {
+                fireIfNotEmpty(destroyedNotifier);
+            } catch (Exception e) {
+                LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
             }
         }
     }
@@ -209,18 +211,133 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance());
     }
 
+    /**
+     * Instances of beans with an index assigned at build time are stored in an array; the array is only allocated when
+     * the first such instance is created. Any other contextual falls back to a map that is also allocated lazily.
+     */
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RequestContextState, AtomicReferenceArray> SLOTS_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(RequestContextState.class, AtomicReferenceArray.class, "slots");
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<RequestContextState, ConcurrentMap> MAP_UPDATER = AtomicReferenceFieldUpdater
+                .newUpdater(RequestContextState.class, ConcurrentMap.class, "map");
+
+        private final int size;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        private volatile AtomicReferenceArray<ContextInstanceHandle<?>> slots;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map;
+
+        RequestContextState(int size) {
+            this.size = size;
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+                return slots != null ? slots.get(index) : null;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                slots().set(index, instance);
+            } else {
+                map().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+                return slots != null ? slots.getAndSet(index, null) : null;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        void destroyAll() {
+            AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+            if (slots != null) {
+                for (int i = 0; i < slots.length(); i++) {
+                    destroy(slots.getAndSet(i, null));
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null) {
+                for (Contextual<?> contextual : map.keySet()) {
+                    destroy(map.remove(contextual));
+                }
+            }
+        }
+
+        private void destroy(ContextInstanceHandle<?> instance) {
+            if (instance != null) {
+                try {
+                    instance.destroy();
+                } catch (Exception e) {
+                    throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
+                }
+            }
+        }
+
+        private int indexOf(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                if (index < size) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        @SuppressWarnings("unchecked")
+        private AtomicReferenceArray<ContextInstanceHandle<?>> slots() {
+            AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+            if (slots == null) {
+                SLOTS_UPDATER.compareAndSet(this, null, new AtomicReferenceArray<>(size));
+                slots = this.slots;
+            }
+            return slots;
+        }
+
+        @SuppressWarnings("unchecked")
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map == null) {
+                MAP_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+                map = this.map;
+            }
+            return map;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            AtomicReferenceArray<ContextInstanceHandle<?>> slots = this.slots;
+            if (slots != null) {
+                for (int i = 0; i < slots.length(); i++) {
+                    ContextInstanceHandle<?> instance = slots.get(i);
+                    if (instance != null) {
+                        instances.put(instance.getBean(), instance.get());
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null) {
+                for (ContextInstanceHandle<?> instance : map.values()) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            return instances;
         }
 
     }
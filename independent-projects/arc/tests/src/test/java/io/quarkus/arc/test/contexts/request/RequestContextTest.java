@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
 import javax.enterprise.context.ContextNotActiveException;
@@ -115,6 +117,30 @@ public class RequestContextTest {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testRequestContextIndex() {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        InjectableBean<Controller> bean = arc.instance(Controller.class).getBean();
+        assertEquals(0, bean.getRequestContextIndex());
+        assertEquals(-1, arc.instance(ControllerClient.class).getBean().getRequestContextIndex());
+
+        requestContext.activate();
+        String id = arc.instance(Controller.class).get().getId();
+        InjectableContext.ContextState state = requestContext.getState();
+        assertEquals(1, state.getContextualInstances().size());
+        requestContext.deactivate();
+        assertFalse(Controller.DESTROYED.get());
+
+        requestContext.activate(state);
+        assertEquals(id, arc.instance(Controller.class).get().getId());
+        requestContext.destroy(bean);
+        assertTrue(Controller.DESTROYED.get());
+        assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+        requestContext.terminate();
+    }
+
     @Test
     public void testRequestContextEvents() {
         // reset counters since other tests might have triggered it already
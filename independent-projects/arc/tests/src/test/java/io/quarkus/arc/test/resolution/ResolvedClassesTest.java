@@ -0,0 +1,117 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.Map;
+import java.util.ServiceLoader;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Default;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ResolvedClassesTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class, Delta.class,
+            Service.class, MyQualifier.class);
+
+    @Test
+    public void testResolvedClasses() {
+        Map<String, InjectableBean<?>> resolvedClasses = ServiceLoader
+                .load(ComponentsProvider.class, Thread.currentThread().getContextClassLoader()).iterator().next()
+                .getComponents().getResolvedClasses();
+        assertEquals(Alpha.class, resolvedClasses.get(Alpha.class.getName()).getBeanClass());
+        assertEquals(Bravo.class, resolvedClasses.get(Bravo.class.getName()).getBeanClass());
+        // Ambiguous type
+        assertFalse(resolvedClasses.containsKey(Service.class.getName()));
+        // No @Default qualifier
+        assertFalse(resolvedClasses.containsKey(Delta.class.getName()));
+        // Type of all beans
+        assertFalse(resolvedClasses.containsKey(Object.class.getName()));
+    }
+
+    @Test
+    public void testLookup() {
+        ArcContainer arc = Arc.container();
+        assertEquals("alpha", arc.instance(Alpha.class).get().ping());
+        assertEquals("alpha", arc.instance(Alpha.class, Default.Literal.INSTANCE).get().ping());
+        assertEquals("alpha", arc.select(Alpha.class).get().ping());
+        assertEquals("alpha", arc.instanceSupplier(Alpha.class).get().get().ping());
+        assertEquals("bravo", arc.instance(Bravo.class).get().ping());
+        assertTrue(arc.select(Service.class).isAmbiguous());
+        assertFalse(arc.instance(Service.class).isAvailable());
+        assertFalse(arc.instance(Delta.class).isAvailable());
+        assertEquals("delta", arc.instance(Delta.class, MyQualifier.Literal.INSTANCE).get().ping());
+        assertTrue(arc.select(Object.class).isAmbiguous());
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class Alpha implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Dependent
+    static class Charlie {
+
+    }
+
+    @MyQualifier
+    @Singleton
+    static class Delta implements Service {
+
+        @Override
+        public String ping() {
+            return "delta";
+        }
+
+    }
+
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(value = { ElementType.TYPE, ElementType.FIELD, ElementType.METHOD })
+    static @interface MyQualifier {
+        public final static class Literal extends AnnotationLiteral<MyQualifier> implements MyQualifier {
+
+            public static final Literal INSTANCE = new Literal();
+            private static final long serialVersionUID = 1L;
+
+        }
+    }
+
+}
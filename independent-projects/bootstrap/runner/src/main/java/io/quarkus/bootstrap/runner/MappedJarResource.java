@@ -0,0 +1,254 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * A jar resource that memory maps the jar and reads its entries at the offsets computed at build time.
+ * <p>
+ * Once the jar is mapped, reading an entry doesn't require any lock: {@code STORED} entries are copied straight from the
+ * mapped region, and {@code DEFLATED} entries are inflated from it.
+ */
+public class MappedJarResource implements ClassLoadingResource {
+
+    private final ManifestInfo manifestInfo;
+    private final Path jarPath;
+    private final boolean multiRelease;
+
+    //The serialized index is decoded on first access, most jars are never or barely accessed at startup.
+    private volatile byte[] index;
+    private volatile Map<String, Entry> entries;
+
+    private volatile ProtectionDomain protectionDomain;
+
+    //Only used to create read-only duplicates, so that the position of this buffer is never modified.
+    //The mapping is released by the GC once the buffer is no longer referenced.
+    private volatile ByteBuffer mappedJar;
+
+    public MappedJarResource(ManifestInfo manifestInfo, Path jarPath, byte[] index, boolean multiRelease) {
+        this.manifestInfo = manifestInfo;
+        this.jarPath = jarPath;
+        this.index = index;
+        this.multiRelease = multiRelease;
+    }
+
+    @Override
+    public void init(ClassLoader runnerClassLoader) {
+        final URL url;
+        try {
+            String path = jarPath.toAbsolutePath().toString();
+            if (!path.startsWith("/")) {
+                path = '/' + path;
+            }
+            URI uri = new URI("file", null, path, null);
+            url = uri.toURL();
+        } catch (URISyntaxException | MalformedURLException e) {
+            throw new RuntimeException("Unable to create protection domain for " + jarPath, e);
+        }
+        this.protectionDomain = new ProtectionDomain(new CodeSource(url, (Certificate[]) null), null, runnerClassLoader, null);
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        Entry entry = entries().get(resource);
+        if (entry == null) {
+            return null;
+        }
+        ByteBuffer buffer = mappedJar();
+        if (entry.method == ZipEntry.STORED) {
+            return read(buffer, entry.offset, entry.size);
+        }
+        byte[] compressed = read(buffer, entry.offset, entry.compressedSize);
+        byte[] data = new byte[entry.size];
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            int pos = 0;
+            while (pos < data.length) {
+                int inflated = inflater.inflate(data, pos, data.length - pos);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new RuntimeException("Failed to read all data for " + resource);
+                }
+                pos += inflated;
+            }
+            return data;
+        } catch (DataFormatException e) {
+            throw new RuntimeException("Failed to read zip entry " + resource, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Override
+    public URL getResourceURL(String resource) {
+        Map<String, Entry> entries = entries();
+        if (!entries.containsKey(resource) && !entries.containsKey(resource + '/')) {
+            return null;
+        }
+        try {
+            URI jarUri = jarPath.toUri();
+            return new URL("jar", null, jarUri.getScheme() + ':' + jarUri.getPath() + "!/" + resource);
+        } catch (MalformedURLException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Override
+    public ManifestInfo getManifestInfo() {
+        return manifestInfo;
+    }
+
+    @Override
+    public ProtectionDomain getProtectionDomain() {
+        return protectionDomain;
+    }
+
+    @Override
+    public void close() {
+        mappedJar = null;
+    }
+
+    @Override
+    public void resetInternalCaches() {
+        //The mapped pages are part of the page cache and can be reclaimed by the OS, so the mapping is kept
+        //to avoid remapping the jar on the next access.
+    }
+
+    private Map<String, Entry> entries() {
+        Map<String, Entry> entries = this.entries;
+        if (entries == null) {
+            synchronized (this) {
+                entries = this.entries;
+                if (entries == null) {
+                    try {
+                        entries = decodeIndex(index, multiRelease);
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to read the index of " + jarPath, e);
+                    }
+                    this.entries = entries;
+                    this.index = null;
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static Map<String, Entry> decodeIndex(byte[] index, boolean multiRelease) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(index));
+        int numEntries = in.readInt();
+        Map<String, Entry> entries = new HashMap<>((int) (numEntries / 0.75f) + 1);
+        for (int i = 0; i < numEntries; i++) {
+            String name = in.readUTF();
+            entries.put(name, new Entry(in.readUnsignedByte(), in.readInt(), in.readInt(), in.readInt()));
+        }
+        if (multiRelease) {
+            //JarFile resolves the versioned entries of a multi release jar for the current Java version, so we do the same
+            int javaVersion = javaVersion();
+            Map<String, Integer> resolvedVersions = new HashMap<>();
+            Map<String, Entry> versionedEntries = new HashMap<>();
+            for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                String name = entry.getKey();
+                if (!name.startsWith(SerializedApplication.META_INF_VERSIONS)) {
+                    continue;
+                }
+                String part = name.substring(SerializedApplication.META_INF_VERSIONS.length());
+                int slash = part.indexOf('/');
+                if (slash <= 0 || slash == part.length() - 1) {
+                    continue;
+                }
+                int version;
+                try {
+                    version = Integer.parseInt(part.substring(0, slash));
+                } catch (NumberFormatException e) {
+                    continue;
+                }
+                String baseName = part.substring(slash + 1);
+                Integer resolvedVersion = resolvedVersions.get(baseName);
+                if (version <= javaVersion && (resolvedVersion == null || version > resolvedVersion)) {
+                    resolvedVersions.put(baseName, version);
+                    versionedEntries.put(baseName, entry.getValue());
+                }
+            }
+            entries.putAll(versionedEntries);
+        }
+        return entries;
+    }
+
+    private static int javaVersion() {
+        String version = System.getProperty("java.specification.version");
+        if (version.startsWith("1.")) {
+            version = version.substring(2);
+        }
+        return Integer.parseInt(version);
+    }
+
+    private ByteBuffer mappedJar() {
+        ByteBuffer mapped = this.mappedJar;
+        if (mapped == null) {
+            synchronized (this) {
+                mapped = this.mappedJar;
+                if (mapped == null) {
+                    try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+                        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    } catch (IOException e) {
+                        throw new RuntimeException("Failed to map " + jarPath, e);
+                    }
+                    this.mappedJar = mapped;
+                }
+            }
+        }
+        return mapped;
+    }
+
+    private static byte[] read(ByteBuffer buffer, int offset, int length) {
+        byte[] data = new byte[length];
+        ByteBuffer duplicate = buffer.duplicate();
+        //The cast keeps the Java 8 binary compatibility, ByteBuffer#position(int) is only overridden since Java 9
+        ((Buffer) duplicate).position(offset);
+        duplicate.get(data);
+        return data;
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+
+    /**
+     * The location of an entry data in the jar, as computed at build time.
+     */
+    public static final class Entry {
+
+        final int method;
+        final int offset;
+        final int compressedSize;
+        final int size;
+
+        public Entry(int method, int offset, int compressedSize, int size) {
+            this.method = method;
+            this.offset = offset;
+            this.compressedSize = compressedSize;
+            this.size = size;
+        }
+    }
+}
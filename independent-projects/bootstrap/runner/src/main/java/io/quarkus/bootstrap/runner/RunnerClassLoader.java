@@ -27,8 +27,9 @@ public final class RunnerClassLoader extends ClassLoader {
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    //Mutations protected by synchronization on the above field, as they are related.
+    //Volatile so that the boot phase and the memory mapped resources don't need to synchronize at all.
+    private volatile boolean postBootPhase = false;
 
     static {
         registerAsParallelCapable();
@@ -95,12 +96,16 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     private void accessingResource(final ClassLoadingResource resource) {
+        if (!postBootPhase) {
+            //We only want to limit the jar buffers after the initial bootstrap has been completed
+            return;
+        }
+        if (resource instanceof MappedJarResource) {
+            //Memory mapped jars don't hold any buffer that would need to be released
+            return;
+        }
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
-            if (!postBootPhase) {
-                //We only want to limit the jar buffers after the initial bootstrap has been completed
-                return;
-            }
             // This is not a cache aiming to accurately retain the most hot resources:
             // it's too small to benefit from traditional hit metrics,
             // we rather prefer to keep it very light.
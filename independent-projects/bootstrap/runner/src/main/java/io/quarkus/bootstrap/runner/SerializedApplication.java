@@ -1,14 +1,21 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -38,7 +45,14 @@ public class SerializedApplication {
     private static final Set<String> FULLY_INDEXED_PATHS = new LinkedHashSet<>(Arrays.asList("", "META-INF/services"));
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int VERSION = 3;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+    private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+    private static final int LOCAL_FILE_HEADER_SIZE = 30;
 
     private final RunnerClassLoader runnerClassLoader;
     private final String mainClass;
@@ -59,17 +73,28 @@ public class SerializedApplication {
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
             List<Path> parentFirst, List<String> nonExistentResources)
             throws IOException {
+        write(outputStream, mainClass, applicationRoot, classPath, parentFirst, nonExistentResources, false);
+    }
+
+    /**
+     * @param memoryMappedJars whether the offsets of the jar entries should be written, so that the jars are memory mapped
+     *        instead of being opened as {@link JarFile} at runtime
+     */
+    public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
+            List<Path> parentFirst, List<String> nonExistentResources, boolean memoryMappedJars)
+            throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(memoryMappedJars);
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
                 Path jar = classPath.get(i);
                 String relativePath = applicationRoot.relativize(jar).toString().replace('\\', '/');
                 data.writeUTF(relativePath);
-                Collection<String> resources = writeJar(data, jar);
+                Collection<String> resources = writeJar(data, jar, memoryMappedJars);
                 for (String resource : resources) {
                     directlyIndexedResourcesToCPJarIndex.computeIfAbsent(resource, s -> new ArrayList<>()).add(i);
                 }
@@ -108,6 +133,7 @@ public class SerializedApplication {
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            boolean memoryMappedJars = in.readBoolean();
             Map<String, ClassLoadingResource[]> resourceDirectoryMap = new HashMap<>();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
@@ -120,7 +146,16 @@ public class SerializedApplication {
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                ClassLoadingResource resource = null;
+                if (memoryMappedJars && in.readBoolean()) {
+                    boolean multiRelease = in.readBoolean();
+                    byte[] index = new byte[in.readInt()];
+                    in.readFully(index);
+                    resource = new MappedJarResource(info, appRoot.resolve(path), index, multiRelease);
+                }
+                if (resource == null) {
+                    resource = new JarResource(info, appRoot.resolve(path));
+                }
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -179,9 +214,10 @@ public class SerializedApplication {
      * @return a List of all resources that exist in the paths that we desire to have fully indexed
      *         (configured via {@code FULLY_INDEXED_PATHS})
      */
-    private static List<String> writeJar(DataOutputStream out, Path jar) throws IOException {
+    private static List<String> writeJar(DataOutputStream out, Path jar, boolean memoryMappedJars) throws IOException {
         try (JarFile zip = new JarFile(jar.toFile())) {
             Manifest manifest = zip.getManifest();
+            boolean multiRelease = false;
             if (manifest == null) {
                 out.writeBoolean(false);
             } else {
@@ -197,8 +233,12 @@ public class SerializedApplication {
                     writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_TITLE));
                     writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VERSION));
                     writeNullableString(out, ma.getValue(Attributes.Name.IMPLEMENTATION_VENDOR));
+                    multiRelease = "true".equalsIgnoreCase(ma.getValue("Multi-Release"));
                 }
             }
+            if (memoryMappedJars) {
+                writeEntries(out, jar, multiRelease);
+            }
 
             Set<String> dirs = new HashSet<>();
             Map<String, List<String>> fullyIndexedPaths = new HashMap<>();
@@ -257,6 +297,138 @@ public class SerializedApplication {
         }
     }
 
+    /**
+     * Writes the location of the data of each entry, read from the central directory and the local file headers of the jar.
+     * If the jar can't be memory mapped or uses an unsupported zip feature, no entry is written and the jar will be
+     * opened as a {@link JarFile} at runtime.
+     */
+    private static void writeEntries(DataOutputStream out, Path jar, boolean multiRelease) throws IOException {
+        byte[] index = index(jar);
+        if (index == null) {
+            out.writeBoolean(false);
+            return;
+        }
+        out.writeBoolean(true);
+        out.writeBoolean(multiRelease);
+        out.writeInt(index.length);
+        out.write(index);
+    }
+
+    /**
+     * @return the index of the entries of the jar, as decoded by {@link MappedJarResource}, or {@code null} if the jar
+     *         can't be memory mapped
+     */
+    static byte[] index(Path jar) throws IOException {
+        Map<String, MappedJarResource.Entry> entries = readEntries(jar);
+        if (entries == null) {
+            return null;
+        }
+        //the index is only decoded at runtime when the jar is first accessed
+        ByteArrayOutputStream index = new ByteArrayOutputStream();
+        try (DataOutputStream indexOut = new DataOutputStream(index)) {
+            indexOut.writeInt(entries.size());
+            for (Map.Entry<String, MappedJarResource.Entry> entry : entries.entrySet()) {
+                MappedJarResource.Entry value = entry.getValue();
+                indexOut.writeUTF(entry.getKey());
+                indexOut.writeByte(value.method);
+                indexOut.writeInt(value.offset);
+                indexOut.writeInt(value.compressedSize);
+                indexOut.writeInt(value.size);
+            }
+        }
+        return index.toByteArray();
+    }
+
+    private static Map<String, MappedJarResource.Entry> readEntries(Path jar) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            long jarSize = channel.size();
+            if (jarSize > Integer.MAX_VALUE || jarSize < END_OF_CENTRAL_DIRECTORY_SIZE) {
+                //a single mapping is limited to 2GB
+                return null;
+            }
+            //the end of central directory record is followed by a comment of at most 0xFFFF bytes
+            int tailSize = (int) Math.min(jarSize, END_OF_CENTRAL_DIRECTORY_SIZE + 0xFFFF);
+            ByteBuffer tail = read(channel, jarSize - tailSize, tailSize);
+            int eocd = -1;
+            for (int i = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE; i >= 0; i--) {
+                if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                    eocd = i;
+                    break;
+                }
+            }
+            if (eocd == -1) {
+                return null;
+            }
+            int numEntries = tail.getShort(eocd + 10) & 0xFFFF;
+            long centralDirectorySize = tail.getInt(eocd + 12) & 0xFFFFFFFFL;
+            long centralDirectoryOffset = tail.getInt(eocd + 16) & 0xFFFFFFFFL;
+            if (numEntries == 0xFFFF || centralDirectoryOffset + centralDirectorySize > jarSize) {
+                //zip64 or prefixed archive
+                return null;
+            }
+            ByteBuffer centralDirectory = read(channel, centralDirectoryOffset, (int) centralDirectorySize);
+            ByteBuffer localHeader = ByteBuffer.allocate(LOCAL_FILE_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            Map<String, MappedJarResource.Entry> entries = new HashMap<>();
+            int pos = 0;
+            for (int i = 0; i < numEntries; i++) {
+                if (pos + CENTRAL_DIRECTORY_HEADER_SIZE > centralDirectory.limit()
+                        || centralDirectory.getInt(pos) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+                    return null;
+                }
+                int flags = centralDirectory.getShort(pos + 8) & 0xFFFF;
+                int method = centralDirectory.getShort(pos + 10) & 0xFFFF;
+                long compressedSize = centralDirectory.getInt(pos + 20) & 0xFFFFFFFFL;
+                long size = centralDirectory.getInt(pos + 24) & 0xFFFFFFFFL;
+                int nameLength = centralDirectory.getShort(pos + 28) & 0xFFFF;
+                int extraLength = centralDirectory.getShort(pos + 30) & 0xFFFF;
+                int commentLength = centralDirectory.getShort(pos + 32) & 0xFFFF;
+                long localHeaderOffset = centralDirectory.getInt(pos + 42) & 0xFFFFFFFFL;
+                if ((flags & 1) != 0 || (method != ZipEntry.STORED && method != ZipEntry.DEFLATED)
+                        || compressedSize > Integer.MAX_VALUE || size > Integer.MAX_VALUE
+                        || localHeaderOffset + LOCAL_FILE_HEADER_SIZE > jarSize) {
+                    //encrypted entry, unsupported compression method or zip64 entry
+                    return null;
+                }
+                byte[] name = new byte[nameLength];
+                for (int j = 0; j < nameLength; j++) {
+                    name[j] = centralDirectory.get(pos + CENTRAL_DIRECTORY_HEADER_SIZE + j);
+                }
+                //the extra field of the local file header may differ from the one of the central directory
+                ((Buffer) localHeader).clear();
+                while (localHeader.hasRemaining()) {
+                    if (channel.read(localHeader, localHeaderOffset + localHeader.position()) == -1) {
+                        return null;
+                    }
+                }
+                if (localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+                    return null;
+                }
+                long dataOffset = localHeaderOffset + LOCAL_FILE_HEADER_SIZE + (localHeader.getShort(26) & 0xFFFF)
+                        + (localHeader.getShort(28) & 0xFFFF);
+                if (dataOffset + compressedSize > jarSize) {
+                    return null;
+                }
+                String entryName = new String(name, StandardCharsets.UTF_8);
+                if (!entries.containsKey(entryName)) {
+                    entries.put(entryName,
+                            new MappedJarResource.Entry(method, (int) dataOffset, (int) compressedSize, (int) size));
+                }
+                pos += CENTRAL_DIRECTORY_HEADER_SIZE + nameLength + extraLength + commentLength;
+            }
+            return entries;
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+        return buffer;
+    }
+
     private static void collectPackages(Path jar, Set<String> dirs) throws IOException {
         if (Files.isDirectory(jar)) {
             //this can only really happen when testing quarkus itself
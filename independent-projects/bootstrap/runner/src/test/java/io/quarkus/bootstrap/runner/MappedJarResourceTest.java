@@ -0,0 +1,138 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that the entries of a jar are read from the offsets computed by {@link SerializedApplication}.
+ */
+public class MappedJarResourceTest {
+
+    @TempDir
+    Path tmpDir;
+
+    @Test
+    public void testStoredAndDeflatedEntries() throws Exception {
+        byte[] stored = "stored entry".getBytes(StandardCharsets.UTF_8);
+        byte[] deflated = new byte[10000];
+        for (int i = 0; i < deflated.length; i++) {
+            deflated[i] = (byte) ('a' + i % 7);
+        }
+        Path jar = tmpDir.resolve("entries.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            putStoredEntry(out, "org/acme/stored.txt", stored);
+            putEntry(out, "org/acme/deflated.txt", deflated);
+            putEntry(out, "org/acme/empty.txt", new byte[0]);
+        }
+
+        MappedJarResource resource = mappedJarResource(jar, false);
+        assertArrayEquals(stored, resource.getResourceData("org/acme/stored.txt"));
+        assertArrayEquals(deflated, resource.getResourceData("org/acme/deflated.txt"));
+        assertArrayEquals(new byte[0], resource.getResourceData("org/acme/empty.txt"));
+        assertNull(resource.getResourceData("org/acme/missing.txt"));
+        assertNotNull(resource.getResourceURL("org/acme/stored.txt"));
+        assertNull(resource.getResourceURL("org/acme/missing.txt"));
+    }
+
+    @Test
+    public void testMultiReleaseEntries() throws Exception {
+        Path jar = tmpDir.resolve("multi-release.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            putEntry(out, "org/acme/Versioned.txt", bytes("base"));
+            putEntry(out, "META-INF/versions/9/org/acme/Versioned.txt", bytes("9"));
+            putEntry(out, "META-INF/versions/10000/org/acme/Versioned.txt", bytes("10000"));
+            putEntry(out, "META-INF/versions/9/org/acme/OnlyVersioned.txt", bytes("only 9"));
+        }
+
+        // the entry for the most recent version that is not more recent than the running Java version is used
+        MappedJarResource resource = mappedJarResource(jar, true);
+        assertArrayEquals(bytes("9"), resource.getResourceData("org/acme/Versioned.txt"));
+        assertArrayEquals(bytes("only 9"), resource.getResourceData("org/acme/OnlyVersioned.txt"));
+        assertArrayEquals(bytes("10000"), resource.getResourceData("META-INF/versions/10000/org/acme/Versioned.txt"));
+
+        // versioned entries are ignored unless the manifest declares a multi release jar
+        resource = mappedJarResource(jar, false);
+        assertArrayEquals(bytes("base"), resource.getResourceData("org/acme/Versioned.txt"));
+        assertNull(resource.getResourceData("org/acme/OnlyVersioned.txt"));
+    }
+
+    @Test
+    public void testZip64Fallback() throws Exception {
+        Path jar = tmpDir.resolve("zip64.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            // the number of entries doesn't fit in the end of central directory record
+            for (int i = 0; i < 0xFFFF + 1; i++) {
+                putEntry(out, "org/acme/entry" + i + ".txt", new byte[0]);
+            }
+        }
+        assertNull(SerializedApplication.index(jar));
+    }
+
+    @Test
+    public void testPrefixedArchiveFallback() throws Exception {
+        Path jar = tmpDir.resolve("plain.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            putEntry(out, "org/acme/entry.txt", bytes("entry"));
+        }
+        assertNotNull(SerializedApplication.index(jar));
+
+        // e.g. a launcher script followed by the archive, the offsets of the central directory don't match anymore
+        Path prefixed = tmpDir.resolve("prefixed.jar");
+        try (OutputStream out = Files.newOutputStream(prefixed)) {
+            out.write(bytes("#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n"));
+            Files.copy(jar, out);
+        }
+        assertNull(SerializedApplication.index(prefixed));
+    }
+
+    @Test
+    public void testNotAnArchiveFallback() throws Exception {
+        Path jar = tmpDir.resolve("not-a.jar");
+        Files.write(jar, bytes("not a zip archive, but long enough to hold an end of central directory record"));
+        assertNull(SerializedApplication.index(jar));
+    }
+
+    private static MappedJarResource mappedJarResource(Path jar, boolean multiRelease) throws IOException {
+        byte[] index = SerializedApplication.index(jar);
+        assertNotNull(index);
+        MappedJarResource resource = new MappedJarResource(null, jar, index, multiRelease);
+        resource.init(MappedJarResourceTest.class.getClassLoader());
+        return resource;
+    }
+
+    private static void putStoredEntry(JarOutputStream out, String name, byte[] data) throws IOException {
+        JarEntry entry = new JarEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(data.length);
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        entry.setCrc(crc.getValue());
+        out.putNextEntry(entry);
+        out.write(data);
+        out.closeEntry();
+    }
+
+    private static void putEntry(JarOutputStream out, String name, byte[] data) throws IOException {
+        out.putNextEntry(new JarEntry(name));
+        out.write(data);
+        out.closeEntry();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
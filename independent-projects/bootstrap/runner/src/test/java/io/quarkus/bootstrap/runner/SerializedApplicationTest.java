@@ -0,0 +1,92 @@
+package io.quarkus.bootstrap.runner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests that the class loader read from a serialized application loads the classes and resources of its jars.
+ */
+public class SerializedApplicationTest {
+
+    @TempDir
+    Path appRoot;
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        testRoundTrip(false);
+    }
+
+    @Test
+    public void testRoundTripWithMemoryMappedJars() throws Exception {
+        testRoundTrip(true);
+    }
+
+    private void testRoundTrip(boolean memoryMappedJars) throws Exception {
+        Path lib = Files.createDirectories(appRoot.resolve("lib"));
+        Path jar = lib.resolve("hello.jar");
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.IMPLEMENTATION_TITLE, "hello");
+        String classResource = Hello.class.getName().replace('.', '/') + ".class";
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar), manifest);
+                InputStream classData = getClass().getClassLoader().getResourceAsStream(classResource)) {
+            out.putNextEntry(new JarEntry(classResource));
+            byte[] buffer = new byte[1024];
+            int read;
+            while ((read = classData.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            out.closeEntry();
+            out.putNextEntry(new JarEntry("META-INF/services/org.acme.Service"));
+            out.write("org.acme.ServiceImpl".getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        SerializedApplication.write(serialized, Hello.class.getName(), appRoot, Collections.singletonList(jar),
+                Collections.emptyList(), Collections.singletonList("org/acme/missing.txt"), memoryMappedJars);
+        SerializedApplication application = SerializedApplication
+                .read(new ByteArrayInputStream(serialized.toByteArray()), appRoot);
+
+        assertEquals(Hello.class.getName(), application.getMainClass());
+        RunnerClassLoader classLoader = application.getRunnerClassLoader();
+        try {
+            Class<?> hello = classLoader.loadClass(Hello.class.getName());
+            assertSame(classLoader, hello.getClassLoader());
+            assertNotSame(Hello.class, hello);
+            assertEquals("hello", hello.getPackage().getImplementationTitle());
+            assertEquals("Hello", hello.getMethod("hello").invoke(hello.getConstructor().newInstance()));
+
+            assertNotNull(classLoader.getResource("META-INF/services/org.acme.Service"));
+            assertNull(classLoader.getResource("META-INF/services/org.acme.Missing"));
+            assertNull(classLoader.getResource("org/acme/missing.txt"));
+        } finally {
+            classLoader.close();
+        }
+    }
+
+    public static class Hello {
+
+        public String hello() {
+            return "Hello";
+        }
+    }
+}
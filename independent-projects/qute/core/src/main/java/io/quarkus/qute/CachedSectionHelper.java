@@ -0,0 +1,432 @@
+package io.quarkus.qute;
+
+import io.quarkus.qute.Results.Result;
+import io.quarkus.qute.SectionHelperFactory.SectionInitContext;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Renders the content of the section only once and then outputs the cached result, e.g.
+ * <code>{#cached key='nav' ttl='10m'}...{/cached}</code>.
+ * <p>
+ * The {@code key} parameter is evaluated and its string representation identifies the cached content. All sections that
+ * use the same {@link Cache} share the content, also across templates, so that a fragment can be invalidated by its key. The
+ * optional {@code ttl} parameter is the duration after which the content is rendered again, e.g. {@code 30s}, {@code 10m}
+ * or {@code PT1H}. A number is a number of seconds. The content never expires if no {@code ttl} is set.
+ * <p>
+ * A section nested in a section with the same key is part of the content being cached, it is therefore rendered without
+ * the cache.
+ */
+public class CachedSectionHelper implements SectionHelper {
+
+    private static final String CACHED = "cached";
+    private static final String KEY = "key";
+    private static final String TTL = "ttl";
+
+    private final Expression key;
+    private final Duration ttl;
+    private final Cache cache;
+
+    CachedSectionHelper(SectionInitContext context, Duration ttl, Cache cache) {
+        this.key = context.getExpression(KEY);
+        this.ttl = ttl;
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
+        return context.resolutionContext().evaluate(key).thenCompose(k -> {
+            if (k == null || Result.NOT_FOUND.equals(k)) {
+                return Futures.failure(new TemplateException("Cache key not found for " + key.toOriginalString()));
+            }
+            String cacheKey = k.toString();
+            ResolutionContext resolutionContext = context.resolutionContext();
+            Set<String> renderedKeys = resolutionContext instanceof CachedResolutionContext
+                    ? ((CachedResolutionContext) resolutionContext).keys
+                    : Collections.emptySet();
+            if (renderedKeys.contains(cacheKey)) {
+                // the content of a nested section with the key of an enclosing one is part of the content being cached,
+                // waiting for the cached content would never complete
+                return context.execute(resolutionContext);
+            }
+            Set<String> keys = new HashSet<>(renderedKeys);
+            keys.add(cacheKey);
+            ResolutionContext nested = new CachedResolutionContext(resolutionContext, keys);
+            return cache.getValue(cacheKey, ttl,
+                    ignored -> context.execute(nested).thenApply(CachedSectionHelper::render))
+                    .thenApply(CachedSectionHelper::toResultNode);
+        });
+    }
+
+    static String render(ResultNode node) {
+        StringBuilder builder = new StringBuilder();
+        node.process(builder::append);
+        return builder.toString();
+    }
+
+    static ResultNode toResultNode(String content) {
+        return content.isEmpty() ? ResultNode.NOOP : consumer -> consumer.accept(content);
+    }
+
+    static Duration parseTtl(String value) {
+        if (LiteralSupport.isStringLiteralSeparator(value.charAt(0))) {
+            value = value.substring(1, value.length() - 1);
+        }
+        value = value.trim();
+        if (LiteralSupport.INTEGER_LITERAL_PATTERN.matcher(value).matches()) {
+            return Duration.ofSeconds(Long.parseLong(value));
+        }
+        if (value.endsWith("ms") && LiteralSupport.INTEGER_LITERAL_PATTERN.matcher(value.substring(0, value.length() - 2))
+                .matches()) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (!value.startsWith("P") && !value.startsWith("p")) {
+            value = (value.endsWith("d") || value.endsWith("D") ? "P" : "PT") + value;
+        }
+        return Duration.parse(value);
+    }
+
+    /**
+     * The cache of the rendered content of {@code cached} sections.
+     */
+    public interface Cache {
+
+        /**
+         *
+         * @param key
+         * @param ttl the time to live of the content, or {@code null} if the content should never expire
+         * @param loader renders the content if the key is not cached or the cached content expired
+         * @return the content associated with the key
+         */
+        CompletionStage<String> getValue(String key, Duration ttl, Function<String, CompletionStage<String>> loader);
+
+        /**
+         * Removes the content associated with the key so that it's rendered again the next time it's needed.
+         *
+         * @param key
+         */
+        void invalidate(String key);
+
+        /**
+         * Removes all the cached content.
+         */
+        void invalidateAll();
+
+        /**
+         *
+         * @return the number of lookups that found the content in the cache
+         */
+        long getHitCount();
+
+        /**
+         *
+         * @return the number of lookups that rendered the content
+         */
+        long getMissCount();
+
+    }
+
+    /**
+     * An in-memory cache that holds the content of a limited number of keys. The least recently used key is evicted when the
+     * limit is reached.
+     * <p>
+     * Concurrent lookups of the same key render the content only once.
+     */
+    public static class LocalCache implements Cache {
+
+        public static final int DEFAULT_MAX_SIZE = 1000;
+
+        private final Map<String, CacheEntry> entries;
+        private final LongAdder hits;
+        private final LongAdder misses;
+        private final LongSupplier ticker;
+
+        public LocalCache() {
+            this(DEFAULT_MAX_SIZE);
+        }
+
+        public LocalCache(int maxSize) {
+            this(maxSize, System::nanoTime);
+        }
+
+        /**
+         *
+         * @param maxSize
+         * @param ticker the source of the current time in nanoseconds the ttl of the content is measured with
+         */
+        public LocalCache(int maxSize, LongSupplier ticker) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("The maximum size must be positive: " + maxSize);
+            }
+            this.entries = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+                    return size() > maxSize;
+                }
+            };
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.ticker = ticker;
+        }
+
+        @Override
+        public CompletionStage<String> getValue(String key, Duration ttl,
+                Function<String, CompletionStage<String>> loader) {
+            long now = ticker.getAsLong();
+            CacheEntry entry;
+            synchronized (entries) {
+                entry = entries.get(key);
+                if (entry != null && !entry.isExpired(now)) {
+                    hits.increment();
+                    return entry.value;
+                }
+                entry = new CacheEntry(now, ttl);
+                entries.put(key, entry);
+            }
+            misses.increment();
+            // the content is rendered outside of the lock as a nested section may use the same cache
+            CacheEntry loading = entry;
+            try {
+                loader.apply(key).whenComplete((value, failure) -> {
+                    if (failure != null) {
+                        remove(key, loading);
+                        loading.value.completeExceptionally(failure);
+                    } else {
+                        loading.value.complete(value);
+                    }
+                });
+            } catch (Throwable failure) {
+                remove(key, loading);
+                loading.value.completeExceptionally(failure);
+            }
+            return loading.value;
+        }
+
+        @Override
+        public void invalidate(String key) {
+            synchronized (entries) {
+                entries.remove(key);
+            }
+        }
+
+        @Override
+        public void invalidateAll() {
+            synchronized (entries) {
+                entries.clear();
+            }
+        }
+
+        @Override
+        public long getHitCount() {
+            return hits.sum();
+        }
+
+        @Override
+        public long getMissCount() {
+            return misses.sum();
+        }
+
+        /**
+         *
+         * @return the number of cached keys, including the keys whose content expired but was not rendered again yet
+         */
+        public int size() {
+            synchronized (entries) {
+                return entries.size();
+            }
+        }
+
+        private void remove(String key, CacheEntry entry) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+        }
+
+        static final class CacheEntry extends Expiry {
+
+            final CompletableFuture<String> value;
+
+            CacheEntry(long created, Duration ttl) {
+                super(created, ttl);
+                this.value = new CompletableFuture<>();
+            }
+
+        }
+
+    }
+
+    /**
+     * The expiration of cached content, shared by the {@link Cache} implementations. The times are in nanoseconds, as
+     * returned by {@link System#nanoTime()}.
+     */
+    public static class Expiry {
+
+        private final long created;
+        private final long ttl;
+
+        /**
+         *
+         * @param created the time the content was rendered
+         * @param ttl the time to live of the content, or {@code null} if the content should never expire
+         */
+        public Expiry(long created, Duration ttl) {
+            this.created = created;
+            this.ttl = ttl != null ? saturatedNanos(ttl) : -1;
+        }
+
+        public boolean isExpired(long now) {
+            return ttl >= 0 && now - created >= ttl;
+        }
+
+        private static long saturatedNanos(Duration duration) {
+            try {
+                return duration.toNanos();
+            } catch (ArithmeticException e) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+    }
+
+    /**
+     * The resolution context of the content of a cached section. It holds the keys of the enclosing cached sections, also
+     * for the child contexts created by the nested sections.
+     */
+    static final class CachedResolutionContext implements ResolutionContext {
+
+        private final ResolutionContext delegate;
+        final Set<String> keys;
+
+        CachedResolutionContext(ResolutionContext delegate, Set<String> keys) {
+            this.delegate = delegate;
+            this.keys = keys;
+        }
+
+        @Override
+        public CompletionStage<Object> evaluate(String expression) {
+            return delegate.evaluate(expression);
+        }
+
+        @Override
+        public CompletionStage<Object> evaluate(Expression expression) {
+            return delegate.evaluate(expression);
+        }
+
+        @Override
+        public ResolutionContext createChild(Object data, List<NamespaceResolver> namespaceResolvers,
+                Map<String, SectionBlock> extendingBlocks) {
+            return new CachedResolutionContext(delegate.createChild(data, namespaceResolvers, extendingBlocks), keys);
+        }
+
+        @Override
+        public Object getData() {
+            return delegate.getData();
+        }
+
+        @Override
+        public List<NamespaceResolver> getNamespaceResolvers() {
+            return delegate.getNamespaceResolvers();
+        }
+
+        @Override
+        public ResolutionContext getParent() {
+            return delegate.getParent();
+        }
+
+        @Override
+        public SectionBlock getExtendingBlock(String name) {
+            return delegate.getExtendingBlock(name);
+        }
+
+        @Override
+        public Object getAttribute(String key) {
+            return delegate.getAttribute(key);
+        }
+
+    }
+
+    public static class Factory implements SectionHelperFactory<CachedSectionHelper> {
+
+        private volatile Cache cache;
+
+        /**
+         * Creates a factory backed by a {@link LocalCache} of the default size. The cache is only created when the first
+         * {@code cached} section is parsed, so that a factory replaced by another one does not allocate anything.
+         */
+        public Factory() {
+        }
+
+        public Factory(Cache cache) {
+            this.cache = Objects.requireNonNull(cache);
+        }
+
+        public Cache getCache() {
+            Cache result = cache;
+            if (result == null) {
+                synchronized (this) {
+                    result = cache;
+                    if (result == null) {
+                        cache = result = new LocalCache();
+                    }
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public List<String> getDefaultAliases() {
+            return ImmutableList.of(CACHED);
+        }
+
+        @Override
+        public ParametersInfo getParameters() {
+            return ParametersInfo.builder().addParameter(KEY).addParameter(new Parameter(TTL, null, true)).build();
+        }
+
+        @Override
+        public CachedSectionHelper initialize(SectionInitContext context) {
+            Duration ttl = null;
+            String ttlValue = context.getParameter(TTL);
+            if (ttlValue != null) {
+                try {
+                    ttl = parseTtl(ttlValue);
+                } catch (DateTimeParseException e) {
+                    throw context.createParserError("invalid ttl of a cached section: " + ttlValue);
+                }
+                if (ttl.isNegative()) {
+                    throw context.createParserError("negative ttl of a cached section: " + ttlValue);
+                }
+            }
+            return new CachedSectionHelper(context, ttl, getCache());
+        }
+
+        @Override
+        public Scope initializeBlock(Scope previousScope, BlockInfo block) {
+            if (block.getLabel().equals(MAIN_BLOCK_NAME)) {
+                String key = block.getParameter(KEY);
+                if (key == null) {
+                    throw new IllegalStateException("Key param not present");
+                }
+                block.addExpression(KEY, key);
+            }
+            return previousScope;
+        }
+
+    }
+
+}
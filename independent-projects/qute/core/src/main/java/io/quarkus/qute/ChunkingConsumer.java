@@ -0,0 +1,94 @@
+package io.quarkus.qute;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Encodes the parts of a rendered template and passes the encoded bytes to a consumer in chunks of a fixed size.
+ * <p>
+ * The output of a template is never held in memory as a whole, only the current chunk is.
+ *
+ * @see TemplateInstance#consumeBytes(Consumer, Charset, int)
+ */
+final class ChunkingConsumer implements Consumer<String> {
+
+    private static final CharBuffer EMPTY = CharBuffer.allocate(0);
+
+    private final Consumer<byte[]> consumer;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer chunk;
+    // a high surrogate at the end of a part is only encoded with the low surrogate at the beginning of the next part
+    private String remaining;
+
+    ChunkingConsumer(Consumer<byte[]> consumer, Charset charset, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("The chunk size must be positive: " + chunkSize);
+        }
+        this.consumer = consumer;
+        // replace the malformed input like String#getBytes() does
+        this.encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // a chunk must be able to hold any encoded character
+        this.chunk = ByteBuffer.allocate(Math.max(chunkSize, 2 * (int) Math.ceil(encoder.maxBytesPerChar())));
+    }
+
+    @Override
+    public void accept(String part) {
+        if (remaining != null) {
+            part = remaining + part;
+            remaining = null;
+        }
+        CharBuffer in = CharBuffer.wrap(part);
+        encode(in, false);
+        if (in.hasRemaining()) {
+            remaining = in.toString();
+        }
+    }
+
+    /**
+     * Encodes the remaining characters and passes the last chunk to the consumer.
+     */
+    void flush() {
+        encode(remaining != null ? CharBuffer.wrap(remaining) : EMPTY, true);
+        remaining = null;
+        while (encoder.flush(chunk).isOverflow()) {
+            emit();
+        }
+        if (chunk.position() > 0) {
+            emit();
+        }
+    }
+
+    private void encode(CharBuffer in, boolean endOfInput) {
+        for (;;) {
+            CoderResult result = encoder.encode(in, chunk, endOfInput);
+            if (result.isOverflow()) {
+                emit();
+            } else if (result.isUnderflow()) {
+                return;
+            } else {
+                try {
+                    result.throwException();
+                } catch (CharacterCodingException e) {
+                    throw new TemplateException(e);
+                }
+            }
+        }
+    }
+
+    private void emit() {
+        byte[] bytes = Arrays.copyOf(chunk.array(), chunk.position());
+        // the cast keeps the Java 8 binary compatibility, ByteBuffer#clear() is only overridden since Java 9
+        ((Buffer) chunk).clear();
+        consumer.accept(bytes);
+    }
+
+}
@@ -18,6 +18,9 @@ class EvaluatorImpl implements Evaluator {
 
     private static final Logger LOGGER = Logger.getLogger(EvaluatorImpl.class);
 
+    // Marks a result that is not completed yet
+    private static final Object INCOMPLETE = new Object();
+
     private final List<ValueResolver> resolvers;
 
     EvaluatorImpl(List<ValueResolver> valueResolvers) {
@@ -36,7 +39,13 @@ class EvaluatorImpl implements Evaluator {
             }
             EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.getNamespace(), resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
+            CompletionStage<Object> result = resolver.resolve(context);
+            Object value = getCompletedValue(result);
+            if (value != INCOMPLETE) {
+                return parts.hasNext() ? resolveReference(false, value, parts, resolutionContext)
+                        : toCompletionStage(value, result);
+            }
+            return result.thenCompose(r -> {
                 if (parts.hasNext()) {
                     return resolveReference(false, r, parts, resolutionContext);
                 } else {
@@ -69,63 +78,108 @@ class EvaluatorImpl implements Evaluator {
 
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext) {
-        Part part = parts.next();
-        EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
-        if (!parts.hasNext()) {
-            // The last part - no need to compose
-            return resolve(evalContext, resolvers.iterator(), true);
-        } else {
-            // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, resolvers.iterator(), true)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
+        for (;;) {
+            Part part = parts.next();
+            EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
+            CompletionStage<Object> result = resolve(evalContext, 0, true);
+            if (!parts.hasNext()) {
+                // The last part - no need to compose
+                return result;
+            }
+            Object value = getCompletedValue(result);
+            if (value == INCOMPLETE) {
+                // Next part - no need to try the parent context/outer scope
+                return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
+            }
+            // The result is already available - continue with the next part synchronously
+            ref = value;
+            tryParent = false;
         }
     }
 
-    private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers,
-            boolean tryCachedResolver) {
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext, int index, boolean tryCachedResolver) {
+        PartImpl part = (PartImpl) evalContext.part;
 
         if (tryCachedResolver) {
-            // Try the cached resolver first
-            ValueResolver cachedResolver = ((PartImpl) evalContext.part).cachedResolver;
+            // Try the resolver cached for the class of the base object first
+            ValueResolver cachedResolver = part.getCachedResolver(evalContext.base);
             if (cachedResolver != null && cachedResolver.appliesTo(evalContext)) {
-                return cachedResolver.resolve(evalContext).thenCompose(r -> {
+                CompletionStage<Object> result = cachedResolver.resolve(evalContext);
+                Object value = getCompletedValue(result);
+                if (value == INCOMPLETE) {
+                    return result.thenCompose(r -> {
+                        if (Result.NOT_FOUND.equals(r)) {
+                            return resolve(evalContext, 0, false);
+                        } else {
+                            return toCompletionStage(r);
+                        }
+                    });
+                } else if (!Result.NOT_FOUND.equals(value)) {
+                    return toCompletionStage(value, result);
+                }
+            }
+        }
+
+        while (index < resolvers.size()) {
+            ValueResolver resolver = resolvers.get(index++);
+            if (!resolver.appliesTo(evalContext)) {
+                continue;
+            }
+            CompletionStage<Object> result = resolver.resolve(evalContext);
+            Object value = getCompletedValue(result);
+            if (value == INCOMPLETE) {
+                int next = index;
+                return result.thenCompose(r -> {
                     if (Result.NOT_FOUND.equals(r)) {
-                        return resolve(evalContext, resolvers, false);
+                        // Result not found - try the next resolver
+                        return resolve(evalContext, next, false);
                     } else {
+                        // Cache the first resolver where a result is found
+                        part.setCachedResolver(evalContext.base, resolver);
                         return toCompletionStage(r);
                     }
                 });
+            } else if (!Result.NOT_FOUND.equals(value)) {
+                part.setCachedResolver(evalContext.base, resolver);
+                return toCompletionStage(value, result);
             }
+            // Result not found - try the next resolver
         }
 
-        if (!resolvers.hasNext()) {
-            ResolutionContext parent = evalContext.resolutionContext.getParent();
-            if (evalContext.tryParent && parent != null) {
-                // Continue with parent context
-                return resolve(
-                        new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent,
-                                evalContext.part),
-                        this.resolvers.iterator(), false);
+        ResolutionContext parent = evalContext.resolutionContext.getParent();
+        if (evalContext.tryParent && parent != null) {
+            // Continue with parent context
+            return resolve(
+                    new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent,
+                            evalContext.part),
+                    0, false);
+        }
+        LOGGER.tracef("Unable to resolve %s", evalContext);
+        return Results.NOT_FOUND;
+    }
+
+    /**
+     * @return the value if the result is already completed successfully, {@link #INCOMPLETE} otherwise
+     */
+    private static Object getCompletedValue(CompletionStage<Object> result) {
+        if (result instanceof CompletableFuture) {
+            CompletableFuture<Object> future = (CompletableFuture<Object>) result;
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                return future.join();
             }
-            LOGGER.tracef("Unable to resolve %s", evalContext);
-            return Results.NOT_FOUND;
-        }
-        ValueResolver resolver = resolvers.next();
-        if (resolver.appliesTo(evalContext)) {
-            return resolver.resolve(evalContext).thenCompose(r -> {
-                if (Result.NOT_FOUND.equals(r)) {
-                    // Result not found - try the next resolver
-                    return resolve(evalContext, resolvers, false);
-                } else {
-                    // Cache the first resolver where a result is found
-                    ((PartImpl) evalContext.part).setCachedResolver(resolver);
-                    return toCompletionStage(r);
-                }
-            });
-        } else {
-            // Try the next resolver
-            return resolve(evalContext, resolvers, false);
         }
+        return INCOMPLETE;
+    }
+
+    /**
+     * @param result the completed result the value was obtained from
+     * @return the completion stage of the value, the result itself if the value is not asynchronous
+     */
+    private CompletionStage<Object> toCompletionStage(Object value, CompletionStage<Object> result) {
+        if (value instanceof CompletionStage || value instanceof Uni) {
+            return toCompletionStage(value);
+        }
+        return result;
     }
 
     @SuppressWarnings("unchecked")
@@ -2,6 +2,7 @@ package io.quarkus.qute;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
@@ -220,7 +221,8 @@ final class ExpressionImpl implements Expression {
 
         protected final String name;
         protected final String typeInfo;
-        protected volatile ValueResolver cachedResolver;
+        // The resolvers that resolved this part for the classes of the base objects
+        private volatile ResolverCache resolverCache;
 
         PartImpl(String name, String typeInfo) {
             this.name = name;
@@ -235,15 +237,19 @@ final class ExpressionImpl implements Expression {
             return typeInfo;
         }
 
-        void setCachedResolver(ValueResolver resolver) {
-            ValueResolver last = this.cachedResolver;
-            if (last != null) {
-                return;
-            }
-            synchronized (this) {
-                if (this.cachedResolver == null) {
-                    this.cachedResolver = resolver;
-                }
+        ValueResolver getCachedResolver(Object base) {
+            ResolverCache cache = this.resolverCache;
+            return cache != null ? cache.get(base != null ? base.getClass() : null) : null;
+        }
+
+        void setCachedResolver(Object base, ValueResolver resolver) {
+            ResolverCache cache = this.resolverCache;
+            Class<?> baseClass = base != null ? base.getClass() : null;
+            if (cache == null) {
+                this.resolverCache = new ResolverCache(baseClass, resolver);
+            } else if (cache.size() < ResolverCache.MAX_SIZE && cache.get(baseClass) == null) {
+                // A concurrent update may be lost, the resolver is cached again next time
+                this.resolverCache = cache.with(baseClass, resolver);
             }
         }
 
@@ -273,4 +279,49 @@ final class ExpressionImpl implements Expression {
         }
 
     }
+
+    /**
+     * An immutable inline cache of the resolvers that resolved a part for the given classes of base objects.
+     * <p>
+     * Most parts are only ever resolved for a single class of base objects, some for a few. Once the cache is full, the
+     * resolvers are searched for the other classes on every evaluation.
+     */
+    static final class ResolverCache {
+
+        static final int MAX_SIZE = 4;
+
+        private final Class<?>[] classes;
+        private final ValueResolver[] resolvers;
+
+        ResolverCache(Class<?> baseClass, ValueResolver resolver) {
+            this(new Class<?>[] { baseClass }, new ValueResolver[] { resolver });
+        }
+
+        private ResolverCache(Class<?>[] classes, ValueResolver[] resolvers) {
+            this.classes = classes;
+            this.resolvers = resolvers;
+        }
+
+        ValueResolver get(Class<?> baseClass) {
+            for (int i = 0; i < classes.length; i++) {
+                if (classes[i] == baseClass) {
+                    return resolvers[i];
+                }
+            }
+            return null;
+        }
+
+        int size() {
+            return classes.length;
+        }
+
+        ResolverCache with(Class<?> baseClass, ValueResolver resolver) {
+            Class<?>[] newClasses = Arrays.copyOf(classes, classes.length + 1);
+            ValueResolver[] newResolvers = Arrays.copyOf(resolvers, resolvers.length + 1);
+            newClasses[classes.length] = baseClass;
+            newResolvers[resolvers.length] = resolver;
+            return new ResolverCache(newClasses, newResolvers);
+        }
+
+    }
 }
@@ -2,6 +2,7 @@ package io.quarkus.qute;
 
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
+import java.nio.charset.Charset;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -104,4 +105,21 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers rendering. The rendered template is encoded with the given charset and passed to the consumer in chunks of at
+     * most {@code chunkSize} bytes.
+     * <p>
+     * Unlike {@link #renderAsync()}, the output is never held in memory as a whole, so that a large template can be
+     * written to an output stream or an HTTP response chunk by chunk.
+     * 
+     * @param consumer To consume chunks of the encoded template, a chunk is not reused once consumed
+     * @param charset
+     * @param chunkSize
+     * @return a completion stage that is completed once the rendering finished and all chunks were consumed
+     */
+    default CompletionStage<Void> consumeBytes(Consumer<byte[]> consumer, Charset charset, int chunkSize) {
+        ChunkingConsumer chunkingConsumer = new ChunkingConsumer(consumer, charset, chunkSize);
+        return consume(chunkingConsumer).thenRun(chunkingConsumer::flush);
+    }
+
 }
@@ -0,0 +1,111 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+public class CachedSectionTest {
+
+    @Test
+    public void testCached() {
+        CachedSectionHelper.LocalCache cache = new CachedSectionHelper.LocalCache();
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CachedSectionHelper.Factory(cache)).build();
+        Template template = engine.parse("{#cached key='nav'}{name}{/cached}:{name}");
+        assertEquals("foo:foo", template.data("name", "foo").render());
+        assertEquals("foo:bar", template.data("name", "bar").render());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+        // the content is shared by the templates that use the same key
+        assertEquals("foo", engine.parse("{#cached 'nav'}{name}{/cached}").data("name", "baz").render());
+
+        cache.invalidate("nav");
+        assertEquals("bar:bar", template.data("name", "bar").render());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals("baz:baz", template.data("name", "baz").render());
+    }
+
+    @Test
+    public void testKeyExpression() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#for item in items}{#cached key=item}<{item}>{/cached}{/for}");
+        assertEquals("<1><2><1>", template.data("items", Arrays.asList(1, 2, 1)).render());
+        assertThrows(TemplateException.class, () -> template.data("items", Collections.singletonList(null)).render());
+    }
+
+    @Test
+    public void testNestedSectionWithSameKey() throws Exception {
+        CachedSectionHelper.LocalCache cache = new CachedSectionHelper.LocalCache();
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CachedSectionHelper.Factory(cache)).build();
+        // the nested sections would otherwise wait for the content they are part of
+        Template template = engine.parse("{#cached key='nav'}<{#cached key='nav'}{name}{/cached}"
+                + "{#for item in items}{#cached key='nav'}{item}{/cached}{#cached key=item}{item}{/cached}{/for}>{/cached}");
+        assertEquals("<foo1122>", template.data("name", "foo").data("items", Arrays.asList(1, 2)).renderAsync()
+                .toCompletableFuture().get(5, TimeUnit.SECONDS));
+        assertEquals("<foo1122>", template.data("name", "bar").data("items", Arrays.asList(3)).renderAsync()
+                .toCompletableFuture().get(5, TimeUnit.SECONDS));
+        // nav and the keys of the items
+        assertEquals(3, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testTtl() {
+        AtomicLong ticker = new AtomicLong();
+        CachedSectionHelper.LocalCache cache = new CachedSectionHelper.LocalCache(
+                CachedSectionHelper.LocalCache.DEFAULT_MAX_SIZE, ticker::get);
+        Engine engine = Engine.builder().addDefaults().addSectionHelper(new CachedSectionHelper.Factory(cache)).build();
+        Template template = engine.parse("{#cached key='time' ttl=100ms}{name}{/cached}");
+        assertEquals("foo", template.data("name", "foo").render());
+        assertEquals("foo", template.data("name", "bar").render());
+        ticker.addAndGet(Duration.ofMillis(99).toNanos());
+        assertEquals("foo", template.data("name", "bar").render());
+        ticker.addAndGet(Duration.ofMillis(1).toNanos());
+        assertEquals("bar", template.data("name", "bar").render());
+
+        assertEquals(Duration.ofSeconds(30), CachedSectionHelper.parseTtl("30"));
+        assertEquals(Duration.ofMinutes(10), CachedSectionHelper.parseTtl("'10m'"));
+        assertEquals(Duration.ofHours(1), CachedSectionHelper.parseTtl("PT1H"));
+        assertEquals(Duration.ofDays(2), CachedSectionHelper.parseTtl("2d"));
+        TemplateException expected = assertThrows(TemplateException.class,
+                () -> engine.parse("{#cached key='time' ttl=soon}{name}{/cached}"));
+        assertTrue(expected.getMessage().contains("invalid ttl"), expected.getMessage());
+    }
+
+    @Test
+    public void testMaxSize() {
+        CachedSectionHelper.LocalCache cache = new CachedSectionHelper.LocalCache(2);
+        AtomicInteger loads = new AtomicInteger();
+        for (String key : new String[] { "a", "b", "a", "c", "a", "b" }) {
+            cache.getValue(key, null, k -> {
+                loads.incrementAndGet();
+                return CompletableFuture.completedFuture(k);
+            });
+        }
+        // b is evicted when c is added as a was used more recently
+        assertEquals(4, loads.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testFailure() {
+        CachedSectionHelper.LocalCache cache = new CachedSectionHelper.LocalCache();
+        CompletableFuture<String> failure = new CompletableFuture<>();
+        failure.completeExceptionally(new IllegalStateException());
+        assertTrue(cache.getValue("user", null, k -> failure).toCompletableFuture().isCompletedExceptionally());
+        // a failed rendering is not cached
+        assertEquals(0, cache.size());
+        assertEquals("ok", cache.getValue("user", null, k -> CompletableFuture.completedFuture("ok")).toCompletableFuture()
+                .join());
+    }
+
+}
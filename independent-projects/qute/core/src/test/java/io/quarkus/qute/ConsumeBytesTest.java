@@ -0,0 +1,73 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+public class ConsumeBytesTest {
+
+    @Test
+    public void testChunks() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#each}{it}-{/}");
+        List<String> data = Collections.nCopies(100, "foo");
+        String expected = template.data(data).render();
+
+        List<byte[]> chunks = consumeBytes(template.data(data), StandardCharsets.UTF_8, 16);
+        assertEquals(25, chunks.size());
+        for (byte[] chunk : chunks) {
+            assertEquals(16, chunk.length);
+        }
+        assertEquals(expected, join(chunks, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testMultiByteCharacters() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        // the surrogate pair of the emoji is split in two parts
+        Template template = engine.parse("{#each}{it}{/}");
+        List<String> data = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            data.add("žluťoučký kůň \uD83D");
+            data.add("\uDE00");
+        }
+        String expected = String.join("", data);
+
+        for (Charset charset : new Charset[] { StandardCharsets.UTF_8, StandardCharsets.UTF_16 }) {
+            List<byte[]> chunks = consumeBytes(template.data(data), charset, 8);
+            for (byte[] chunk : chunks) {
+                assertTrue(chunk.length <= 8);
+            }
+            assertEquals(expected, join(chunks, charset));
+        }
+    }
+
+    @Test
+    public void testEmpty() throws Exception {
+        Engine engine = Engine.builder().addDefaults().build();
+        assertTrue(consumeBytes(engine.parse("{#if false}foo{/if}").instance(), StandardCharsets.UTF_8, 16).isEmpty());
+    }
+
+    private List<byte[]> consumeBytes(TemplateInstance instance, Charset charset, int chunkSize) throws Exception {
+        List<byte[]> chunks = new ArrayList<>();
+        instance.consumeBytes(chunks::add, charset, chunkSize).toCompletableFuture().get(2, TimeUnit.SECONDS);
+        return chunks;
+    }
+
+    private String join(List<byte[]> chunks, Charset charset) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) {
+            out.write(chunk, 0, chunk.length);
+        }
+        return new String(out.toByteArray(), charset);
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.qute.Results.Result;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+public class ResolverCacheTest {
+
+    @Test
+    public void testPolymorphicPart() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(labelResolver(String.class, "s"))
+                .addValueResolver(labelResolver(Integer.class, "i"))
+                .addValueResolver(labelResolver(Long.class, "l"))
+                .addValueResolver(labelResolver(Boolean.class, "b"))
+                .addValueResolver(labelResolver(Double.class, "d"))
+                .addValueResolver(labelResolver(Character.class, "c"))
+                .build();
+        // more classes than the cache can hold
+        Template template = engine.parse("{#for item in items}{item.label}:{/for}");
+        for (int i = 0; i < 3; i++) {
+            assertEquals("s:i:l:b:d:c:s:c:",
+                    template.data("items", Arrays.asList("foo", 1, 1L, true, 1.0, 'c', "bar", 'd')).render());
+        }
+    }
+
+    @Test
+    public void testCachedResolverNotFound() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder()
+                        .applyToBaseClass(String.class)
+                        .applyToName("label")
+                        .priority(10)
+                        .resolveSync(ec -> ec.getBase().equals("foo") ? "foo!" : Result.NOT_FOUND)
+                        .build())
+                .addValueResolver(labelResolver(String.class, "s"))
+                .build();
+        Template template = engine.parse("{#for item in items}{item.label}:{/for}");
+        assertEquals("foo!:s:foo!:", template.data("items", Arrays.asList("foo", "bar", "foo")).render());
+    }
+
+    @Test
+    public void testAsyncResolvers() {
+        Engine engine = Engine.builder().addDefaults()
+                .addValueResolver(ValueResolver.builder()
+                        .applyToBaseClass(String.class)
+                        .applyToName("slow")
+                        .resolveAsync(ec -> CompletableFuture.supplyAsync(() -> ec.getBase() + "!"))
+                        .build())
+                .addValueResolver(ValueResolver.builder()
+                        .applyToBaseClass(String.class)
+                        .applyToName("upper")
+                        .resolveSync(ec -> ec.getBase().toString().toUpperCase())
+                        .build())
+                .build();
+        Template template = engine.parse("{val.slow.upper}:{val.upper.slow}:{val.upper.upper}");
+        for (int i = 0; i < 3; i++) {
+            assertEquals("FOO!:FOO!:FOO", template.data("val", "foo").render());
+        }
+    }
+
+    private static ValueResolver labelResolver(Class<?> baseClass, String label) {
+        return ValueResolver.builder()
+                .applyToBaseClass(baseClass)
+                .applyToName("label")
+                .resolveWith(label)
+                .build();
+    }
+
+}
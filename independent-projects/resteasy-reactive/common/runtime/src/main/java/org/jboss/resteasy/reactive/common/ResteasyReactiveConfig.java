@@ -8,6 +8,18 @@ public class ResteasyReactiveConfig {
      */
     private long inputBufferSize;
 
+    /**
+     * The size of the buffer used to write the response. If a response is larger than this
+     * and no content-length is provided then the response will be chunked. It must be at least 1 byte.
+     */
+    private int outputBufferSize = 8191;
+
+    /**
+     * If enabled, the request bodies are passed to the readers that support it chunk by chunk as they are
+     * received, instead of being buffered or read from a blocking stream.
+     */
+    private boolean nonBlockingInput;
+
     /**
      * By default we assume a default produced media type of "text/plain"
      * for String endpoint return types. If this is disabled, the default
@@ -24,10 +36,24 @@ public class ResteasyReactiveConfig {
         this.singleDefaultProduces = singleDefaultProduces;
     }
 
+    public ResteasyReactiveConfig(long inputBufferSize, int outputBufferSize, boolean singleDefaultProduces) {
+        this.inputBufferSize = inputBufferSize;
+        this.outputBufferSize = checkOutputBufferSize(outputBufferSize);
+        this.singleDefaultProduces = singleDefaultProduces;
+    }
+
     public long getInputBufferSize() {
         return inputBufferSize;
     }
 
+    public int getOutputBufferSize() {
+        return outputBufferSize;
+    }
+
+    public boolean isNonBlockingInput() {
+        return nonBlockingInput;
+    }
+
     public boolean isSingleDefaultProduces() {
         return singleDefaultProduces;
     }
@@ -37,8 +63,26 @@ public class ResteasyReactiveConfig {
         return this;
     }
 
+    public ResteasyReactiveConfig setOutputBufferSize(int outputBufferSize) {
+        this.outputBufferSize = checkOutputBufferSize(outputBufferSize);
+        return this;
+    }
+
+    public ResteasyReactiveConfig setNonBlockingInput(boolean nonBlockingInput) {
+        this.nonBlockingInput = nonBlockingInput;
+        return this;
+    }
+
     public ResteasyReactiveConfig setSingleDefaultProduces(boolean singleDefaultProduces) {
         this.singleDefaultProduces = singleDefaultProduces;
         return this;
     }
+
+    private static int checkOutputBufferSize(int outputBufferSize) {
+        // a response could never be written with an empty buffer
+        if (outputBufferSize < 1) {
+            throw new IllegalArgumentException("The output buffer size must be at least 1 byte, got " + outputBufferSize);
+        }
+        return outputBufferSize;
+    }
 }
@@ -10,6 +10,7 @@ import java.util.function.Supplier;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.ext.ParamConverter;
 import javax.ws.rs.ext.ParamConverterProvider;
+import org.jboss.resteasy.reactive.common.ResteasyReactiveConfig;
 import org.jboss.resteasy.reactive.common.jaxrs.ConfigurationImpl;
 import org.jboss.resteasy.reactive.common.model.ResourceParamConverterProvider;
 import org.jboss.resteasy.reactive.common.util.types.Types;
@@ -34,6 +35,7 @@ public class Deployment {
     private final String prefix;
     private final ParamConverterProviders paramConverterProviders;
     private final ConfigurationImpl configuration;
+    private final ResteasyReactiveConfig resteasyReactiveConfig;
     private final Supplier<Application> applicationSupplier;
     private final ThreadSetupAction threadSetupAction;
     private final RequestContextFactory requestContextFactory;
@@ -44,7 +46,8 @@ public class Deployment {
             ServerSerialisers serialisers,
             ServerRestHandler[] abortHandlerChain,
             EntityWriter dynamicEntityWriter, String prefix, ParamConverterProviders paramConverterProviders,
-            ConfigurationImpl configuration, Supplier<Application> applicationSupplier,
+            ConfigurationImpl configuration, ResteasyReactiveConfig resteasyReactiveConfig,
+            Supplier<Application> applicationSupplier,
             ThreadSetupAction threadSetupAction, RequestContextFactory requestContextFactory,
             List<ResourceRequestFilterHandler> preMatchHandlers,
             List<RequestMapper.RequestPath<RestInitialHandler.InitialMatch>> classMappers) {
@@ -56,6 +59,7 @@ public class Deployment {
         this.prefix = prefix;
         this.paramConverterProviders = paramConverterProviders;
         this.configuration = configuration;
+        this.resteasyReactiveConfig = resteasyReactiveConfig;
         this.applicationSupplier = applicationSupplier;
         this.threadSetupAction = threadSetupAction;
         this.requestContextFactory = requestContextFactory;
@@ -71,6 +75,10 @@ public class Deployment {
         return configuration;
     }
 
+    public ResteasyReactiveConfig getResteasyReactiveConfig() {
+        return resteasyReactiveConfig;
+    }
+
     public ExceptionMapping getExceptionMapping() {
         return exceptionMapping;
     }
@@ -185,7 +185,7 @@ public class RuntimeDeploymentManager {
 
         Deployment deployment = new Deployment(exceptionMapping, info.getCtxResolvers(), serialisers,
                 abortHandlingChain.toArray(EMPTY_REST_HANDLER_ARRAY), dynamicEntityWriter,
-                prefix, paramConverterProviders, configurationImpl, applicationSupplier,
+                prefix, paramConverterProviders, configurationImpl, info.getConfig(), applicationSupplier,
                 threadSetupAction, requestContextFactory, preMatchHandlers, classMappers);
 
         return deployment;
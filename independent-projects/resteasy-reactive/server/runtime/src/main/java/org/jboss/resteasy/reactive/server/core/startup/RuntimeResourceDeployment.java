@@ -155,15 +155,8 @@ public class RuntimeResourceDeployment {
                 break;
             }
         }
-        // form params can be everywhere (field, beanparam, param)
-        if (method.isFormParamRequired()) {
-            // read the body as multipart in one go
-            handlers.add(new ReadBodyHandler(bodyParameter != null));
-        } else if (bodyParameter != null) {
-            // allow the body to be read by chunks
-            handlers.add(new InputHandler(quarkusRestConfig.getInputBufferSize(), executorSupplier));
-        }
         // if we need the body, let's deserialise it
+        RequestDeserializeHandler requestDeserializeHandler = null;
         if (bodyParameter != null) {
             Class<Object> typeClass = loadClass(bodyParameter.declaredType);
             Type genericType = typeClass;
@@ -171,8 +164,24 @@ public class RuntimeResourceDeployment {
                 // we only need to parse the signature and create generic type when the declared type differs from the type
                 genericType = TypeSignatureParser.parse(bodyParameter.signature);
             }
-            handlers.add(new RequestDeserializeHandler(typeClass, genericType,
-                    consumesMediaTypes.isEmpty() ? null : consumesMediaTypes.get(0), serialisers, bodyParameterIndex));
+            requestDeserializeHandler = new RequestDeserializeHandler(typeClass, genericType,
+                    consumesMediaTypes.isEmpty() ? null : consumesMediaTypes.get(0), serialisers, bodyParameterIndex);
+        }
+        // form params can be everywhere (field, beanparam, param)
+        if (method.isFormParamRequired()) {
+            // read the body as multipart in one go
+            handlers.add(new ReadBodyHandler(bodyParameter != null));
+        } else if (bodyParameter != null) {
+            // allow the body to be read by chunks, a Multi body can only be streamed by a non-blocking reader
+            if (quarkusRestConfig.isNonBlockingInput() || Multi.class.getName().equals(bodyParameter.declaredType)) {
+                handlers.add(new InputHandler(quarkusRestConfig.getInputBufferSize(), executorSupplier,
+                        requestDeserializeHandler));
+            } else {
+                handlers.add(new InputHandler(quarkusRestConfig.getInputBufferSize(), executorSupplier));
+            }
+        }
+        if (requestDeserializeHandler != null) {
+            handlers.add(requestDeserializeHandler);
         }
 
         // given that we may inject form params in the endpoint we need to make sure we read the body before
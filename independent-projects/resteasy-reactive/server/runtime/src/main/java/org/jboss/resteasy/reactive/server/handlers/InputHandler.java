@@ -7,8 +7,10 @@ import java.util.List;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.ws.rs.HttpMethod;
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.common.util.EmptyInputStream;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.NonBlockingServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
@@ -19,17 +21,32 @@ import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
  * to allow the request to stay on the IO thread. If the request is too large
  * it will be delegated to an executor and a blocking stream used instead.
  * <p>
+ * If a deserialize handler is given and the reader of the request is a {@link NonBlockingServerMessageBodyReader},
+ * the body is instead passed to the reader as it is received and the entity is set by this handler.
+ * <p>
  * TODO: the stream implementation here could be a lot more efficent.
  */
 public class InputHandler implements ServerRestHandler {
 
+    private static final Logger log = Logger.getLogger(InputHandler.class);
+
     final long maxBufferSize;
     private volatile Executor executor;
     private final Supplier<Executor> supplier;
+    private final RequestDeserializeHandler nonBlockingDeserializer;
 
     public InputHandler(long maxBufferSize, Supplier<Executor> supplier) {
+        this(maxBufferSize, supplier, null);
+    }
+
+    /**
+     * @param nonBlockingDeserializer the handler that follows this one in the chain, which is skipped when the
+     *        body is parsed without blocking
+     */
+    public InputHandler(long maxBufferSize, Supplier<Executor> supplier, RequestDeserializeHandler nonBlockingDeserializer) {
         this.maxBufferSize = maxBufferSize;
         this.supplier = supplier;
+        this.nonBlockingDeserializer = nonBlockingDeserializer;
     }
 
     @Override
@@ -44,15 +61,36 @@ public class InputHandler implements ServerRestHandler {
                 context.serverRequest().getRequestMethod().equals(HttpMethod.HEAD)) {
             return;
         }
+        if (nonBlockingDeserializer != null && context.getPosition() < context.getHandlers().length
+                && context.getHandlers()[context.getPosition()] == nonBlockingDeserializer) {
+            NonBlockingServerMessageBodyReader.BodyParser<?> parser = nonBlockingDeserializer.createBodyParser(context);
+            if (parser != null) {
+                // the entity is set by the listener, so the deserialize handler is skipped
+                context.setPosition(context.getPosition() + 1);
+                NonBlockingInputListener listener = new NonBlockingInputListener(context, parser);
+                if (parser.isStreaming()) {
+                    parser.setRequest(context.serverRequest());
+                    context.setRequestEntity(parser.getEntity());
+                } else {
+                    context.suspend();
+                }
+                read(context, listener);
+                return;
+            }
+        }
         InputListener h = new InputListener(context);
         context.suspend();
+        read(context, h);
+    }
+
+    private void read(ResteasyReactiveRequestContext context, ServerHttpRequest.ReadCallback callback) {
         ServerHttpRequest req = context.serverRequest();
         if (!req.isRequestEnded()) {
-            req.setReadListener(h);
+            req.setReadListener(callback);
             req.resumeRequestInput();
         } else {
             req.resumeRequestInput();
-            h.done();
+            callback.done();
         }
     }
 
@@ -105,4 +143,54 @@ public class InputHandler implements ServerRestHandler {
             }
         }
     }
+
+    static class NonBlockingInputListener implements ServerHttpRequest.ReadCallback {
+        final ResteasyReactiveRequestContext context;
+        final NonBlockingServerMessageBodyReader.BodyParser<?> parser;
+        boolean failed;
+
+        NonBlockingInputListener(ResteasyReactiveRequestContext context,
+                NonBlockingServerMessageBodyReader.BodyParser<?> parser) {
+            this.context = context;
+            this.parser = parser;
+        }
+
+        @Override
+        public void data(ByteBuffer data) {
+            if (failed) {
+                return;
+            }
+            try {
+                parser.parse(data);
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        @Override
+        public void done() {
+            if (failed) {
+                return;
+            }
+            try {
+                parser.end();
+            } catch (Throwable t) {
+                fail(t);
+                return;
+            }
+            if (!parser.isStreaming()) {
+                context.setRequestEntity(parser.getEntity());
+                context.resume();
+            }
+        }
+
+        private void fail(Throwable t) {
+            log.debug("Error occurred during deserialization of input", t);
+            failed = true;
+            parser.fail(t);
+            if (!parser.isStreaming()) {
+                context.resume(t);
+            }
+        }
+    }
 }
@@ -18,6 +18,7 @@ import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
 import org.jboss.resteasy.reactive.server.jaxrs.ReaderInterceptorContextImpl;
+import org.jboss.resteasy.reactive.server.spi.NonBlockingServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyReader;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
 
@@ -42,17 +43,7 @@ public class RequestDeserializeHandler implements ServerRestHandler {
 
     @Override
     public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
-        MediaType requestType = mediaType;
-        String requestTypeString = requestContext.serverRequest().getRequestHeader(HttpHeaders.CONTENT_TYPE);
-        if (requestTypeString != null) {
-            try {
-                requestType = MediaType.valueOf(requestTypeString);
-            } catch (Exception e) {
-                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
-            }
-        } else if (requestType == null) {
-            requestType = MediaType.APPLICATION_OCTET_STREAM_TYPE;
-        }
+        MediaType requestType = getRequestType(requestContext);
         List<MessageBodyReader<?>> readers = serialisers.findReaders(null, type, requestType, RuntimeType.SERVER);
         if (readers.isEmpty()) {
             throw new NotSupportedException();
@@ -87,6 +78,43 @@ public class RequestDeserializeHandler implements ServerRestHandler {
         throw new NotSupportedException();
     }
 
+    /**
+     * Creates the parser of the body if the reader of the request supports reading it without blocking.
+     *
+     * @return the parser, or {@code null} if the body has to be read by {@link #handle(ResteasyReactiveRequestContext)}
+     */
+    @SuppressWarnings("unchecked")
+    NonBlockingServerMessageBodyReader.BodyParser<?> createBodyParser(ResteasyReactiveRequestContext requestContext)
+            throws IOException {
+        if (requestContext.getReaderInterceptors() != null) {
+            // the interceptors work with the input stream
+            return null;
+        }
+        MediaType requestType = getRequestType(requestContext);
+        for (MessageBodyReader<?> reader : serialisers.findReaders(null, type, requestType, RuntimeType.SERVER)) {
+            if (isReadable(reader, requestContext, requestType)) {
+                if (reader instanceof NonBlockingServerMessageBodyReader) {
+                    return ((NonBlockingServerMessageBodyReader<?>) reader).createBodyParser((Class) type, genericType,
+                            requestType, requestContext);
+                }
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private MediaType getRequestType(ResteasyReactiveRequestContext requestContext) {
+        String requestTypeString = requestContext.serverRequest().getRequestHeader(HttpHeaders.CONTENT_TYPE);
+        if (requestTypeString != null) {
+            try {
+                return MediaType.valueOf(requestTypeString);
+            } catch (Exception e) {
+                throw new WebApplicationException(Response.status(Response.Status.BAD_REQUEST).build());
+            }
+        }
+        return mediaType != null ? mediaType : MediaType.APPLICATION_OCTET_STREAM_TYPE;
+    }
+
     private boolean isReadable(MessageBodyReader<?> reader, ResteasyReactiveRequestContext requestContext,
             MediaType requestType) {
         if (reader instanceof ServerMessageBodyReader) {
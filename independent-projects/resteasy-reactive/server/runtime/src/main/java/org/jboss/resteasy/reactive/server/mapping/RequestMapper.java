@@ -8,19 +8,21 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
 public class RequestMapper<T> {
 
     /**
-     * TODO: this needs a lot of work
+     * The template stems, each mapped to a radix tree built from the remaining template components of all the
+     * templates that share the stem.
      */
-    private final PathMatcher<List<RequestPath<T>>> requestPaths;
+    private final PathMatcher<Node<T>> compiledPaths;
     private final List<RequestPath<T>> templates;
     final int maxParams;
 
     public RequestMapper(List<RequestPath<T>> templates) {
-        this.requestPaths = new PathMatcher<>();
+        this.compiledPaths = new PathMatcher<>();
         this.templates = templates;
         int max = 0;
         Map<String, List<RequestPath<T>>> aggregates = new HashMap<>();
@@ -41,85 +43,292 @@ public class RequestMapper<T> {
             });
         }
         for (Map.Entry<String, List<RequestPath<T>>> entry : aggregates.entrySet()) {
-            requestPaths.addPrefixPath(entry.getKey(), entry.getValue());
+            compiledPaths.addPrefixPath(entry.getKey(), compile(entry.getValue()));
         }
         maxParams = max;
     }
 
     public RequestMatch<T> map(String path) {
-        int pathLength = path.length();
-        PathMatcher.PathMatch<List<RequestPath<T>>> initialMatch = requestPaths.match(path);
+        PathMatcher.PathMatch<Node<T>> initialMatch = compiledPaths.match(path);
         if (initialMatch.getValue() == null) {
             return null;
         }
+        MatchState<T> state = new MatchState<>(maxParams);
+        match(initialMatch.getValue(), path, initialMatch.getMatched().length(), 0, state);
+        if (state.bestPath == null) {
+            return null;
+        }
 
-        List<RequestPath<T>> value = initialMatch.getValue();
-        for (int index = 0; index < value.size(); index++) {
-            RequestPath<T> potentialMatch = value.get(index);
-            String[] params = new String[maxParams];
-            int paramCount = 0;
-            boolean matched = true;
-            boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
-                if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched) {
-                        break;
-                    }
-                    matchPos = matcher.end();
-                    for (String name : segment.names) {
-                        params[paramCount++] = URIDecoder.decodeURIComponent(matcher.group(name), false);
-                    }
-                } else if (segment.type == URITemplate.Type.LITERAL) {
-                    //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
-                        matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
-                    }
-                } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
-                    if (matchPos == pathLength) {
-                        matched = false;
-                        break;
-                    }
-                    int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
-                    params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
-                }
+        int pathLength = path.length();
+        int matchPos = state.bestPos;
+        String[] params = new String[maxParams];
+        int[] offsets = state.bestOffsets;
+        for (int i = 0; i < state.bestParamCount; ++i) {
+            int start = offsets[i * 2];
+            if (start != -1) {
+                params[i] = URIDecoder.decodeURIComponent(path.substring(start, offsets[i * 2 + 1]), false);
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+        }
+        String remaining;
+        if (matchPos == pathLength) {
+            remaining = "";
+        } else {
+            if (matchPos == 1) {
+                remaining = path;
+            } else {
+                remaining = path.substring(matchPos);
+            }
+        }
+        return new RequestMatch<>(state.bestPath.template, state.bestPath.value, params, remaining);
+    }
+
+    /**
+     * Walks the tree in a single pass, only descending into branches that contain a template that sorts before
+     * the best match found so far. Path parameters are tracked as offsets into the path, and are only decoded for the
+     * template that is finally selected.
+     */
+    private static <T> void match(Node<T> node, String path, int pos, int paramCount, MatchState<T> state) {
+        int pathLength = path.length();
+        RequestPath<T>[] terminals = node.terminals;
+        for (int i = 0; i < terminals.length; ++i) {
+            int index = node.terminalIndexes[i];
+            if (index >= state.bestIndex) {
+                break;
             }
-            boolean fullMatch = matchPos == pathLength;
+            RequestPath<T> candidate = terminals[i];
+            boolean fullMatch = pos == pathLength;
+            boolean prefixAllowed = candidate.prefixTemplate;
             if (!prefixAllowed && !fullMatch) {
                 //according to the spec every template ends with (/.*)?
-                prefixAllowed = path.charAt(matchPos) == '/' && matchPos == pathLength - 1;
+                prefixAllowed = path.charAt(pos) == '/' && pos == pathLength - 1;
             }
-            if (matched && (fullMatch || prefixAllowed)) {
-                String remaining;
-                if (fullMatch) {
-                    remaining = "";
+            if (fullMatch || prefixAllowed) {
+                state.select(index, candidate, pos, paramCount);
+                break;
+            }
+        }
+        Edge<T>[] edges = node.edges;
+        for (int i = 0; i < edges.length; ++i) {
+            Edge<T> edge = edges[i];
+            Node<T> child = edge.child;
+            if (child.minIndex >= state.bestIndex) {
+                //edges are sorted by the best template they can lead to
+                return;
+            }
+            if (edge.type == URITemplate.Type.LITERAL) {
+                String literal = edge.literal;
+                int length = literal.length();
+                if (pos + length <= pathLength && path.charAt(pos) == literal.charAt(0)
+                        && path.regionMatches(pos + 1, literal, 1, length - 1)) {
+                    match(child, path, pos + length, paramCount, state);
+                }
+            } else if (edge.type == URITemplate.Type.DEFAULT_REGEX) {
+                if (pos == pathLength) {
+                    continue;
+                }
+                int end = pos;
+                while (end < pathLength && path.charAt(end) != '/') {
+                    end++;
+                }
+                state.offsets[paramCount * 2] = pos;
+                state.offsets[paramCount * 2 + 1] = end;
+                match(child, path, end, paramCount + 1, state);
+            } else {
+                Matcher matcher = edge.pattern.matcher(path);
+                if (!matcher.find(pos)) {
+                    continue;
+                }
+                String[] names = edge.names;
+                for (int j = 0; j < names.length; ++j) {
+                    state.offsets[(paramCount + j) * 2] = matcher.start(names[j]);
+                    state.offsets[(paramCount + j) * 2 + 1] = matcher.end(names[j]);
+                }
+                match(child, path, matcher.end(), paramCount + names.length, state);
+            }
+        }
+    }
+
+    private static <T> Node<T> compile(List<RequestPath<T>> paths) {
+        Node<T> root = new Node<>();
+        for (int index = 0; index < paths.size(); ++index) {
+            RequestPath<T> path = paths.get(index);
+            Node<T> node = root;
+            node.minIndex = Math.min(node.minIndex, index);
+            //the first component is the stem, which has already been matched by the PathMatcher
+            for (int i = 1; i < path.template.components.length; ++i) {
+                URITemplate.TemplateComponent component = path.template.components[i];
+                if (component.type == URITemplate.Type.LITERAL) {
+                    node = node.addLiteral(component.literalText, index);
                 } else {
-                    if (matchPos == 1) {
-                        remaining = path;
-                    } else {
-                        remaining = path.substring(matchPos);
+                    node = node.addParameter(component, index);
+                }
+            }
+            node.terminalList.add(path);
+            node.terminalIndexList.add(index);
+        }
+        root.freeze();
+        return root;
+    }
+
+    private static final class MatchState<T> {
+        final int[] offsets;
+        int[] bestOffsets;
+        int bestIndex = Integer.MAX_VALUE;
+        RequestPath<T> bestPath;
+        int bestPos;
+        int bestParamCount;
+
+        MatchState(int maxParams) {
+            this.offsets = new int[maxParams * 2];
+        }
+
+        void select(int index, RequestPath<T> path, int pos, int paramCount) {
+            if (bestOffsets == null) {
+                bestOffsets = new int[offsets.length];
+            }
+            System.arraycopy(offsets, 0, bestOffsets, 0, paramCount * 2);
+            bestIndex = index;
+            bestPath = path;
+            bestPos = pos;
+            bestParamCount = paramCount;
+        }
+    }
+
+    /**
+     * A node in the radix tree. Literal edges leaving a node never share their first character, template parameters
+     * using the default regex share a single edge, and custom regular expressions (which can only ever be the last
+     * component of a template) each get their own edge.
+     */
+    private static final class Node<T> implements Dumpable {
+
+        /**
+         * The lowest index (i.e. the highest precedence) of all the templates reachable through this node
+         */
+        int minIndex = Integer.MAX_VALUE;
+
+        List<Edge<T>> edgeList = new ArrayList<>();
+        List<RequestPath<T>> terminalList = new ArrayList<>();
+        List<Integer> terminalIndexList = new ArrayList<>();
+
+        Edge<T>[] edges;
+        RequestPath<T>[] terminals;
+        int[] terminalIndexes;
+
+        Node<T> addLiteral(String text, int index) {
+            Node<T> node = this;
+            int offset = 0;
+            while (offset < text.length()) {
+                Edge<T> existing = null;
+                for (Edge<T> edge : node.edgeList) {
+                    if (edge.type == URITemplate.Type.LITERAL && edge.literal.charAt(0) == text.charAt(offset)) {
+                        existing = edge;
+                        break;
                     }
                 }
-                return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
+                if (existing == null) {
+                    Edge<T> edge = new Edge<>(URITemplate.Type.LITERAL, text.substring(offset), null, null);
+                    node.edgeList.add(edge);
+                    node = edge.child;
+                    node.minIndex = Math.min(node.minIndex, index);
+                    return node;
+                }
+                int common = 1;
+                int max = Math.min(existing.literal.length(), text.length() - offset);
+                while (common < max && existing.literal.charAt(common) == text.charAt(offset + common)) {
+                    common++;
+                }
+                if (common < existing.literal.length()) {
+                    //split the edge, so the shared prefix is only matched once
+                    Node<T> split = new Node<>();
+                    split.minIndex = existing.child.minIndex;
+                    Edge<T> rest = new Edge<>(URITemplate.Type.LITERAL, existing.literal.substring(common), null, null);
+                    rest.child = existing.child;
+                    split.edgeList.add(rest);
+                    existing.literal = existing.literal.substring(0, common);
+                    existing.child = split;
+                }
+                node = existing.child;
+                node.minIndex = Math.min(node.minIndex, index);
+                offset += common;
+            }
+            return node;
+        }
+
+        Node<T> addParameter(URITemplate.TemplateComponent component, int index) {
+            Edge<T> target = null;
+            for (Edge<T> edge : edgeList) {
+                if (edge.type != component.type) {
+                    continue;
+                }
+                if (component.type == URITemplate.Type.DEFAULT_REGEX
+                        || (edge.pattern.pattern().equals(component.pattern.pattern())
+                                && Arrays.equals(edge.names, component.names))) {
+                    target = edge;
+                    break;
+                }
+            }
+            if (target == null) {
+                target = new Edge<>(component.type, null, component.pattern, component.names);
+                edgeList.add(target);
+            }
+            target.child.minIndex = Math.min(target.child.minIndex, index);
+            return target.child;
+        }
+
+        @SuppressWarnings("unchecked")
+        void freeze() {
+            edgeList.sort(new Comparator<Edge<T>>() {
+                @Override
+                public int compare(Edge<T> e1, Edge<T> e2) {
+                    return Integer.compare(e1.child.minIndex, e2.child.minIndex);
+                }
+            });
+            edges = edgeList.toArray(new Edge[0]);
+            terminals = terminalList.toArray(new RequestPath[0]);
+            terminalIndexes = new int[terminalIndexList.size()];
+            for (int i = 0; i < terminalIndexes.length; ++i) {
+                terminalIndexes[i] = terminalIndexList.get(i);
+            }
+            edgeList = null;
+            terminalList = null;
+            terminalIndexList = null;
+            for (Edge<T> edge : edges) {
+                edge.child.freeze();
             }
         }
-        return null;
+
+        @Override
+        public void dump(int level) {
+            for (RequestPath<T> terminal : terminals) {
+                terminal.dump(level);
+            }
+            for (Edge<T> edge : edges) {
+                indent(level);
+                if (edge.type == URITemplate.Type.LITERAL) {
+                    System.err.println("literal: " + edge.literal);
+                } else if (edge.type == URITemplate.Type.DEFAULT_REGEX) {
+                    System.err.println("param");
+                } else {
+                    System.err.println("regex: " + edge.pattern.pattern());
+                }
+                edge.child.dump(level + 1);
+            }
+        }
+    }
+
+    private static final class Edge<T> {
+        final URITemplate.Type type;
+        String literal;
+        final Pattern pattern;
+        final String[] names;
+        Node<T> child = new Node<>();
+
+        Edge(URITemplate.Type type, String literal, Pattern pattern, String[] names) {
+            this.type = type;
+            this.literal = literal;
+            this.pattern = pattern;
+            this.names = names;
+        }
     }
 
     public static class RequestPath<T> implements Dumpable {
@@ -176,11 +385,7 @@ public class RequestMapper<T> {
     }
 
     public void dump() {
-        this.requestPaths.dump(0);
-    }
-
-    public PathMatcher<List<RequestPath<T>>> getRequestPaths() {
-        return requestPaths;
+        this.compiledPaths.dump(0);
     }
 
     public List<RequestPath<T>> getTemplates() {
@@ -0,0 +1,64 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+
+/**
+ * A {@link ServerMessageBodyReader} that can parse the request body chunk by chunk as it is received, so that the
+ * body doesn't need to be buffered or read from a blocking stream.
+ */
+public interface NonBlockingServerMessageBodyReader<T> extends ServerMessageBodyReader<T> {
+
+    /**
+     * @return the parser of the request body, or {@code null} if the body can't be parsed without blocking, in which
+     *         case it is read with {@link #readFrom(Class, Type, MediaType, ServerRequestContext)}
+     */
+    BodyParser<T> createBodyParser(Class<T> type, Type genericType, MediaType mediaType,
+            ServerRequestContext context) throws WebApplicationException, IOException;
+
+    /**
+     * Parses a request body. All the methods are called on the IO thread.
+     */
+    interface BodyParser<T> {
+
+        /**
+         * Parses the next chunk of the body.
+         */
+        void parse(ByteBuffer data) throws IOException;
+
+        /**
+         * Called once the whole body has been passed to {@link #parse(ByteBuffer)}.
+         */
+        void end() throws IOException;
+
+        /**
+         * @return the entity, only called after {@link #end()} unless the parser is {@link #isStreaming() streaming}
+         */
+        T getEntity();
+
+        /**
+         * @return {@code true} if the entity, like a {@code Multi}, can be passed to the endpoint before the body is
+         *         received and publishes the body as it is parsed
+         */
+        default boolean isStreaming() {
+            return false;
+        }
+
+        /**
+         * Called before the body is read if the parser is {@link #isStreaming() streaming}, so that it can pause the
+         * request input while the subscriber of the entity doesn't consume what was already parsed, and resume it once
+         * it does.
+         */
+        default void setRequest(ServerHttpRequest request) {
+        }
+
+        /**
+         * Called if the body can't be parsed, so that a streaming entity can be failed.
+         */
+        default void fail(Throwable failure) {
+        }
+    }
+}
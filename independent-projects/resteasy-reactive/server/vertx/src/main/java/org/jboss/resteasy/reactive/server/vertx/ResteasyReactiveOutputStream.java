@@ -20,6 +20,7 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     private static final Logger log = Logger.getLogger("io.quarkus.quarkus-rest");
     private final ResteasyReactiveRequestContext context;
     protected final HttpServerRequest request;
+    private final int outputBufferSize;
     private ByteBuf pooledBuffer;
     private long written;
     private boolean committed;
@@ -35,6 +36,7 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     public ResteasyReactiveOutputStream(VertxResteasyReactiveRequestContext context) {
         this.context = context;
         this.request = context.getContext().request();
+        this.outputBufferSize = context.getDeployment().getResteasyReactiveConfig().getOutputBufferSize();
         request.response().exceptionHandler(new Handler<Throwable>() {
             @Override
             public void handle(Throwable event) {
@@ -87,8 +89,11 @@ public class ResteasyReactiveOutputStream extends OutputStream {
                     if (overflow == null) {
                         overflow = new ByteArrayOutputStream();
                     }
-                    overflow.write(data.array(), data.arrayOffset() + data.readerIndex(),
-                            data.arrayOffset() + data.writerIndex());
+                    if (data != null) {
+                        //the buffers are direct, so their content has to be copied
+                        data.getBytes(data.readerIndex(), overflow, data.readableBytes());
+                        data.release();
+                    }
                     if (last) {
                         closed = true;
                     }
@@ -196,7 +201,7 @@ public class ResteasyReactiveOutputStream extends OutputStream {
         ByteBuf buffer = pooledBuffer;
         try {
             if (buffer == null) {
-                pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+                pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer(outputBufferSize);
             }
             while (rem > 0) {
                 int toWrite = Math.min(rem, buffer.writableBytes());
@@ -205,7 +210,7 @@ public class ResteasyReactiveOutputStream extends OutputStream {
                 idx += toWrite;
                 if (!buffer.isWritable()) {
                     ByteBuf tmpBuf = buffer;
-                    this.pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer();
+                    this.pooledBuffer = buffer = PooledByteBufAllocator.DEFAULT.directBuffer(outputBufferSize);
                     writeBlocking(tmpBuf, false);
                 }
             }
@@ -0,0 +1,15 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+
+@Path("/large")
+public class LargeResponseResource {
+
+    @GET
+    public String large(@QueryParam("size") String size) {
+        return LargeResponseTest.expected(Integer.parseInt(size));
+    }
+
+}
@@ -0,0 +1,52 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.restassured.RestAssured;
+import java.util.function.Supplier;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class LargeResponseTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(LargeResponseResource.class, PassThroughWriterInterceptor.class);
+                }
+            });
+
+    @Test
+    public void testResponseInSingleBuffer() {
+        RestAssured.get("/large?size=100")
+                .then()
+                .header("Content-Length", "100")
+                .body(equalTo(expected(100)));
+    }
+
+    @Test
+    public void testResponseLargerThanBuffer() {
+        int size = 1024 * 1024;
+        RestAssured.get("/large?size=" + size)
+                .then()
+                .header("Content-Length", nullValue())
+                .header("Transfer-Encoding", "chunked")
+                .body(equalTo(expected(size)));
+    }
+
+    static String expected(int size) {
+        StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        return sb.toString();
+    }
+
+}
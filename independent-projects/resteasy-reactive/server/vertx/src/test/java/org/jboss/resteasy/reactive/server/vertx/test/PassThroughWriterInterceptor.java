@@ -0,0 +1,20 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import java.io.IOException;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+/**
+ * Makes the response entity go through the output stream of the request.
+ */
+@Provider
+public class PassThroughWriterInterceptor implements WriterInterceptor {
+
+    @Override
+    public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+        context.proceed();
+    }
+
+}
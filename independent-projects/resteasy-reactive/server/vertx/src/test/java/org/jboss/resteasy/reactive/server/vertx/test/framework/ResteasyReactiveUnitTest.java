@@ -253,6 +253,7 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
                 }));
         DeploymentInfo info = new DeploymentInfo()
                 .setApplicationPath("/")
+                .setConfig(new ResteasyReactiveConfig(10000, true))
                 .setFeatures(ResteasyReactiveFeatureScanner.createFeatures(index, applicationScanningResult))
                 .setInterceptors(
                         ResteasyReactiveInterceptorScanner.createResourceInterceptors(index, applicationScanningResult))
@@ -287,7 +288,7 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
                 closeable -> closeTasks.add(closeable), new VertxRequestContextFactory(), ThreadSetupAction.NOOP, "/");
         Deployment deployment = runtimeDeploymentManager.deploy();
         RestInitialHandler initialHandler = new RestInitialHandler(deployment);
-        router.route().handler(new ResteasyReactiveVertxHandler(initialHandler));
+        route = router.route().handler(new ResteasyReactiveVertxHandler(initialHandler));
 
     }
 
@@ -298,6 +299,10 @@ public class ResteasyReactiveUnitTest implements BeforeAllCallback, AfterAllCall
         }
         //rootLogger.setHandlers(originalHandlers);
         inMemoryLogHandler.clearRecords();
+        if (route != null) {
+            route.remove();
+            route = null;
+        }
 
         System.clearProperty("test.url");
         timeoutTask.cancel();
@@ -11,6 +11,7 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -225,6 +226,59 @@ public class TestEndpoint {
         testPaging(Person.findAll());
         testPaging(Person.find("ORDER BY name"));
 
+        // keyset paging
+        testKeysetPaging(Person.findAll(Sort.by("name").and("id")));
+        testKeysetPaging(Person.find("name like ?1", Sort.by("name").and("id"), "stef%"));
+        testKeysetPaging(Person.find("name like :name", Sort.by("name").and("id"), Parameters.with("name", "stef%")));
+        Assertions.assertThrows(PanacheQueryException.class, () -> Person.find("ORDER BY name").afterKey("stef0"));
+
+        // streaming from a cursor
+        Person.flush();
+        Person.getEntityManager().clear();
+        Person managed = Person.find("name", "stef0").firstResult();
+        try (Stream<Person> stream = Person.findAll(Sort.by("name")).stream(2)) {
+            // the lazy addresses are loaded while reading the results
+            List<Person> persons = stream.peek(person -> assertEquals("stef street", person.address.street))
+                    .collect(Collectors.toList());
+            Assertions.assertEquals(7, persons.size());
+            Assertions.assertSame(managed, persons.get(0));
+            Assertions.assertEquals("stef6", persons.get(6).name);
+            // the entities loaded by the stream were detached, with their addresses, but not the ones that were
+            // already managed
+            assertTrue(persons.get(0).isPersistent());
+            assertFalse(persons.get(0).address.isPersistent());
+            assertFalse(persons.get(1).isPersistent());
+            assertFalse(persons.get(1).address.isPersistent());
+            assertFalse(persons.get(6).isPersistent());
+            assertFalse(persons.get(6).address.isPersistent());
+        }
+        // scalar projections can return null values
+        try (Stream<?> stream = Person.find("SELECT NULLIF(p.name, 'stef0') FROM Person2 p ORDER BY p.name").stream(2)) {
+            List<?> names = stream.collect(Collectors.toList());
+            Assertions.assertEquals(7, names.size());
+            assertNull(names.get(0));
+            Assertions.assertEquals("stef6", names.get(6));
+        }
+        // the entities persisted or modified while consuming the stream are flushed before they are detached
+        Dog rex = new Dog("rex", "collie");
+        rex.persist();
+        Integer rexId = rex.id;
+        Person.flush();
+        Person.getEntityManager().clear();
+        try (Stream<Person> stream = Person.findAll(Sort.by("name")).stream(2)) {
+            stream.forEach(person -> {
+                Dog dog = new Dog(person.name + "-dog", "beagle");
+                dog.owner = person;
+                dog.persist();
+                Dog loaded = Dog.findById(rexId);
+                loaded.name += "!";
+            });
+        }
+        Person.getEntityManager().clear();
+        Assertions.assertEquals(7, Dog.count("race", "beagle"));
+        Assertions.assertEquals("rex!!!!!!!", Dog.<Dog> findById(rexId).name);
+        Assertions.assertEquals(8, Dog.deleteAll());
+
         // range
         testRange(Person.findAll());
         testRange(Person.find("ORDER BY name"));
@@ -692,6 +746,9 @@ public class TestEndpoint {
         testPaging(personDao.findAll());
         testPaging(personDao.find("ORDER BY name"));
 
+        // keyset paging
+        testKeysetPaging(personDao.findAll(Sort.by("name").and("id")));
+
         //range
         testRange(personDao.findAll());
         testRange(personDao.find("ORDER BY name"));
@@ -948,6 +1005,35 @@ public class TestEndpoint {
         Assertions.assertEquals("stef1", persons.get(1).name);
     }
 
+    private void testKeysetPaging(PanacheQuery<Person> query) {
+        List<Person> persons = query.page(Page.ofSize(3)).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef0", persons.get(0).name);
+        Assertions.assertEquals("stef1", persons.get(1).name);
+        Assertions.assertEquals("stef2", persons.get(2).name);
+
+        Person last = persons.get(2);
+        persons = query.afterKey(last.name, last.id).list();
+        Assertions.assertEquals(3, persons.size());
+        Assertions.assertEquals("stef3", persons.get(0).name);
+        Assertions.assertEquals("stef4", persons.get(1).name);
+        Assertions.assertEquals("stef5", persons.get(2).name);
+        assertTrue(query.hasNextPage());
+
+        last = persons.get(2);
+        persons = query.afterKey(last.name, last.id).list();
+        Assertions.assertEquals(1, persons.size());
+        Assertions.assertEquals("stef6", persons.get(0).name);
+        assertFalse(query.hasNextPage());
+        Assertions.assertEquals("stef6", query.firstResult().name);
+
+        // the keyset doesn't restrict the count
+        Assertions.assertEquals(7, query.count());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.nextPage());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.pageCount());
+        Assertions.assertThrows(PanacheQueryException.class, () -> query.afterKey("stef0"));
+    }
+
     private void testRange(PanacheQuery<Person> query) {
         List<Person> persons = query.range(0, 2).list();
         Assertions.assertEquals(3, persons.size());
@@ -1361,4 +1447,48 @@ public class TestEndpoint {
 
         return "OK";
     }
+
+    @GET
+    @Path("persist-all")
+    @Transactional
+    public String testPersistAll() {
+        Person.deleteAll();
+
+        Person loaded = new Person();
+        loaded.name = "loaded";
+        loaded.persist();
+
+        List<Person> persons = IntStream.range(0, 25).mapToObj(i -> {
+            Person person = new Person();
+            person.name = "stef" + i;
+            return person;
+        }).collect(Collectors.toList());
+        Person.persistAll(persons.stream(), 10);
+        assertEquals(26, Person.count());
+        for (Person person : persons) {
+            assertNotNull(person.id);
+            // the persistence context was cleared
+            assertFalse(person.isPersistent());
+        }
+        assertFalse(loaded.isPersistent());
+
+        persons = IntStream.range(0, 25).mapToObj(i -> {
+            Person person = new Person();
+            person.name = "stef" + i;
+            return person;
+        }).collect(Collectors.toList());
+        personDao.persistAll(persons, 7);
+        assertEquals(51, personDao.count());
+        assertEquals(50, personDao.count("name like 'stef%'"));
+
+        try {
+            Person.persistAll(persons, 0);
+            Assertions.fail("persistAll should have failed");
+        } catch (IllegalArgumentException x) {
+        }
+
+        Person.deleteAll();
+
+        return "OK";
+    }
 }
@@ -178,6 +178,11 @@ public class PanacheFunctionalityTest {
         RestAssured.when().get("/test/9036").then().body(is("OK"));
     }
 
+    @Test
+    public void testPersistAll() {
+        RestAssured.when().get("/test/persist-all").then().body(is("OK"));
+    }
+
     @Test
     public void testMetrics() {
         RestAssured.when()
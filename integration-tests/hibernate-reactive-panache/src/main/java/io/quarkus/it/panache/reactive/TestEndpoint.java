@@ -8,9 +8,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Inject;
@@ -338,6 +342,19 @@ public class TestEndpoint {
                 .flatMap(v -> makeSavedPerson("6"))
                 .flatMap(v -> testPaging(Person.findAll()))
                 .flatMap(v -> testPaging(Person.find("ORDER BY name")))
+                // keyset paging
+                .flatMap(v -> testKeysetPaging(Person.findAll(Sort.by("name").and("id")),
+                        p -> new Object[] { p.name, p.id }, false))
+                .flatMap(v -> testKeysetPaging(
+                        Person.find("name like ?1", Sort.by("status").and("name", Sort.Direction.Descending).and("id"),
+                                "stef%"),
+                        p -> new Object[] { p.status, p.name, p.id }, true))
+                .flatMap(v -> testKeysetPaging(
+                        Person.find("name like :name or name = :other", Sort.by("name", Sort.Direction.Descending).and("id"),
+                                Parameters.with("name", "stef%").and("other", "stef0")),
+                        p -> new Object[] { p.name, p.id }, true))
+                // streaming by chunks
+                .flatMap(v -> testStreamByChunks())
                 // range
                 .flatMap(v -> testRange(Person.findAll()))
                 .flatMap(v -> testRange(Person.find("ORDER BY name")))
@@ -1057,6 +1074,9 @@ public class TestEndpoint {
                 .flatMap(v -> makeSavedPersonDao("6"))
                 .flatMap(v -> testPaging(personDao.findAll()))
                 .flatMap(v -> testPaging(personDao.find("ORDER BY name")))
+                // keyset paging
+                .flatMap(v -> testKeysetPaging(personDao.findAll(Sort.by("name").and("id")),
+                        p -> new Object[] { p.name, p.id }, false))
                 // range
                 .flatMap(v -> testRange(personDao.findAll()))
                 .flatMap(v -> testRange(personDao.find("ORDER BY name")))
@@ -1249,6 +1269,72 @@ public class TestEndpoint {
                 });
     }
 
+    private Uni<Void> testKeysetPaging(PanacheQuery<Person> query, Function<Person, Object[]> sortValues,
+            boolean descending) {
+        List<String> names = Arrays.asList("stef0", "stef1", "stef2", "stef3", "stef4", "stef5", "stef6");
+        if (descending) {
+            Collections.reverse(names);
+        }
+        return query.page(Page.ofSize(3)).list()
+                .flatMap(persons -> testKeysetPage(query, sortValues, names, 0, persons))
+                .flatMap(v -> {
+                    // the keyset doesn't restrict the count
+                    Assertions.assertThrows(UnsupportedOperationException.class, () -> query.nextPage());
+                    Assertions.assertThrows(UnsupportedOperationException.class, () -> query.pageCount());
+                    Assertions.assertThrows(PanacheQueryException.class, () -> query.afterKey("stef0"));
+                    return query.count();
+                }).map(count -> {
+                    Assertions.assertEquals(7, count);
+                    return null;
+                });
+    }
+
+    private Uni<Void> testKeysetPage(PanacheQuery<Person> query, Function<Person, Object[]> sortValues, List<String> names,
+            int offset, List<Person> persons) {
+        List<String> expected = names.subList(offset, Math.min(offset + 3, names.size()));
+        Assertions.assertEquals(expected, persons.stream().map(p -> p.name).collect(Collectors.toList()));
+        return query.hasNextPage()
+                .flatMap(hasNextPage -> {
+                    Assertions.assertEquals(offset + 3 < names.size(), hasNextPage);
+                    if (!hasNextPage) {
+                        return Uni.createFrom().nullItem();
+                    }
+                    // the next page starts after the last person of the current page
+                    return query.afterKey(sortValues.apply(persons.get(persons.size() - 1))).list()
+                            .flatMap(next -> testKeysetPage(query, sortValues, names, offset + 3, next));
+                });
+    }
+
+    private Uni<Void> testStreamByChunks() {
+        List<String> names = Arrays.asList("stef0", "stef1", "stef2", "stef3", "stef4", "stef5", "stef6");
+        // the chunks are read with different queries, which must return the results in the same order
+        Assertions.assertThrows(PanacheQueryException.class, () -> Person.findAll().stream(2));
+        Assertions.assertThrows(PanacheQueryException.class, () -> Person.find("name like ?1", "stef%").stream(2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Person.findAll(Sort.by("name")).stream(0));
+        return collect(Person.<Person> findAll(Sort.by("name").and("id")).stream(2))
+                .flatMap(persons -> {
+                    Assertions.assertEquals(names, persons.stream().map(p -> p.name).collect(Collectors.toList()));
+                    // the entities that were read are not kept in the session
+                    for (Person person : persons) {
+                        Assertions.assertFalse(Panache.getSession().contains(person));
+                    }
+
+                    return collect(Person.<Person> find("ORDER BY name").page(1, 3).stream(2));
+                }).flatMap(persons -> {
+                    Assertions.assertEquals(names.subList(3, 6),
+                            persons.stream().map(p -> p.name).collect(Collectors.toList()));
+
+                    return collect(Person.<Person> find("name like ?1", Sort.by("name", Sort.Direction.Descending),
+                            "stef%").stream(3));
+                }).map(persons -> {
+                    List<String> reversed = new ArrayList<>(names);
+                    Collections.reverse(reversed);
+                    Assertions.assertEquals(reversed, persons.stream().map(p -> p.name).collect(Collectors.toList()));
+
+                    return null;
+                });
+    }
+
     private Uni<Void> testRange(PanacheQuery<Person> query) {
         return query.range(0, 2).list()
                 .flatMap(persons -> {
@@ -2,6 +2,8 @@ package io.quarkus.it.mongodb.panache.test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import javax.inject.Inject;
 import javax.ws.rs.GET;
@@ -19,6 +21,7 @@ import io.quarkus.mongodb.panache.reactive.ReactivePanacheQuery;
 import io.quarkus.panache.common.Page;
 import io.quarkus.panache.common.Parameters;
 import io.quarkus.panache.common.Sort;
+import io.quarkus.panache.common.exception.PanacheQueryException;
 
 @Path("/test")
 public class TestResource {
@@ -204,6 +207,21 @@ public class TestResource {
         // range
         testImperativeRange(testImperativeRepository.findAll());
 
+        // keyset pagination
+        testImperativeKeysetPagination(testImperativeRepository.findAll(Sort.by("category")
+                .and("title", Sort.Direction.Descending).and("_id")), e -> new Object[] { e.category, e.title, e.id }, 10);
+        testImperativeKeysetPagination(testImperativeRepository.find("category = ?1",
+                Sort.by("title", Sort.Direction.Descending).and("_id"), "category0"), e -> new Object[] { e.title, e.id }, 5);
+        testImperativeKeysetPagination(testImperativeRepository.find("category = :category", Sort.by("title").and("_id"),
+                Parameters.with("category", "category1")), e -> new Object[] { e.title, e.id }, 5);
+
+        // estimated count
+        PanacheQuery<TestImperativeEntity> estimated = testImperativeRepository.findAll().withEstimatedCount().page(0, 3);
+        Assertions.assertEquals(10, estimated.count());
+        Assertions.assertEquals(4, estimated.pageCount());
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> testImperativeRepository.find("category", "category0").withEstimatedCount());
+
         // query
         Assertions.assertEquals(5, testImperativeRepository.list("category", "category0").size());
         Assertions.assertEquals(5, testImperativeRepository.list("category = ?1", "category0").size());
@@ -382,6 +400,31 @@ public class TestResource {
         Assertions.assertEquals(3, range.size());
     }
 
+    private void testImperativeKeysetPagination(PanacheQuery<TestImperativeEntity> query,
+            Function<TestImperativeEntity, Object[]> sortValues, int count) {
+        List<Object> expected = query.list().stream().map(e -> e.id).collect(Collectors.toList());
+        Assertions.assertEquals(count, expected.size());
+
+        List<Object> ids = new ArrayList<>();
+        List<TestImperativeEntity> page = query.page(0, 3).list();
+        while (true) {
+            Assertions.assertTrue(page.size() <= 3);
+            page.forEach(e -> ids.add(e.id));
+            if (!query.hasNextPage()) {
+                break;
+            }
+            page = query.afterKey(sortValues.apply(page.get(page.size() - 1))).list();
+        }
+        // the sort order is kept across pages, and no entity is skipped or returned twice
+        Assertions.assertEquals(expected, ids);
+        Assertions.assertEquals(count, query.count());
+
+        // the page index related methods cannot be used with a keyset
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.nextPage());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.pageCount());
+        Assertions.assertThrows(PanacheQueryException.class, () -> query.afterKey("title0"));
+    }
+
     @GET
     @Path("reactive/entity")
     public Response testReactiveEntity() {
@@ -570,6 +613,22 @@ public class TestResource {
         // range
         testReactiveRange(testReactiveRepository.findAll());
 
+        // keyset pagination
+        testReactiveKeysetPagination(testReactiveRepository.findAll(Sort.by("category")
+                .and("title", Sort.Direction.Descending).and("_id")), e -> new Object[] { e.category, e.title, e.id }, 10);
+        testReactiveKeysetPagination(testReactiveRepository.find("category = ?1",
+                Sort.by("title", Sort.Direction.Descending).and("_id"), "category0"), e -> new Object[] { e.title, e.id }, 5);
+        testReactiveKeysetPagination(testReactiveRepository.find("category = :category", Sort.by("title").and("_id"),
+                Parameters.with("category", "category1")), e -> new Object[] { e.title, e.id }, 5);
+
+        // estimated count
+        ReactivePanacheQuery<TestReactiveEntity> estimated = testReactiveRepository.findAll().withEstimatedCount()
+                .page(0, 3);
+        Assertions.assertEquals(10, estimated.count().await().indefinitely());
+        Assertions.assertEquals(4, estimated.pageCount().await().indefinitely());
+        Assertions.assertThrows(PanacheQueryException.class,
+                () -> testReactiveRepository.find("category", "category0").withEstimatedCount());
+
         // query
         Assertions.assertEquals(5,
                 testReactiveRepository.list("category", "category0").await().indefinitely().size());
@@ -760,4 +819,29 @@ public class TestResource {
         range = query.range(0, 2).page(0, 3).list().await().indefinitely();
         Assertions.assertEquals(3, range.size());
     }
+
+    private void testReactiveKeysetPagination(ReactivePanacheQuery<TestReactiveEntity> query,
+            Function<TestReactiveEntity, Object[]> sortValues, int count) {
+        List<Object> expected = query.list().await().indefinitely().stream().map(e -> e.id).collect(Collectors.toList());
+        Assertions.assertEquals(count, expected.size());
+
+        List<Object> ids = new ArrayList<>();
+        List<TestReactiveEntity> page = query.page(0, 3).list().await().indefinitely();
+        while (true) {
+            Assertions.assertTrue(page.size() <= 3);
+            page.forEach(e -> ids.add(e.id));
+            if (!query.hasNextPage().await().indefinitely()) {
+                break;
+            }
+            page = query.afterKey(sortValues.apply(page.get(page.size() - 1))).list().await().indefinitely();
+        }
+        // the sort order is kept across pages, and no entity is skipped or returned twice
+        Assertions.assertEquals(expected, ids);
+        Assertions.assertEquals(count, query.count().await().indefinitely());
+
+        // the page index related methods cannot be used with a keyset
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.nextPage());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> query.pageCount());
+        Assertions.assertThrows(PanacheQueryException.class, () -> query.afterKey("title0"));
+    }
 }
@@ -1,6 +1,8 @@
 package io.quarkus.redis.it;
 
 import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
@@ -9,9 +11,11 @@ import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.PathParam;
 
+import io.quarkus.redis.client.RedisBatch;
 import io.quarkus.redis.client.RedisClient;
 import io.quarkus.redis.client.reactive.ReactiveRedisClient;
 import io.smallrye.mutiny.Uni;
+import io.vertx.redis.client.Command;
 import io.vertx.redis.client.Response;
 
 @Path("/quarkus-redis")
@@ -37,6 +41,25 @@ public class RedisResource {
         this.redisClient.set(Arrays.asList(key, value));
     }
 
+    @POST
+    @Path("/sync/batch/{key}")
+    public String batchSync(@PathParam("key") String key, String value) {
+        List<Response> responses = redisClient.batch(RedisBatch.batch()
+                .add(Command.SET, key, value)
+                .add(Command.APPEND, key, "-batch")
+                .add(Command.GET, key));
+        return responses.stream().map(Response::toString).collect(Collectors.joining(","));
+    }
+
+    @POST
+    @Path("/sync/transaction/{key}")
+    public String transactionSync(@PathParam("key") String key) {
+        List<Response> responses = redisClient.batch(RedisBatch.transaction()
+                .add(Command.INCR, key)
+                .add(Command.INCRBY, key, "10"));
+        return responses.stream().map(Response::toString).collect(Collectors.joining(","));
+    }
+
     // reactive
     @GET
     @Path("/reactive/{key}")
@@ -54,4 +77,16 @@ public class RedisResource {
                 .map(response -> null);
     }
 
+    @POST
+    @Path("/reactive/batch/{key}")
+    public Uni<String> batchReactive(@PathParam("key") String key, String value) {
+        return reactiveRedisClient.batch(RedisBatch.batch()
+                .add(Command.SET, key, value)
+                .add(Command.APPEND, key, "-batch")
+                .add(Command.GET, key))
+                .map(responses -> responses.stream()
+                        .map(io.vertx.mutiny.redis.client.Response::toString)
+                        .collect(Collectors.joining(",")));
+    }
+
 }
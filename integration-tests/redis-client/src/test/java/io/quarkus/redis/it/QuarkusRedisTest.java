@@ -58,4 +58,33 @@ class QuarkusRedisTest {
                 .statusCode(200)
                 .body(CoreMatchers.is(REACTIVE_VALUE));
     }
+
+    @Test
+    public void batch() {
+        RestAssured.given()
+                .body(SYNC_VALUE)
+                .when()
+                .post("/quarkus-redis/sync/batch/sync-batch-key")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("OK,16," + SYNC_VALUE + "-batch"));
+
+        RestAssured.given()
+                .body(REACTIVE_VALUE)
+                .when()
+                .post("/quarkus-redis/reactive/batch/reactive-batch-key")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("OK,20," + REACTIVE_VALUE + "-batch"));
+    }
+
+    @Test
+    public void transaction() {
+        RestAssured.given()
+                .when()
+                .post("/quarkus-redis/sync/transaction/transaction-key")
+                .then()
+                .statusCode(200)
+                .body(CoreMatchers.is("1,11"));
+    }
 }
@@ -458,6 +458,25 @@ public class QuarkusDevModeTest
         sleepForFileChanges(path.getParent());
     }
 
+    /**
+     * Deletes the source file that corresponds to the given class from the deployment
+     *
+     * @param sourceFile The Class corresponding to the source file to delete
+     */
+    public void deleteSourceFile(Class<?> sourceFile) {
+        Path sourceFilePath = deploymentSourcePath.resolve(sourceFile.getName().replace(".", "/") + ".java");
+        if (!Files.exists(sourceFilePath)) {
+            throw new IllegalArgumentException("File " + sourceFilePath + " was not part of the test application");
+        }
+        try {
+            Files.delete(sourceFilePath);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // wait for last modified time of the parent to get updated
+        sleepForFileChanges(sourceFilePath.getParent());
+    }
+
     public String[] getCommandLineArgs() {
         return commandLineArgs;
     }